@@ -0,0 +1,21 @@
+package com.raizlabs.android.dbflow.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Description: Marks an interface whose methods are {@link DaoQuery}. The annotation processor generates an
+ * implementation named after the interface, such as {@code UserDao_Impl}, with the SQL of each method written
+ * and checked at compile time.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface Dao {
+
+    /**
+     * @return Specify the database class that the queries run on.
+     */
+    Class<?> database();
+}
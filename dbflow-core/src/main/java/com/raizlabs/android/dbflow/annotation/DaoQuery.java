@@ -0,0 +1,25 @@
+package com.raizlabs.android.dbflow.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Description: The SQL a method of a {@link Dao} runs. Parameters are referenced as {@code :name} and bound,
+ * never inlined. Tables after FROM, JOIN, UPDATE and INTO, and identifiers quoted with backticks, are checked
+ * against the tables of the database when compiling.
+ * <p/>
+ * A SELECT returns a {@link java.util.List} of models, a single model or null, or the first column of the first
+ * row as a number, boolean or {@link String}. An UPDATE or DELETE returns nothing or the number of rows changed,
+ * and an INSERT nothing or the row id. Writes reuse their compiled statement and notify the change of their table.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.METHOD)
+public @interface DaoQuery {
+
+    /**
+     * @return The SQL to run.
+     */
+    String value();
+}
@@ -43,6 +43,13 @@ public @interface ForeignKey {
      */
     boolean stubbedRelationship() default false;
 
+    /**
+     * @return If true, a query from SQLite.selectJoined() LEFT JOINs the referenced table and loads the
+     * referenced model from the same row, using its cache if enabled, instead of querying for it once per row.
+     * Other queries load it as before. Has no effect on stubbed relationships.
+     */
+    boolean eagerJoin() default false;
+
     /**
      * @return If true, during a transaction, FK constraints are not violated immediately until the resulting transaction commits.
      * This is useful for out of order foreign key operations.
@@ -79,6 +79,18 @@ public @interface Table {
      */
     boolean createWithDatabase() default true;
 
+    /**
+     * @return When true, saving a model writes it with a single INSERT ... ON CONFLICT DO UPDATE statement
+     * instead of an existence check followed by an UPDATE or INSERT. On SQLite versions without upsert support (below 3.24.0), an INSERT OR IGNORE followed by an UPDATE is used.
+     */
+    boolean upsertEnabled() default false;
+
+    /**
+     * @return When true, the values of each model are remembered when it is loaded or written, and an update
+     * only sets the columns that changed since. Useful for wide tables or large TEXT and BLOB columns.
+     */
+    boolean dirtyTracking() default false;
+
     /**
      * @return The cache size for this Table.
      */
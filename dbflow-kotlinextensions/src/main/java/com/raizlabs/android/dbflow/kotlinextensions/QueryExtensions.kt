@@ -103,6 +103,9 @@ inline val <T : Any> ModelQueriable<T>.result
 inline val <T : Any> ModelQueriable<T>.cursorResult
     get() = queryResults()
 
+inline val <T : Any> ModelQueriable<T>.columns
+    get() = queryColumns()
+
 inline val <T : Any> ModelQueriable<T>.flowQueryList
     get() = flowQueryList()
 
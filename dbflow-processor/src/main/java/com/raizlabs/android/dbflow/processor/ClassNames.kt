@@ -68,12 +68,16 @@ object ClassNames {
     val IPROPERTY = ClassName.get(PROPERTY_PACKAGE, "IProperty")
     val INDEX_PROPERTY = ClassName.get(PROPERTY_PACKAGE, "IndexProperty")
     val OPERATOR_GROUP = ClassName.get(LANGUAGE, "OperatorGroup")
+    val ONE_TO_MANY_RELATION = ClassName.get(LANGUAGE, "OneToManyRelation")
+    val FOREIGN_KEY_JOIN = ClassName.get(LANGUAGE, "ForeignKeyJoin")
 
     val ICONDITIONAL = ClassName.get(LANGUAGE, "IConditional")
 
     val BASE_CONTENT_PROVIDER = ClassName.get(RUNTIME, "BaseContentProvider")
 
     val BASE_MODEL = ClassName.get(STRUCTURE, "BaseModel")
+    val BASE_DAO = ClassName.get(STRUCTURE, "BaseDao")
+    val DATABASE_STATEMENT_CACHE = ClassName.get(DATABASE, "DatabaseStatementCache")
     val MODEL_CACHE = ClassName.get(STRUCTURE + ".cache", "ModelCache")
     val MULTI_KEY_CACHE_CONVERTER = ClassName.get(STRUCTURE + ".cache", "IMultiKeyCacheConverter")
 
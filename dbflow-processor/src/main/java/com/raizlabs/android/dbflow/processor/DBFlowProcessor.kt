@@ -2,6 +2,8 @@ package com.raizlabs.android.dbflow.processor
 
 import com.raizlabs.android.dbflow.annotation.Column
 import com.raizlabs.android.dbflow.annotation.ColumnIgnore
+import com.raizlabs.android.dbflow.annotation.Dao
+import com.raizlabs.android.dbflow.annotation.DaoQuery
 import com.raizlabs.android.dbflow.annotation.Migration
 import com.raizlabs.android.dbflow.annotation.ModelView
 import com.raizlabs.android.dbflow.annotation.QueryModel
@@ -37,7 +39,9 @@ class DBFlowProcessor : AbstractProcessor() {
         ContentProvider::class.java.canonicalName,
         TableEndpoint::class.java.canonicalName,
         ColumnIgnore::class.java.canonicalName,
-        QueryModel::class.java.canonicalName
+        QueryModel::class.java.canonicalName,
+        Dao::class.java.canonicalName,
+        DaoQuery::class.java.canonicalName
     )
 
     override fun getSupportedOptions() = linkedSetOf(DatabaseHolderDefinition.OPTION_TARGET_MODULE_NAME)
@@ -60,7 +64,8 @@ class DBFlowProcessor : AbstractProcessor() {
             QueryModelHandler(),
             ModelViewHandler(),
             ContentProviderHandler(),
-            TableEndpointHandler())
+            TableEndpointHandler(),
+            DaoHandler())
     }
 
     override fun process(annotations: Set<TypeElement>, roundEnv: RoundEnvironment): Boolean {
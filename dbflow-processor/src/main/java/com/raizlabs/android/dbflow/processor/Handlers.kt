@@ -1,5 +1,6 @@
 package com.raizlabs.android.dbflow.processor
 
+import com.raizlabs.android.dbflow.annotation.Dao
 import com.raizlabs.android.dbflow.annotation.Database
 import com.raizlabs.android.dbflow.annotation.ManyToMany
 import com.raizlabs.android.dbflow.annotation.Migration
@@ -19,6 +20,7 @@ import com.raizlabs.android.dbflow.converter.DateConverter
 import com.raizlabs.android.dbflow.converter.SqlDateConverter
 import com.raizlabs.android.dbflow.converter.UUIDConverter
 import com.raizlabs.android.dbflow.processor.definition.ContentProviderDefinition
+import com.raizlabs.android.dbflow.processor.definition.DaoDefinition
 import com.raizlabs.android.dbflow.processor.definition.DatabaseDefinition
 import com.raizlabs.android.dbflow.processor.definition.ManyToManyDefinition
 import com.raizlabs.android.dbflow.processor.definition.MigrationDefinition
@@ -79,6 +81,23 @@ class ModelViewHandler : BaseContainerHandler<ModelView>() {
     }
 }
 
+/**
+ * Description: Handles [Dao] annotations, writing their implementations.
+ */
+class DaoHandler : BaseContainerHandler<Dao>() {
+
+    override val annotationClass = Dao::class.java
+
+    override fun onProcessElement(processorManager: ProcessorManager, element: Element) {
+        if (element is TypeElement) {
+            val daoDefinition = DaoDefinition(element, processorManager)
+            if (daoDefinition.databaseTypeName != null) {
+                processorManager.addDaoDefinition(daoDefinition)
+            }
+        }
+    }
+}
+
 /**
  * Description: Handles [QueryModel] annotations, writing QueryModelAdapter, and
  * adding them to the [ProcessorManager].
@@ -2,6 +2,7 @@ package com.raizlabs.android.dbflow.processor
 
 import com.raizlabs.android.dbflow.processor.definition.BaseTableDefinition
 import com.raizlabs.android.dbflow.processor.definition.ContentProviderDefinition
+import com.raizlabs.android.dbflow.processor.definition.DaoDefinition
 import com.raizlabs.android.dbflow.processor.definition.DatabaseDefinition
 import com.raizlabs.android.dbflow.processor.definition.DatabaseHolderDefinition
 import com.raizlabs.android.dbflow.processor.definition.DatabaseObjectHolder
@@ -152,6 +153,12 @@ class ProcessorManager internal constructor(val processingEnvironment: Processin
         }
     }
 
+    fun addDaoDefinition(daoDefinition: DaoDefinition) {
+        daoDefinition.elementClassName?.let {
+            getOrPutDatabase(daoDefinition.databaseTypeName)?.daoDefinitionMap?.put(it, daoDefinition)
+        }
+    }
+
     fun getTypeConverters() = typeConverters.values.toHashSet().sortedBy { it.modelTypeName?.toString() }
 
     fun getTableDefinitions(databaseName: TypeName): List<TableDefinition> {
@@ -317,6 +324,11 @@ class ProcessorManager internal constructor(val processingEnvironment: Processin
                     .sortedBy { it.outputClassName?.simpleName() }
                 queryModelDefinitions.forEach { WriterUtils.writeBaseDefinition(it, processorManager) }
 
+                databaseHolderDefinition.daoDefinitionMap.values
+                    .sortedBy { it.elementName }
+                    .filter { it.prepareForWrite() }
+                    .forEach { WriterUtils.writeBaseDefinition(it, processorManager) }
+
                 tableDefinitions.forEach {
                     try {
                         it.writePackageHelper(processorManager.processingEnvironment)
@@ -19,7 +19,10 @@ import com.raizlabs.android.dbflow.processor.utils.ModelUtils
 import com.raizlabs.android.dbflow.processor.utils.`override fun`
 import com.raizlabs.android.dbflow.processor.utils.getPackage
 import com.raizlabs.android.dbflow.processor.utils.toClassName
+import com.squareup.javapoet.ArrayTypeName
 import com.squareup.javapoet.ClassName
+import com.squareup.javapoet.CodeBlock
+import com.squareup.javapoet.FieldSpec
 import com.squareup.javapoet.JavaFile
 import com.squareup.javapoet.ParameterizedTypeName
 import com.squareup.javapoet.TypeName
@@ -117,6 +120,26 @@ abstract class BaseTableDefinition(typeElement: Element, processorManager: Proce
         }
     }
 
+    /**
+     * The columns read at each index by the generated loadFromCursor, in order.
+     */
+    val cursorColumnNames: List<String>
+        get() = columnDefinitions.flatMap { it.cursorColumnNames }
+
+    /**
+     * Writes the columns that loadFromCursor resolves once per cursor, unless it reads them by position.
+     */
+    fun writeCursorColumnNames(typeBuilder: TypeSpec.Builder) {
+        if (!orderedCursorLookUp) {
+            val names = CodeBlock.builder()
+            cursorColumnNames.forEachIndexed { i, name -> names.add(if (i > 0) ", \$S" else "\$S", name) }
+            typeBuilder.addField(FieldSpec.builder(ArrayTypeName.of(String::class.java),
+                LoadFromCursorMethod.COLUMN_NAMES, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("new \$T[]{\$L}", String::class.java, names.build())
+                .build())
+        }
+    }
+
     fun writeGetModelClass(typeBuilder: TypeSpec.Builder, modelClassName: ClassName?) = typeBuilder.apply {
         `override fun`(ParameterizedTypeName.get(ClassName.get(Class::class.java), modelClassName), "getModelClass") {
             modifiers(public, final)
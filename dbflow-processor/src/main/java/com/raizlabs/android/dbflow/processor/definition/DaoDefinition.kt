@@ -0,0 +1,419 @@
+package com.raizlabs.android.dbflow.processor.definition
+
+import com.raizlabs.android.dbflow.annotation.Dao
+import com.raizlabs.android.dbflow.annotation.DaoQuery
+import com.raizlabs.android.dbflow.processor.ClassNames
+import com.raizlabs.android.dbflow.processor.ProcessorManager
+import com.raizlabs.android.dbflow.processor.definition.column.ReferenceColumnDefinition
+import com.raizlabs.android.dbflow.processor.utils.annotation
+import com.squareup.javapoet.ArrayTypeName
+import com.squareup.javapoet.ClassName
+import com.squareup.javapoet.CodeBlock
+import com.squareup.javapoet.FieldSpec
+import com.squareup.javapoet.MethodSpec
+import com.squareup.javapoet.ParameterizedTypeName
+import com.squareup.javapoet.TypeName
+import com.squareup.javapoet.TypeSpec
+import javax.lang.model.element.ElementKind
+import javax.lang.model.element.ExecutableElement
+import javax.lang.model.element.Modifier
+import javax.lang.model.element.TypeElement
+import javax.lang.model.element.VariableElement
+import javax.lang.model.type.MirroredTypeException
+import javax.lang.model.util.ElementFilter
+
+/**
+ * Description: Writes the implementation of a [Dao] interface. The SQL of each [DaoQuery] becomes a constant with
+ * its parameters replaced by placeholders, checked against the tables of the database.
+ */
+class DaoDefinition(element: TypeElement, processorManager: ProcessorManager)
+    : BaseDefinition(element, processorManager) {
+
+    var databaseTypeName: TypeName? = null
+
+    init {
+        element.annotation<Dao>()?.let { dao ->
+            try {
+                dao.database
+            } catch (mte: MirroredTypeException) {
+                databaseTypeName = TypeName.get(mte.typeMirror)
+            }
+        }
+
+        if (element.kind != ElementKind.INTERFACE) {
+            manager.logError(DaoDefinition::class, "@Dao $elementName must be an interface.")
+        }
+    }
+
+    /**
+     * @return False if the database of the [Dao] is not a @Database, in which case it is not written.
+     */
+    fun prepareForWrite(): Boolean {
+        val databaseDefinition = manager.getDatabaseHolderDefinition(databaseTypeName)?.databaseDefinition
+        if (databaseDefinition == null) {
+            manager.logError(DaoDefinition::class,
+                "@Dao $elementName references $databaseTypeName, which is not a @Database.")
+            return false
+        }
+        setOutputClassName("${databaseDefinition.classSeparator}Impl")
+        return true
+    }
+
+    override val extendsClass: TypeName?
+        get() = ClassNames.BASE_DAO
+
+    override fun onWriteDefinition(typeBuilder: TypeSpec.Builder) {
+        typeBuilder.addSuperinterface(elementTypeName)
+        typeBuilder.addMethod(MethodSpec.constructorBuilder()
+            .addModifiers(Modifier.PUBLIC)
+            .addStatement("super(\$T.class)", databaseTypeName)
+            .build())
+
+        val fieldNames = mutableSetOf<String>()
+        ElementFilter.methodsIn(manager.elements.getAllMembers(element as TypeElement))
+            .filter { it.modifiers.contains(Modifier.ABSTRACT) }
+            .forEach { DaoMethod(it).write(typeBuilder, fieldNames) }
+    }
+
+    private fun uniqueName(name: String, fieldNames: MutableSet<String>): String {
+        var uniqueName = name
+        var count = 1
+        while (!fieldNames.add(uniqueName)) {
+            uniqueName = name + count++
+        }
+        return uniqueName
+    }
+
+    /**
+     * Description: A single [DaoQuery] method.
+     */
+    private inner class DaoMethod(private val method: ExecutableElement) {
+
+        private val methodName = method.simpleName.toString()
+
+        fun write(typeBuilder: TypeSpec.Builder, fieldNames: MutableSet<String>) {
+            val daoQuery = method.annotation<DaoQuery>()
+            if (daoQuery == null) {
+                manager.logError(DaoDefinition::class, "$elementName.$methodName is missing @DaoQuery.")
+                return
+            }
+
+            val sql = daoQuery.value.trim()
+            val parameterNames = mutableListOf<String>()
+            val query = replaceParameters(sql, parameterNames)
+            val tables = findTables(stripLiterals(sql)) ?: return
+            if (!validateColumns(stripLiterals(sql), tables)) return
+            val arguments = getArguments(parameterNames) ?: return
+
+            val queryField = uniqueName("QUERY_" + methodName.replace(Regex("([a-z0-9])([A-Z])"), "$1_$2")
+                .toUpperCase(), fieldNames)
+            typeBuilder.addField(FieldSpec.builder(String::class.java, queryField,
+                Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("\$S", query)
+                .build())
+
+            val methodBuilder = MethodSpec.overriding(method)
+            val keyword = sql.split(Regex("\\s+"), 2)[0].toUpperCase()
+            val written = when (keyword) {
+                "SELECT", "WITH" -> writeSelect(methodBuilder, queryField, arguments)
+                "UPDATE", "DELETE", "INSERT", "REPLACE" -> {
+                    val statementsField = uniqueName(methodName + "Statements", fieldNames)
+                    typeBuilder.addField(FieldSpec.builder(ClassNames.DATABASE_STATEMENT_CACHE, statementsField,
+                        Modifier.PRIVATE, Modifier.FINAL)
+                        .initializer("newStatementCache(\$N)", queryField)
+                        .build())
+                    writeWrite(methodBuilder, keyword, tables, statementsField, arguments)
+                }
+                else -> {
+                    manager.logError(DaoDefinition::class,
+                        "$elementName.$methodName must run a SELECT, UPDATE, DELETE or INSERT.")
+                    false
+                }
+            }
+            if (written) {
+                typeBuilder.addMethod(methodBuilder.build())
+            }
+        }
+
+        private fun writeSelect(methodBuilder: MethodSpec.Builder, queryField: String,
+                                arguments: CodeBlock): Boolean {
+            val returnType = TypeName.get(method.returnType)
+            val primitiveType = if (returnType.isBoxedPrimitive) returnType.unbox() else returnType
+            when {
+                returnType is ParameterizedTypeName && returnType.rawType == LIST
+                    && isModel(returnType.typeArguments[0]) ->
+                    methodBuilder.addStatement("return queryList(\$T.class, \$N, \$L)",
+                        returnType.typeArguments[0], queryField, arguments)
+                isModel(returnType) ->
+                    methodBuilder.addStatement("return querySingle(\$T.class, \$N, \$L)",
+                        returnType, queryField, arguments)
+                primitiveType == TypeName.LONG ->
+                    methodBuilder.addStatement("return longForQuery(\$N, \$L)", queryField, arguments)
+                primitiveType == TypeName.INT || primitiveType == TypeName.SHORT || primitiveType == TypeName.BYTE ->
+                    methodBuilder.addStatement("return (\$T) longForQuery(\$N, \$L)",
+                        primitiveType, queryField, arguments)
+                primitiveType == TypeName.BOOLEAN ->
+                    methodBuilder.addStatement("return longForQuery(\$N, \$L) != 0", queryField, arguments)
+                primitiveType == TypeName.DOUBLE ->
+                    methodBuilder.addStatement("return doubleForQuery(\$N, \$L)", queryField, arguments)
+                primitiveType == TypeName.FLOAT ->
+                    methodBuilder.addStatement("return (float) doubleForQuery(\$N, \$L)", queryField, arguments)
+                returnType == STRING ->
+                    methodBuilder.addStatement("return stringForQuery(\$N, \$L)", queryField, arguments)
+                else -> {
+                    manager.logError(DaoDefinition::class, "$elementName.$methodName cannot return $returnType. " +
+                        "Return a List of models, a model, a number, a boolean or a String.")
+                    return false
+                }
+            }
+            return true
+        }
+
+        private fun writeWrite(methodBuilder: MethodSpec.Builder, keyword: String,
+                               tables: List<BaseTableDefinition>, statementsField: String,
+                               arguments: CodeBlock): Boolean {
+            val table = tables.firstOrNull() as? TableDefinition
+            if (table == null) {
+                manager.logError(DaoDefinition::class, "$elementName.$methodName must write to a @Table.")
+                return false
+            }
+
+            val returnType = TypeName.get(method.returnType)
+            val primitiveType = if (returnType.isBoxedPrimitive) returnType.unbox() else returnType
+            val call = if (keyword == "INSERT" || keyword == "REPLACE") {
+                CodeBlock.of("executeInsert(\$N, \$L, \$T.class)", statementsField, arguments,
+                    table.elementClassName)
+            } else {
+                CodeBlock.of("executeUpdateDelete(\$N, \$L, \$T.class, \$T.\$L)", statementsField, arguments,
+                    table.elementClassName, ACTION, keyword)
+            }
+            when (primitiveType) {
+                TypeName.VOID -> methodBuilder.addStatement("\$L", call)
+                TypeName.LONG -> methodBuilder.addStatement("return \$L", call)
+                TypeName.INT -> methodBuilder.addStatement("return (int) \$L", call)
+                else -> {
+                    manager.logError(DaoDefinition::class, "$elementName.$methodName cannot return $returnType. " +
+                        "Return void, an int or a long.")
+                    return false
+                }
+            }
+            return true
+        }
+
+        private fun isModel(typeName: TypeName) = manager.getReferenceDefinition(databaseTypeName, typeName) != null
+
+        /**
+         * Replaces each :name outside of literals and quoted identifiers with a placeholder.
+         */
+        private fun replaceParameters(sql: String, parameterNames: MutableList<String>): String {
+            val query = StringBuilder()
+            var quote: Char? = null
+            var i = 0
+            while (i < sql.length) {
+                val c = sql[i]
+                if (quote != null) {
+                    if (c == quote) quote = null
+                } else if (c == '\'' || c == '"' || c == '`') {
+                    quote = c
+                } else if (c == ':' && i + 1 < sql.length && Character.isJavaIdentifierStart(sql[i + 1])) {
+                    var end = i + 1
+                    while (end < sql.length && Character.isJavaIdentifierPart(sql[end])) end++
+                    parameterNames += sql.substring(i + 1, end)
+                    query.append('?')
+                    i = end
+                    continue
+                }
+                query.append(c)
+                i++
+            }
+            return query.toString()
+        }
+
+        /**
+         * @return The SQL with the contents of string literals removed, so they are not mistaken for names.
+         */
+        private fun stripLiterals(sql: String) = sql.replace(Regex("'(?:[^']|'')*'"), "''")
+
+        /**
+         * @return The tables and views read or written, in order, or null if one is not in the database.
+         */
+        private fun findTables(sql: String): List<BaseTableDefinition>? {
+            val holder = manager.getDatabaseHolderDefinition(databaseTypeName)
+            val knownTables = hashMapOf<String, BaseTableDefinition>()
+            holder?.tableDefinitionMap?.values?.forEach { table ->
+                table.tableName?.let { knownTables[it.toLowerCase()] = table }
+            }
+            holder?.modelViewDefinitionMap?.values?.forEach { view ->
+                view.name?.let { knownTables[it.toLowerCase()] = view }
+            }
+
+            val tables = mutableListOf<BaseTableDefinition>()
+            TABLE_PATTERN.findAll(sql).forEach { match ->
+                val name = match.groupValues[1]
+                val table = knownTables[name.toLowerCase()]
+                if (table == null) {
+                    manager.logError(DaoDefinition::class,
+                        "$elementName.$methodName references $name, which is not a table of $databaseTypeName.")
+                    return null
+                }
+                tables += table
+            }
+            return tables
+        }
+
+        /**
+         * Checks that each name, quoted or not, is a keyword, a function, a collation, an alias or a table read or
+         * one of its columns. Aliases follow AS or the name of a table. Anything else fails, so that a typo in a
+         * column does not wait until the query runs.
+         */
+        private fun validateColumns(sql: String, tables: List<BaseTableDefinition>): Boolean {
+            if (tables.isEmpty()) return true
+            val tableNames = tables.mapNotNull { (it as? TableDefinition)?.tableName ?: (it as? ModelViewDefinition)?.name }
+                .map { it.toLowerCase() }
+            val columnNames = tables.flatMap { table ->
+                table.columnDefinitions.flatMap { column ->
+                    if (column is ReferenceColumnDefinition) {
+                        column._referenceDefinitionList.map { it.columnName } + column.columnName
+                    } else {
+                        listOf(column.columnName)
+                    }
+                }
+            }.map { it.toLowerCase() }.toSet()
+
+            val tokens = TOKEN_PATTERN.findAll(sql).map { SqlToken(it) }.toList()
+            // aliases can be used before they are declared, such as in the result columns of a SELECT.
+            val aliases = hashSetOf<String>()
+            tokens.forEachIndexed { index, token ->
+                val previous = tokens.getOrNull(index - 1)
+                if (token.isName && previous != null && (previous.isKeyword("AS")
+                    || previous.isName && !token.isKeyword() && tableNames.contains(previous.lowerCaseName))) {
+                    aliases += token.lowerCaseName
+                }
+            }
+
+            var valid = true
+            tokens.forEachIndexed { index, token ->
+                if (!token.isName || token.isKeyword()) return@forEachIndexed
+                val name = token.lowerCaseName
+                val next = tokens.getOrNull(index + 1)
+                val known = when {
+                    tokens.getOrNull(index - 1)?.isKeyword("COLLATE") == true -> true
+                    next?.text == "(" && !token.isQuoted -> true // a function, or the table of an INSERT.
+                    next?.text == "." -> tableNames.contains(name) || aliases.contains(name)
+                        || TRIGGER_QUALIFIERS.contains(name)
+                    else -> tableNames.contains(name) || columnNames.contains(name) || aliases.contains(name)
+                        || ROW_ID_NAMES.contains(name)
+                }
+                if (!known) {
+                    manager.logError(DaoDefinition::class,
+                        "$elementName.$methodName references $name, which is not a column of " +
+                            "${tableNames.joinToString()}. Declare aliases with AS.")
+                    valid = false
+                }
+            }
+            return valid
+        }
+
+        /**
+         * @return The array of arguments in placeholder order, or null if a parameter is missing or unsupported.
+         */
+        private fun getArguments(parameterNames: List<String>): CodeBlock? {
+            val parameters = method.parameters.associateBy { it.simpleName.toString() }
+            parameters.keys.filterNot { parameterNames.contains(it) }.forEach {
+                manager.logError(DaoDefinition::class, "$elementName.$methodName does not use parameter :$it.")
+                return null
+            }
+            if (parameterNames.isEmpty()) {
+                return CodeBlock.of("new Object[0]")
+            }
+
+            val arguments = CodeBlock.builder().add("new Object[]{")
+            parameterNames.forEachIndexed { index, name ->
+                val parameter = parameters[name]
+                if (parameter == null) {
+                    manager.logError(DaoDefinition::class, "$elementName.$methodName has no parameter named $name.")
+                    return null
+                }
+                if (index > 0) arguments.add(", ")
+                arguments.add(getArgument(parameter) ?: return null)
+            }
+            return arguments.add("}").build()
+        }
+
+        private fun getArgument(parameter: VariableElement): CodeBlock? {
+            val name = parameter.simpleName.toString()
+            val typeName = TypeName.get(parameter.asType())
+            return when {
+                typeName == TypeName.BOOLEAN -> CodeBlock.of("\$N ? 1 : 0", name)
+                typeName == TypeName.CHAR -> CodeBlock.of("\$T.valueOf(\$N)", String::class.java, name)
+                typeName.isPrimitive || (typeName.isBoxedPrimitive && typeName.unbox() != TypeName.BOOLEAN
+                    && typeName.unbox() != TypeName.CHAR)
+                    || typeName == STRING || typeName == BLOB -> CodeBlock.of("\$N", name)
+                typeName.isBoxedPrimitive
+                    || manager.typeUtils.asElement(parameter.asType())?.kind == ElementKind.ENUM
+                    || manager.getTypeConverterDefinition(typeName) != null -> CodeBlock.of("toArgument(\$N)", name)
+                else -> {
+                    manager.logError(DaoDefinition::class, "$elementName.$methodName parameter $name of type " +
+                        "$typeName is not a number, String, byte[], enum or type with a @TypeConverter.")
+                    null
+                }
+            }
+        }
+    }
+
+    /**
+     * Description: A name, parameter, literal, number or symbol of a query.
+     */
+    private class SqlToken(match: MatchResult) {
+
+        private val groups = match.groupValues
+
+        val text: String = match.value
+
+        val isQuoted = groups[1].isNotEmpty() || groups[2].isNotEmpty() || groups[3].isNotEmpty()
+
+        val isName = isQuoted || groups[5].isNotEmpty() && groups[4].isEmpty()
+
+        val lowerCaseName: String = (groups[1] + groups[2] + groups[3] + groups[5]).toLowerCase()
+
+        fun isKeyword() = !isQuoted && KEYWORDS.contains(lowerCaseName.toUpperCase())
+
+        fun isKeyword(keyword: String) = !isQuoted && text.equals(keyword, ignoreCase = true)
+    }
+
+    companion object {
+        private val LIST = ClassName.get(List::class.java)
+        private val STRING = ClassName.get(String::class.java)
+        private val BLOB = ArrayTypeName.of(TypeName.BYTE)
+        private val ACTION = ClassNames.BASE_MODEL.nestedClass("Action")
+
+        private val TABLE_PATTERN = Regex("(?i)\\b(?:FROM|JOIN|UPDATE(?:\\s+OR\\s+\\w+)?|INTO)\\s+[`\"]?(\\w+)[`\"]?")
+
+        /**
+         * Matches a name quoted with backticks, double quotes or brackets, a string literal, a parameter or a
+         * name, a number, or any other character.
+         */
+        private val TOKEN_PATTERN = Regex("`([^`]*)`|\"([^\"]*)\"|\\[([^\\]]*)]|'(?:[^']|'')*'" +
+            "|(:?)([A-Za-z_][\\w$]*)|\\d[\\w.]*|\\S")
+
+        private val ROW_ID_NAMES = setOf("rowid", "oid", "_rowid_")
+
+        private val TRIGGER_QUALIFIERS = setOf("new", "old", "excluded")
+
+        private val KEYWORDS = setOf("ABORT", "ACTION", "ADD", "AFTER", "ALL", "ALTER", "ALWAYS", "ANALYZE", "AND",
+            "AS", "ASC", "ATTACH", "AUTOINCREMENT", "BEFORE", "BEGIN", "BETWEEN", "BY", "CASCADE", "CASE", "CAST",
+            "CHECK", "COLLATE", "COLUMN", "COMMIT", "CONFLICT", "CONSTRAINT", "CREATE", "CROSS", "CURRENT",
+            "CURRENT_DATE", "CURRENT_TIME", "CURRENT_TIMESTAMP", "DATABASE", "DEFAULT", "DEFERRABLE", "DEFERRED",
+            "DELETE", "DESC", "DETACH", "DISTINCT", "DO", "DROP", "EACH", "ELSE", "END", "ESCAPE", "EXCEPT",
+            "EXCLUDE", "EXCLUSIVE", "EXISTS", "EXPLAIN", "FAIL", "FALSE", "FILTER", "FIRST", "FOLLOWING", "FOR",
+            "FOREIGN", "FROM", "FULL", "GENERATED", "GLOB", "GROUP", "GROUPS", "HAVING", "IF", "IGNORE",
+            "IMMEDIATE", "IN", "INDEX", "INDEXED", "INITIALLY", "INNER", "INSERT", "INSTEAD", "INTERSECT", "INTO",
+            "IS", "ISNULL", "JOIN", "KEY", "LAST", "LEFT", "LIKE", "LIMIT", "MATCH", "MATERIALIZED", "NATURAL",
+            "NO", "NOT", "NOTHING", "NOTNULL", "NULL", "NULLS", "OF", "OFFSET", "ON", "OR", "ORDER", "OTHERS",
+            "OUTER", "OVER", "PARTITION", "PLAN", "PRAGMA", "PRECEDING", "PRIMARY", "QUERY", "RAISE", "RANGE",
+            "RECURSIVE", "REFERENCES", "REGEXP", "REINDEX", "RELEASE", "RENAME", "REPLACE", "RESTRICT",
+            "RETURNING", "RIGHT", "ROLLBACK", "ROW", "ROWS", "SAVEPOINT", "SELECT", "SET", "TABLE", "TEMP",
+            "TEMPORARY", "THEN", "TIES", "TO", "TRANSACTION", "TRIGGER", "TRUE", "UNBOUNDED", "UNION", "UNIQUE",
+            "UPDATE", "USING", "VACUUM", "VALUES", "VIEW", "VIRTUAL", "WHEN", "WHERE", "WINDOW", "WITH", "WITHOUT")
+    }
+}
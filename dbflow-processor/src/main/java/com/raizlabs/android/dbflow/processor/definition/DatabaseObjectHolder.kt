@@ -22,6 +22,7 @@ class DatabaseObjectHolder {
     var modelViewDefinitionMap: MutableMap<TypeName, ModelViewDefinition> = HashMap()
     var manyToManyDefinitionMap: MutableMap<TypeName, MutableList<ManyToManyDefinition>> = HashMap()
     var providerMap = hashMapOf<TypeName, ContentProviderDefinition>()
+    var daoDefinitionMap: MutableMap<TypeName, DaoDefinition> = HashMap()
 
     /**
      * Retrieve what database class they're trying to reference.
@@ -41,6 +42,9 @@ class DatabaseObjectHolder {
             providerMap.values.forEach {
                 list += "Database ${it.databaseTypeName} not found for ContentProvider ${it.elementName}"
             }
+            daoDefinitionMap.values.forEach {
+                list += "Database ${it.databaseTypeName} not found for Dao ${it.elementName}"
+            }
             return list
 
         } else {
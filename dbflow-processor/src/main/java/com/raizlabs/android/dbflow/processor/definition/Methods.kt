@@ -346,17 +346,94 @@ class InsertStatementQueryMethod(private val tableDefinition: TableDefinition, p
                         add(columnDefinition.insertStatementColumnName)
 
                     }
-                    add(") VALUES (")
+                    add(") VALUES ")
+                    addInsertStatementValues(tableDefinition, isInsert)
+                }.S)
+            }
+        }
+}
 
-                    tableDefinition.columnDefinitions.filter { !it.isPrimaryKeyAutoIncrement && !it.isRowId || !isInsert }
-                            .forEachIndexed { index, columnDefinition ->
-                                if (index > 0) add(",")
-                                add(columnDefinition.insertStatementValuesString)
-                            }
+/**
+ * Description: Writes the values of a single row of the insert statement query, which batch inserts repeat.
+ */
+class InsertStatementValuesQueryMethod(private val tableDefinition: TableDefinition) : MethodDefinition {
 
-                    if (isSingleAutoincrement) add("NULL")
+    override val methodSpec: MethodSpec?
+        get() = `override fun`(String::class, "getInsertStatementValuesQuery") {
+            modifiers(protected, final)
+            // getInsertStatementQuery is the compiled statement query unless the table has an autoincrement key.
+            `return`(codeBlock { addInsertStatementValues(tableDefinition, tableDefinition.hasAutoIncrement) }.S)
+        }
+}
 
+/**
+ * Adds the "(?,...)" values of one row of the insert query, leaving out an autoincrement key when [isInsert].
+ */
+private fun CodeBlock.Builder.addInsertStatementValues(tableDefinition: TableDefinition,
+                                                       isInsert: Boolean): CodeBlock.Builder {
+    val isSingleAutoincrement = tableDefinition.hasAutoIncrement
+            && tableDefinition.columnDefinitions.size == 1 && isInsert
+    add("(")
+    tableDefinition.columnDefinitions.filter { !it.isPrimaryKeyAutoIncrement && !it.isRowId || !isInsert }
+            .forEachIndexed { index, columnDefinition ->
+                if (index > 0) add(",")
+                add(columnDefinition.insertStatementValuesString)
+            }
+
+    if (isSingleAutoincrement) add("NULL")
+
+    return add(")")
+}
+
+/**
+ * Description: Writes the INSERT ... ON CONFLICT DO UPDATE query used when upsert saving is enabled, or when
+ * [isFallback] the INSERT OR IGNORE used on SQLite versions without it. Both bind the same values as the compiled
+ * statement query.
+ */
+class UpsertStatementQueryMethod(private val tableDefinition: TableDefinition,
+                                 private val isFallback: Boolean) : MethodDefinition {
+
+    override val methodSpec: MethodSpec?
+        get() {
+            if (tableDefinition.primaryColumnDefinitions.isEmpty()) {
+                return null
+            }
+            return `override fun`(String::class,
+                    if (isFallback) "getUpsertFallbackStatementQuery" else "getUpsertStatementQuery") {
+                modifiers(if (isFallback) protected else public, final)
+                `return`(codeBlock {
+                    add(if (isFallback) "INSERT OR IGNORE " else "INSERT ")
+                    add("INTO ${QueryBuilder.quote(tableDefinition.tableName)}(")
+                    tableDefinition.columnDefinitions.forEachIndexed { index, columnDefinition ->
+                        if (index > 0) add(",")
+                        add(columnDefinition.insertStatementColumnName)
+                    }
+                    add(") VALUES (")
+                    tableDefinition.columnDefinitions.forEachIndexed { index, columnDefinition ->
+                        if (index > 0) add(",")
+                        add(columnDefinition.insertStatementValuesString)
+                    }
                     add(")")
+                    if (!isFallback) {
+                        add(" ON CONFLICT(")
+                        add(tableDefinition.primaryColumnDefinitions.joinToString { it.primaryKeyName.toString() })
+                        add(")")
+
+                        // primary key values already match on conflict.
+                        val updateColumns = tableDefinition.columnDefinitions.filter {
+                            !it.isPrimaryKey && !it.isPrimaryKeyAutoIncrement && !it.isRowId
+                        }
+                        if (updateColumns.isEmpty()) {
+                            add(" DO NOTHING")
+                        } else {
+                            add(" DO UPDATE SET ")
+                            updateColumns.forEachIndexed { index, columnDefinition ->
+                                if (index > 0) add(",")
+                                add(columnDefinition.upsertStatementBlock)
+                            }
+                        }
+                    }
+                    this
                 }.S)
             }
         }
@@ -398,6 +475,30 @@ class UpdateStatementQueryMethod(private val tableDefinition: TableDefinition) :
         }
 }
 
+/**
+ * Description: Writes the quoted column names that a dirty tracking update sets, or the primary key columns
+ * of its WHERE clause, in the order of the update statement.
+ */
+class UpdateColumnNamesMethod(private val tableDefinition: TableDefinition,
+                              private val isPrimary: Boolean) : MethodDefinition {
+
+    override val methodSpec: MethodSpec?
+        get() {
+            if (!tableDefinition.dirtyTracking) {
+                return null
+            }
+            val columnNames = tableDefinition.columnDefinitions.filter {
+                if (isPrimary) it.isPrimaryKey || it.isPrimaryKeyAutoIncrement || it.isRowId else !it.isRowId
+            }.flatMap { it.updateColumnNames }
+            return `override fun`(ArrayTypeName.of(String::class.java),
+                    if (isPrimary) "getPrimaryColumnNames" else "getUpdateColumnNames") {
+                modifiers(public, final)
+                `return`("new \$T{\$L}", ArrayTypeName.of(String::class.java),
+                        columnNames.joinToString { CodeBlock.of("\$S", it).toString() })
+            }
+        }
+}
+
 class DeleteStatementQueryMethod(private val tableDefinition: TableDefinition) : MethodDefinition {
 
     override val methodSpec: MethodSpec?
@@ -430,6 +531,9 @@ class LoadFromCursorMethod(private val baseTableDefinition: BaseTableDefinition)
                 param(ClassNames.FLOW_CURSOR, PARAM_CURSOR),
                 param(baseTableDefinition.parameterClassName!!, ModelUtils.variable)) {
             modifiers(public, final)
+            if (!baseTableDefinition.orderedCursorLookUp) {
+                statement("final int[] $COLUMN_INDICES = $PARAM_CURSOR.getColumnIndices($COLUMN_NAMES)")
+            }
             val index = AtomicInteger(0)
             val nameAllocator = NameAllocator() // unique names
             baseTableDefinition.columnDefinitions.forEach {
@@ -452,6 +556,10 @@ class LoadFromCursorMethod(private val baseTableDefinition: BaseTableDefinition)
             if (baseTableDefinition is TableDefinition && baseTableDefinition.implementsLoadFromCursorListener) {
                 statement("${ModelUtils.variable}.onLoadFromCursor($PARAM_CURSOR)")
             }
+
+            if (baseTableDefinition is TableDefinition && baseTableDefinition.dirtyTracking) {
+                statement("takeSnapshot(${ModelUtils.variable})")
+            }
             this
         }
 
@@ -459,6 +567,16 @@ class LoadFromCursorMethod(private val baseTableDefinition: BaseTableDefinition)
     companion object {
 
         val PARAM_CURSOR = "cursor"
+
+        /**
+         * The static array of the columns read, written by [BaseTableDefinition.writeCursorColumnNames].
+         */
+        val COLUMN_NAMES = "CURSOR_COLUMN_NAMES"
+
+        /**
+         * The local holding the index of each of [COLUMN_NAMES] in the cursor.
+         */
+        val COLUMN_INDICES = "columnIndices"
     }
 }
 
@@ -40,7 +40,7 @@ class ModelViewDefinition(manager: ProcessorManager, element: Element) : BaseTab
 
     private var queryFieldName: String? = null
 
-    private var name: String? = null
+    var name: String? = null
 
     private val methods: Array<MethodDefinition> =
         arrayOf(LoadFromCursorMethod(this), ExistenceMethod(this), PrimaryConditionMethod(this))
@@ -165,6 +165,8 @@ class ModelViewDefinition(manager: ProcessorManager, element: Element) : BaseTab
 
             writeConstructor(this)
 
+            writeCursorColumnNames(this)
+
             writeGetModelClass(typeBuilder, elementClassName)
 
             `override fun`(String::class, "getCreationQuery") {
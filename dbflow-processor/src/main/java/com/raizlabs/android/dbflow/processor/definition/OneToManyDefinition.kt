@@ -11,6 +11,7 @@ import com.raizlabs.android.dbflow.processor.ProcessorManager
 import com.raizlabs.android.dbflow.processor.definition.column.ColumnAccessor
 import com.raizlabs.android.dbflow.processor.definition.column.GetterSetter
 import com.raizlabs.android.dbflow.processor.definition.column.PrivateScopeColumnAccessor
+import com.raizlabs.android.dbflow.processor.definition.column.ReferenceColumnDefinition
 import com.raizlabs.android.dbflow.processor.definition.column.VisibleScopeColumnAccessor
 import com.raizlabs.android.dbflow.processor.definition.column.modelBlock
 import com.raizlabs.android.dbflow.processor.definition.column.wrapperCommaIfBaseModel
@@ -23,9 +24,11 @@ import com.raizlabs.android.dbflow.processor.utils.statement
 import com.raizlabs.android.dbflow.processor.utils.toTypeElement
 import com.squareup.javapoet.ClassName
 import com.squareup.javapoet.CodeBlock
+import com.squareup.javapoet.FieldSpec
 import com.squareup.javapoet.MethodSpec
 import com.squareup.javapoet.ParameterizedTypeName
 import com.squareup.javapoet.TypeName
+import com.squareup.javapoet.TypeSpec
 import com.squareup.javapoet.WildcardTypeName
 import javax.lang.model.element.Element
 import javax.lang.model.element.ExecutableElement
@@ -66,6 +69,11 @@ class OneToManyDefinition(executableElement: ExecutableElement,
 
     private var efficientCodeMethods = false
 
+    /**
+     * The _Table class the relation was written to by [writeRelation], which lets loadFromCursor defer to a prefetch.
+     */
+    private var relationClassName: ClassName? = null
+
     init {
 
         val oneToMany = executableElement.annotation<OneToMany>()!!
@@ -151,7 +159,14 @@ class OneToManyDefinition(executableElement: ExecutableElement,
      */
     fun writeLoad(codeBuilder: CodeBlock.Builder) {
         if (isLoad) {
-            codeBuilder.addStatement(methodName)
+            val relationClassName = relationClassName
+            if (relationClassName != null) {
+                codeBuilder.beginControlFlow("if (!\$T.\$L.isDeferred())", relationClassName, _variableName)
+                    .addStatement(methodName)
+                    .endControlFlow()
+            } else {
+                codeBuilder.addStatement(methodName)
+            }
         }
     }
 
@@ -177,6 +192,55 @@ class OneToManyDefinition(executableElement: ExecutableElement,
         if (isSave) writeLoopWithMethod(codeBuilder, "insert", useWrapper)
     }
 
+    /**
+     * Writes the OneToManyRelation that Where.prefetch loads the children with, if the children reference the
+     * table by exactly one foreign key of one column.
+     */
+    fun writeRelation(typeBuilder: TypeSpec.Builder, tableDefinition: TableDefinition) {
+        val parentClassName = tableDefinition.elementClassName ?: return
+        val childClassName = referencedTableType ?: return
+        val childDefinition = manager.getTableDefinition(tableDefinition.databaseTypeName, childClassName) ?: return
+        val reference = childDefinition.columnDefinitions
+            .filterIsInstance<ReferenceColumnDefinition>()
+            .filter { it.referencedClassName == parentClassName }
+            .singleOrNull() ?: return
+        reference.checkNeedsReferences()
+        val referenceDefinition = reference._referenceDefinitionList.singleOrNull() ?: return
+        val parentColumn = tableDefinition.columnDefinitions
+            .find { it.columnName == referenceDefinition.foreignColumnName } ?: return
+        if (tableDefinition.columnDefinitions.any { it.propertyFieldName == _variableName }) {
+            manager.logWarning(OneToManyDefinition::class.java, "@OneToMany $elementName cannot be prefetched " +
+                "since its variable $_variableName has the name of a column.")
+            return
+        }
+
+        val relationType = ParameterizedTypeName.get(ClassNames.ONE_TO_MANY_RELATION, parentClassName, childClassName)
+        val childrenType = ParameterizedTypeName.get(ClassName.get(ArrayList::class.java), childClassName)
+        val relation = TypeSpec.anonymousClassBuilder("\$T.class, \$T.\$L", childClassName,
+            childDefinition.outputClassName, referenceDefinition.columnName)
+            .superclass(relationType)
+            .addMethod(MethodSpec.methodBuilder("getParentKey")
+                .addAnnotation(Override::class.java)
+                .addModifiers(Modifier.PROTECTED)
+                .returns(Any::class.java)
+                .addParameter(parentClassName, ModelUtils.variable)
+                .addCode(parentColumn.getSimpleAccessString())
+                .build())
+            .addMethod(MethodSpec.methodBuilder("setChildren")
+                .addAnnotation(Override::class.java)
+                .addModifiers(Modifier.PROTECTED)
+                .addParameter(parentClassName, ModelUtils.variable)
+                .addParameter(childrenType, "children")
+                .addStatement("\$L", columnAccessor.set(CodeBlock.of("children"), modelBlock))
+                .build())
+            .build()
+        typeBuilder.addField(FieldSpec.builder(relationType, _variableName,
+            Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+            .initializer("\$L", relation)
+            .build())
+        relationClassName = tableDefinition.outputClassName
+    }
+
     private fun writeLoopWithMethod(codeBuilder: MethodSpec.Builder, methodName: String, useWrapper: Boolean) {
         val oneToManyMethodName = this@OneToManyDefinition.methodName
         codeBuilder.apply {
@@ -87,6 +87,8 @@ class QueryModelDefinition(typeElement: Element, processorManager: ProcessorMana
 
             writeConstructor(this)
 
+            writeCursorColumnNames(this)
+
             `override fun`(elementClassName!!, "newInstance") {
                 modifiers(public, final)
                 `return`("new \$T()", elementClassName)
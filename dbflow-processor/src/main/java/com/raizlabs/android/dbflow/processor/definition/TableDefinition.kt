@@ -46,6 +46,8 @@ import com.raizlabs.android.dbflow.sql.QueryBuilder
 import com.squareup.javapoet.ArrayTypeName
 import com.squareup.javapoet.ClassName
 import com.squareup.javapoet.CodeBlock
+import com.squareup.javapoet.FieldSpec
+import com.squareup.javapoet.MethodSpec
 import com.squareup.javapoet.NameAllocator
 import com.squareup.javapoet.ParameterizedTypeName
 import com.squareup.javapoet.TypeName
@@ -91,6 +93,10 @@ class TableDefinition(manager: ProcessorManager, element: TypeElement) : BaseTab
 
     var createWithDatabase = true
 
+    var upsertEnabled = false
+
+    var dirtyTracking = false
+
     var allFields = false
     var useIsForPrivateBooleans: Boolean = false
 
@@ -128,6 +134,8 @@ class TableDefinition(manager: ProcessorManager, element: TypeElement) : BaseTab
             assignDefaultValuesFromCursor = table.assignDefaultValuesFromCursor
 
             createWithDatabase = table.createWithDatabase
+            upsertEnabled = table.upsertEnabled
+            dirtyTracking = table.dirtyTracking
 
             allFields = table.allFields
             useIsForPrivateBooleans = table.useBooleanGetterSetters
@@ -170,7 +178,10 @@ class TableDefinition(manager: ProcessorManager, element: TypeElement) : BaseTab
                 BindToStatementMethod(this, INSERT), BindToStatementMethod(this, NON_INSERT),
                 BindToStatementMethod(this, UPDATE), BindToStatementMethod(this, DELETE),
                 InsertStatementQueryMethod(this, true), InsertStatementQueryMethod(this, false),
+                InsertStatementValuesQueryMethod(this),
+                UpsertStatementQueryMethod(this, false), UpsertStatementQueryMethod(this, true),
                 UpdateStatementQueryMethod(this), DeleteStatementQueryMethod(this),
+                UpdateColumnNamesMethod(this, false), UpdateColumnNamesMethod(this, true),
                 CreationQueryMethod(this), LoadFromCursorMethod(this), ExistenceMethod(this),
                 PrimaryConditionMethod(this), OneToManyDeleteMethod(this, false),
                 OneToManyDeleteMethod(this, true),
@@ -437,6 +448,33 @@ class TableDefinition(manager: ProcessorManager, element: TypeElement) : BaseTab
                 `=`("new \$T[]{\$L}", ClassNames.IPROPERTY, getPropertiesBuilder.build().toString())
             }
 
+            writeCursorColumnNames(this)
+            if (!orderedCursorLookUp) {
+                `override fun`(ArrayTypeName.of(String::class.java), "getCursorColumnNames") {
+                    modifiers(public, final)
+                    `return`(LoadFromCursorMethod.COLUMN_NAMES)
+                }
+            }
+
+            oneToManyDefinitions.forEach { it.writeRelation(this, this@TableDefinition) }
+
+            val eagerJoinColumns = columnDefinitions
+                    .filter { it is ReferenceColumnDefinition && it.isEagerJoin }
+                    .map { it as ReferenceColumnDefinition }
+            if (eagerJoinColumns.isNotEmpty()) {
+                val joinsTypeName = ArrayTypeName.of(ParameterizedTypeName.get(ClassNames.FOREIGN_KEY_JOIN,
+                        WildcardTypeName.subtypeOf(Any::class.java)))
+                addField(FieldSpec.builder(joinsTypeName, FOREIGN_KEY_JOINS,
+                        Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .initializer("new \$T<?>[]{\$L}", ClassNames.FOREIGN_KEY_JOIN,
+                                eagerJoinColumns.joinToString { it.joinFieldName })
+                        .build())
+                `override fun`(joinsTypeName, "getForeignKeyJoins") {
+                    modifiers(public, final)
+                    `return`(FOREIGN_KEY_JOINS)
+                }
+            }
+
             // add index properties here
             for (indexGroupsDefinition in indexGroupsDefinitions) {
                 addField(indexGroupsDefinition.fieldSpec)
@@ -507,6 +545,22 @@ class TableDefinition(manager: ProcessorManager, element: TypeElement) : BaseTab
                 }
             }
 
+            if (upsertEnabled) {
+                `override fun`(TypeName.BOOLEAN, "upsertEnabled") {
+                    modifiers(public, final)
+                    `return`(true.L)
+                }
+            }
+
+            if (dirtyTracking) {
+                `override fun`(TypeName.BOOLEAN, "dirtyTrackingEnabled") {
+                    modifiers(public, final)
+                    `return`(true.L)
+                }
+            }
+
+            writeLoadByPrimaryKey(this)
+
             if (cachingEnabled) {
 
                 val singlePrimaryKey = primaryColumnDefinitions.size == 1
@@ -566,7 +620,7 @@ class TableDefinition(manager: ProcessorManager, element: TypeElement) : BaseTab
                             val column = primaryColumns[i]
                             val method = DefinitionUtils.getLoadFromCursorMethodString(column.elementTypeName, column.wrapperTypeName)
                             statement("inValues[$i] = ${LoadFromCursorMethod.PARAM_CURSOR}" +
-                                    ".$method(${LoadFromCursorMethod.PARAM_CURSOR}.getColumnIndex(${column.columnName.S}))")
+                                    ".$method(${getCursorColumnIndex(column)})")
                         }
                         `return`("inValues")
                     }
@@ -582,12 +636,28 @@ class TableDefinition(manager: ProcessorManager, element: TypeElement) : BaseTab
                         modifiers(public, final)
                         val column = primaryColumns[0]
                         val method = DefinitionUtils.getLoadFromCursorMethodString(column.elementTypeName, column.wrapperTypeName)
-                        `return`("${LoadFromCursorMethod.PARAM_CURSOR}.$method(${LoadFromCursorMethod.PARAM_CURSOR}.getColumnIndex(${column.columnName.S}))")
+                        `return`("${LoadFromCursorMethod.PARAM_CURSOR}.$method(${getCursorColumnIndex(column)})")
                     }
                     `override fun`(Any::class, "getCachingId", param(elementClassName!!, ModelUtils.variable)) {
                         modifiers(public, final)
                         `return`("getCachingColumnValueFromModel(${ModelUtils.variable})")
                     }
+
+                    val primaryColumn = primaryColumns[0]
+                    if (!primaryColumn.hasTypeConverter && primaryColumn.elementTypeName in LONG_CACHING_ID_TYPES) {
+                        `override fun`(TypeName.BOOLEAN, "hasLongCachingId") {
+                            modifiers(public, final)
+                            `return`(true.L)
+                        }
+                        `override fun`(TypeName.LONG, "getCachingIdAsLong", param(ClassNames.FLOW_CURSOR, "cursor")) {
+                            modifiers(public, final)
+                            `return`("${LoadFromCursorMethod.PARAM_CURSOR}.getLong(${getCursorColumnIndex(primaryColumn)})")
+                        }
+                        `override fun`(TypeName.LONG, "getCachingIdAsLong", param(elementClassName!!, ModelUtils.variable)) {
+                            modifiers(public, final)
+                            addCode(primaryColumn.getSimpleAccessString())
+                        }
+                    }
                 }
 
                 `override fun`(ArrayTypeName.of(ClassName.get(String::class.java)), "createCachingColumns") {
@@ -623,10 +693,15 @@ class TableDefinition(manager: ProcessorManager, element: TypeElement) : BaseTab
                             param(elementClassName!!, ModelUtils.variable),
                             param(ClassNames.FLOW_CURSOR, LoadFromCursorMethod.PARAM_CURSOR)) {
                         modifiers(public, final)
+                        if (!orderedCursorLookUp) {
+                            statement("final int[] ${LoadFromCursorMethod.COLUMN_INDICES} = " +
+                                    "${LoadFromCursorMethod.PARAM_CURSOR}.getColumnIndices(${LoadFromCursorMethod.COLUMN_NAMES})")
+                        }
                         code {
-                            val noIndex = AtomicInteger(-1)
                             val nameAllocator = NameAllocator()
-                            foreignKeyDefinitions.forEach { add(it.getLoadFromCursorMethod(false, noIndex, nameAllocator)) }
+                            foreignKeyDefinitions.forEach {
+                                add(it.getLoadFromCursorMethod(false, AtomicInteger(getCursorIndex(it)), nameAllocator))
+                            }
                             this
                         }
                     }
@@ -637,4 +712,76 @@ class TableDefinition(manager: ProcessorManager, element: TypeElement) : BaseTab
         methods.mapNotNull { it.methodSpec }
                 .forEach { typeBuilder.addMethod(it) }
     }
+
+    /**
+     * Writes the constant query of ModelAdapter.loadByPrimaryKey for a single primary key, and overloads that
+     * take it unboxed when its type binds directly.
+     */
+    private fun writeLoadByPrimaryKey(typeBuilder: TypeSpec.Builder) {
+        val primaryColumn = primaryColumnDefinitions.singleOrNull()
+        if (primaryColumn == null || primaryColumn is ReferenceColumnDefinition) {
+            return
+        }
+        val query = "SELECT ${cursorColumnNames.joinToString { QueryBuilder.quote(it) }}" +
+                " FROM ${QueryBuilder.quote(tableName)} WHERE ${QueryBuilder.quote(primaryColumn.columnName)}=?"
+        typeBuilder.addField(FieldSpec.builder(String::class.java, LOAD_BY_PRIMARY_KEY_QUERY,
+                Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer(query.S)
+                .build())
+        typeBuilder.`override fun`(String::class, "getLoadByPrimaryKeyQuery") {
+            modifiers(protected, final)
+            `return`(LOAD_BY_PRIMARY_KEY_QUERY)
+        }
+        val keyTypeName = primaryColumn.elementTypeName
+        if (primaryColumn.hasTypeConverter || keyTypeName == null
+                || !(keyTypeName.isPrimitive && keyTypeName != TypeName.BOOLEAN && keyTypeName != TypeName.CHAR
+                || keyTypeName == ClassName.get(String::class.java))) {
+            return
+        }
+        // the key boxes to the same type the cache is keyed with from the cursor.
+        typeBuilder.addMethod(MethodSpec.methodBuilder("loadByPrimaryKey")
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .returns(elementClassName)
+                .addParameter(keyTypeName, "key")
+                .addStatement("return loadByPrimaryKeyArgument(\$T.getWritableDatabaseForTable(getModelClass()), key)",
+                        ClassNames.FLOW_MANAGER)
+                .build())
+        typeBuilder.addMethod(MethodSpec.methodBuilder("loadByPrimaryKey")
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .returns(elementClassName)
+                .addParameter(ClassNames.DATABASE_WRAPPER, wrapper)
+                .addParameter(keyTypeName, "key")
+                .addStatement("return loadByPrimaryKeyArgument($wrapper, key)")
+                .build())
+    }
+
+    /**
+     * @return The cursor index loadFromCursor reads the first column of the definition from.
+     */
+    private fun getCursorIndex(columnDefinition: ColumnDefinition) =
+            columnDefinitions.takeWhile { it !== columnDefinition }.sumBy { it.cursorColumnNames.size }
+
+    /**
+     * @return The code for the index of the column in the cursor, resolved once per cursor where possible.
+     */
+    private fun getCursorColumnIndex(columnDefinition: ColumnDefinition): String {
+        val index = cursorColumnNames.indexOf(columnDefinition.columnName)
+        return when {
+            index == -1 -> "${LoadFromCursorMethod.PARAM_CURSOR}.getColumnIndex(${columnDefinition.columnName.S})"
+            orderedCursorLookUp -> index.toString()
+            else -> "${LoadFromCursorMethod.PARAM_CURSOR}.getColumnIndices(${LoadFromCursorMethod.COLUMN_NAMES})[$index]"
+        }
+    }
+
+    companion object {
+
+        val LOAD_BY_PRIMARY_KEY_QUERY = "LOAD_BY_PRIMARY_KEY_QUERY"
+
+        val FOREIGN_KEY_JOINS = "FOREIGN_KEY_JOINS"
+
+        /**
+         * The primary key types that are cached by a primitive long.
+         */
+        private val LONG_CACHING_ID_TYPES = setOf(TypeName.LONG, TypeName.INT, TypeName.SHORT, TypeName.BYTE)
+    }
 }
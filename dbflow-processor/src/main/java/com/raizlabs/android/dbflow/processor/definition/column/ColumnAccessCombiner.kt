@@ -3,6 +3,7 @@ package com.raizlabs.android.dbflow.processor.definition.column
 import com.grosner.kpoet.*
 import com.raizlabs.android.dbflow.processor.ClassNames
 import com.raizlabs.android.dbflow.processor.SQLiteHelper
+import com.raizlabs.android.dbflow.processor.definition.LoadFromCursorMethod
 import com.raizlabs.android.dbflow.processor.utils.ModelUtils
 import com.raizlabs.android.dbflow.processor.utils.catch
 import com.raizlabs.android.dbflow.processor.utils.isNullOrEmpty
@@ -214,16 +215,16 @@ class LoadFromCursorAccessCombiner(combiner: Combiner,
                                            modelBlock: CodeBlock, defineProperty: Boolean) {
         combiner.apply {
             var indexName = if (!orderedCursorLookup) {
-                CodeBlock.of(columnRepresentation.S)
+                CodeBlock.of("\$L[\$L]", LoadFromCursorMethod.COLUMN_INDICES, index)
             } else {
                 CodeBlock.of(index.toString())
             }!!
 
             if (wrapperLevelAccessor != null) {
                 if (!orderedCursorLookup) {
+                    val columnIndex = indexName
                     indexName = CodeBlock.of(nameAllocator.newName("index_$columnRepresentation", columnRepresentation))
-                    statement("\$T \$L = cursor.getColumnIndex(\$S)", Int::class.java, indexName,
-                            columnRepresentation)
+                    statement("\$T \$L = \$L", Int::class.java, indexName, columnIndex)
                     beginControlFlow("if (\$1L != -1 && !cursor.isNull(\$1L))", indexName)
                 } else {
                     beginControlFlow("if (!cursor.isNull(\$1L))", index)
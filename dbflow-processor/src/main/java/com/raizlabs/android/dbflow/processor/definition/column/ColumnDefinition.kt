@@ -95,6 +95,12 @@ constructor(processorManager: ProcessorManager, element: Element,
     open val insertStatementColumnName: CodeBlock
         get() = CodeBlock.of("\$L", QueryBuilder.quote(columnName))
 
+    open val updateColumnNames: List<String>
+        get() = listOf(QueryBuilder.quote(columnName))
+
+    open val upsertStatementBlock: CodeBlock
+        get() = CodeBlock.of("${QueryBuilder.quote(columnName)}=excluded.${QueryBuilder.quote(columnName)}")
+
     open val insertStatementValuesString: CodeBlock? = CodeBlock.of("?")
 
     open val typeConverterElementNames: List<TypeName?>
@@ -103,6 +109,12 @@ constructor(processorManager: ProcessorManager, element: Element,
     open val primaryKeyName: String?
         get() = QueryBuilder.quote(columnName)
 
+    /**
+     * The columns read by [getLoadFromCursorMethod], one per cursor index it consumes.
+     */
+    open val cursorColumnNames: List<String>
+        get() = listOf(columnName)
+
     init {
         element.annotation<NotNull>()?.let { notNullAnno ->
             notNull = true
@@ -2,6 +2,7 @@ package com.raizlabs.android.dbflow.processor.definition.column
 
 import com.raizlabs.android.dbflow.processor.ClassNames
 import com.raizlabs.android.dbflow.processor.SQLiteHelper
+import com.raizlabs.android.dbflow.processor.definition.LoadFromCursorMethod
 import com.raizlabs.android.dbflow.processor.utils.statement
 import com.squareup.javapoet.ClassName
 import com.squareup.javapoet.CodeBlock
@@ -61,7 +62,8 @@ class ForeignKeyLoadFromCursorCombiner(val fieldAccessor: ColumnAccessor,
                                        val referencedTypeName: TypeName,
                                        val referencedTableTypeName: TypeName,
                                        val isStubbed: Boolean,
-                                       val nameAllocator: NameAllocator) {
+                                       val nameAllocator: NameAllocator,
+                                       val joinField: CodeBlock? = null) {
     var fieldAccesses: List<PartialLoadFromCursorAccessCombiner> = arrayListOf()
 
     fun addCode(code: CodeBlock.Builder, index: AtomicInteger) {
@@ -88,7 +90,14 @@ class ForeignKeyLoadFromCursorCombiner(val fieldAccessor: ColumnAccessor,
 
         if (!isStubbed) setterBlock.add("\n.querySingle()")
 
-        code.beginControlFlow("if (\$L)", ifChecker.build())
+        if (joinField != null) {
+            // a query that joined the reference loads it from this row.
+            code.beginControlFlow("if (\$L.isJoined(cursor))", joinField)
+                    .statement(fieldAccessor.set(CodeBlock.of("\$L.load(cursor)", joinField), modelBlock))
+                    .nextControlFlow("else if (\$L)", ifChecker.build())
+        } else {
+            code.beginControlFlow("if (\$L)", ifChecker.build())
+        }
         if (!isStubbed) {
             code.statement(fieldAccessor.set(setterBlock.build(), modelBlock))
         } else {
@@ -146,8 +155,9 @@ class PartialLoadFromCursorAccessCombiner(
                        referencedTableTypeName: TypeName,
                        nameAllocator: NameAllocator) {
         if (!orderedCursorLookup) {
-            code.statement(CodeBlock.of("int \$L = cursor.getColumnIndex(\$S)",
-                    getIndexName(index, nameAllocator, referencedTableTypeName), columnRepresentation))
+            code.statement(CodeBlock.of("int \$L = \$L[\$L]",
+                    getIndexName(index, nameAllocator, referencedTableTypeName),
+                    LoadFromCursorMethod.COLUMN_INDICES, index))
         }
     }
 
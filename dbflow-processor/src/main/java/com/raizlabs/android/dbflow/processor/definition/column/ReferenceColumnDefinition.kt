@@ -69,8 +69,39 @@ class ReferenceColumnDefinition(manager: ProcessorManager, tableDefinition: Base
 
     var deferred = false
 
+    var eagerJoin = false
+
     var isColumnMap = false
 
+    /**
+     * True if [ForeignKey.eagerJoin] applies, which the referenced table must support.
+     */
+    val isEagerJoin: Boolean by lazy {
+        if (!eagerJoin) {
+            return@lazy false
+        }
+        val referencedTableDefinition = manager.getTableDefinition(baseTableDefinition.databaseTypeName,
+            referencedClassName)
+        val reason = when {
+            isStubbedRelationship || nonModelColumn -> "it is not a loaded model"
+            referencedTableDefinition == null -> "$referencedClassName is not a ${Table::class.java.simpleName}"
+            referencedTableDefinition === baseTableDefinition -> "it references its own table"
+            referencedTableDefinition.orderedCursorLookUp -> "$referencedClassName uses orderedCursorLookUp"
+            else -> null
+        }
+        if (reason != null) {
+            manager.logWarning(ReferenceColumnDefinition::class.java,
+                "Ignoring eagerJoin of $elementName in ${baseTableDefinition.elementName} since $reason.")
+        }
+        reason == null
+    }
+
+    /**
+     * The name of the ForeignKeyJoin field written to the _Table class when [isEagerJoin].
+     */
+    val joinFieldName: String
+        get() = "JOIN_$elementName"
+
     override val typeConverterElementNames: List<TypeName?>
         get() = _referenceDefinitionList.filter { it.hasTypeConverter }.map { it.columnClassName }
 
@@ -105,6 +136,7 @@ class ReferenceColumnDefinition(manager: ProcessorManager, tableDefinition: Base
 
             deferred = foreignKey.deferred
             isStubbedRelationship = foreignKey.stubbedRelationship
+            eagerJoin = foreignKey.eagerJoin
 
             try {
                 foreignKey.tableClass
@@ -175,6 +207,17 @@ class ReferenceColumnDefinition(manager: ProcessorManager, tableDefinition: Base
                 .initializer("new \$T(\$T.class, \$S)", propParam, tableClass, it.columnName)
                 .addJavadoc(if (isColumnMap) "Column Mapped Field" else ("Foreign Key" + if (isPrimaryKey) " / Primary Key" else "")).build())
         }
+        if (isEagerJoin) {
+            val joinTypeName = ParameterizedTypeName.get(ClassNames.FOREIGN_KEY_JOIN, referencedClassName)
+            typeBuilder.addField(FieldSpec.builder(joinTypeName, joinFieldName,
+                Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .initializer("new \$T<>(\$T.class, \$T.class, \$S, new String[]{\$L}, new String[]{\$L})",
+                    ClassNames.FOREIGN_KEY_JOIN, tableClass, referencedClassName,
+                    "${baseTableDefinition.elementName}_$elementName",
+                    _referenceDefinitionList.joinToString { it.columnName.S },
+                    _referenceDefinitionList.joinToString { it.foreignColumnName.S })
+                .build())
+        }
     }
 
     override fun addPropertyCase(methodBuilder: MethodSpec.Builder) {
@@ -226,6 +269,34 @@ class ReferenceColumnDefinition(manager: ProcessorManager, tableDefinition: Base
             return builder.build()
         }
 
+    override val upsertStatementBlock: CodeBlock
+        get() {
+            checkNeedsReferences()
+            val builder = CodeBlock.builder()
+            _referenceDefinitionList.indices.forEach { i ->
+                if (i > 0) {
+                    builder.add(",")
+                }
+                val columnName = QueryBuilder.quote(_referenceDefinitionList[i].columnName)
+                builder.add(CodeBlock.of("$columnName=excluded.$columnName"))
+            }
+            return builder.build()
+        }
+
+    override val updateColumnNames: List<String>
+        get() {
+            checkNeedsReferences()
+            return _referenceDefinitionList.map { QueryBuilder.quote(it.columnName) }
+        }
+
+    override val cursorColumnNames: List<String>
+        get() {
+            if (nonModelColumn) return super.cursorColumnNames
+            checkNeedsReferences()
+            return if (_referenceDefinitionList.isEmpty()) listOf(columnName)
+            else _referenceDefinitionList.map { it.columnName }
+        }
+
     override val insertStatementColumnName: CodeBlock
         get() {
             checkNeedsReferences()
@@ -333,7 +404,9 @@ class ReferenceColumnDefinition(manager: ProcessorManager, tableDefinition: Base
                 val outputClassName = tableDefinition?.outputClassName
                 outputClassName?.let {
                     val foreignKeyCombiner = ForeignKeyLoadFromCursorCombiner(columnAccessor,
-                        referencedTableClassName, outputClassName, isStubbedRelationship, nameAllocator)
+                        referencedTableClassName, outputClassName, isStubbedRelationship, nameAllocator,
+                        if (isEagerJoin) CodeBlock.of("\$T.\$L", baseTableDefinition.outputClassName, joinFieldName)
+                        else null)
                     _referenceDefinitionList.forEach {
                         foreignKeyCombiner.fieldAccesses += it.partialAccessor
                     }
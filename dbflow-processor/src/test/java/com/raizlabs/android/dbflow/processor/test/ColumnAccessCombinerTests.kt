@@ -169,10 +169,10 @@ class LoadFromCursorAccessCombinerTest {
                 Combiner(VisibleScopeColumnAccessor("name"), TypeName.get(String::class.java)), false, NameAllocator())
         val codeBuilder = CodeBlock.builder()
         combiner.apply {
-            codeBuilder.addCode("columnName", CodeBlock.of("\$S", "nonNull"))
+            codeBuilder.addCode("columnName", CodeBlock.of("\$S", "nonNull"), 2)
         }
 
-        assertEquals("model.name = cursor.getStringOrDefault(\"columnName\");", codeBuilder.build().toString().trim())
+        assertEquals("model.name = cursor.getStringOrDefault(columnIndices[2]);", codeBuilder.build().toString().trim())
     }
 
     @Test
@@ -184,10 +184,10 @@ class LoadFromCursorAccessCombinerTest {
                         wrapperFieldTypeName = TypeName.get(String::class.java)),false, NameAllocator())
         val codeBuilder = CodeBlock.builder()
         combiner.apply {
-            codeBuilder.addCode("columnName", CodeBlock.of("\$S", "nonNull"))
+            codeBuilder.addCode("columnName", CodeBlock.of("\$S", "nonNull"), 2)
         }
 
-        assertEquals("int index_columnName = cursor.getColumnIndex(\"columnName\");" +
+        assertEquals("int index_columnName = columnIndices[2];" +
                 "\nif (index_columnName != -1 && !cursor.isNull(index_columnName)) {" +
                 "\n  model.name = global_converter.getModelValue(cursor.getString(index_columnName));" +
                 "\n} else {" +
@@ -116,8 +116,8 @@ class ForeignKeyAccessCombinerTest {
         val builder = CodeBlock.builder()
         foreignKeyAccessCombiner.addCode(builder, AtomicInteger(0))
 
-        assertEquals("int index_testmodel_id_ParentModel_Table = cursor.getColumnIndex(\"testmodel_id\");" +
-                "\nint index_testmodel_type_ParentModel_Table = cursor.getColumnIndex(\"testmodel_type\");" +
+        assertEquals("int index_testmodel_id_ParentModel_Table = columnIndices[0];" +
+                "\nint index_testmodel_type_ParentModel_Table = columnIndices[1];" +
                 "\nif (index_testmodel_id_ParentModel_Table != -1 && !cursor.isNull(index_testmodel_id_ParentModel_Table) && index_testmodel_type_ParentModel_Table != -1 && !cursor.isNull(index_testmodel_type_ParentModel_Table)) {" +
                 "\n  model.testModel1 = com.raizlabs.android.dbflow.sql.language.SQLite.select().from(com.raizlabs.android.dbflow.test.container.ParentModel.class).where()" +
                 "\n      .and(com.raizlabs.android.dbflow.test.container.ParentModel_Table.name.eq(cursor.getString(index_testmodel_id_ParentModel_Table)))" +
@@ -142,8 +142,8 @@ class ForeignKeyAccessCombinerTest {
         val builder = CodeBlock.builder()
         foreignKeyAccessCombiner.addCode(builder, AtomicInteger(0))
 
-        assertEquals("int index_testmodel_id_ParentModel_Table = cursor.getColumnIndex(\"testmodel_id\");" +
-                "\nint index_testmodel_type_ParentModel_Table = cursor.getColumnIndex(\"testmodel_type\");" +
+        assertEquals("int index_testmodel_id_ParentModel_Table = columnIndices[0];" +
+                "\nint index_testmodel_type_ParentModel_Table = columnIndices[1];" +
                 "\nif (index_testmodel_id_ParentModel_Table != -1 && !cursor.isNull(index_testmodel_id_ParentModel_Table) && index_testmodel_type_ParentModel_Table != -1 && !cursor.isNull(index_testmodel_type_ParentModel_Table)) {" +
                 "\n  model.testModel1 = new com.raizlabs.android.dbflow.test.container.ParentModel();" +
                 "\n  model.testModel1.name = cursor.getString(index_testmodel_id_ParentModel_Table);" +
@@ -4,8 +4,9 @@ import android.content.ContentValues;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
+import com.raizlabs.android.dbflow.structure.database.BaseDatabaseWrapper;
 import com.raizlabs.android.dbflow.structure.database.DatabaseStatement;
-import com.raizlabs.android.dbflow.structure.database.DatabaseWrapper;
+import com.raizlabs.android.dbflow.structure.database.DatabaseStatementLruCache;
 import com.raizlabs.android.dbflow.structure.database.FlowCursor;
 
 import net.sqlcipher.database.SQLiteDatabase;
@@ -13,14 +14,24 @@ import net.sqlcipher.database.SQLiteDatabase;
 /**
  * Description: Implements the code necessary to use a {@link SQLiteDatabase} in dbflow.
  */
-public class SQLCipherDatabase implements DatabaseWrapper {
+public class SQLCipherDatabase extends BaseDatabaseWrapper {
 
     private final SQLiteDatabase database;
+    private final DatabaseStatementLruCache statementCache =
+            new DatabaseStatementLruCache(DatabaseStatementLruCache.DEFAULT_MAX_SIZE) {
+                @NonNull
+                @Override
+                protected DatabaseStatement compileStatement(@NonNull String query) {
+                    return SQLCipherDatabase.this.compileStatement(query);
+                }
+            };
 
     public static SQLCipherDatabase from(SQLiteDatabase database) {
         return new SQLCipherDatabase(database);
     }
 
+    private volatile long lastInsertRowId = UNKNOWN_ROW_ID;
+
     SQLCipherDatabase(SQLiteDatabase database) {
         this.database = database;
     }
@@ -28,6 +39,10 @@ public class SQLCipherDatabase implements DatabaseWrapper {
     @Override
     public void execSQL(@NonNull String query) {
         database.execSQL(query);
+        forgetLastInsertRowId();
+        if (DatabaseStatementLruCache.isSchemaChange(query)) {
+            statementCache.clear();
+        }
     }
 
     @Override
@@ -53,7 +68,21 @@ public class SQLCipherDatabase implements DatabaseWrapper {
     @NonNull
     @Override
     public DatabaseStatement compileStatement(@NonNull String rawQuery) {
-        return SQLCipherStatement.from(database.compileStatement(rawQuery));
+        // cached statements may no longer compile once a schema change runs through it.
+        return new SQLCipherStatement(database.compileStatement(rawQuery), this,
+                DatabaseStatementLruCache.isSchemaChange(rawQuery));
+    }
+
+    @NonNull
+    @Override
+    public DatabaseStatement compileCachedStatement(@NonNull String rawQuery) {
+        return statementCache.acquire(rawQuery);
+    }
+
+    @NonNull
+    @Override
+    public DatabaseStatementLruCache getStatementCache() {
+        return statementCache;
     }
 
     public SQLiteDatabase getDatabase() {
@@ -63,7 +92,56 @@ public class SQLCipherDatabase implements DatabaseWrapper {
     @NonNull
     @Override
     public FlowCursor rawQuery(@NonNull String query, @Nullable String[] selectionArgs) {
-        return FlowCursor.from(database.rawQuery(query, selectionArgs));
+        return onQuery(query, FlowCursor.from(database.rawQuery(query, selectionArgs)));
+    }
+
+    @NonNull
+    @Override
+    public FlowCursor rawQueryWithArgs(@NonNull String query, @Nullable Object[] bindArgs) {
+        return onQuery(query, FlowCursor.from(database.rawQuery(query, bindArgs != null ? bindArgs : new Object[0])));
+    }
+
+    /**
+     * Tracks the row ids of the inserts that run through this wrapper and its statements, the same as
+     * {@code AndroidDatabase}. Inserts made through {@link #getDatabase()} directly are not seen.
+     */
+    @Override
+    public long getLastInsertRowId() {
+        long rowId = lastInsertRowId;
+        if (rowId == UNKNOWN_ROW_ID) {
+            rowId = super.getLastInsertRowId();
+            lastInsertRowId = rowId;
+        }
+        return rowId;
+    }
+
+    /**
+     * @param rowId The row id an insert returned. -1 means it inserted nothing, which leaves it as it was.
+     */
+    void onInsert(long rowId) {
+        if (rowId != -1) {
+            lastInsertRowId = rowId;
+        }
+    }
+
+    void forgetLastInsertRowId() {
+        lastInsertRowId = UNKNOWN_ROW_ID;
+    }
+
+    /**
+     * Clears the statement cache after a schema change run as a query.
+     */
+    @NonNull
+    private FlowCursor onQuery(@NonNull String query, @NonNull FlowCursor cursor) {
+        if (!isSelect(query)) {
+            forgetLastInsertRowId();
+        }
+        if (DatabaseStatementLruCache.isSchemaChange(query)) {
+            // the statement only runs once the cursor is read.
+            cursor.getCount();
+            statementCache.clear();
+        }
+        return cursor;
     }
 
     @Override
@@ -73,7 +151,9 @@ public class SQLCipherDatabase implements DatabaseWrapper {
 
     @Override
     public long insertWithOnConflict(@NonNull String tableName, @Nullable String nullColumnHack, @NonNull ContentValues values, int sqLiteDatabaseAlgorithmInt) {
-        return database.insertWithOnConflict(tableName, nullColumnHack, values, sqLiteDatabaseAlgorithmInt);
+        long rowId = database.insertWithOnConflict(tableName, nullColumnHack, values, sqLiteDatabaseAlgorithmInt);
+        onInsert(rowId);
+        return rowId;
     }
 
     @NonNull
@@ -64,7 +64,21 @@ public abstract class SQLCipherOpenHelper extends SQLiteOpenHelper implements Op
     @Override
     public DatabaseWrapper getDatabase() {
         if (cipherDatabase == null || !cipherDatabase.getDatabase().isOpen()) {
-            cipherDatabase = SQLCipherDatabase.from(getWritableDatabase(getCipherSecret()));
+            wrap(getWritableDatabase(getCipherSecret()));
+        }
+        return cipherDatabase;
+    }
+
+    /**
+     * Keeps a single wrapper per database, so the callbacks and later queries share its statement cache.
+     */
+    @NonNull
+    private SQLCipherDatabase wrap(@NonNull SQLiteDatabase db) {
+        if (cipherDatabase == null || cipherDatabase.getDatabase() != db) {
+            if (cipherDatabase != null) {
+                cipherDatabase.getStatementCache().clear();
+            }
+            cipherDatabase = SQLCipherDatabase.from(db);
         }
         return cipherDatabase;
     }
@@ -81,22 +95,23 @@ public abstract class SQLCipherOpenHelper extends SQLiteOpenHelper implements Op
 
     @Override
     public void onCreate(SQLiteDatabase db) {
-        databaseHelperDelegate.onCreate(SQLCipherDatabase.from(db));
+        databaseHelperDelegate.onCreate(wrap(db));
     }
 
     @Override
     public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
-        databaseHelperDelegate.onUpgrade(SQLCipherDatabase.from(db), oldVersion, newVersion);
+        databaseHelperDelegate.onUpgrade(wrap(db), oldVersion, newVersion);
     }
 
     @Override
     public void onOpen(SQLiteDatabase db) {
-        databaseHelperDelegate.onOpen(SQLCipherDatabase.from(db));
+        databaseHelperDelegate.onOpen(wrap(db));
     }
 
     @Override
     public void closeDB() {
         getDatabase();
+        cipherDatabase.getStatementCache().clear();
         cipherDatabase.getDatabase().close();
     }
 
@@ -18,9 +18,22 @@ public class SQLCipherStatement extends BaseDatabaseStatement {
     }
 
     private final SQLiteStatement statement;
+    @Nullable
+    private final SQLCipherDatabase wrapper;
+    private final boolean schemaChange;
 
     SQLCipherStatement(SQLiteStatement statement) {
+        this(statement, null, false);
+    }
+
+    /**
+     * @param wrapper      The wrapper that compiled the statement, told about the rows it inserts.
+     * @param schemaChange True to clear the statement cache of the wrapper once the statement runs.
+     */
+    SQLCipherStatement(SQLiteStatement statement, @Nullable SQLCipherDatabase wrapper, boolean schemaChange) {
         this.statement = statement;
+        this.wrapper = wrapper;
+        this.schemaChange = schemaChange;
     }
 
     public SQLiteStatement getStatement() {
@@ -29,12 +42,25 @@ public class SQLCipherStatement extends BaseDatabaseStatement {
 
     @Override
     public long executeUpdateDelete() {
-        return statement.executeUpdateDelete();
+        long count = statement.executeUpdateDelete();
+        onExecute();
+        return count;
     }
 
     @Override
     public void execute() {
         statement.execute();
+        onExecute();
+    }
+
+    private void onExecute() {
+        if (wrapper != null) {
+            // the statement may have been an INSERT.
+            wrapper.forgetLastInsertRowId();
+            if (schemaChange) {
+                wrapper.getStatementCache().clear();
+            }
+        }
     }
 
     @Override
@@ -55,7 +81,11 @@ public class SQLCipherStatement extends BaseDatabaseStatement {
 
     @Override
     public long executeInsert() {
-        return statement.executeInsert();
+        long rowId = statement.executeInsert();
+        if (wrapper != null) {
+            wrapper.onInsert(rowId);
+        }
+        return rowId;
     }
 
     @Override
@@ -82,4 +112,9 @@ public class SQLCipherStatement extends BaseDatabaseStatement {
     public void bindBlob(int index, byte[] bytes) {
         statement.bindBlob(index, bytes);
     }
+
+    @Override
+    public void clearBindings() {
+        statement.clearBindings();
+    }
 }
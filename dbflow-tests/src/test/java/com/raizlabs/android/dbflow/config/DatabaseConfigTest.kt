@@ -2,7 +2,15 @@ package com.raizlabs.android.dbflow.config
 
 import com.nhaarman.mockito_kotlin.mock
 import com.raizlabs.android.dbflow.BaseUnitTest
+import com.raizlabs.android.dbflow.ImmediateTransactionManager2
 import com.raizlabs.android.dbflow.TestDatabase
+import com.raizlabs.android.dbflow.kotlinextensions.async
+import com.raizlabs.android.dbflow.kotlinextensions.cursorList
+import com.raizlabs.android.dbflow.kotlinextensions.from
+import com.raizlabs.android.dbflow.kotlinextensions.list
+import com.raizlabs.android.dbflow.kotlinextensions.save
+import com.raizlabs.android.dbflow.kotlinextensions.select
+import com.raizlabs.android.dbflow.models.SimpleModel
 import com.raizlabs.android.dbflow.runtime.BaseTransactionManager
 import com.raizlabs.android.dbflow.structure.database.DatabaseHelperListener
 import com.raizlabs.android.dbflow.structure.database.OpenHelper
@@ -76,6 +84,60 @@ class DatabaseConfigTest : BaseUnitTest() {
         Assert.assertEquals("", databaseConfig.databaseExtensionName)
     }
 
+    @Test
+    fun test_readConnectionPool() {
+        FlowManager.init(builder
+            .addDatabaseConfig(DatabaseConfig.Builder(TestDatabase::class.java)
+                .databaseName("Pooled")
+                .readConnectionPoolSize(2)
+                .build())
+            .build())
+
+        val databaseDefinition = FlowManager.getDatabase(TestDatabase::class.java)
+        val pool = databaseDefinition.readConnectionPool!!
+        Assert.assertEquals(2, pool.size)
+        Assert.assertSame(pool, databaseDefinition.readableDatabase)
+
+        SimpleModel("Something").save()
+        Assert.assertEquals(1, (select from SimpleModel::class).list.size)
+        Assert.assertEquals(1, pool.acquireCount)
+        Assert.assertEquals(0, pool.activeCount)
+
+        // inside a transaction reads run on the writing connection, which sees its changes.
+        databaseDefinition.executeTransaction {
+            SimpleModel("Another").save()
+            Assert.assertEquals(2, (select from SimpleModel::class).list.size)
+        }
+        Assert.assertEquals(1, pool.acquireCount)
+    }
+
+    @Test
+    fun test_readConnectionPoolAsyncQuery() {
+        FlowManager.init(builder
+            .addDatabaseConfig(DatabaseConfig.Builder(TestDatabase::class.java)
+                .databaseName("Pooled")
+                .readConnectionPoolSize(2)
+                .transactionManagerCreator(::ImmediateTransactionManager2)
+                .build())
+            .build())
+
+        val pool = FlowManager.getDatabase(TestDatabase::class.java).readConnectionPool!!
+        SimpleModel("Something").save()
+
+        // async reads run outside of a transaction, so they reach a read connection.
+        (select from SimpleModel::class).async.queryListResultCallback { _, _ -> }.execute()
+        Assert.assertEquals(1, pool.acquireCount)
+        Assert.assertEquals(0, pool.activeCount)
+
+        // a cursor holds its connection until it is closed.
+        val cursorList = (select from SimpleModel::class).cursorList
+        Assert.assertEquals(2, pool.acquireCount)
+        Assert.assertEquals(1, pool.activeCount)
+        Assert.assertEquals(1L, cursorList.count)
+        cursorList.close()
+        Assert.assertEquals(0, pool.activeCount)
+    }
+
     class CustomTransactionManagerCreator : DatabaseConfig.TransactionManagerCreator {
 
         lateinit var testTransactionManager: TestTransactionManager
@@ -0,0 +1,80 @@
+package com.raizlabs.android.dbflow.database.transaction
+
+import com.raizlabs.android.dbflow.BaseUnitTest
+import com.raizlabs.android.dbflow.kotlinextensions.from
+import com.raizlabs.android.dbflow.kotlinextensions.list
+import com.raizlabs.android.dbflow.kotlinextensions.modelAdapter
+import com.raizlabs.android.dbflow.kotlinextensions.select
+import com.raizlabs.android.dbflow.kotlinextensions.writableDatabaseForTable
+import com.raizlabs.android.dbflow.models.TwoColumnModel
+import com.raizlabs.android.dbflow.structure.database.transaction.BulkImportTransaction
+import com.raizlabs.android.dbflow.structure.database.DatabaseWrapper
+import org.junit.Assert.assertEquals
+import org.junit.Assert.fail
+import org.junit.Test
+
+class BulkImportTransactionTest : BaseUnitTest() {
+
+    private fun DatabaseWrapper.indexCount(): Int =
+        rawQuery("SELECT name FROM sqlite_master WHERE type='index' AND name='twoColumnIndex'", null).use { it.count }
+
+    private fun DatabaseWrapper.pragma(name: String): String? =
+        rawQuery("PRAGMA $name", null).use { if (it.moveToFirst()) it.getString(0) else null }
+
+    @Test
+    fun testImportRebuildsIndexes() {
+        val database = writableDatabaseForTable<TwoColumnModel>()
+        database.execSQL("CREATE INDEX IF NOT EXISTS `twoColumnIndex` ON `TwoColumnModel`(`id`)")
+        val synchronous = database.pragma("synchronous")
+        val journalMode = database.pragma("journal_mode")
+
+        var indexesDuringImport = -1
+        var synchronousDuringImport: String? = null
+        val models = (0..99).asSequence().map {
+            if (it == 50) {
+                indexesDuringImport = database.indexCount()
+                synchronousDuringImport = database.pragma("synchronous")
+            }
+            TwoColumnModel("$it", it)
+        }.asIterable()
+
+        val count = BulkImportTransaction.builder(modelAdapter<TwoColumnModel>())
+            .addAll(models)
+            .build()
+            .execute(database)
+
+        assertEquals(100, count)
+        assertEquals(100, (select from TwoColumnModel::class).list.size)
+        assertEquals(0, indexesDuringImport)
+        assertEquals("0", synchronousDuringImport)
+        assertEquals(1, database.indexCount())
+        assertEquals(synchronous, database.pragma("synchronous"))
+        assertEquals(journalMode, database.pragma("journal_mode"))
+    }
+
+    @Test
+    fun testFailedImportKeepsIndexesAndPragmas() {
+        val database = writableDatabaseForTable<TwoColumnModel>()
+        database.execSQL("CREATE INDEX IF NOT EXISTS `twoColumnIndex` ON `TwoColumnModel`(`id`)")
+        val synchronous = database.pragma("synchronous")
+        val journalMode = database.pragma("journal_mode")
+
+        val models = (0..99).asSequence().map {
+            if (it == 50) {
+                throw IllegalStateException("source failed")
+            }
+            TwoColumnModel("$it", it)
+        }.asIterable()
+
+        try {
+            BulkImportTransaction.builder(modelAdapter<TwoColumnModel>()).addAll(models).build().execute(database)
+            fail("Expected the import to fail")
+        } catch (e: IllegalStateException) {
+        }
+
+        assertEquals(0, (select from TwoColumnModel::class).list.size)
+        assertEquals(1, database.indexCount())
+        assertEquals(synchronous, database.pragma("synchronous"))
+        assertEquals(journalMode, database.pragma("journal_mode"))
+    }
+}
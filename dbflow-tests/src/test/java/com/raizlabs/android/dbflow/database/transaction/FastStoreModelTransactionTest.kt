@@ -8,11 +8,15 @@ import com.raizlabs.android.dbflow.kotlinextensions.fastSave
 import com.raizlabs.android.dbflow.kotlinextensions.fastUpdate
 import com.raizlabs.android.dbflow.kotlinextensions.from
 import com.raizlabs.android.dbflow.kotlinextensions.list
+import com.raizlabs.android.dbflow.kotlinextensions.modelAdapter
 import com.raizlabs.android.dbflow.kotlinextensions.select
 import com.raizlabs.android.dbflow.models.SimpleModel
 import com.raizlabs.android.dbflow.models.TwoColumnModel
+import com.raizlabs.android.dbflow.structure.database.transaction.ChunkedStoreModelTransaction
+import com.raizlabs.android.dbflow.structure.database.transaction.FastStoreModelTransaction
 import org.junit.Assert.assertEquals
 import org.junit.Assert.assertNotEquals
+import org.junit.Assert.fail
 import org.junit.Test
 import java.util.*
 
@@ -63,4 +67,42 @@ class FastStoreModelTransactionTest : BaseUnitTest() {
             assertNotEquals(model, oldList[index])
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    fun testChunkedResumesAfterSourceFailure() {
+        var failed = false
+        val source = object : Iterator<SimpleModel> {
+            var index = 0
+
+            override fun hasNext() = index < 10
+
+            override fun next(): SimpleModel {
+                if (index == 5 && !failed) {
+                    failed = true
+                    throw IllegalStateException("source failed")
+                }
+                return SimpleModel("${index++}")
+            }
+        }
+
+        val chunks = mutableListOf<Int>()
+        val transaction = FastStoreModelTransaction.saveBuilder(modelAdapter<SimpleModel>())
+            .chunked(source)
+            .chunkSize(3)
+            .progressListener(ChunkedStoreModelTransaction.ProgressListener { _, size, _ -> chunks.add(size) })
+            .build()
+
+        try {
+            transaction.execute(database<TestDatabase>())
+            fail("Expected the source to fail")
+        } catch (e: IllegalStateException) {
+        }
+        assertEquals(3, transaction.committedCount)
+        assertEquals(2, transaction.pendingCount)
+        assertEquals(3, (select from SimpleModel::class).list.size)
+
+        assertEquals(10, transaction.execute(database<TestDatabase>()))
+        assertEquals(listOf(3, 3, 3, 1), chunks)
+        assertEquals(10, (select from SimpleModel::class).list.size)
+    }
+}
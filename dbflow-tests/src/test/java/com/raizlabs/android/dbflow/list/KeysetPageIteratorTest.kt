@@ -0,0 +1,53 @@
+package com.raizlabs.android.dbflow.list
+
+import com.raizlabs.android.dbflow.BaseUnitTest
+import com.raizlabs.android.dbflow.kotlinextensions.from
+import com.raizlabs.android.dbflow.kotlinextensions.list
+import com.raizlabs.android.dbflow.kotlinextensions.save
+import com.raizlabs.android.dbflow.kotlinextensions.select
+import com.raizlabs.android.dbflow.models.TwoColumnModel
+import com.raizlabs.android.dbflow.models.TwoColumnModel_Table.id
+import com.raizlabs.android.dbflow.models.TwoColumnModel_Table.name
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Test
+
+class KeysetPageIteratorTest : BaseUnitTest() {
+
+    @Test
+    fun testPagesMatchOrderedQuery() {
+        (0..24).forEach { TwoColumnModel(name = "$it", id = it / 2).save() }
+
+        val expected = (select from TwoColumnModel::class)
+            .orderBy(id, false).orderBy(name, true).list.map { it.name }
+
+        val iterator = KeysetPageIterator((select from TwoColumnModel::class)
+            .orderBy(id, false).orderBy(name, true), 10)
+        val pages = iterator.asSequence().toList()
+
+        assertEquals(listOf(10, 10, 5), pages.map { it.size })
+        assertEquals(expected, pages.flatten().map { it.name })
+    }
+
+    @Test
+    fun testExactPageEndsWithoutEmptyPage() {
+        (0..9).forEach { TwoColumnModel(name = "$it", id = it).save() }
+
+        val iterator = KeysetPageIterator((select from TwoColumnModel::class).orderBy(id, true), 5)
+        assertEquals(5, iterator.next().size)
+        assertEquals(5, iterator.next().size)
+        assertFalse(iterator.hasNext())
+    }
+
+    @Test
+    fun testLimitAndOffsetApplyToAllPages() {
+        (0..24).forEach { TwoColumnModel(name = "$it", id = it).save() }
+
+        val iterator = KeysetPageIterator((select from TwoColumnModel::class).orderBy(id, true)
+            .limit(12).offset(3), 5)
+        val pages = iterator.asSequence().toList()
+
+        assertEquals(listOf(5, 5, 2), pages.map { it.size })
+        assertEquals((3..14).toList(), pages.flatten().map { it.id })
+    }
+}
@@ -11,6 +11,10 @@ import com.raizlabs.android.dbflow.structure.cache.IMultiKeyCacheConverter
 @Table(database = TestDatabase::class, cachingEnabled = true)
 class SimpleCacheObject(@PrimaryKey var id: String = "")
 
+@Table(database = TestDatabase::class, cachingEnabled = true)
+class NumberCacheObject(@PrimaryKey var id: Long = 0,
+                        @Column var name: String = "")
+
 @Table(database = TestDatabase::class, cachingEnabled = true)
 class Coordinate(@PrimaryKey var latitude: Double = 0.0,
                  @PrimaryKey var longitude: Double = 0.0,
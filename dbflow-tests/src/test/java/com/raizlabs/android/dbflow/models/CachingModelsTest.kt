@@ -3,11 +3,15 @@ package com.raizlabs.android.dbflow.models
 import com.raizlabs.android.dbflow.BaseUnitTest
 import com.raizlabs.android.dbflow.kotlinextensions.from
 import com.raizlabs.android.dbflow.kotlinextensions.list
+import com.raizlabs.android.dbflow.kotlinextensions.modelAdapter
 import com.raizlabs.android.dbflow.kotlinextensions.result
 import com.raizlabs.android.dbflow.kotlinextensions.save
 import com.raizlabs.android.dbflow.kotlinextensions.select
 import org.junit.Assert.assertEquals
 import org.junit.Assert.assertNotEquals
+import org.junit.Assert.assertNotSame
+import org.junit.Assert.assertNull
+import org.junit.Assert.assertSame
 import org.junit.Test
 
 /**
@@ -47,4 +51,40 @@ class CachingModelsTest : BaseUnitTest() {
         // we want to ensure relationships reloaded.
         assertNotEquals(oldPath, loadedCoordinate.path)
     }
+
+    @Test
+    fun testLoadByPrimaryKeyUsesCache() {
+        NumberCacheObject(5, "five").save()
+        val adapter = modelAdapter<NumberCacheObject>() as NumberCacheObject_Table
+
+        val loaded = adapter.loadByPrimaryKey(5L)!!
+        assertEquals("five", loaded.name)
+        assertSame(loaded, adapter.loadByPrimaryKey(5L))
+        assertSame(loaded, adapter.loadByPrimaryKey(5L as Any))
+        assertEquals("five", adapter.loadByPrimaryKey("5" as Any)?.name)
+        assertNull(adapter.loadByPrimaryKey(6L))
+    }
+
+    @Test
+    fun testLoadByPrimaryKeyWithoutCache() {
+        NumberModel(1).save()
+        val adapter = modelAdapter<NumberModel>()
+
+        val loaded = adapter.loadByPrimaryKey(1)!!
+        assertEquals(1, loaded.id)
+        assertNotSame(loaded, adapter.loadByPrimaryKey(1))
+        assertNull(adapter.loadByPrimaryKey(2))
+    }
+
+    @Test
+    fun testLoadByPrimaryKeyWithCompositeKey() {
+        Coordinate(40.5, 84.0).save()
+        val adapter = modelAdapter<Coordinate>()
+
+        val loaded = adapter.loadByPrimaryKey(Coordinate(40.5, 84.0))!!
+        assertEquals(40.5, loaded.latitude, 0.0)
+        assertEquals(84.0, loaded.longitude, 0.0)
+        assertSame(loaded, adapter.loadByPrimaryKey(Coordinate(40.5, 84.0)))
+        assertNull(adapter.loadByPrimaryKey(Coordinate(1.0, 2.0)))
+    }
 }
@@ -0,0 +1,37 @@
+package com.raizlabs.android.dbflow.models
+
+import com.raizlabs.android.dbflow.BaseUnitTest
+import com.raizlabs.android.dbflow.kotlinextensions.save
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNull
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class DaoTest : BaseUnitTest() {
+
+    @Test
+    fun testQueriesReadModelsAndScalars() {
+        (1..5).forEach { TwoColumnModel("name$it", it).save() }
+        val dao = TwoColumnModelDao_Impl()
+
+        assertEquals(3, dao.findByName("name3")?.id)
+        assertNull(dao.findByName("missing"))
+        assertEquals(listOf("name4", "name5"), dao.listFrom(4).map { it.name })
+        assertEquals(1L, dao.countWithId(2))
+    }
+
+    @Test
+    fun testWritesReuseStatements() {
+        val dao = TwoColumnModelDao_Impl()
+        assertTrue(dao.insert("first", 1) > 0)
+        assertTrue(dao.insert("second", 1) > 0)
+
+        assertEquals(1, dao.updateId("first", 2))
+        assertEquals(0, dao.updateId("missing", 2))
+        assertEquals(1L, dao.countWithId(2))
+        dao.close()
+
+        assertEquals(1, dao.updateId("second", 2))
+        assertEquals(2L, dao.countWithId(2))
+    }
+}
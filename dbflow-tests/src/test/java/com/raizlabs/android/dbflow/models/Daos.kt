@@ -0,0 +1,27 @@
+package com.raizlabs.android.dbflow.models
+
+import com.raizlabs.android.dbflow.TestDatabase
+import com.raizlabs.android.dbflow.annotation.Dao
+import com.raizlabs.android.dbflow.annotation.DaoQuery
+
+/**
+ * Description: Queries written as SQL, implemented in TwoColumnModelDao_Impl.
+ */
+@Dao(database = TestDatabase::class)
+interface TwoColumnModelDao {
+
+    @DaoQuery("SELECT * FROM `TwoColumnModel` WHERE `name` = :name")
+    fun findByName(name: String): TwoColumnModel?
+
+    @DaoQuery("SELECT * FROM `TwoColumnModel` WHERE `id` >= :minId ORDER BY `id`")
+    fun listFrom(minId: Int): List<TwoColumnModel>
+
+    @DaoQuery("SELECT COUNT(*) FROM `TwoColumnModel` WHERE `id` = :id")
+    fun countWithId(id: Int): Long
+
+    @DaoQuery("UPDATE `TwoColumnModel` SET `id` = :id WHERE `name` = :name")
+    fun updateId(name: String, id: Int): Int
+
+    @DaoQuery("INSERT INTO `TwoColumnModel`(`name`, `id`) VALUES(:name, :id)")
+    fun insert(name: String, id: Int): Long
+}
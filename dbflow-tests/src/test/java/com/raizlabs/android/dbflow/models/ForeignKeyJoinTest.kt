@@ -0,0 +1,84 @@
+package com.raizlabs.android.dbflow.models
+
+import com.raizlabs.android.dbflow.BaseUnitTest
+import com.raizlabs.android.dbflow.kotlinextensions.from
+import com.raizlabs.android.dbflow.kotlinextensions.list
+import com.raizlabs.android.dbflow.kotlinextensions.modelAdapter
+import com.raizlabs.android.dbflow.kotlinextensions.save
+import com.raizlabs.android.dbflow.kotlinextensions.select
+import com.raizlabs.android.dbflow.kotlinextensions.writableDatabaseForTable
+import com.raizlabs.android.dbflow.sql.language.SQLite
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertNull
+import org.junit.Assert.assertSame
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class ForeignKeyJoinTest : BaseUnitTest() {
+
+    @Test
+    fun testSelectJoinedQuery() {
+        val query = SQLite.selectJoined(BlogEager::class.java).query
+
+        assertTrue(query.contains("`BlogEager_author`.`first_name` AS `BlogEager_author_first_name`"))
+        assertTrue(query.contains("LEFT OUTER JOIN `Author` AS `BlogEager_author` " +
+            "ON `BlogEager`.`author_id`=`BlogEager_author`.`id`"))
+        assertTrue(query.contains("LEFT OUTER JOIN `NumberCacheObject` AS `BlogEager_cachedAuthor` " +
+            "ON `BlogEager`.`cachedAuthor_id`=`BlogEager_cachedAuthor`.`id`"))
+    }
+
+    @Test
+    fun testSelectJoinedLoadsReferences() {
+        val author = Author(firstName = "Andrew", lastName = "Grosner").apply { save() }
+        val cachedAuthor = NumberCacheObject(5, "cached").apply { save() }
+        BlogEager(name = "joined", author = author, cachedAuthor = cachedAuthor).save()
+        BlogEager(name = "empty").save()
+
+        val blogs = SQLite.selectJoined(BlogEager::class.java).queryList()
+
+        assertEquals(2, blogs.size)
+        assertEquals("joined", blogs[0].name)
+        assertEquals(author.id, blogs[0].author!!.id)
+        assertEquals("Andrew", blogs[0].author!!.firstName)
+        assertEquals("Grosner", blogs[0].author!!.lastName)
+        assertSame(cachedAuthor, blogs[0].cachedAuthor)
+        assertEquals("empty", blogs[1].name)
+        assertNull(blogs[1].author)
+        assertNull(blogs[1].cachedAuthor)
+    }
+
+    @Test
+    fun testSelectLoadsReferencesWithoutJoin() {
+        val author = Author(firstName = "Andrew", lastName = "Grosner").apply { save() }
+        BlogEager(name = "queried", author = author).save()
+
+        val blogs = (select from BlogEager::class).list
+
+        assertEquals("Andrew", blogs[0].author!!.firstName)
+        assertNull(blogs[0].cachedAuthor)
+    }
+
+    @Test
+    fun testLoadKeepsReferencedTableColumns() {
+        Author(firstName = "own").save()
+        Author(firstName = "joined").save()
+
+        writableDatabaseForTable<Author>().rawQuery("SELECT a.`id`, a.`first_name`, a.`last_name`, " +
+            "j.`id` AS `BlogEager_author_id`, j.`first_name` AS `BlogEager_author_first_name`, " +
+            "j.`last_name` AS `BlogEager_author_last_name` FROM `Author` a, `Author` j " +
+            "WHERE a.`first_name`='own' AND j.`first_name`='joined'", null).use { cursor ->
+            cursor.moveToFirst()
+
+            assertTrue(BlogEager_Table.JOIN_author.isJoined(cursor))
+            assertEquals("joined", BlogEager_Table.JOIN_author.load(cursor)!!.firstName)
+            assertEquals("own", modelAdapter<Author>().loadFromCursor(cursor).firstName)
+        }
+    }
+
+    @Test
+    fun testIsJoinedNeedsKeyColumns() {
+        writableDatabaseForTable<Author>().rawQuery("SELECT 'name' AS `BlogEager_author_first_name`", null)
+            .use { cursor -> assertFalse(BlogEager_Table.JOIN_author.isJoined(cursor)) }
+    }
+}
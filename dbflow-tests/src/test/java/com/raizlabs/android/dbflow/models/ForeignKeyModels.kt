@@ -29,6 +29,14 @@ class Author(@PrimaryKey(autoincrement = true) var id: Int = 0,
              @Column(name = "first_name") var firstName: String = "",
              @Column(name = "last_name") var lastName: String = "")
 
+/**
+ * Example of foreign keys that SQLite.selectJoined loads from the same row, one of them cached.
+ */
+@Table(database = TestDatabase::class)
+class BlogEager(@PrimaryKey(autoincrement = true) var id: Int = 0, @Column var name: String = "",
+                @ForeignKey(eagerJoin = true) var author: Author? = null,
+                @ForeignKey(eagerJoin = true) var cachedAuthor: NumberCacheObject? = null)
+
 /**
  * Example of simple foreign key object with its [ForeignKey] deferred.
  */
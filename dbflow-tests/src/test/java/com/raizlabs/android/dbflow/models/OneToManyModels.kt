@@ -1,10 +1,12 @@
 package com.raizlabs.android.dbflow.models
 
 import com.raizlabs.android.dbflow.TestDatabase
+import com.raizlabs.android.dbflow.annotation.ForeignKey
 import com.raizlabs.android.dbflow.annotation.OneToMany
 import com.raizlabs.android.dbflow.annotation.PrimaryKey
 import com.raizlabs.android.dbflow.annotation.Table
 import com.raizlabs.android.dbflow.kotlinextensions.from
+import com.raizlabs.android.dbflow.kotlinextensions.list
 import com.raizlabs.android.dbflow.kotlinextensions.oneToMany
 import com.raizlabs.android.dbflow.kotlinextensions.select
 import com.raizlabs.android.dbflow.kotlinextensions.where
@@ -48,4 +50,29 @@ class OneToManyModel(@PrimaryKey var name: String? = null) {
 }
 
 @Table(database = TestDatabase::class)
-class OneToManyBaseModel(@PrimaryKey var id: Int = 0) : BaseModel()
\ No newline at end of file
+class OneToManyBaseModel(@PrimaryKey var id: Int = 0) : BaseModel()
+
+@Table(database = TestDatabase::class)
+class PrefetchParent(@PrimaryKey var id: Int = 0) {
+
+    var children: List<PrefetchChild>? = null
+
+    @OneToMany(methods = arrayOf(OneToMany.Method.LOAD), variableName = "children")
+    fun getChildList(): List<PrefetchChild> {
+        var localChildren = children
+        if (localChildren == null) {
+            getterLoads++
+            localChildren = (select from PrefetchChild::class where PrefetchChild_Table.parent_id.eq(id)).list
+        }
+        children = localChildren
+        return localChildren
+    }
+
+    companion object {
+        var getterLoads = 0
+    }
+}
+
+@Table(database = TestDatabase::class)
+class PrefetchChild(@PrimaryKey var id: Int = 0,
+                    @ForeignKey(stubbedRelationship = true) var parent: PrefetchParent? = null)
@@ -0,0 +1,82 @@
+package com.raizlabs.android.dbflow.models
+
+import com.raizlabs.android.dbflow.BaseUnitTest
+import com.raizlabs.android.dbflow.kotlinextensions.from
+import com.raizlabs.android.dbflow.kotlinextensions.list
+import com.raizlabs.android.dbflow.kotlinextensions.result
+import com.raizlabs.android.dbflow.kotlinextensions.save
+import com.raizlabs.android.dbflow.kotlinextensions.select
+import com.raizlabs.android.dbflow.kotlinextensions.where
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.fail
+import org.junit.Before
+import org.junit.Test
+
+class OneToManyPrefetchTest : BaseUnitTest() {
+
+    @Before
+    fun resetGetterLoads() {
+        PrefetchParent.getterLoads = 0
+    }
+
+    private fun createParents() {
+        val parents = (1..3).map { PrefetchParent(it).apply { save() } }
+        PrefetchChild(1, parents[0]).save()
+        PrefetchChild(2, parents[0]).save()
+        PrefetchChild(3, parents[1]).save()
+        PrefetchParent.getterLoads = 0
+    }
+
+    @Test
+    fun testPrefetchLoadsChildrenTogether() {
+        createParents()
+
+        val parents = (select from PrefetchParent::class).where()
+            .prefetch(PrefetchParent_Table.children)
+            .list
+
+        assertEquals(0, PrefetchParent.getterLoads)
+        assertEquals(listOf(2, 1, 0), parents.map { it.children!!.size })
+        assertEquals(listOf(1, 2), parents[0].children!!.map { it.id })
+        assertEquals(listOf(2, 1, 0), parents.map { it.getChildList().size })
+        assertEquals(0, PrefetchParent.getterLoads)
+        assertFalse(PrefetchParent_Table.children.isDeferred)
+    }
+
+    @Test
+    fun testPrefetchSingle() {
+        createParents()
+
+        val parent = (select from PrefetchParent::class where PrefetchParent_Table.id.eq(2))
+            .prefetch(PrefetchParent_Table.children)
+            .result!!
+
+        assertEquals(0, PrefetchParent.getterLoads)
+        assertEquals(listOf(3), parent.children!!.map { it.id })
+    }
+
+    @Test
+    fun testLoadWithoutPrefetchUsesGetter() {
+        createParents()
+
+        (select from PrefetchParent::class).list
+
+        assertEquals(3, PrefetchParent.getterLoads)
+    }
+
+    @Test
+    fun testPrefetchRejectsCursorQueries() {
+        val where = (select from PrefetchParent::class).where().prefetch(PrefetchParent_Table.children)
+        try {
+            where.queryResults()
+            fail("Expected prefetch() to fail for queryResults()")
+        } catch (e: IllegalStateException) {
+        }
+        try {
+            where.cursorList()
+            fail("Expected prefetch() to fail for cursorList()")
+        } catch (e: IllegalStateException) {
+        }
+    }
+}
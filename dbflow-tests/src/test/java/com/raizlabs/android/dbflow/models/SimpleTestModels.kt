@@ -37,6 +37,16 @@ class CharModel(@PrimaryKey var id: Int = 0, @Column var exampleChar: Char? = nu
 @Table(database = TestDatabase::class)
 class TwoColumnModel(@PrimaryKey var name: String? = "", @Column var id: Int = 0)
 
+@Table(database = TestDatabase::class, upsertEnabled = true)
+class UpsertModel(@PrimaryKey var name: String? = "", @Column var id: Int = 0)
+
+@Table(database = TestDatabase::class, upsertEnabled = true)
+class UpsertAutoIncrementModel(@PrimaryKey(autoincrement = true) var id: Long = 0, @Column var name: String? = "")
+
+@Table(database = TestDatabase::class, dirtyTracking = true)
+class DirtyTrackingModel(@PrimaryKey var id: Int = 0, @Column var name: String? = "",
+                         @Column var description: String? = "")
+
 @Table(database = TestDatabase::class, createWithDatabase = false)
 class DontCreateModel(@PrimaryKey var id: Int = 0)
 
@@ -0,0 +1,95 @@
+package com.raizlabs.android.dbflow.runtime
+
+import android.content.Context
+import com.nhaarman.mockito_kotlin.any
+import com.nhaarman.mockito_kotlin.mock
+import com.nhaarman.mockito_kotlin.never
+import com.nhaarman.mockito_kotlin.verify
+import com.raizlabs.android.dbflow.ImmediateTransactionManager2
+import com.raizlabs.android.dbflow.TestDatabase
+import com.raizlabs.android.dbflow.config.DatabaseConfig
+import com.raizlabs.android.dbflow.config.FlowConfig
+import com.raizlabs.android.dbflow.config.FlowManager
+import com.raizlabs.android.dbflow.kotlinextensions.database
+import com.raizlabs.android.dbflow.kotlinextensions.modelAdapter
+import com.raizlabs.android.dbflow.models.SimpleModel
+import com.raizlabs.android.dbflow.structure.BaseModel
+import org.junit.After
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+import org.robolectric.RuntimeEnvironment
+import org.robolectric.Shadows.shadowOf
+import org.robolectric.annotation.Config
+
+@RunWith(RobolectricTestRunner::class)
+@Config(manifest = Config.NONE)
+class BatchNotifierTest {
+
+    val context: Context
+        get() = RuntimeEnvironment.application
+
+    @Before
+    fun setupTest() {
+        FlowManager.init(FlowConfig.Builder(context)
+                .addDatabaseConfig(DatabaseConfig.Builder(TestDatabase::class.java)
+                        .transactionManagerCreator(::ImmediateTransactionManager2)
+                        .modelNotifier(DirectModelNotifier.get())
+                        .batchNotifications(true)
+                        .build()).build())
+    }
+
+    @Test
+    fun validateInsertAllNotifiesOnce() {
+        val models = listOf(SimpleModel("1"), SimpleModel("2"), SimpleModel("3"))
+
+        val modelChange = mock<DirectModelNotifier.OnModelsStateChangedListener<SimpleModel>>()
+        DirectModelNotifier.get().registerForModelStateChanges(SimpleModel::class.java, modelChange)
+
+        modelAdapter<SimpleModel>().insertAll(models)
+        verify(modelChange).onModelsChanged(models, BaseModel.Action.INSERT)
+        verify(modelChange, never()).onModelChanged(any(), any())
+
+        DirectModelNotifier.get().unregisterForModelStateChanges(SimpleModel::class.java, modelChange)
+    }
+
+    @Test
+    fun validateRolledBackTransactionDropsNotifications() {
+        val modelChange = mock<DirectModelNotifier.OnModelStateChangedListener<SimpleModel>>()
+        DirectModelNotifier.get().registerForModelStateChanges(SimpleModel::class.java, modelChange)
+
+        try {
+            database<TestDatabase>().executeTransaction { db ->
+                modelAdapter<SimpleModel>().insert(SimpleModel("1"), db)
+                throw IllegalStateException("rollback")
+            }
+        } catch (expected: IllegalStateException) {
+        }
+        verify(modelChange, never()).onModelChanged(any(), any())
+        assertFalse(NotifyDistributor.get().isInBatch)
+
+        DirectModelNotifier.get().unregisterForModelStateChanges(SimpleModel::class.java, modelChange)
+    }
+
+    @Test
+    fun validateContentResolverNotifiesEachRowUnlessCollapsed() {
+        val models = listOf(SimpleModel("1"), SimpleModel("2"), SimpleModel("3"))
+        val resolver = shadowOf(context.contentResolver)
+
+        ContentResolverNotifier(FlowManager.DEFAULT_AUTHORITY)
+                .notifyModelsChanged(models, modelAdapter<SimpleModel>(), BaseModel.Action.INSERT)
+        assertEquals(3, resolver.notifiedUris.map { it.uri }.toSet().size)
+
+        ContentResolverNotifier(FlowManager.DEFAULT_AUTHORITY, true)
+                .notifyModelsChanged(models, modelAdapter<SimpleModel>(), BaseModel.Action.INSERT)
+        assertEquals(4, resolver.notifiedUris.size)
+    }
+
+    @After
+    fun teardown() {
+        FlowManager.destroy()
+    }
+}
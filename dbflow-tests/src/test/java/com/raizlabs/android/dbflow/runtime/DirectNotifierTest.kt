@@ -2,6 +2,7 @@ package com.raizlabs.android.dbflow.runtime
 
 import android.content.Context
 import com.nhaarman.mockito_kotlin.mock
+import com.nhaarman.mockito_kotlin.never
 import com.nhaarman.mockito_kotlin.times
 import com.nhaarman.mockito_kotlin.verify
 import com.raizlabs.android.dbflow.ImmediateTransactionManager2
@@ -15,8 +16,10 @@ import com.raizlabs.android.dbflow.kotlinextensions.insert
 import com.raizlabs.android.dbflow.kotlinextensions.save
 import com.raizlabs.android.dbflow.kotlinextensions.set
 import com.raizlabs.android.dbflow.kotlinextensions.update
+import com.raizlabs.android.dbflow.models.DirtyTrackingModel
 import com.raizlabs.android.dbflow.models.SimpleModel
 import com.raizlabs.android.dbflow.models.SimpleModel_Table
+import com.raizlabs.android.dbflow.models.UpsertAutoIncrementModel
 import com.raizlabs.android.dbflow.structure.BaseModel
 import org.junit.After
 import org.junit.Before
@@ -63,6 +66,43 @@ class DirectNotifierTest {
         verify(modelChange).onModelChanged(simpleModel, BaseModel.Action.DELETE)
     }
 
+    @Test
+    fun validateUpsertNotifiesInsertAndUpdate() {
+        val model = UpsertAutoIncrementModel(name = "Name")
+
+        val modelChange = mock<DirectModelNotifier.OnModelStateChangedListener<UpsertAutoIncrementModel>>()
+        DirectModelNotifier.get().registerForModelStateChanges(UpsertAutoIncrementModel::class.java, modelChange)
+
+        model.save()
+        verify(modelChange).onModelChanged(model, BaseModel.Action.INSERT)
+        verify(modelChange).onModelChanged(model, BaseModel.Action.SAVE)
+
+        model.name = "Other"
+        model.save()
+        verify(modelChange).onModelChanged(model, BaseModel.Action.UPDATE)
+        verify(modelChange, times(2)).onModelChanged(model, BaseModel.Action.SAVE)
+
+        val explicit = UpsertAutoIncrementModel(100, "Explicit")
+        explicit.save()
+        verify(modelChange).onModelChanged(explicit, BaseModel.Action.INSERT)
+    }
+
+    @Test
+    fun validateUnchangedDirtyModelDoesNotNotify() {
+        val model = DirtyTrackingModel(1, "name", "description")
+        model.insert()
+
+        val modelChange = mock<DirectModelNotifier.OnModelStateChangedListener<DirtyTrackingModel>>()
+        DirectModelNotifier.get().registerForModelStateChanges(DirtyTrackingModel::class.java, modelChange)
+
+        model.update()
+        verify(modelChange, never()).onModelChanged(model, BaseModel.Action.UPDATE)
+
+        model.name = "name2"
+        model.update()
+        verify(modelChange).onModelChanged(model, BaseModel.Action.UPDATE)
+    }
+
     @Test
     fun validateCanNotifyWrapperClasses() {
         val modelChange = Mockito.mock(OnTableChangedListener::class.java)
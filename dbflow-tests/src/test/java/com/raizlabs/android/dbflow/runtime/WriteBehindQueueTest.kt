@@ -0,0 +1,58 @@
+package com.raizlabs.android.dbflow.runtime
+
+import com.raizlabs.android.dbflow.BaseUnitTest
+import com.raizlabs.android.dbflow.TestDatabase
+import com.raizlabs.android.dbflow.kotlinextensions.database
+import com.raizlabs.android.dbflow.kotlinextensions.from
+import com.raizlabs.android.dbflow.kotlinextensions.list
+import com.raizlabs.android.dbflow.kotlinextensions.select
+import com.raizlabs.android.dbflow.models.SimpleModel
+import com.raizlabs.android.dbflow.models.TwoColumnModel
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNull
+import org.junit.Assert.assertTrue
+import org.junit.Test
+import java.util.concurrent.TimeUnit
+
+class WriteBehindQueueTest : BaseUnitTest() {
+
+    @Test
+    fun validateFlushWritesQueuedModels() {
+        val queue = WriteBehindQueue(database<TestDatabase>(), 100)
+        queue.setMaxLatency(TimeUnit.MINUTES.toMillis(1))
+        queue.start()
+        try {
+            queue.addAll((0..49).map { SimpleModel("$it") })
+            queue.addAll((0..9).map { TwoColumnModel("$it", it) })
+
+            val handle = queue.flush()
+            assertTrue(handle.await(5, TimeUnit.SECONDS))
+            assertNull(handle.error)
+            assertEquals(0, queue.queueDepth)
+            assertEquals(60, queue.flushedModelCount)
+            assertEquals(50, (select from SimpleModel::class).list.size)
+            assertEquals(10, (select from TwoColumnModel::class).list.size)
+        } finally {
+            queue.quit().await(5, TimeUnit.SECONDS)
+        }
+    }
+
+    @Test
+    fun validateFlushCountWritesBatch() {
+        val queue = WriteBehindQueue(database<TestDatabase>())
+        queue.setFlushCount(10)
+        queue.setMaxLatency(TimeUnit.MINUTES.toMillis(1))
+        queue.start()
+        try {
+            queue.addAll((0..9).map { SimpleModel("$it") })
+
+            val deadline = System.currentTimeMillis() + 5000
+            while (queue.flushedModelCount < 10 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10)
+            }
+            assertEquals(10, queue.flushedModelCount)
+        } finally {
+            queue.quit().await(5, TimeUnit.SECONDS)
+        }
+    }
+}
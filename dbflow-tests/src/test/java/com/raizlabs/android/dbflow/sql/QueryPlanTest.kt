@@ -0,0 +1,52 @@
+package com.raizlabs.android.dbflow.sql
+
+import com.raizlabs.android.dbflow.BaseUnitTest
+import com.raizlabs.android.dbflow.kotlinextensions.from
+import com.raizlabs.android.dbflow.kotlinextensions.select
+import com.raizlabs.android.dbflow.kotlinextensions.where
+import com.raizlabs.android.dbflow.kotlinextensions.writableDatabaseForTable
+import com.raizlabs.android.dbflow.models.SimpleModel
+import com.raizlabs.android.dbflow.models.SimpleModel_Table
+import com.raizlabs.android.dbflow.models.TwoColumnModel
+import com.raizlabs.android.dbflow.models.TwoColumnModel_Table
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class QueryPlanTest : BaseUnitTest() {
+
+    @Test
+    fun testPrimaryKeyLookupSearches() {
+        val plan = (select from SimpleModel::class where SimpleModel_Table.name.eq("name")).explainQueryPlan()
+        assertFalse(plan.rows.isEmpty())
+        assertFalse(plan.hasFullScan())
+        assertFalse(plan.hasIssues())
+    }
+
+    @Test
+    fun testUnindexedColumnScans() {
+        val plan = (select from TwoColumnModel::class where TwoColumnModel_Table.id.eq(1))
+            .orderBy(TwoColumnModel_Table.id, true)
+            .explainQueryPlan()
+        assertTrue(plan.hasFullScan())
+        assertTrue(plan.usesTempBTree())
+    }
+
+    @Test
+    fun testCheckerExplainsEachQueryOnce() {
+        val plans = mutableListOf<QueryPlan>()
+        val checker = QueryPlanChecker(QueryPlanChecker.Listener { plans.add(it) })
+        val wrapper = writableDatabaseForTable<TwoColumnModel>()
+        val query = (select from TwoColumnModel::class where TwoColumnModel_Table.id.eq(1)).query
+
+        checker.check(wrapper, query, null)
+        checker.check(wrapper, query, null)
+        assertEquals(1, plans.size)
+        assertTrue(plans[0].hasFullScan())
+
+        checker.clear()
+        checker.check(wrapper, query, null)
+        assertEquals(2, plans.size)
+    }
+}
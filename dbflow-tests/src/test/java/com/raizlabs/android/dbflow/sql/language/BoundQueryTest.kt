@@ -0,0 +1,75 @@
+package com.raizlabs.android.dbflow.sql.language
+
+import com.raizlabs.android.dbflow.BaseUnitTest
+import com.raizlabs.android.dbflow.kotlinextensions.and
+import com.raizlabs.android.dbflow.kotlinextensions.from
+import com.raizlabs.android.dbflow.kotlinextensions.save
+import com.raizlabs.android.dbflow.kotlinextensions.select
+import com.raizlabs.android.dbflow.kotlinextensions.update
+import com.raizlabs.android.dbflow.kotlinextensions.where
+import com.raizlabs.android.dbflow.kotlinextensions.writableDatabaseForTable
+import com.raizlabs.android.dbflow.models.SimpleModel
+import com.raizlabs.android.dbflow.models.SimpleModel_Table.name
+import com.raizlabs.android.dbflow.models.TwoColumnModel
+import com.raizlabs.android.dbflow.models.TwoColumnModel_Table.id
+import com.raizlabs.android.dbflow.sql.QueryBuilder
+import com.raizlabs.android.dbflow.sql.language.property.Property
+import org.junit.Assert.assertArrayEquals
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class BoundQueryTest : BaseUnitTest() {
+
+    @Test
+    fun validateWhereArguments() {
+        val boundQuery = (select from TwoColumnModel::class where id.eq(5) and name.eq("name")).boundQuery
+        assertEquals("SELECT * FROM `TwoColumnModel` WHERE `id`=? AND `name`=?", boundQuery.query)
+        assertArrayEquals(arrayOf<Any>(5, "name"), boundQuery.arguments)
+        assertFalse(boundQuery.hasPlaceholders())
+    }
+
+    @Test
+    fun validateSetArguments() {
+        val boundQuery = (update<SimpleModel>() set name.eq("new") where name.eq("old")).boundQuery
+        assertEquals("UPDATE `SimpleModel` SET `name`=? WHERE `name`=?", boundQuery.query)
+        assertArrayEquals(arrayOf<Any>("new", "old"), boundQuery.arguments)
+    }
+
+    @Test
+    fun validateCallerPlaceholders() {
+        assertTrue((select from SimpleModel::class where name.eq("?")).boundQuery.hasPlaceholders())
+        assertTrue((select from SimpleModel::class where name.eq(Property.WILDCARD)).boundQuery.hasPlaceholders())
+    }
+
+    @Test
+    fun validateTypedArgumentsQuery() {
+        TwoColumnModel("first", 5).save()
+        TwoColumnModel("second", 6).save()
+
+        val boundQuery = (select from TwoColumnModel::class where id.eq(5)).boundQuery
+        boundQuery.query(writableDatabaseForTable<TwoColumnModel>()).use { cursor ->
+            assertEquals(1, cursor.count)
+            cursor.moveToFirst()
+            assertEquals("first", cursor.getString(cursor.getColumnIndex("name")))
+        }
+    }
+
+    @Test
+    fun validateNestedQueryFallsBackToInlinedValues() {
+        val nested = select from SimpleModel::class where name.eq("nested")
+        val operator = object : BaseOperator(NameAlias.of("id")) {
+            override fun appendConditionToQuery(queryBuilder: QueryBuilder) {
+                // builds SQL it does not write, which collects an argument.
+                nested.query
+                queryBuilder.append("`id`=5")
+            }
+        }
+
+        val boundQuery = (select from TwoColumnModel::class where operator).boundQuery
+        assertEquals("SELECT * FROM `TwoColumnModel` WHERE `id`=5", boundQuery.query)
+        assertEquals(0, boundQuery.arguments.size)
+        assertTrue(boundQuery.hasPlaceholders())
+    }
+}
@@ -0,0 +1,116 @@
+package com.raizlabs.android.dbflow.sql.language
+
+import android.database.Cursor
+import com.raizlabs.android.dbflow.BaseUnitTest
+import com.raizlabs.android.dbflow.kotlinextensions.columns
+import com.raizlabs.android.dbflow.kotlinextensions.from
+import com.raizlabs.android.dbflow.kotlinextensions.save
+import com.raizlabs.android.dbflow.models.DontAssignDefaultModel
+import com.raizlabs.android.dbflow.models.DontAssignDefaultModel_Table
+import com.raizlabs.android.dbflow.models.TwoColumnModel
+import com.raizlabs.android.dbflow.models.TwoColumnModel_Table.id
+import com.raizlabs.android.dbflow.models.TwoColumnModel_Table.name
+import com.raizlabs.android.dbflow.sql.queriable.StringQuery
+import org.junit.Assert.assertArrayEquals
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertNull
+import org.junit.Assert.assertSame
+import org.junit.Assert.assertTrue
+import org.junit.Assert.fail
+import org.junit.Test
+
+class ColumnResultTest : BaseUnitTest() {
+
+    @Test
+    fun validateColumnsByType() {
+        (1..5).forEach { TwoColumnModel("$it", it).save() }
+
+        val result = (SQLite.select(name, id) from TwoColumnModel::class).orderBy(id, true).columns
+
+        assertEquals(5, result.count)
+        assertEquals(2, result.columnCount)
+        assertEquals(Cursor.FIELD_TYPE_STRING, result.getType(result.getColumnIndex(name)))
+        assertEquals(Cursor.FIELD_TYPE_INTEGER, result.getType(result.getColumnIndex(id)))
+        assertArrayEquals(longArrayOf(1, 2, 3, 4, 5), result.getLongs(id).copyOf(5))
+        assertArrayEquals(doubleArrayOf(1.0, 2.0, 3.0, 4.0, 5.0), result.getDoubles(id).copyOf(5), 0.0)
+        assertEquals(Cursor.FIELD_TYPE_INTEGER, result.getType(result.getColumnIndex(id)))
+        assertArrayEquals(longArrayOf(1, 2, 3, 4, 5), result.getLongs(id).copyOf(5))
+        assertArrayEquals(arrayOf("1", "2", "3", "4", "5"), result.getStrings(name).copyOf(5))
+    }
+
+    @Test
+    fun validateFloatColumn() {
+        (1..4).forEach { TwoColumnModel("$it", it).save() }
+
+        val average = Method.avg(id).`as`("average")
+        val result = (SQLite.select(average) from TwoColumnModel::class).columns
+
+        assertEquals(1, result.count)
+        assertEquals(Cursor.FIELD_TYPE_FLOAT, result.getType(0))
+        assertEquals(2.5, result.getDoubles(average)[0], 0.0)
+    }
+
+    @Test
+    fun validateMixedNumericColumn() {
+        val result = StringQuery(TwoColumnModel::class.java,
+            "SELECT 1 AS value UNION ALL SELECT NULL UNION ALL SELECT 2.5 UNION ALL SELECT 3").queryColumns()
+
+        assertEquals(4, result.count)
+        assertEquals(Cursor.FIELD_TYPE_FLOAT, result.getType(0))
+        assertArrayEquals(doubleArrayOf(1.0, 0.0, 2.5, 3.0), result.getDoubles(0).copyOf(4), 0.0)
+        assertTrue(result.isNull(0, 1))
+        try {
+            result.getLongs(0)
+            fail("Expected a FLOAT column to not read as longs")
+        } catch (e: IllegalStateException) {
+        }
+    }
+
+    @Test
+    fun validateMixedTextColumnFails() {
+        try {
+            StringQuery(TwoColumnModel::class.java, "SELECT 1 AS value UNION ALL SELECT 'text'").queryColumns()
+            fail("Expected a column of INTEGER and TEXT values to fail")
+        } catch (e: IllegalStateException) {
+        }
+    }
+
+    @Test
+    fun validateNulls() {
+        DontAssignDefaultModel("first", null, 1).save()
+        DontAssignDefaultModel("second", true, 2).save()
+        DontAssignDefaultModel("third", null, 3).save()
+
+        val result = (SQLite.select(DontAssignDefaultModel_Table.nullableBool) from DontAssignDefaultModel::class)
+            .orderBy(DontAssignDefaultModel_Table.index, true).columns
+
+        val values = result.getLongs(DontAssignDefaultModel_Table.nullableBool)
+        assertTrue(result.isNull(0, 0))
+        assertFalse(result.isNull(0, 1))
+        assertTrue(result.isNull(0, 2))
+        assertEquals(0, values[0])
+        assertEquals(1, values[1])
+        assertEquals(0, values[2])
+    }
+
+    @Test
+    fun validateReuse() {
+        (1..3).forEach { TwoColumnModel("$it", it).save() }
+        val query = SQLite.select(name, id) from TwoColumnModel::class
+
+        val result = query.queryColumns(ColumnResult(10))
+        val longs = result.getLongs(id)
+        val strings = result.getStrings(name)
+        assertEquals(10, longs.size)
+
+        (4..6).forEach { TwoColumnModel("$it", it).save() }
+        assertSame(result, query.queryColumns(result))
+
+        assertEquals(6, result.count)
+        assertSame(longs, result.getLongs(id))
+        assertSame(strings, result.getStrings(name))
+        assertEquals(21, result.getLongs(id).take(6).sum())
+        assertNull(result.getStrings(name)[6])
+    }
+}
@@ -0,0 +1,76 @@
+package com.raizlabs.android.dbflow.sql.language
+
+import com.raizlabs.android.dbflow.BaseUnitTest
+import com.raizlabs.android.dbflow.config.DatabaseConfig
+import com.raizlabs.android.dbflow.kotlinextensions.delete
+import com.raizlabs.android.dbflow.kotlinextensions.from
+import com.raizlabs.android.dbflow.kotlinextensions.list
+import com.raizlabs.android.dbflow.kotlinextensions.save
+import com.raizlabs.android.dbflow.kotlinextensions.select
+import com.raizlabs.android.dbflow.kotlinextensions.where
+import com.raizlabs.android.dbflow.sql.language.SQLite.selectCountOf
+import com.raizlabs.android.dbflow.models.NumberModel
+import com.raizlabs.android.dbflow.models.NumberModel_Table
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNull
+import org.junit.Test
+
+class InChunkingTest : BaseUnitTest() {
+
+    private val count = DatabaseConfig.DEFAULT_MAX_IN_ARGUMENTS * 2 + 10
+
+    private fun saveModels() = (1..count).forEach { NumberModel(it).save() }
+
+    @Test
+    fun testQueryListMergesChunks() {
+        saveModels()
+        val ids = (1..count).filter { it % 3 != 0 } + listOf(1, 2)
+        val models = (select from NumberModel::class where NumberModel_Table.id.`in`(ids)).list
+        assertEquals(ids.toSet(), models.map { it.id }.toSet())
+        assertEquals(ids.toSet().size, models.size)
+    }
+
+    @Test
+    fun testChunksLeaveInUnchanged() {
+        saveModels()
+        val ids = (1..count).toList()
+        val condition = NumberModel_Table.id.`in`(ids)
+        val query = condition.query
+        assertEquals(count, (select from NumberModel::class where condition).list.size)
+        assertEquals(query, condition.query)
+    }
+
+    @Test
+    fun testCountAddsUpChunks() {
+        saveModels()
+        val ids = (1..count).filter { it % 3 != 0 } + listOf(1, 2)
+        val where = selectCountOf().from(NumberModel::class.java).where(NumberModel_Table.id.`in`(ids))
+        assertEquals(ids.toSet().size.toLong(), where.count())
+    }
+
+    @Test
+    fun testOrderedQueryRunsWhole() {
+        saveModels()
+        val ids = (1..count).toList()
+        val models = (select from NumberModel::class where NumberModel_Table.id.`in`(ids))
+            .orderBy(NumberModel_Table.id, false).list
+        assertEquals(ids.reversed(), models.map { it.id })
+    }
+
+    @Test
+    fun testDeleteRunsEachChunk() {
+        saveModels()
+        val ids = (1..count - 5).toList()
+        val affected = (delete<NumberModel>() where NumberModel_Table.id.`in`(ids)).executeUpdateDelete()
+        assertEquals(ids.size.toLong(), affected)
+        assertEquals(5, (select from NumberModel::class).list.size)
+    }
+
+    @Test
+    fun testDeleteQueryReturnsNoCursor() {
+        saveModels()
+        val ids = (1..count - 5).toList()
+        assertNull((delete<NumberModel>() where NumberModel_Table.id.`in`(ids)).query())
+        assertEquals(5, (select from NumberModel::class).list.size)
+    }
+}
@@ -3,8 +3,10 @@ package com.raizlabs.android.dbflow.sql.language
 import com.raizlabs.android.dbflow.BaseUnitTest
 import com.raizlabs.android.dbflow.kotlinextensions.`as`
 import com.raizlabs.android.dbflow.kotlinextensions.nameAlias
+import com.raizlabs.android.dbflow.models.SimpleModel_Table
 import org.junit.Assert.assertEquals
 import org.junit.Assert.assertFalse
+import org.junit.Assert.assertSame
 import org.junit.Test
 
 class NameAliasTest : BaseUnitTest() {
@@ -38,4 +40,19 @@ class NameAliasTest : BaseUnitTest() {
         assertEquals("Alias", nameAlias.nameAsKey)
         assertEquals("DISTINCT `MyTable`.name AS Alias", nameAlias.fullQuery)
     }
-}
\ No newline at end of file
+
+    @Test
+    fun testQueryBuiltOnce() {
+        val nameAlias = NameAlias.builder("name").withTable("MyTable").`as`("alias").build()
+        assertSame(nameAlias.query, nameAlias.query)
+        assertSame(nameAlias.fullQuery, nameAlias.fullQuery)
+        assertEquals("`MyTable`.`name` AS `alias`", nameAlias.fullQuery)
+    }
+
+    @Test
+    fun testWithTableReused() {
+        val withTable = SimpleModel_Table.name.withTable()
+        assertSame(withTable, SimpleModel_Table.name.withTable())
+        assertEquals("`SimpleModel`.`name`", withTable.query)
+    }
+}
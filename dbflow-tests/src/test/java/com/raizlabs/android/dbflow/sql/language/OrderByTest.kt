@@ -30,4 +30,11 @@ class OrderByTest : BaseUnitTest() {
     fun validateCustomOrdrBy() {
         assertEquals("`name` ASC This is custom", OrderBy.fromString("`name` ASC This is custom"))
     }
-}
\ No newline at end of file
+
+    @Test
+    fun validateDirectionChangeAfterQuery() {
+        val orderBy = OrderBy.fromNameAlias("name".nameAlias).ascending()
+        assertEquals("`name` ASC", orderBy)
+        assertEquals("`name` DESC", orderBy.descending())
+    }
+}
@@ -0,0 +1,54 @@
+package com.raizlabs.android.dbflow.sql.language
+
+import com.raizlabs.android.dbflow.BaseUnitTest
+import com.raizlabs.android.dbflow.kotlinextensions.from
+import com.raizlabs.android.dbflow.kotlinextensions.save
+import com.raizlabs.android.dbflow.kotlinextensions.select
+import com.raizlabs.android.dbflow.kotlinextensions.where
+import com.raizlabs.android.dbflow.models.TwoColumnModel
+import com.raizlabs.android.dbflow.models.TwoColumnModel_Table.id
+import com.raizlabs.android.dbflow.models.TwoColumnModel_Table.name
+import com.raizlabs.android.dbflow.sql.language.property.Property
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNull
+import org.junit.Test
+
+class PreparedQueryTest : BaseUnitTest() {
+
+    @Test
+    fun validateQueryWithNewArguments() {
+        (0..4).forEach { TwoColumnModel("$it", it).save() }
+
+        val preparedQuery = (select from TwoColumnModel::class where id.greaterThan(0)).prepare()
+        assertEquals("SELECT * FROM `TwoColumnModel` WHERE `id`>?", preparedQuery.query)
+        assertEquals(1, preparedQuery.argumentCount)
+
+        assertEquals(4, preparedQuery.queryList().size)
+        assertEquals(2, preparedQuery.queryList(2).size)
+        assertEquals(0, preparedQuery.queryList(4).size)
+    }
+
+    @Test
+    fun validateWildcardSlot() {
+        TwoColumnModel("first", 1).save()
+
+        val preparedQuery = (select from TwoColumnModel::class where name.eq(Property.WILDCARD)).prepare()
+        assertEquals("first", preparedQuery.querySingle("first")?.name)
+        assertNull(preparedQuery.querySingle("second"))
+    }
+
+    @Test
+    fun validateCount() {
+        (0..4).forEach { TwoColumnModel("$it", it).save() }
+
+        val preparedQuery = (SQLite.select(Method.count()) from TwoColumnModel::class where id.lessThan(0)).prepare()
+        assertEquals(0, preparedQuery.count())
+        assertEquals(3, preparedQuery.count(3))
+        assertEquals(5, preparedQuery.count(10))
+    }
+
+    @Test(expected = IllegalArgumentException::class)
+    fun validateArgumentCount() {
+        (select from TwoColumnModel::class where id.eq(0)).prepare().queryList(1, 2)
+    }
+}
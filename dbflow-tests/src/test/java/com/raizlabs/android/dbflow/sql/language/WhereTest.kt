@@ -119,6 +119,32 @@ class WhereTest : BaseUnitTest() {
                     fromNameAlias("id".nameAlias).descending())))
     }
 
+    @Test
+    fun validateSeekAfter() {
+        assertEquals("SELECT * FROM `TwoColumnModel` " +
+            "WHERE (`id`>0) AND ((`id`<5) OR (`id`=5 AND `name`>'b')) ORDER BY `id` DESC,`name` ASC",
+            (select from TwoColumnModel::class where id.greaterThan(0))
+                .orderBy(id, false)
+                .orderBy(name, true)
+                .seekAfter(5, "b"))
+    }
+
+    @Test
+    fun validateSeekAfterWithoutWhere() {
+        assertEquals("SELECT * FROM `TwoColumnModel` WHERE ((`id`>5)) ORDER BY `id` ASC",
+            (select from TwoColumnModel::class orderBy id.asc()).seekAfter(5))
+    }
+
+    @Test
+    fun validateSeekAfterRequiresOrderByValues() {
+        try {
+            (select from TwoColumnModel::class orderBy id.asc()).seekAfter(5, "b")
+            fail("Values without an ORDER BY passed")
+        } catch (i: IllegalArgumentException) {
+            // expected
+        }
+    }
+
     @Test
     fun validateNonSelectThrowError() {
         try {
@@ -0,0 +1,184 @@
+package com.raizlabs.android.dbflow.sql.saveable
+
+import com.raizlabs.android.dbflow.BaseUnitTest
+import com.raizlabs.android.dbflow.TestDatabase
+import com.raizlabs.android.dbflow.kotlinextensions.database
+import com.raizlabs.android.dbflow.kotlinextensions.from
+import com.raizlabs.android.dbflow.kotlinextensions.list
+import com.raizlabs.android.dbflow.kotlinextensions.modelAdapter
+import com.raizlabs.android.dbflow.kotlinextensions.result
+import com.raizlabs.android.dbflow.kotlinextensions.save
+import com.raizlabs.android.dbflow.kotlinextensions.select
+import com.raizlabs.android.dbflow.models.Author
+import com.raizlabs.android.dbflow.models.AutoIncrementingModel
+import com.raizlabs.android.dbflow.models.BlogStubbed
+import com.raizlabs.android.dbflow.models.Coordinate
+import com.raizlabs.android.dbflow.models.SimpleModel
+import com.raizlabs.android.dbflow.models.TwoColumnModel
+import com.raizlabs.android.dbflow.structure.database.BaseDatabaseWrapper
+import com.raizlabs.android.dbflow.structure.database.DatabaseStatement
+import com.raizlabs.android.dbflow.structure.database.DatabaseWrapper
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class ListModelSaverTest : BaseUnitTest() {
+
+    @Test
+    fun testBatchInsertAll() {
+        val listModelSaver = modelAdapter<SimpleModel>().listModelSaver
+        listModelSaver.isBatchInsertEnabled = true
+        try {
+            modelAdapter<SimpleModel>().insertAll((0..1200).map { SimpleModel("$it") })
+        } finally {
+            listModelSaver.isBatchInsertEnabled = false
+        }
+
+        val list = (select from SimpleModel::class).list
+        assertEquals(1201, list.size)
+    }
+
+    @Test
+    fun testBatchInsertAssignsAutoIncrement() {
+        val listModelSaver = modelAdapter<AutoIncrementingModel>().listModelSaver
+        listModelSaver.isBatchInsertEnabled = true
+        val models = (0..1200).map { AutoIncrementingModel() }
+        try {
+            modelAdapter<AutoIncrementingModel>().insertAll(models)
+        } finally {
+            listModelSaver.isBatchInsertEnabled = false
+        }
+
+        models.forEachIndexed { index, model -> assertEquals(index + 1L, model.id) }
+        assertEquals(1201, (select from AutoIncrementingModel::class).list.size)
+    }
+
+    @Test
+    fun testBatchInsertSkipsTablesWithInsertTriggers() {
+        val wrapper = database<TestDatabase>().writableDatabase
+        wrapper.execSQL("CREATE TRIGGER `mirror` AFTER INSERT ON `AutoIncrementingModel` WHEN NEW.`id` % 2 = 1 " +
+            "BEGIN INSERT INTO `AutoIncrementingModel`(`id`) VALUES (NULL); END")
+        val listModelSaver = modelAdapter<AutoIncrementingModel>().listModelSaver
+        listModelSaver.isBatchInsertEnabled = true
+        val models = (0..9).map { AutoIncrementingModel() }
+        try {
+            modelAdapter<AutoIncrementingModel>().insertAll(models)
+        } finally {
+            listModelSaver.isBatchInsertEnabled = false
+            wrapper.execSQL("DROP TRIGGER `mirror`")
+        }
+
+        // each insert is followed by the trigger's, so the models get every other id.
+        models.forEachIndexed { index, model -> assertEquals(index * 2 + 1L, model.id) }
+        assertEquals(20, (select from AutoIncrementingModel::class).list.size)
+    }
+
+    @Test
+    fun testBatchInsertReusesRemainderStatement() {
+        val listModelSaver = modelAdapter<SimpleModel>().listModelSaver
+        val statementCache = BaseDatabaseWrapper.getStatementCache(database<TestDatabase>().writableDatabase)!!
+        listModelSaver.isBatchInsertEnabled = true
+        try {
+            modelAdapter<SimpleModel>().insertAll((0..6).map { SimpleModel("first$it") })
+            val hits = statementCache.hitCount
+            modelAdapter<SimpleModel>().insertAll((0..6).map { SimpleModel("second$it") })
+            assertTrue(statementCache.hitCount > hits)
+        } finally {
+            listModelSaver.isBatchInsertEnabled = false
+        }
+
+        assertEquals(14, (select from SimpleModel::class).list.size)
+    }
+
+    @Test
+    fun testSaveAllPartitionsExistingModels() {
+        modelAdapter<TwoColumnModel>().saveAll((0..9).map { TwoColumnModel("$it", it) })
+        modelAdapter<TwoColumnModel>().saveAll((5..14).map { TwoColumnModel("$it", it * 2) })
+
+        val list = (select from TwoColumnModel::class).list
+        assertEquals(15, list.size)
+        list.forEach { assertEquals(if (it.name!!.toInt() < 5) it.name!!.toInt() else it.name!!.toInt() * 2, it.id) }
+    }
+
+    @Test
+    fun testSaveAllLastDuplicateWins() {
+        modelAdapter<TwoColumnModel>().saveAll(listOf(TwoColumnModel("name", 1), TwoColumnModel("name", 2)))
+
+        val list = (select from TwoColumnModel::class).list
+        assertEquals(1, list.size)
+        assertEquals(2, list[0].id)
+    }
+
+    @Test
+    fun testSaveAllSavesInOrderThroughModelSaver() {
+        val adapter = modelAdapter<TwoColumnModel>()
+        adapter.save(TwoColumnModel("b", 1))
+
+        val saved = mutableListOf<String>()
+        val modelSaver = object : ModelSaver<TwoColumnModel>() {
+            override fun save(model: TwoColumnModel, wrapper: DatabaseWrapper, insertStatement: DatabaseStatement,
+                              updateStatement: DatabaseStatement, exists: Boolean): Boolean {
+                saved += "${model.name}:$exists"
+                return super.save(model, wrapper, insertStatement, updateStatement, exists)
+            }
+        }
+        modelSaver.setModelAdapter(adapter)
+        ListModelSaver(modelSaver).saveAll(listOf(TwoColumnModel("a", 2), TwoColumnModel("b", 3),
+                TwoColumnModel("a", 4)), database<TestDatabase>().writableDatabase)
+
+        assertEquals(listOf("a:false", "b:true", "a:true"), saved)
+        val list = (select from TwoColumnModel::class).list.sortedBy { it.name }
+        assertEquals(listOf(4, 3), list.map { it.id })
+    }
+
+    @Test
+    fun testSaveAllCompositeKeys() {
+        modelAdapter<Coordinate>().saveAll((0..4).map { Coordinate(it.toDouble(), it + 0.5) })
+        modelAdapter<Coordinate>().saveAll((3..7).map { Coordinate(it.toDouble(), it + 0.5) })
+
+        assertEquals(8, (select from Coordinate::class).list.size)
+    }
+
+    @Test
+    fun testSaveAllInsertsNewAutoIncrementModels() {
+        val models = (0..9).map { AutoIncrementingModel() }
+        modelAdapter<AutoIncrementingModel>().saveAll(models)
+
+        models.forEach { assertTrue(it.id > 0) }
+        assertEquals(10, (select from AutoIncrementingModel::class).list.size)
+    }
+
+    @Test
+    fun testSaveAllSavesSharedForeignKeyOnce() {
+        val authorAdapter = modelAdapter<Author>()
+        val authorSaver = authorAdapter.modelSaver
+        var saves = 0
+        authorAdapter.setModelSaver(object : AutoIncrementModelSaver<Author>() {
+            override fun save(model: Author, wrapper: DatabaseWrapper): Boolean {
+                saves++
+                return super.save(model, wrapper)
+            }
+        })
+        try {
+            val author = Author(firstName = "Andrew", lastName = "Grosner")
+            modelAdapter<BlogStubbed>().saveAll((0..9).map { BlogStubbed(name = "$it", author = author) })
+
+            assertEquals(1, saves)
+            assertEquals(10, (select from BlogStubbed::class).list.size)
+        } finally {
+            authorAdapter.setModelSaver(authorSaver)
+        }
+    }
+
+    @Test
+    fun testSaveAllSavesChangedCopyOfForeignKey() {
+        val author = Author(firstName = "Andrew", lastName = "Grosner")
+        author.save()
+        val copy = Author(author.id, "Other", "Grosner")
+
+        modelAdapter<BlogStubbed>().saveAll(listOf(BlogStubbed(name = "first", author = author),
+            BlogStubbed(name = "second", author = copy)))
+
+        assertEquals("Other", (select from Author::class).result?.firstName)
+    }
+}
@@ -0,0 +1,105 @@
+package com.raizlabs.android.dbflow.sql.saveable
+
+import com.raizlabs.android.dbflow.BaseUnitTest
+import com.raizlabs.android.dbflow.kotlinextensions.from
+import com.raizlabs.android.dbflow.kotlinextensions.insert
+import com.raizlabs.android.dbflow.kotlinextensions.list
+import com.raizlabs.android.dbflow.kotlinextensions.modelAdapter
+import com.raizlabs.android.dbflow.kotlinextensions.result
+import com.raizlabs.android.dbflow.kotlinextensions.save
+import com.raizlabs.android.dbflow.kotlinextensions.select
+import com.raizlabs.android.dbflow.kotlinextensions.set
+import com.raizlabs.android.dbflow.kotlinextensions.update
+import com.raizlabs.android.dbflow.kotlinextensions.where
+import com.raizlabs.android.dbflow.kotlinextensions.writableDatabaseForTable
+import com.raizlabs.android.dbflow.models.DirtyTrackingModel
+import com.raizlabs.android.dbflow.models.DirtyTrackingModel_Table
+import com.raizlabs.android.dbflow.models.UpsertAutoIncrementModel
+import com.raizlabs.android.dbflow.models.UpsertAutoIncrementModel_Table
+import com.raizlabs.android.dbflow.models.UpsertModel
+import com.raizlabs.android.dbflow.models.UpsertModel_Table
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class ModelSaverTest : BaseUnitTest() {
+
+    @Test
+    fun testUpsertSave() {
+        val model = UpsertModel("name", 1)
+        assertTrue(model.save())
+
+        model.id = 2
+        assertTrue(model.save())
+
+        val list = (select from UpsertModel::class).list
+        assertEquals(1, list.size)
+        assertEquals(2, list[0].id)
+    }
+
+    @Test
+    fun testUpsertSaveAll() {
+        modelAdapter<UpsertModel>().saveAll((0..9).map { UpsertModel("$it", it) })
+        modelAdapter<UpsertModel>().saveAll((5..14).map { UpsertModel("$it", it * 2) })
+
+        assertEquals(15, (select from UpsertModel::class).list.size)
+        val updated = (select from UpsertModel::class where UpsertModel_Table.name.eq("5")).result
+        assertEquals(10, updated?.id)
+    }
+
+    @Test
+    fun testDirtyTrackingUpdatesChangedColumns() {
+        val model = DirtyTrackingModel(1, "name", "description")
+        model.insert()
+
+        // changed behind the model's back, so a full update would overwrite it.
+        (update<DirtyTrackingModel>() set DirtyTrackingModel_Table.description.eq("changed"))
+                .where(DirtyTrackingModel_Table.id.eq(1)).executeUpdateDelete()
+
+        model.name = "name2"
+        assertTrue(model.update())
+
+        val stored = (select from DirtyTrackingModel::class where DirtyTrackingModel_Table.id.eq(1)).result
+        assertEquals("name2", stored?.name)
+        assertEquals("changed", stored?.description)
+    }
+
+    @Test
+    fun testDirtyTrackingUpdateQuery() {
+        val tracker = modelAdapter<DirtyTrackingModel>().dirtyColumnTracker!!
+        assertEquals("UPDATE OR ABORT `DirtyTrackingModel` SET `name`=? WHERE `id`=?",
+                tracker.getUpdateStatementQuery(2L))
+    }
+
+    @Test
+    fun testUpsertSaveAutoIncrement() {
+        val model = UpsertAutoIncrementModel(name = "first")
+        assertTrue(model.save())
+        assertTrue(model.id > 0)
+
+        model.name = "second"
+        assertTrue(model.save())
+        assertTrue(UpsertAutoIncrementModel(100, "explicit").save())
+
+        assertEquals(2, (select from UpsertAutoIncrementModel::class).list.size)
+        val id = UpsertAutoIncrementModel_Table.id
+        val updated = (select from UpsertAutoIncrementModel::class where id.eq(model.id)).result
+        assertEquals("second", updated?.name)
+    }
+
+    @Test
+    fun testUpsertUpdateAfterRawInsert() {
+        val model = UpsertAutoIncrementModel(name = "first")
+        assertTrue(model.save())
+        val id = model.id
+
+        // moves the last inserted row id without a statement of the wrapper returning it.
+        writableDatabaseForTable<UpsertAutoIncrementModel>()
+                .execSQL("INSERT INTO `UpsertAutoIncrementModel`(`name`) VALUES('raw')")
+
+        model.name = "second"
+        assertTrue(model.save())
+        assertEquals(id, model.id)
+        assertEquals(2, (select from UpsertAutoIncrementModel::class).list.size)
+    }
+}
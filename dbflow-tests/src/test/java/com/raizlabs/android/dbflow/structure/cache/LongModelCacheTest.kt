@@ -0,0 +1,97 @@
+package com.raizlabs.android.dbflow.structure.cache
+
+import com.raizlabs.android.dbflow.BaseUnitTest
+import com.raizlabs.android.dbflow.kotlinextensions.from
+import com.raizlabs.android.dbflow.kotlinextensions.list
+import com.raizlabs.android.dbflow.kotlinextensions.modelAdapter
+import com.raizlabs.android.dbflow.kotlinextensions.save
+import com.raizlabs.android.dbflow.kotlinextensions.select
+import com.raizlabs.android.dbflow.models.NumberCacheObject
+import com.raizlabs.android.dbflow.models.NumberModel
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNotNull
+import org.junit.Assert.assertNull
+import org.junit.Assert.assertSame
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class LongModelCacheTest : BaseUnitTest() {
+
+    @Test
+    fun validateCacheAddRemove() {
+        val cache = LongModelCache<NumberModel>(10)
+        cache.addModel(1, NumberModel(1))
+        cache.addModel(2L, NumberModel(2))
+
+        assertEquals(1, cache[1L]!!.id)
+        assertEquals(2, cache[2]!!.id)
+        assertEquals(2, cache.cache.size())
+
+        cache.removeModel(1)
+
+        assertNull(cache[1L])
+        assertEquals(1, cache.cache.size())
+    }
+
+    @Test
+    fun validateCacheClear() {
+        val cache = LongModelCache<NumberModel>(10)
+        (0..99).forEach { cache.addModel(it.toLong(), NumberModel(it)) }
+        assertEquals(100, cache.cache.size())
+
+        cache.clear()
+
+        assertEquals(0, cache.cache.size())
+        assertNull(cache[5L])
+    }
+
+    @Test
+    fun validateRemovalKeepsCollidingKeys() {
+        val table = LongObjectTable<String>(0)
+        (0L..999L).forEach { table.put(it * 1024, "$it") }
+        (0L..999L step 2).forEach { table.remove(it * 1024) }
+
+        (0L..999L).forEach {
+            if (it % 2 == 0L) {
+                assertNull(table[it * 1024])
+            } else {
+                assertEquals("$it", table[it * 1024])
+            }
+        }
+        assertEquals(500, table.size())
+    }
+
+    @Test
+    fun validateEvictsUnusedFirst() {
+        val cache = LongModelCache.newInstance<NumberModel>(3)
+        (1..3).forEach { cache.addModel(it.toLong(), NumberModel(it)) }
+        cache[1L]
+        cache[3L]
+
+        cache.addModel(4L, NumberModel(4))
+
+        assertEquals(3, cache.cache.size())
+        assertNull(cache[2L])
+        assertNotNull(cache[1L])
+        assertNotNull(cache[3L])
+        assertNotNull(cache[4L])
+
+        cache.setCacheSize(1)
+        assertEquals(1, cache.cache.size())
+    }
+
+    @Test
+    fun validateIntegerKeyTableUsesLongCache() {
+        val adapter = modelAdapter<NumberCacheObject>()
+        assertTrue(adapter.hasLongCachingId())
+        assertTrue(adapter.modelCache is LongModelCache<*>)
+
+        (1L..5L).forEach { NumberCacheObject(it, "$it").save() }
+        val first = (select from NumberCacheObject::class).list
+        val second = (select from NumberCacheObject::class).list
+
+        assertEquals(5, first.size)
+        first.forEachIndexed { index, model -> assertSame(model, second[index]) }
+        assertSame(first[2], adapter.longModelCache!![3L])
+    }
+}
@@ -0,0 +1,87 @@
+package com.raizlabs.android.dbflow.structure.database
+
+import com.raizlabs.android.dbflow.BaseUnitTest
+import com.raizlabs.android.dbflow.config.FlowManager
+import com.raizlabs.android.dbflow.kotlinextensions.from
+import com.raizlabs.android.dbflow.kotlinextensions.modelAdapter
+import com.raizlabs.android.dbflow.kotlinextensions.select
+import com.raizlabs.android.dbflow.models.SimpleModel
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNotSame
+import org.junit.Assert.assertSame
+import org.junit.Test
+import java.util.concurrent.CountDownLatch
+
+class DatabaseStatementCacheTest : BaseUnitTest() {
+
+    @Test
+    fun testStatementCachedPerThread() {
+        val modelAdapter = modelAdapter<SimpleModel>()
+        val statement = modelAdapter.insertStatement
+        assertSame(statement, modelAdapter.insertStatement)
+
+        var otherStatement: DatabaseStatement? = null
+        val thread = Thread { otherStatement = modelAdapter.insertStatement }
+        thread.start()
+        thread.join()
+        assertNotSame(statement, otherStatement)
+    }
+
+    @Test
+    fun testCloseRecompilesStatement() {
+        val modelAdapter = modelAdapter<SimpleModel>()
+        val statement = modelAdapter.insertStatement
+        modelAdapter.closeInsertStatement()
+        assertNotSame(statement, modelAdapter.insertStatement)
+    }
+
+    @Test
+    fun testClosesStatementsOfFinishedThreads() {
+        val closed = mutableListOf<DatabaseStatement>()
+        val statements = object : DatabaseStatementCache() {
+            override fun createStatement(databaseWrapper: DatabaseWrapper): DatabaseStatement =
+                object : DatabaseStatementWrapper<SimpleModel>(databaseWrapper.compileStatement("SELECT 1"),
+                    select from SimpleModel::class) {
+                    override fun close() {
+                        closed.add(this)
+                        super.close()
+                    }
+                }
+        }
+        val wrapper = FlowManager.getWritableDatabaseForTable(SimpleModel::class.java)
+
+        var otherStatement: DatabaseStatement? = null
+        val thread = Thread { otherStatement = statements.get(wrapper) }
+        thread.start()
+        thread.join()
+        assertEquals(0, closed.size)
+
+        statements.get(wrapper)
+        assertEquals(listOf(otherStatement), closed)
+    }
+
+    @Test
+    fun testCloseLeavesOtherThreadsStatements() {
+        val modelAdapter = modelAdapter<SimpleModel>()
+        val statement = modelAdapter.insertStatement
+
+        var otherStatement: DatabaseStatement? = null
+        var recompiled: DatabaseStatement? = null
+        val compiled = CountDownLatch(1)
+        val closed = CountDownLatch(1)
+        val thread = Thread {
+            otherStatement = modelAdapter.insertStatement
+            compiled.countDown()
+            closed.await()
+            recompiled = modelAdapter.insertStatement
+        }
+        thread.start()
+        compiled.await()
+        modelAdapter.closeInsertStatement()
+        assertNotSame(statement, modelAdapter.insertStatement)
+        // the other thread replaces its statement only once it runs again.
+        closed.countDown()
+        thread.join()
+        assertNotSame(otherStatement, recompiled)
+    }
+}
@@ -0,0 +1,94 @@
+package com.raizlabs.android.dbflow.structure.database
+
+import com.raizlabs.android.dbflow.BaseUnitTest
+import com.raizlabs.android.dbflow.kotlinextensions.writableDatabaseForTable
+import com.raizlabs.android.dbflow.models.SimpleModel
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class DatabaseStatementLruCacheTest : BaseUnitTest() {
+
+    private fun createCache(maxSize: Int): DatabaseStatementLruCache {
+        val wrapper = writableDatabaseForTable<SimpleModel>()
+        return object : DatabaseStatementLruCache(maxSize) {
+            override fun compileStatement(query: String) = wrapper.compileStatement(query)
+        }
+    }
+
+    @Test
+    fun testStatementReusedAfterClose() {
+        val cache = createCache(DatabaseStatementLruCache.DEFAULT_MAX_SIZE)
+        val query = "SELECT COUNT(*) FROM SimpleModel"
+        cache.acquire(query).close()
+        cache.acquire(query).close()
+
+        assertEquals(1, cache.missCount)
+        assertEquals(1, cache.hitCount)
+        assertEquals(1, cache.size())
+    }
+
+    @Test
+    fun testConcurrentLeasesCompileSeparately() {
+        val cache = createCache(DatabaseStatementLruCache.DEFAULT_MAX_SIZE)
+        val query = "SELECT COUNT(*) FROM SimpleModel"
+        val first = cache.acquire(query)
+        val second = cache.acquire(query)
+        first.close()
+        second.close()
+
+        assertEquals(2, cache.missCount)
+        assertEquals(1, cache.size())
+    }
+
+    @Test
+    fun testEvictsLeastRecentlyUsed() {
+        val cache = createCache(2)
+        cache.acquire("SELECT 1").close()
+        cache.acquire("SELECT 2").close()
+        cache.acquire("SELECT 1").close()
+        cache.acquire("SELECT 3").close()
+
+        assertEquals(1, cache.evictionCount)
+        assertEquals(2, cache.size())
+        cache.acquire("SELECT 1").close()
+        assertEquals(2, cache.hitCount)
+    }
+
+    @Test
+    fun testClearDropsStatementsInUse() {
+        val cache = createCache(DatabaseStatementLruCache.DEFAULT_MAX_SIZE)
+        cache.acquire("SELECT 1").close()
+        val statement = cache.acquire("SELECT 2")
+        cache.clear()
+        statement.close()
+
+        assertEquals(0, cache.size())
+    }
+
+    @Test
+    fun testSchemaChangeClearsWrapperCache() {
+        val wrapper = writableDatabaseForTable<SimpleModel>() as BaseDatabaseWrapper
+        wrapper.compileCachedStatement("SELECT COUNT(*) FROM SimpleModel").close()
+        assertTrue(wrapper.statementCache!!.size() > 0)
+
+        wrapper.execSQL("CREATE TABLE IF NOT EXISTS CacheTestTable(id INTEGER)")
+        assertEquals(0, wrapper.statementCache!!.size())
+    }
+
+    @Test
+    fun testSchemaChangeThroughStatementClearsWrapperCache() {
+        val wrapper = writableDatabaseForTable<SimpleModel>() as BaseDatabaseWrapper
+        wrapper.compileCachedStatement("SELECT COUNT(*) FROM SimpleModel").close()
+        assertTrue(wrapper.statementCache!!.size() > 0)
+
+        val statement = wrapper.compileStatement("CREATE TABLE IF NOT EXISTS CacheTestTable(id INTEGER)")
+        statement.execute()
+        statement.close()
+        assertEquals(0, wrapper.statementCache!!.size())
+
+        wrapper.compileCachedStatement("SELECT COUNT(*) FROM SimpleModel").close()
+        wrapper.rawQuery("DROP TABLE CacheTestTable", null).close()
+        assertEquals(0, wrapper.statementCache!!.size())
+    }
+}
@@ -0,0 +1,40 @@
+package com.raizlabs.android.dbflow.structure.database
+
+import com.raizlabs.android.dbflow.BaseUnitTest
+import com.raizlabs.android.dbflow.kotlinextensions.from
+import com.raizlabs.android.dbflow.kotlinextensions.list
+import com.raizlabs.android.dbflow.kotlinextensions.save
+import com.raizlabs.android.dbflow.models.TwoColumnModel
+import com.raizlabs.android.dbflow.models.TwoColumnModel_Table
+import com.raizlabs.android.dbflow.sql.language.SQLite.select
+import org.junit.Assert.assertArrayEquals
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNull
+import org.junit.Assert.assertSame
+import org.junit.Test
+
+class FlowCursorTest : BaseUnitTest() {
+
+    @Test
+    fun testColumnIndicesResolvedOncePerArray() {
+        TwoColumnModel("name", 1).save()
+        val cursor = (select(TwoColumnModel_Table.id) from TwoColumnModel::class).query()!!
+        cursor.use {
+            val columnNames = arrayOf("name", "id")
+            val columnIndices = cursor.getColumnIndices(columnNames)
+            assertArrayEquals(intArrayOf(-1, 0), columnIndices)
+            assertSame(columnIndices, cursor.getColumnIndices(columnNames))
+            assertArrayEquals(intArrayOf(0), cursor.getColumnIndices(arrayOf("id")))
+            assertSame(columnIndices, cursor.getColumnIndices(columnNames))
+        }
+    }
+
+    @Test
+    fun testPartialProjectionLoadsByIndex() {
+        TwoColumnModel("name", 1).save()
+        val models = (select(TwoColumnModel_Table.id) from TwoColumnModel::class).list
+        assertEquals(1, models.size)
+        assertEquals(1, models[0].id)
+        assertNull(models[0].name)
+    }
+}
@@ -6,8 +6,11 @@ import android.support.annotation.Nullable;
 import com.raizlabs.android.dbflow.StringUtils;
 import com.raizlabs.android.dbflow.runtime.BaseTransactionManager;
 import com.raizlabs.android.dbflow.runtime.ModelNotifier;
+import com.raizlabs.android.dbflow.sql.language.BoundQuery;
+import com.raizlabs.android.dbflow.sql.language.Where;
 import com.raizlabs.android.dbflow.structure.database.DatabaseHelperListener;
 import com.raizlabs.android.dbflow.structure.database.OpenHelper;
+import com.raizlabs.android.dbflow.structure.database.ReadConnectionPool;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -25,6 +28,12 @@ public final class DatabaseConfig {
         return new DatabaseConfig.Builder(database).inMemory();
     }
 
+    /**
+     * The default of {@link Builder#maxInArguments(int)}, below the 999 variables older SQLite versions allow in
+     * one statement.
+     */
+    public static final int DEFAULT_MAX_IN_ARGUMENTS = 500;
+
     public interface OpenHelperCreator {
 
         OpenHelper createHelper(DatabaseDefinition databaseDefinition, DatabaseHelperListener helperListener);
@@ -42,6 +51,10 @@ public final class DatabaseConfig {
     private final Map<Class<?>, TableConfig> tableConfigMap;
     private final ModelNotifier modelNotifier;
     private final boolean inMemory;
+    private final boolean batchNotificationsEnabled;
+    private final boolean bindQueryArgumentsEnabled;
+    private final int maxInArguments;
+    private final int readConnectionPoolSize;
     private final String databaseName;
     private final String databaseExtensionName;
 
@@ -53,6 +66,10 @@ public final class DatabaseConfig {
         tableConfigMap = builder.tableConfigMap;
         modelNotifier = builder.modelNotifier;
         inMemory = builder.inMemory;
+        batchNotificationsEnabled = builder.batchNotificationsEnabled;
+        bindQueryArgumentsEnabled = builder.bindQueryArgumentsEnabled;
+        maxInArguments = builder.maxInArguments;
+        readConnectionPoolSize = builder.readConnectionPoolSize;
         if (builder.databaseName == null) {
             databaseName = builder.databaseClass.getSimpleName();
         } else {
@@ -76,6 +93,22 @@ public final class DatabaseConfig {
         return inMemory;
     }
 
+    public boolean isBatchNotificationsEnabled() {
+        return batchNotificationsEnabled;
+    }
+
+    public boolean isBindQueryArgumentsEnabled() {
+        return bindQueryArgumentsEnabled;
+    }
+
+    public int getMaxInArguments() {
+        return maxInArguments;
+    }
+
+    public int getReadConnectionPoolSize() {
+        return readConnectionPoolSize;
+    }
+
     @NonNull
     public String getDatabaseName() {
         return databaseName;
@@ -126,6 +159,10 @@ public final class DatabaseConfig {
         final Map<Class<?>, TableConfig> tableConfigMap = new HashMap<>();
         ModelNotifier modelNotifier;
         boolean inMemory = false;
+        boolean batchNotificationsEnabled = false;
+        boolean bindQueryArgumentsEnabled = false;
+        int maxInArguments = DEFAULT_MAX_IN_ARGUMENTS;
+        int readConnectionPoolSize;
         String databaseName;
         String databaseExtensionName;
 
@@ -159,6 +196,50 @@ public final class DatabaseConfig {
             return this;
         }
 
+        /**
+         * Collects the model notifications of a transaction or collection operation and emits them once it
+         * completes, one event per table and action. Notifications of a rolled back transaction are dropped.
+         */
+        @NonNull
+        public Builder batchNotifications(boolean batchNotificationsEnabled) {
+            this.batchNotificationsEnabled = batchNotificationsEnabled;
+            return this;
+        }
+
+        /**
+         * Runs the queries of the wrapper language with their values bound to "?" placeholders instead of inlined,
+         * so queries that only differ in their values compile to the same statement. See {@link BoundQuery}.
+         */
+        @NonNull
+        public Builder bindQueryArguments(boolean bindQueryArgumentsEnabled) {
+            this.bindQueryArgumentsEnabled = bindQueryArgumentsEnabled;
+            return this;
+        }
+
+        /**
+         * Splits an IN with more values than this into several queries of at most this many values each, so the
+         * SQL stays short and within the variable limit when arguments are bound. See {@link Where} for the
+         * queries that can be split. 0 or less never splits.
+         */
+        @NonNull
+        public Builder maxInArguments(int maxInArguments) {
+            this.maxInArguments = maxInArguments;
+            return this;
+        }
+
+        /**
+         * Opens the database in write-ahead-log mode with up to this many read-only connections beside the one
+         * that writes. Queries outside of a transaction then run on them, concurrently with writes and each other.
+         * See {@link ReadConnectionPool}. 0 or less (the default) runs everything on one connection. Has no effect
+         * on an in-memory database, before Jelly Bean, or with an {@link #openHelper(OpenHelperCreator)} other than
+         * the default.
+         */
+        @NonNull
+        public Builder readConnectionPoolSize(int readConnectionPoolSize) {
+            this.readConnectionPoolSize = readConnectionPoolSize;
+            return this;
+        }
+
         /**
          * @return Pass in dynamic database name here. Otherwise it defaults to class name.
          */
@@ -10,15 +10,18 @@ import com.raizlabs.android.dbflow.annotation.Table;
 import com.raizlabs.android.dbflow.runtime.BaseTransactionManager;
 import com.raizlabs.android.dbflow.runtime.ContentResolverNotifier;
 import com.raizlabs.android.dbflow.runtime.ModelNotifier;
+import com.raizlabs.android.dbflow.runtime.NotifyDistributor;
 import com.raizlabs.android.dbflow.sql.migration.Migration;
 import com.raizlabs.android.dbflow.structure.BaseModelView;
 import com.raizlabs.android.dbflow.structure.ModelAdapter;
 import com.raizlabs.android.dbflow.structure.ModelViewAdapter;
 import com.raizlabs.android.dbflow.structure.QueryModelAdapter;
 import com.raizlabs.android.dbflow.structure.database.DatabaseHelperListener;
+import com.raizlabs.android.dbflow.structure.database.DatabaseStatement;
 import com.raizlabs.android.dbflow.structure.database.DatabaseWrapper;
 import com.raizlabs.android.dbflow.structure.database.FlowSQLiteOpenHelper;
 import com.raizlabs.android.dbflow.structure.database.OpenHelper;
+import com.raizlabs.android.dbflow.structure.database.ReadConnectionPool;
 import com.raizlabs.android.dbflow.structure.database.transaction.DefaultTransactionManager;
 import com.raizlabs.android.dbflow.structure.database.transaction.DefaultTransactionQueue;
 import com.raizlabs.android.dbflow.structure.database.transaction.ITransaction;
@@ -72,6 +75,8 @@ public abstract class DatabaseDefinition {
     @Nullable
     private ModelNotifier modelNotifier;
 
+    private Boolean upsertSupported;
+
     public DatabaseDefinition() {
         applyDatabaseConfig(FlowManager.getConfig().databaseConfigMap().get(getAssociatedDatabaseClassFile()));
     }
@@ -257,6 +262,51 @@ public abstract class DatabaseDefinition {
         return getHelper().getDatabase();
     }
 
+    /**
+     * @return The database to run queries on, the {@link #getReadConnectionPool()} if this database has one and
+     * otherwise the same as {@link #getWritableDatabase()}.
+     */
+    @NonNull
+    public DatabaseWrapper getReadableDatabase() {
+        DatabaseWrapper writableDatabase = getWritableDatabase();
+        ReadConnectionPool readConnectionPool = getReadConnectionPool();
+        return readConnectionPool != null ? readConnectionPool : writableDatabase;
+    }
+
+    /**
+     * @return The read connections of this database, with metrics of their use, if
+     * {@link DatabaseConfig.Builder#readConnectionPoolSize(int)} enabled them. Only the default
+     * {@link FlowSQLiteOpenHelper} opens them, so a custom {@link OpenHelper} has none.
+     */
+    @Nullable
+    public ReadConnectionPool getReadConnectionPool() {
+        OpenHelper helper = getHelper();
+        return helper instanceof FlowSQLiteOpenHelper ? ((FlowSQLiteOpenHelper) helper).getReadConnectionPool() : null;
+    }
+
+    /**
+     * @return The most read connections to open, as set by {@link DatabaseConfig.Builder#readConnectionPoolSize(int)}.
+     */
+    public int getReadConnectionPoolSize() {
+        return databaseConfig != null && !databaseConfig.isInMemory() ? databaseConfig.getReadConnectionPoolSize() : 0;
+    }
+
+    /**
+     * @return True if the underlying SQLite version (3.24.0+) supports INSERT ... ON CONFLICT DO UPDATE.
+     * Checked once per open database.
+     */
+    public boolean isUpsertSupported() {
+        if (upsertSupported == null) {
+            DatabaseStatement statement = getWritableDatabase().compileStatement("SELECT sqlite_version()");
+            try {
+                upsertSupported = isVersionAtLeast(statement.simpleQueryForString(), 3, 24);
+            } finally {
+                statement.close();
+            }
+        }
+        return upsertSupported;
+    }
+
     @NonNull
     public ModelNotifier getModelNotifier() {
         if (modelNotifier == null) {
@@ -278,15 +328,48 @@ public abstract class DatabaseDefinition {
 
     public void executeTransaction(@NonNull ITransaction transaction) {
         DatabaseWrapper database = getWritableDatabase();
+        boolean batchNotifications = isBatchNotificationsEnabled();
+        boolean successful = false;
+        if (batchNotifications) {
+            NotifyDistributor.get().beginBatch();
+        }
         try {
             database.beginTransaction();
             transaction.execute(database);
             database.setTransactionSuccessful();
+            successful = true;
         } finally {
             database.endTransaction();
+            if (batchNotifications) {
+                NotifyDistributor.get().endBatch(successful);
+            }
         }
     }
 
+    /**
+     * @return True if model changes within a transaction or collection operation are emitted once it completes,
+     * as set by {@link DatabaseConfig.Builder#batchNotifications(boolean)}.
+     */
+    public boolean isBatchNotificationsEnabled() {
+        return databaseConfig != null && databaseConfig.isBatchNotificationsEnabled();
+    }
+
+    /**
+     * @return True if queries bind their values instead of inlining them, as set by
+     * {@link DatabaseConfig.Builder#bindQueryArguments(boolean)}.
+     */
+    public boolean isBindQueryArgumentsEnabled() {
+        return databaseConfig != null && databaseConfig.isBindQueryArgumentsEnabled();
+    }
+
+    /**
+     * @return The most values an IN may have before it is split, as set by
+     * {@link DatabaseConfig.Builder#maxInArguments(int)}.
+     */
+    public int getMaxInArguments() {
+        return databaseConfig != null ? databaseConfig.getMaxInArguments() : DatabaseConfig.DEFAULT_MAX_IN_ARGUMENTS;
+    }
+
     /**
      * @return The name of this database as defined in {@link Database}
      */
@@ -418,7 +501,9 @@ public abstract class DatabaseDefinition {
             modelAdapter.closeCompiledStatement();
             modelAdapter.closeDeleteStatement();
             modelAdapter.closeUpdateStatement();
+            modelAdapter.closeUpsertStatement();
         }
+        upsertSupported = null;
         getHelper().closeDB();
     }
 
@@ -441,4 +526,18 @@ public abstract class DatabaseDefinition {
         getHelper().backupDB();
     }
 
+    private static boolean isVersionAtLeast(@Nullable String version, int major, int minor) {
+        if (version == null) {
+            return false;
+        }
+        String[] parts = version.split("\\.");
+        try {
+            int versionMajor = Integer.parseInt(parts[0]);
+            int versionMinor = parts.length > 1 ? Integer.parseInt(parts[1]) : 0;
+            return versionMajor > major || (versionMajor == major && versionMinor >= minor);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
 }
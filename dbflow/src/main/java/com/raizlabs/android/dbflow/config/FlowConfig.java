@@ -4,6 +4,8 @@ import android.content.Context;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
+import com.raizlabs.android.dbflow.sql.QueryPlanChecker;
+
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -23,12 +25,14 @@ public final class FlowConfig {
     private final Map<Class<?>, DatabaseConfig> databaseConfigMap;
     private final Context context;
     private final boolean openDatabasesOnInit;
+    private final QueryPlanChecker queryPlanChecker;
 
     FlowConfig(Builder builder) {
         databaseHolders = Collections.unmodifiableSet(builder.databaseHolders);
         databaseConfigMap = builder.databaseConfigMap;
         context = builder.context;
         openDatabasesOnInit = builder.openDatabasesOnInit;
+        queryPlanChecker = builder.checkQueryPlans ? new QueryPlanChecker(builder.queryPlanListener) : null;
     }
 
     @NonNull
@@ -55,12 +59,22 @@ public final class FlowConfig {
         return openDatabasesOnInit;
     }
 
+    /**
+     * @return The checker of query plans, or null if {@link Builder#checkQueryPlans(boolean)} is off.
+     */
+    @Nullable
+    public QueryPlanChecker getQueryPlanChecker() {
+        return queryPlanChecker;
+    }
+
     public static class Builder {
 
         final Context context;
         Set<Class<? extends DatabaseHolder>> databaseHolders = new HashSet<>();
         final Map<Class<?>, DatabaseConfig> databaseConfigMap = new HashMap<>();
         boolean openDatabasesOnInit;
+        boolean checkQueryPlans;
+        QueryPlanChecker.Listener queryPlanListener;
 
         public Builder(Context context) {
             this.context = context.getApplicationContext();
@@ -88,6 +102,29 @@ public final class FlowConfig {
             return this;
         }
 
+        /**
+         * @param checkQueryPlans true to explain each distinct query the first time it runs, logging full scans,
+         *                        temporary b-trees and automatic indexes. For debug builds only, see
+         *                        {@link QueryPlanChecker}.
+         */
+        @NonNull
+        public Builder checkQueryPlans(boolean checkQueryPlans) {
+            this.checkQueryPlans = checkQueryPlans;
+            return this;
+        }
+
+        /**
+         * Receives the plan of each query checked, turning on {@link #checkQueryPlans(boolean)}.
+         */
+        @NonNull
+        public Builder queryPlanListener(@Nullable QueryPlanChecker.Listener queryPlanListener) {
+            this.queryPlanListener = queryPlanListener;
+            if (queryPlanListener != null) {
+                checkQueryPlans(true);
+            }
+            return this;
+        }
+
         @NonNull
         public FlowConfig build() {
             return new FlowConfig(this);
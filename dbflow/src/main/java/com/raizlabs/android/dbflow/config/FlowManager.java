@@ -9,6 +9,7 @@ import com.raizlabs.android.dbflow.converter.TypeConverter;
 import com.raizlabs.android.dbflow.runtime.ModelNotifier;
 import com.raizlabs.android.dbflow.runtime.TableNotifierRegister;
 import com.raizlabs.android.dbflow.sql.QueryBuilder;
+import com.raizlabs.android.dbflow.sql.QueryPlanChecker;
 import com.raizlabs.android.dbflow.sql.migration.Migration;
 import com.raizlabs.android.dbflow.structure.BaseModel;
 import com.raizlabs.android.dbflow.structure.BaseModelView;
@@ -165,6 +166,14 @@ public class FlowManager {
         return getDatabaseForTable(table).getWritableDatabase();
     }
 
+    /**
+     * @return The database that queries on the table run on. See {@link DatabaseDefinition#getReadableDatabase()}.
+     */
+    @NonNull
+    public static DatabaseWrapper getReadableDatabaseForTable(Class<?> table) {
+        return getDatabaseForTable(table).getReadableDatabase();
+    }
+
     /**
      * @param databaseName The name of the database. Will throw an exception if the database doesn't exist.
      * @return the {@link DatabaseDefinition} for the specified database
@@ -211,6 +220,14 @@ public class FlowManager {
         return config;
     }
 
+    /**
+     * @return The checker of query plans if enabled with {@link FlowConfig.Builder#checkQueryPlans(boolean)}.
+     */
+    @Nullable
+    public static QueryPlanChecker getQueryPlanChecker() {
+        return config != null ? config.getQueryPlanChecker() : null;
+    }
+
     /**
      * @return The database holder, creating if necessary using reflection.
      */
@@ -3,8 +3,10 @@ package com.raizlabs.android.dbflow.config;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
+import com.raizlabs.android.dbflow.annotation.Table;
 import com.raizlabs.android.dbflow.sql.queriable.ListModelLoader;
 import com.raizlabs.android.dbflow.sql.queriable.SingleModelLoader;
+import com.raizlabs.android.dbflow.sql.saveable.ListModelSaver;
 import com.raizlabs.android.dbflow.sql.saveable.ModelSaver;
 import com.raizlabs.android.dbflow.structure.ModelAdapter;
 
@@ -24,12 +26,16 @@ public final class TableConfig<TModel> {
     private final ModelSaver<TModel> modelSaver;
     private final SingleModelLoader<TModel> singleModelLoader;
     private final ListModelLoader<TModel> listModelLoader;
+    private final boolean batchInsertEnabled;
+    private final boolean upsertEnabled;
 
     TableConfig(Builder<TModel> builder) {
         tableClass = builder.tableClass;
         modelSaver = builder.modelAdapterModelSaver;
         singleModelLoader = builder.singleModelLoader;
         listModelLoader = builder.listModelLoader;
+        batchInsertEnabled = builder.batchInsertEnabled;
+        upsertEnabled = builder.upsertEnabled;
     }
 
     @NonNull
@@ -52,12 +58,22 @@ public final class TableConfig<TModel> {
         return singleModelLoader;
     }
 
+    public boolean batchInsertEnabled() {
+        return batchInsertEnabled;
+    }
+
+    public boolean upsertEnabled() {
+        return upsertEnabled;
+    }
+
     public static final class Builder<TModel> {
 
         final Class<TModel> tableClass;
         ModelSaver<TModel> modelAdapterModelSaver;
         SingleModelLoader<TModel> singleModelLoader;
         ListModelLoader<TModel> listModelLoader;
+        boolean batchInsertEnabled;
+        boolean upsertEnabled;
 
         public Builder(@NonNull Class<TModel> tableClass) {
             this.tableClass = tableClass;
@@ -91,6 +107,26 @@ public final class TableConfig<TModel> {
             return this;
         }
 
+        /**
+         * When true, {@link ListModelSaver#insertAll(java.util.Collection)} writes models with multi-row
+         * INSERT statements instead of one statement per model. Requires SQLite 3.7.11 or higher (API 16+).
+         */
+        @NonNull
+        public Builder<TModel> batchInsertEnabled(boolean batchInsertEnabled) {
+            this.batchInsertEnabled = batchInsertEnabled;
+            return this;
+        }
+
+        /**
+         * When true, {@link ModelSaver#save(Object)} writes models with a single upsert statement instead of
+         * an existence check followed by an UPDATE or INSERT. Same as {@link Table#upsertEnabled()}.
+         */
+        @NonNull
+        public Builder<TModel> upsertEnabled(boolean upsertEnabled) {
+            this.upsertEnabled = upsertEnabled;
+            return this;
+        }
+
         /**
          * @return A new {@link TableConfig}. Subsequent calls to this method produce a new instance
          * of {@link TableConfig}.
@@ -70,10 +70,10 @@ public class FlowCursorList<TModel> implements
             // no cursor or queriable, we formulate query from table data.
             if (cursor == null) {
                 modelQueriable = SQLite.select().from(table);
-                cursor = modelQueriable.query();
+                cursor = query();
             }
         } else {
-            cursor = builder.modelQueriable.query();
+            cursor = query();
         }
         cacheModels = builder.cacheModels;
         if (cacheModels) {
@@ -88,6 +88,14 @@ public class FlowCursorList<TModel> implements
         setCacheModels(cacheModels);
     }
 
+    /**
+     * Runs the query on the readable database, where a read connection stays held while the cursor is open.
+     */
+    @Nullable
+    private FlowCursor query() {
+        return modelQueriable.query(FlowManager.getReadableDatabaseForTable(table));
+    }
+
     @NonNull
     InstanceAdapter<TModel> getInstanceAdapter() {
         return instanceAdapter;
@@ -159,7 +167,7 @@ public class FlowCursorList<TModel> implements
             throw new IllegalStateException("Cannot refresh this FlowCursorList. This list was instantiated from a Cursor. Once closed, we cannot reopen " +
                 "it. Construct a new instance and swap with this instance.");
         }
-        cursor = modelQueriable.query();
+        cursor = query();
 
         if (cacheModels) {
             modelCache.clear();
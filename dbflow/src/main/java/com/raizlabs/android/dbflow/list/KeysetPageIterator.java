@@ -0,0 +1,112 @@
+package com.raizlabs.android.dbflow.list;
+
+import android.support.annotation.NonNull;
+
+import com.raizlabs.android.dbflow.config.FlowManager;
+import com.raizlabs.android.dbflow.sql.language.Where;
+import com.raizlabs.android.dbflow.structure.database.FlowCursor;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Description: Reads the results of a query one page at a time, continuing each page after the last row of the
+ * previous one with {@link Where#seekAfterRow(android.database.Cursor)}. Unlike paging with an OFFSET or a
+ * {@link FlowCursorIterator} starting location, a page never walks the rows before it, so with an index on the
+ * ORDER BY columns every page costs the same.
+ * <p/>
+ * The {@link Where} must order by columns that are selected, not NULL and end with a unique column such as the
+ * primary key. It is modified by this iterator and should not be used elsewhere while paging. A LIMIT of the
+ * {@link Where} caps the rows of all pages together, and its OFFSET skips rows before the first page only. Rows
+ * changed between pages are seen or skipped according to their new values.
+ */
+public class KeysetPageIterator<TModel> implements Iterator<List<TModel>> {
+
+    private final Where<TModel> where;
+    private final int pageSize;
+
+    /**
+     * The rows left under the LIMIT of the query, or -1 without one.
+     */
+    private int remaining;
+
+    private List<TModel> nextPage;
+    private boolean isFinished;
+
+    public KeysetPageIterator(@NonNull Where<TModel> where, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be positive");
+        }
+        this.where = where;
+        this.pageSize = pageSize;
+        remaining = where.getLimit();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextPage == null && !isFinished) {
+            loadPage();
+        }
+        return nextPage != null;
+    }
+
+    /**
+     * @return The next page, holding at most the page size of models.
+     */
+    @NonNull
+    @Override
+    public List<TModel> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        List<TModel> page = nextPage;
+        nextPage = null;
+        return page;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Keyset Iterator: Cannot remove a page");
+    }
+
+    private void loadPage() {
+        int limit = remaining >= 0 ? Math.min(pageSize, remaining) : pageSize;
+        if (limit == 0) {
+            isFinished = true;
+            return;
+        }
+        where.limit(limit);
+        FlowCursor cursor;
+        try {
+            cursor = where.query();
+        } finally {
+            // the pages after the first continue from its last row.
+            where.offset(-1);
+        }
+        if (cursor == null) {
+            isFinished = true;
+            return;
+        }
+        try {
+            int count = cursor.getCount();
+            if (count == 0) {
+                isFinished = true;
+                return;
+            }
+            if (remaining >= 0) {
+                remaining -= count;
+            }
+            if (count < limit || remaining == 0) {
+                isFinished = true;
+            } else {
+                cursor.moveToLast();
+                where.seekAfterRow(cursor);
+            }
+            nextPage = FlowManager.getModelAdapter(where.getTable()).getListModelLoader()
+                .convertToData(cursor, null);
+        } finally {
+            cursor.close();
+        }
+    }
+}
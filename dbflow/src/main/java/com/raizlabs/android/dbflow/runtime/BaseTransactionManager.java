@@ -14,14 +14,20 @@ public abstract class BaseTransactionManager {
 
     private final ITransactionQueue transactionQueue;
     private DBBatchSaveQueue saveQueue;
+    private final WriteBehindQueue writeBehindQueue;
 
     public BaseTransactionManager(@NonNull ITransactionQueue transactionQueue,
                                   @NonNull DatabaseDefinition databaseDefinition) {
         this.transactionQueue = transactionQueue;
         saveQueue = new DBBatchSaveQueue(databaseDefinition);
+        writeBehindQueue = new WriteBehindQueue(databaseDefinition);
         checkQueue();
     }
 
+    /**
+     * @deprecated use {@link #getWriteBehindQueue()}, which batches per table and applies backpressure.
+     */
+    @Deprecated
     @NonNull
     public DBBatchSaveQueue getSaveQueue() {
         try {
@@ -34,6 +40,21 @@ public abstract class BaseTransactionManager {
         return saveQueue;
     }
 
+    /**
+     * @return The queue that saves models in the background in batches, started on first use.
+     */
+    @NonNull
+    public WriteBehindQueue getWriteBehindQueue() {
+        try {
+            if (!writeBehindQueue.isAlive()) {
+                writeBehindQueue.start();
+            }
+        } catch (IllegalThreadStateException i) {
+            FlowLog.logError(i); // if queue is alive, will throw error. might occur in multithreading.
+        }
+        return writeBehindQueue;
+    }
+
     @NonNull
     public ITransactionQueue getQueue() {
         return transactionQueue;
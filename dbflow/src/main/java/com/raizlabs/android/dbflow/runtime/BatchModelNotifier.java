@@ -0,0 +1,24 @@
+package com.raizlabs.android.dbflow.runtime;
+
+import android.support.annotation.NonNull;
+
+import com.raizlabs.android.dbflow.structure.BaseModel;
+import com.raizlabs.android.dbflow.structure.ModelAdapter;
+
+import java.util.List;
+
+/**
+ * Description: A {@link ModelNotifier} that can emit the changes of a batch in one event per table and action.
+ * Notifiers that do not implement this receive one {@link #notifyModelChanged(Object, ModelAdapter, BaseModel.Action)}
+ * per model when a batch ends.
+ */
+public interface BatchModelNotifier extends ModelNotifier {
+
+    /**
+     * @param models  The changed models, in the order they were written. Their primary keys identify the rows.
+     * @param adapter The adapter of the table.
+     * @param action  The action taken on every model.
+     */
+    <T> void notifyModelsChanged(@NonNull List<T> models, @NonNull ModelAdapter<T> adapter,
+                                 @NonNull BaseModel.Action action);
+}
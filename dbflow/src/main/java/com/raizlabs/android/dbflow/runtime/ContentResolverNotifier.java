@@ -10,16 +10,29 @@ import com.raizlabs.android.dbflow.sql.language.SQLOperator;
 import com.raizlabs.android.dbflow.structure.BaseModel;
 import com.raizlabs.android.dbflow.structure.ModelAdapter;
 
+import java.util.List;
+
 /**
  * The default use case, it notifies via the {@link ContentResolver} system.
  */
-public class ContentResolverNotifier implements ModelNotifier {
+public class ContentResolverNotifier implements BatchModelNotifier {
 
     @NonNull
     private final String contentAuthority;
+    private final boolean collapseBatches;
 
     public ContentResolverNotifier(@NonNull String contentAuthority) {
+        this(contentAuthority, false);
+    }
+
+    /**
+     * @param collapseBatches True to notify a batch of several models with one table {@link android.net.Uri},
+     *                        which drops their primary keys. Otherwise each model gets the {@link android.net.Uri}
+     *                        of its row.
+     */
+    public ContentResolverNotifier(@NonNull String contentAuthority, boolean collapseBatches) {
         this.contentAuthority = contentAuthority;
+        this.collapseBatches = collapseBatches;
     }
 
     @Override
@@ -33,6 +46,22 @@ public class ContentResolverNotifier implements ModelNotifier {
         }
     }
 
+    /**
+     * Emits the {@link android.net.Uri} of each model's row, with one Binder call per model. With collapseBatches,
+     * several models share a single table {@link android.net.Uri}, without their primary keys.
+     */
+    @Override
+    public <T> void notifyModelsChanged(@NonNull List<T> models, @NonNull ModelAdapter<T> adapter,
+                                        @NonNull BaseModel.Action action) {
+        if (collapseBatches && models.size() > 1) {
+            notifyTableChanged(adapter.getModelClass(), action);
+        } else {
+            for (T model : models) {
+                notifyModelChanged(model, adapter, action);
+            }
+        }
+    }
+
     @Override
     public <T> void notifyTableChanged(@NonNull Class<T> table, @NonNull BaseModel.Action action) {
         if (FlowContentObserver.shouldNotify()) {
@@ -18,7 +18,11 @@ import java.util.Collection;
 /**
  * Description: This queue will bulk save items added to it when it gets access to the DB. It should only exist as one entity.
  * It will save the {@link #MODEL_SAVE_SIZE} at a time or more only when the limit is reached. It will not
+ *
+ * @deprecated use {@link WriteBehindQueue}, which blocks producers when full, flushes on count, size and latency
+ * and saves each table in batches.
  */
+@Deprecated
 public class DBBatchSaveQueue extends Thread {
 
     /**
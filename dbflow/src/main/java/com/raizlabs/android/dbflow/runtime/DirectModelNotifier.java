@@ -8,6 +8,7 @@ import com.raizlabs.android.dbflow.structure.BaseModel;
 import com.raizlabs.android.dbflow.structure.ModelAdapter;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -19,7 +20,7 @@ import java.util.Set;
  * instance in {@link DatabaseConfig.Builder}
  */
 @SuppressWarnings("unchecked")
-public class DirectModelNotifier implements ModelNotifier {
+public class DirectModelNotifier implements BatchModelNotifier {
 
     private static DirectModelNotifier notifier;
 
@@ -41,6 +42,15 @@ public class DirectModelNotifier implements ModelNotifier {
 
     }
 
+    /**
+     * Receives the models of a notification batch in one call. Outside of a batch it is called with a single model.
+     */
+    public interface OnModelsStateChangedListener<T> extends OnModelStateChangedListener<T> {
+
+        void onModelsChanged(@NonNull List<T> models, @NonNull BaseModel.Action action);
+
+    }
+
     private final Map<Class<?>, Set<OnModelStateChangedListener>> modelChangedListenerMap = new LinkedHashMap<>();
 
     private final Map<Class<?>, Set<OnTableChangedListener>> tableChangedListenerMap = new LinkedHashMap<>();
@@ -70,6 +80,24 @@ public class DirectModelNotifier implements ModelNotifier {
         }
     }
 
+    @Override
+    public <T> void notifyModelsChanged(@NonNull List<T> models, @NonNull ModelAdapter<T> adapter,
+                                        @NonNull BaseModel.Action action) {
+        final Set<OnModelStateChangedListener> listeners = modelChangedListenerMap.get(adapter.getModelClass());
+        if (listeners != null) {
+            List<T> unmodifiableModels = Collections.unmodifiableList(models);
+            for (OnModelStateChangedListener listener : listeners) {
+                if (listener instanceof OnModelsStateChangedListener) {
+                    ((OnModelsStateChangedListener) listener).onModelsChanged(unmodifiableModels, action);
+                } else if (listener != null) {
+                    for (T model : models) {
+                        listener.onModelChanged(model, action);
+                    }
+                }
+            }
+        }
+    }
+
     @Override
     public <T> void notifyTableChanged(@NonNull Class<T> table, @NonNull BaseModel.Action action) {
         final Set<OnTableChangedListener> listeners = tableChangedListenerMap.get(table);
@@ -7,6 +7,13 @@ import com.raizlabs.android.dbflow.config.FlowManager;
 import com.raizlabs.android.dbflow.structure.BaseModel;
 import com.raizlabs.android.dbflow.structure.ModelAdapter;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Description: Distributes notifications to the {@link ModelNotifier}.
  */
@@ -14,6 +21,8 @@ public class NotifyDistributor implements ModelNotifier {
 
     private static NotifyDistributor distributor;
 
+    private final ThreadLocal<NotifyBatch> batches = new ThreadLocal<>();
+
     @NonNull
     public static NotifyDistributor get() {
         if (distributor == null) {
@@ -31,6 +40,11 @@ public class NotifyDistributor implements ModelNotifier {
     public <TModel> void notifyModelChanged(@NonNull TModel model,
                                             @NonNull ModelAdapter<TModel> adapter,
                                             @NonNull BaseModel.Action action) {
+        NotifyBatch batch = batches.get();
+        if (batch != null) {
+            batch.addModel(model, adapter, action);
+            return;
+        }
         FlowManager.getModelNotifierForTable(adapter.getModelClass())
             .notifyModelChanged(model, adapter, action);
     }
@@ -41,6 +55,113 @@ public class NotifyDistributor implements ModelNotifier {
     @Override
     public <TModel> void notifyTableChanged(@NonNull Class<TModel> table,
                                             @NonNull BaseModel.Action action) {
+        NotifyBatch batch = batches.get();
+        if (batch != null) {
+            batch.addTable(table, action);
+            return;
+        }
         FlowManager.getModelNotifierForTable(table).notifyTableChanged(table, action);
     }
+
+    /**
+     * Starts collecting the notifications of the calling thread. They are emitted once the outermost batch ends,
+     * one event per table and action. Batches may nest.
+     */
+    public void beginBatch() {
+        NotifyBatch batch = batches.get();
+        if (batch == null) {
+            batch = new NotifyBatch();
+            batches.set(batch);
+        }
+        batch.depth++;
+    }
+
+    /**
+     * Ends a batch started with {@link #beginBatch()}.
+     *
+     * @param successful When false, such as after a rolled back transaction, the outermost batch is discarded
+     *                   instead of emitted.
+     */
+    public void endBatch(boolean successful) {
+        NotifyBatch batch = batches.get();
+        if (batch == null) {
+            throw new IllegalStateException("endBatch() called without a matching beginBatch()");
+        }
+        if (!successful) {
+            batch.successful = false;
+        }
+        if (--batch.depth == 0) {
+            batches.remove();
+            if (batch.successful) {
+                batch.emit();
+            }
+        }
+    }
+
+    /**
+     * @return true if the calling thread is collecting notifications.
+     */
+    public boolean isInBatch() {
+        return batches.get() != null;
+    }
+
+    /**
+     * The notifications collected on one thread, grouped by table and action in the order they first occurred.
+     */
+    @SuppressWarnings("unchecked")
+    private static final class NotifyBatch {
+
+        private final Map<ModelAdapter, Map<BaseModel.Action, List<Object>>> models = new LinkedHashMap<>();
+        private final Map<Class<?>, Set<BaseModel.Action>> tables = new LinkedHashMap<>();
+
+        int depth;
+        boolean successful = true;
+
+        void addModel(@NonNull Object model, @NonNull ModelAdapter adapter, @NonNull BaseModel.Action action) {
+            Map<BaseModel.Action, List<Object>> actions = models.get(adapter);
+            if (actions == null) {
+                actions = new LinkedHashMap<>();
+                models.put(adapter, actions);
+            }
+            List<Object> changed = actions.get(action);
+            if (changed == null) {
+                changed = new ArrayList<>();
+                actions.put(action, changed);
+            }
+            changed.add(model);
+        }
+
+        void addTable(@NonNull Class<?> table, @NonNull BaseModel.Action action) {
+            Set<BaseModel.Action> actions = tables.get(table);
+            if (actions == null) {
+                actions = new LinkedHashSet<>();
+                tables.put(table, actions);
+            }
+            actions.add(action);
+        }
+
+        void emit() {
+            for (Map.Entry<ModelAdapter, Map<BaseModel.Action, List<Object>>> entry : models.entrySet()) {
+                ModelAdapter adapter = entry.getKey();
+                ModelNotifier notifier = FlowManager.getModelNotifierForTable(adapter.getModelClass());
+                for (Map.Entry<BaseModel.Action, List<Object>> actionEntry : entry.getValue().entrySet()) {
+                    if (notifier instanceof BatchModelNotifier) {
+                        ((BatchModelNotifier) notifier).notifyModelsChanged(actionEntry.getValue(), adapter,
+                            actionEntry.getKey());
+                    } else {
+                        for (Object model : actionEntry.getValue()) {
+                            notifier.notifyModelChanged(model, adapter, actionEntry.getKey());
+                        }
+                    }
+                }
+            }
+
+            for (Map.Entry<Class<?>, Set<BaseModel.Action>> entry : tables.entrySet()) {
+                ModelNotifier notifier = FlowManager.getModelNotifierForTable(entry.getKey());
+                for (BaseModel.Action action : entry.getValue()) {
+                    notifier.notifyTableChanged(entry.getKey(), action);
+                }
+            }
+        }
+    }
 }
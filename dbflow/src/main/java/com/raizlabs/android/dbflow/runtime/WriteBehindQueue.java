@@ -0,0 +1,443 @@
+package com.raizlabs.android.dbflow.runtime;
+
+import android.content.ContentValues;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.raizlabs.android.dbflow.config.DatabaseDefinition;
+import com.raizlabs.android.dbflow.config.FlowLog;
+import com.raizlabs.android.dbflow.config.FlowManager;
+import com.raizlabs.android.dbflow.structure.ModelAdapter;
+import com.raizlabs.android.dbflow.structure.database.DatabaseWrapper;
+import com.raizlabs.android.dbflow.structure.database.transaction.FastStoreModelTransaction;
+import com.raizlabs.android.dbflow.structure.database.transaction.ITransaction;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Description: Saves models in the background in batches. Producers add to a bounded queue and block once it is
+ * full. A batch is written when it reaches {@link #setFlushCount(int)} models, {@link #setFlushBytes(long)} bytes or
+ * when its oldest model has waited {@link #setMaxLatency(long)} millis, whichever comes first. Each batch is
+ * written in one transaction, with the models of each table saved through {@link FastStoreModelTransaction}.
+ */
+public class WriteBehindQueue extends Thread {
+
+    /**
+     * The default number of models and flush requests the queue holds before producers block.
+     */
+    public static final int DEFAULT_CAPACITY = 10000;
+
+    /**
+     * The default number of models written in one transaction.
+     */
+    public static final int DEFAULT_FLUSH_COUNT = 500;
+
+    /**
+     * The default time, in millis, a model waits before its batch is written.
+     */
+    public static final long DEFAULT_MAX_LATENCY = 1000;
+
+    /**
+     * Estimates the size of a model to trigger {@link #setFlushBytes(long)}.
+     */
+    public interface SizeEstimator {
+
+        long estimateSize(@NonNull Object model);
+    }
+
+    /**
+     * Estimates a model from the values it binds to its table. Strings count two bytes per character, blobs their
+     * length and other values eight bytes.
+     */
+    public static final SizeEstimator CONTENT_VALUES_SIZE_ESTIMATOR = new SizeEstimator() {
+        @SuppressWarnings("unchecked")
+        @Override
+        public long estimateSize(@NonNull Object model) {
+            ContentValues values = new ContentValues();
+            FlowManager.getModelAdapter((Class<Object>) model.getClass()).bindToContentValues(values, model);
+            long size = 0;
+            for (Map.Entry<String, Object> entry : values.valueSet()) {
+                Object value = entry.getValue();
+                if (value instanceof String) {
+                    size += ((String) value).length() * 2;
+                } else if (value instanceof byte[]) {
+                    size += ((byte[]) value).length;
+                } else {
+                    size += 8;
+                }
+            }
+            return size;
+        }
+    };
+
+    /**
+     * Called from the queue thread after each batch.
+     */
+    public interface FlushListener {
+
+        void onFlushed(@NonNull List<Object> models);
+
+        /**
+         * The models of a failed batch are not retried.
+         */
+        void onFlushFailed(@NonNull List<Object> models, @NonNull Throwable error);
+    }
+
+    /**
+     * Completes once every model added before {@link #flush()} has been written.
+     */
+    public static final class FlushHandle {
+
+        private final CountDownLatch latch = new CountDownLatch(1);
+        private volatile Throwable error;
+
+        FlushHandle() {
+        }
+
+        public void await() throws InterruptedException {
+            latch.await();
+        }
+
+        /**
+         * @return true if the flush completed before the timeout.
+         */
+        public boolean await(long timeout, @NonNull TimeUnit unit) throws InterruptedException {
+            return latch.await(timeout, unit);
+        }
+
+        public boolean isDone() {
+            return latch.getCount() == 0;
+        }
+
+        /**
+         * @return The error of the first batch that failed since the previous flush, or null.
+         */
+        @Nullable
+        public Throwable getError() {
+            return error;
+        }
+
+        void complete(@Nullable Throwable error) {
+            this.error = error;
+            latch.countDown();
+        }
+    }
+
+    private static final class Entry {
+
+        final Object model;
+        final long size;
+        final long enqueueTime;
+
+        Entry(Object model, long size) {
+            this.model = model;
+            this.size = size;
+            this.enqueueTime = System.currentTimeMillis();
+        }
+    }
+
+    private final DatabaseDefinition databaseDefinition;
+    private final BlockingQueue<Object> queue;
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicLong queuedBytes = new AtomicLong();
+    private final AtomicLong flushedModelCount = new AtomicLong();
+    private volatile long lastFlushLatency;
+    private volatile long lastFlushDuration;
+
+    private volatile int flushCount = DEFAULT_FLUSH_COUNT;
+    private volatile long flushBytes = Long.MAX_VALUE;
+    private volatile long maxLatency = DEFAULT_MAX_LATENCY;
+    private volatile SizeEstimator sizeEstimator;
+    private volatile FlushListener flushListener;
+    private volatile boolean isQuitting = false;
+
+    private Throwable unreportedError;
+
+    public WriteBehindQueue(@NonNull DatabaseDefinition databaseDefinition) {
+        this(databaseDefinition, DEFAULT_CAPACITY);
+    }
+
+    public WriteBehindQueue(@NonNull DatabaseDefinition databaseDefinition, int capacity) {
+        super("WriteBehindQueue");
+        this.databaseDefinition = databaseDefinition;
+        queue = new LinkedBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Sets how many models are written in one transaction.
+     */
+    public void setFlushCount(int flushCount) {
+        this.flushCount = flushCount;
+    }
+
+    /**
+     * Sets the estimated batch size in bytes that triggers a write. Requires a {@link SizeEstimator}.
+     */
+    public void setFlushBytes(long flushBytes) {
+        this.flushBytes = flushBytes;
+    }
+
+    /**
+     * Sets how long, in millis, the oldest queued model waits before its batch is written.
+     */
+    public void setMaxLatency(long maxLatency) {
+        this.maxLatency = maxLatency;
+    }
+
+    /**
+     * Sets how models are sized for {@link #setFlushBytes(long)}. Sizes are estimated on the adding thread.
+     */
+    public void setSizeEstimator(@Nullable SizeEstimator sizeEstimator) {
+        this.sizeEstimator = sizeEstimator;
+    }
+
+    public void setFlushListener(@Nullable FlushListener flushListener) {
+        this.flushListener = flushListener;
+    }
+
+    /**
+     * Adds a model, blocking while the queue is full.
+     */
+    public void add(@NonNull Object model) throws InterruptedException {
+        checkNotQuitting();
+        Entry entry = newEntry(model);
+        // counted first so the queue thread never writes a model before it is counted.
+        onEnqueued(entry);
+        try {
+            queue.put(entry);
+        } catch (InterruptedException e) {
+            onRemoved(entry);
+            throw e;
+        }
+    }
+
+    /**
+     * Adds every model, blocking while the queue is full.
+     */
+    public void addAll(@NonNull Collection<?> models) throws InterruptedException {
+        for (Object model : models) {
+            add(model);
+        }
+    }
+
+    /**
+     * Adds a model, waiting up to the timeout for room in the queue.
+     *
+     * @return false if the queue stayed full and the model was not added.
+     */
+    public boolean offer(@NonNull Object model, long timeout, @NonNull TimeUnit unit) throws InterruptedException {
+        checkNotQuitting();
+        Entry entry = newEntry(model);
+        onEnqueued(entry);
+        boolean added = false;
+        try {
+            added = queue.offer(entry, timeout, unit);
+        } finally {
+            if (!added) {
+                onRemoved(entry);
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Writes every model added so far without waiting for a threshold.
+     *
+     * @return A handle that completes once they are written.
+     */
+    @NonNull
+    public FlushHandle flush() throws InterruptedException {
+        FlushHandle handle = new FlushHandle();
+        queue.put(handle);
+        return handle;
+    }
+
+    /**
+     * Writes the remaining models and stops the queue. Models cannot be added afterwards.
+     *
+     * @return A handle that completes once the remaining models are written.
+     */
+    @NonNull
+    public FlushHandle quit() throws InterruptedException {
+        isQuitting = true;
+        return flush();
+    }
+
+    /**
+     * @return The number of models waiting to be written, including the batch in progress.
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * @return The estimated bytes waiting to be written, when a {@link SizeEstimator} is set.
+     */
+    public long getQueuedBytes() {
+        return queuedBytes.get();
+    }
+
+    /**
+     * @return The time, in millis, the oldest model of the last batch waited until it was written.
+     */
+    public long getLastFlushLatency() {
+        return lastFlushLatency;
+    }
+
+    /**
+     * @return The time, in millis, the last batch transaction took.
+     */
+    public long getLastFlushDuration() {
+        return lastFlushDuration;
+    }
+
+    /**
+     * @return The number of models written since the queue started.
+     */
+    public long getFlushedModelCount() {
+        return flushedModelCount.get();
+    }
+
+    @Override
+    public void run() {
+        android.os.Process.setThreadPriority(android.os.Process.THREAD_PRIORITY_BACKGROUND);
+        List<Entry> batch = new ArrayList<>();
+        long batchBytes = 0;
+        boolean quitRequested = false;
+        while (true) {
+            if (quitRequested && batch.isEmpty() && queue.isEmpty()) {
+                return;
+            }
+
+            Object item;
+            try {
+                if (batch.isEmpty()) {
+                    item = queue.take();
+                } else {
+                    long wait = batch.get(0).enqueueTime + maxLatency - System.currentTimeMillis();
+                    item = wait > 0 ? queue.poll(wait, TimeUnit.MILLISECONDS) : null;
+                }
+            } catch (InterruptedException e) {
+                FlowLog.log(FlowLog.Level.I, "WriteBehindQueue interrupted, writing pending models");
+                item = null;
+            }
+
+            if (item instanceof Entry) {
+                Entry entry = (Entry) item;
+                batch.add(entry);
+                batchBytes += entry.size;
+                if (batch.size() >= flushCount || batchBytes >= flushBytes) {
+                    writeBatch(batch);
+                    batchBytes = 0;
+                }
+            } else if (item instanceof FlushHandle) {
+                writeBatch(batch);
+                batchBytes = 0;
+                ((FlushHandle) item).complete(unreportedError);
+                unreportedError = null;
+                quitRequested = isQuitting;
+            } else {
+                // the oldest model reached the max latency.
+                writeBatch(batch);
+                batchBytes = 0;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeBatch(@NonNull List<Entry> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        final Map<Class<?>, List<Object>> tables = new LinkedHashMap<>();
+        final List<Object> models = new ArrayList<>(batch.size());
+        long oldestEnqueueTime = batch.get(0).enqueueTime;
+        long bytes = 0;
+        for (Entry entry : batch) {
+            List<Object> tableModels = tables.get(entry.model.getClass());
+            if (tableModels == null) {
+                tableModels = new ArrayList<>();
+                tables.put(entry.model.getClass(), tableModels);
+            }
+            tableModels.add(entry.model);
+            models.add(entry.model);
+            bytes += entry.size;
+        }
+        batch.clear();
+
+        long start = System.currentTimeMillis();
+        Throwable error = null;
+        try {
+            databaseDefinition.executeTransaction(new ITransaction() {
+                @Override
+                public void execute(DatabaseWrapper databaseWrapper) {
+                    for (Map.Entry<Class<?>, List<Object>> table : tables.entrySet()) {
+                        ModelAdapter<Object> modelAdapter = FlowManager.getModelAdapter((Class<Object>) table.getKey());
+                        FastStoreModelTransaction.saveBuilder(modelAdapter)
+                                .addAll(table.getValue())
+                                .build()
+                                .execute(databaseWrapper);
+                    }
+                }
+            });
+        } catch (Throwable throwable) {
+            error = throwable;
+            FlowLog.logError(throwable);
+        }
+
+        long end = System.currentTimeMillis();
+        lastFlushDuration = end - start;
+        lastFlushLatency = end - oldestEnqueueTime;
+        queueDepth.addAndGet(-models.size());
+        queuedBytes.addAndGet(-bytes);
+
+        FlushListener listener = flushListener;
+        if (error == null) {
+            flushedModelCount.addAndGet(models.size());
+            if (listener != null) {
+                listener.onFlushed(models);
+            }
+        } else {
+            if (unreportedError == null) {
+                unreportedError = error;
+            }
+            if (listener != null) {
+                listener.onFlushFailed(models, error);
+            }
+        }
+    }
+
+    @NonNull
+    private Entry newEntry(@NonNull Object model) {
+        SizeEstimator estimator = sizeEstimator;
+        return new Entry(model, estimator != null ? estimator.estimateSize(model) : 0);
+    }
+
+    private void onEnqueued(@NonNull Entry entry) {
+        queueDepth.incrementAndGet();
+        queuedBytes.addAndGet(entry.size);
+    }
+
+    private void onRemoved(@NonNull Entry entry) {
+        queueDepth.decrementAndGet();
+        queuedBytes.addAndGet(-entry.size);
+    }
+
+    private void checkNotQuitting() {
+        if (isQuitting) {
+            throw new IllegalStateException("Cannot add models to a WriteBehindQueue that has quit.");
+        }
+    }
+}
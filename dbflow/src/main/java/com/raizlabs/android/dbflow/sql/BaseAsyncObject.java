@@ -58,9 +58,19 @@ public class BaseAsyncObject<TAsync> {
     }
 
     protected void executeTransaction(@NonNull ITransaction transaction) {
+        executeTransaction(transaction, true);
+    }
+
+    /**
+     * @param shouldRunInTransaction False for reads, which then run on
+     *                               {@link DatabaseDefinition#getReadableDatabase()} outside of a transaction of the
+     *                               writing connection.
+     */
+    protected void executeTransaction(@NonNull ITransaction transaction, boolean shouldRunInTransaction) {
         cancel();
         currentTransaction = databaseDefinition
             .beginTransactionAsync(transaction)
+            .shouldRunInTransaction(shouldRunInTransaction)
             .error(error)
             .success(success)
             .build();
@@ -0,0 +1,167 @@
+package com.raizlabs.android.dbflow.sql;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.raizlabs.android.dbflow.structure.database.BaseDatabaseWrapper;
+import com.raizlabs.android.dbflow.structure.database.DatabaseWrapper;
+import com.raizlabs.android.dbflow.structure.database.FlowCursor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Description: The rows of {@code EXPLAIN QUERY PLAN} for a query, describing how SQLite reads each table. Use it
+ * to find queries that scan a whole table or sort in a temporary b-tree because an index is missing.
+ */
+public final class QueryPlan {
+
+    /**
+     * Runs {@code EXPLAIN QUERY PLAN} for the query. The query itself is not run.
+     *
+     * @param bindArgs The arguments of its "?" placeholders, or null for none.
+     */
+    @NonNull
+    public static QueryPlan explain(@NonNull DatabaseWrapper databaseWrapper, @NonNull String query,
+                                    @Nullable Object[] bindArgs) {
+        List<Row> rows = new ArrayList<>();
+        FlowCursor cursor = BaseDatabaseWrapper.rawQueryWithArgs(databaseWrapper, "EXPLAIN QUERY PLAN " + query, bindArgs);
+        try {
+            int detailIndex = cursor.getColumnCount() - 1;
+            while (cursor.moveToNext()) {
+                rows.add(new Row(cursor.getInt(0), cursor.getInt(1), cursor.getString(detailIndex)));
+            }
+        } finally {
+            cursor.close();
+        }
+        return new QueryPlan(query, Collections.unmodifiableList(rows));
+    }
+
+    /**
+     * Description: A single step of the plan.
+     */
+    public static final class Row {
+
+        private final int id;
+        private final int parent;
+        private final String detail;
+
+        Row(int id, int parent, @NonNull String detail) {
+            this.id = id;
+            this.parent = parent;
+            this.detail = detail;
+        }
+
+        /**
+         * @return The id of this step. Before SQLite 3.24, the id of the SELECT it belongs to.
+         */
+        public int getId() {
+            return id;
+        }
+
+        /**
+         * @return The id of the step this one is nested in. Before SQLite 3.24, its order within the SELECT.
+         */
+        public int getParent() {
+            return parent;
+        }
+
+        /**
+         * @return The description of the step, such as "SEARCH TABLE `Model` USING INDEX ...".
+         */
+        @NonNull
+        public String getDetail() {
+            return detail;
+        }
+
+        /**
+         * @return true if every row of a table, or of one of its indexes, is read.
+         */
+        public boolean isFullScan() {
+            return detail.startsWith("SCAN ") && !detail.contains("CONSTANT ROW")
+                    && !detail.toUpperCase().contains("SUBQUERY");
+        }
+
+        /**
+         * @return true if rows are sorted or deduplicated in a temporary b-tree, such as for an ORDER BY that no
+         * index covers.
+         */
+        public boolean usesTempBTree() {
+            return detail.contains("TEMP B-TREE");
+        }
+
+        /**
+         * @return true if SQLite builds an index for this query alone, a sign a permanent one is missing.
+         */
+        public boolean usesAutomaticIndex() {
+            return detail.contains("AUTOMATIC");
+        }
+
+        @Override
+        public String toString() {
+            return detail;
+        }
+    }
+
+    private final String query;
+    private final List<Row> rows;
+
+    QueryPlan(@NonNull String query, @NonNull List<Row> rows) {
+        this.query = query;
+        this.rows = rows;
+    }
+
+    @NonNull
+    public String getQuery() {
+        return query;
+    }
+
+    @NonNull
+    public List<Row> getRows() {
+        return rows;
+    }
+
+    public boolean hasFullScan() {
+        for (Row row : rows) {
+            if (row.isFullScan()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean usesTempBTree() {
+        for (Row row : rows) {
+            if (row.usesTempBTree()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean usesAutomaticIndex() {
+        for (Row row : rows) {
+            if (row.usesAutomaticIndex()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return true if any step scans a whole table, sorts in a temporary b-tree or builds an automatic index.
+     */
+    public boolean hasIssues() {
+        return hasFullScan() || usesTempBTree() || usesAutomaticIndex();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(query);
+        for (Row row : rows) {
+            builder.append("\n    ").append(row.getDetail());
+        }
+        return builder.toString();
+    }
+}
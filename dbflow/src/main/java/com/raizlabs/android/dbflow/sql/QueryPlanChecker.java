@@ -0,0 +1,91 @@
+package com.raizlabs.android.dbflow.sql;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.raizlabs.android.dbflow.config.FlowConfig;
+import com.raizlabs.android.dbflow.config.FlowLog;
+import com.raizlabs.android.dbflow.structure.database.DatabaseWrapper;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Description: Explains each distinct query the first time it runs, logging steps that scan a whole table, sort
+ * in a temporary b-tree or build an automatic index. Meant for debug builds, since every new query runs twice.
+ * Queries are distinct by their SQL, so values inlined into the SQL make each run a new query unless query
+ * arguments are bound.
+ *
+ * @see FlowConfig.Builder#checkQueryPlans(boolean)
+ */
+public final class QueryPlanChecker {
+
+    /**
+     * The number of queries remembered as checked. Older ones are checked again when they next run.
+     */
+    public static final int MAX_CHECKED_QUERIES = 1000;
+
+    /**
+     * Description: Receives the plan of each distinct query, on the thread that runs it.
+     */
+    public interface Listener {
+
+        void onQueryPlanChecked(@NonNull QueryPlan queryPlan);
+    }
+
+    private final Listener listener;
+
+    private final Map<String, Boolean> checkedQueries = new LinkedHashMap<String, Boolean>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > MAX_CHECKED_QUERIES;
+        }
+    };
+
+    public QueryPlanChecker(@Nullable Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Explains the query if it has not been checked yet. Failures are logged and never reach the caller.
+     *
+     * @param bindArgs The arguments of its "?" placeholders, or null for none.
+     */
+    public void check(@NonNull DatabaseWrapper databaseWrapper, @NonNull String query, @Nullable Object[] bindArgs) {
+        synchronized (checkedQueries) {
+            if (checkedQueries.put(query, Boolean.TRUE) != null) {
+                return;
+            }
+        }
+
+        QueryPlan queryPlan;
+        try {
+            queryPlan = QueryPlan.explain(databaseWrapper, query, bindArgs);
+        } catch (RuntimeException e) {
+            FlowLog.log(FlowLog.Level.W, "Could not explain query: " + query, e);
+            return;
+        }
+
+        for (QueryPlan.Row row : queryPlan.getRows()) {
+            if (row.isFullScan()) {
+                FlowLog.log(FlowLog.Level.W, "Full scan: " + row.getDetail() + " in query: " + query);
+            } else if (row.usesTempBTree()) {
+                FlowLog.log(FlowLog.Level.W, "Temp b-tree: " + row.getDetail() + " in query: " + query);
+            } else if (row.usesAutomaticIndex()) {
+                FlowLog.log(FlowLog.Level.W, "Automatic index: " + row.getDetail() + " in query: " + query);
+            }
+        }
+        if (listener != null) {
+            listener.onQueryPlanChecked(queryPlan);
+        }
+    }
+
+    /**
+     * Forgets the checked queries, such as after adding indexes, so each is checked again.
+     */
+    public void clear() {
+        synchronized (checkedQueries) {
+            checkedQueries.clear();
+        }
+    }
+}
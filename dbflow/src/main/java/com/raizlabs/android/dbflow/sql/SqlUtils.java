@@ -16,6 +16,7 @@ import com.raizlabs.android.dbflow.sql.language.SQLOperator;
 import com.raizlabs.android.dbflow.structure.BaseModel.Action;
 import com.raizlabs.android.dbflow.structure.Model;
 import com.raizlabs.android.dbflow.structure.ModelAdapter;
+import com.raizlabs.android.dbflow.structure.database.BaseDatabaseWrapper;
 import com.raizlabs.android.dbflow.structure.database.DatabaseStatement;
 import com.raizlabs.android.dbflow.structure.database.DatabaseWrapper;
 
@@ -240,7 +241,7 @@ public class SqlUtils {
 
     public static long longForQuery(@NonNull DatabaseWrapper wrapper,
                                     @NonNull String query) {
-        DatabaseStatement statement = wrapper.compileStatement(query);
+        DatabaseStatement statement = BaseDatabaseWrapper.compileCachedStatement(wrapper, query);
         try {
             return statement.simpleQueryForLong();
         } finally {
@@ -250,7 +251,7 @@ public class SqlUtils {
 
     public static double doubleForQuery(@NonNull DatabaseWrapper wrapper,
                                         @NonNull String query) {
-        DatabaseStatement statement = wrapper.compileStatement(query);
+        DatabaseStatement statement = BaseDatabaseWrapper.compileCachedStatement(wrapper, query);
         try {
             return statement.simpleQueryForLong();
         } finally {
@@ -15,6 +15,7 @@ import com.raizlabs.android.dbflow.sql.queriable.ModelQueriable;
 import com.raizlabs.android.dbflow.sql.queriable.SingleModelLoader;
 import com.raizlabs.android.dbflow.structure.InstanceAdapter;
 import com.raizlabs.android.dbflow.structure.QueryModelAdapter;
+import com.raizlabs.android.dbflow.structure.database.BaseDatabaseWrapper;
 import com.raizlabs.android.dbflow.structure.database.DatabaseStatement;
 import com.raizlabs.android.dbflow.structure.database.DatabaseWrapper;
 
@@ -56,34 +57,80 @@ public abstract class BaseModelQueriable<TModel> extends BaseQueriable<TModel>
     @NonNull
     @Override
     public List<TModel> queryList() {
+        BoundQuery boundQuery = getBoundQueryIfEnabled();
+        if (boundQuery != null) {
+            return queryList(FlowManager.getReadableDatabaseForTable(getTable()), boundQuery);
+        }
         String query = getQuery();
         FlowLog.log(FlowLog.Level.V, "Executing query: " + query);
+        checkQueryPlan(FlowManager.getReadableDatabaseForTable(getTable()), query);
         return getListModelLoader().load(query);
     }
 
+    @NonNull
+    @Override
+    public ColumnResult queryColumns() {
+        return queryColumns(new ColumnResult());
+    }
+
+    @NonNull
+    @Override
+    public ColumnResult queryColumns(@NonNull ColumnResult result) {
+        result.fill(query(FlowManager.getReadableDatabaseForTable(getTable())));
+        return result;
+    }
+
     @Nullable
     @Override
     public TModel querySingle() {
+        BoundQuery boundQuery = getBoundQueryIfEnabled();
+        if (boundQuery != null) {
+            return querySingle(FlowManager.getReadableDatabaseForTable(getTable()), boundQuery);
+        }
         String query = getQuery();
         FlowLog.log(FlowLog.Level.V, "Executing query: " + query);
+        checkQueryPlan(FlowManager.getReadableDatabaseForTable(getTable()), query);
         return getSingleModelLoader().load(query);
     }
 
     @Override
     public TModel querySingle(@NonNull DatabaseWrapper wrapper) {
+        BoundQuery boundQuery = getBoundQueryIfEnabled();
+        if (boundQuery != null) {
+            return querySingle(wrapper, boundQuery);
+        }
         String query = getQuery();
         FlowLog.log(FlowLog.Level.V, "Executing query: " + query);
+        checkQueryPlan(wrapper, query);
         return getSingleModelLoader().load(wrapper, query);
     }
 
+    private TModel querySingle(@NonNull DatabaseWrapper wrapper, @NonNull BoundQuery boundQuery) {
+        FlowLog.log(FlowLog.Level.V, "Executing query: " + boundQuery);
+        checkQueryPlan(wrapper, boundQuery);
+        return getSingleModelLoader().load(boundQuery.query(wrapper));
+    }
+
     @NonNull
     @Override
     public List<TModel> queryList(@NonNull DatabaseWrapper wrapper) {
+        BoundQuery boundQuery = getBoundQueryIfEnabled();
+        if (boundQuery != null) {
+            return queryList(wrapper, boundQuery);
+        }
         String query = getQuery();
         FlowLog.log(FlowLog.Level.V, "Executing query: " + query);
+        checkQueryPlan(wrapper, query);
         return getListModelLoader().load(wrapper, query);
     }
 
+    @NonNull
+    private List<TModel> queryList(@NonNull DatabaseWrapper wrapper, @NonNull BoundQuery boundQuery) {
+        FlowLog.log(FlowLog.Level.V, "Executing query: " + boundQuery);
+        checkQueryPlan(wrapper, boundQuery);
+        return getListModelLoader().load(boundQuery.query(wrapper));
+    }
+
     @NonNull
     @Override
     public FlowCursorList<TModel> cursorList() {
@@ -108,7 +155,16 @@ public abstract class BaseModelQueriable<TModel> extends BaseQueriable<TModel>
 
     @Override
     public long executeUpdateDelete(@NonNull DatabaseWrapper databaseWrapper) {
-        final DatabaseStatement statement = databaseWrapper.compileStatement(getQuery());
+        BoundQuery boundQuery = getBoundQueryIfEnabled();
+        final DatabaseStatement statement;
+        if (boundQuery != null) {
+            checkQueryPlan(databaseWrapper, boundQuery);
+            statement = boundQuery.compileStatement(databaseWrapper);
+        } else {
+            String query = getQuery();
+            checkQueryPlan(databaseWrapper, query);
+            statement = BaseDatabaseWrapper.compileCachedStatement(databaseWrapper, query);
+        }
         long affected;
         try {
             affected = statement.executeUpdateDelete();
@@ -132,23 +188,54 @@ public abstract class BaseModelQueriable<TModel> extends BaseQueriable<TModel>
     @NonNull
     @Override
     public <QueryClass> List<QueryClass> queryCustomList(@NonNull Class<QueryClass> queryModelClass) {
+        QueryModelAdapter<QueryClass> adapter = FlowManager.getQueryModelAdapter(queryModelClass);
+        ListModelLoader<QueryClass> loader = cachingEnabled
+                ? adapter.getListModelLoader()
+                : adapter.getNonCacheableListModelLoader();
+        DatabaseWrapper wrapper = loader.getDatabaseDefinition().getReadableDatabase();
+        BoundQuery boundQuery = getBoundQueryIfEnabled();
+        if (boundQuery != null) {
+            FlowLog.log(FlowLog.Level.V, "Executing query: " + boundQuery);
+            checkQueryPlan(wrapper, boundQuery);
+            return loader.load(boundQuery.query(wrapper));
+        }
         String query = getQuery();
         FlowLog.log(FlowLog.Level.V, "Executing query: " + query);
-        QueryModelAdapter<QueryClass> adapter = FlowManager.getQueryModelAdapter(queryModelClass);
-        return cachingEnabled
-                ? adapter.getListModelLoader().load(query)
-                : adapter.getNonCacheableListModelLoader().load(query);
+        checkQueryPlan(wrapper, query);
+        return loader.load(wrapper, query);
     }
 
     @Nullable
     @Override
     public <QueryClass> QueryClass queryCustomSingle(@NonNull Class<QueryClass> queryModelClass) {
+        QueryModelAdapter<QueryClass> adapter = FlowManager.getQueryModelAdapter(queryModelClass);
+        SingleModelLoader<QueryClass> loader = cachingEnabled
+                ? adapter.getSingleModelLoader()
+                : adapter.getNonCacheableSingleModelLoader();
+        DatabaseWrapper wrapper = loader.getDatabaseDefinition().getReadableDatabase();
+        BoundQuery boundQuery = getBoundQueryIfEnabled();
+        if (boundQuery != null) {
+            FlowLog.log(FlowLog.Level.V, "Executing query: " + boundQuery);
+            checkQueryPlan(wrapper, boundQuery);
+            return loader.load(boundQuery.query(wrapper));
+        }
         String query = getQuery();
         FlowLog.log(FlowLog.Level.V, "Executing query: " + query);
-        QueryModelAdapter<QueryClass> adapter = FlowManager.getQueryModelAdapter(queryModelClass);
-        return cachingEnabled
-                ? adapter.getSingleModelLoader().load(query)
-                : adapter.getNonCacheableSingleModelLoader().load(query);
+        checkQueryPlan(wrapper, query);
+        return loader.load(wrapper, query);
+    }
+
+    /**
+     * Compiles this query into a {@link PreparedQuery}, which runs again with new values for the values of this
+     * query without building its SQL again.
+     */
+    @NonNull
+    public PreparedQuery<TModel> prepare() {
+        return new PreparedQuery<>(this);
+    }
+
+    boolean isCachingEnabled() {
+        return cachingEnabled;
     }
 
     @NonNull
@@ -158,13 +245,13 @@ public abstract class BaseModelQueriable<TModel> extends BaseQueriable<TModel>
         return this;
     }
 
-    private ListModelLoader<TModel> getListModelLoader() {
+    ListModelLoader<TModel> getListModelLoader() {
         return cachingEnabled
                 ? getRetrievalAdapter().getListModelLoader()
                 : getRetrievalAdapter().getNonCacheableListModelLoader();
     }
 
-    private SingleModelLoader<TModel> getSingleModelLoader() {
+    SingleModelLoader<TModel> getSingleModelLoader() {
         return cachingEnabled
                 ? getRetrievalAdapter().getSingleModelLoader()
                 : getRetrievalAdapter().getNonCacheableSingleModelLoader();
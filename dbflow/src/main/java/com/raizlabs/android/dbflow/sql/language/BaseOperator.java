@@ -38,6 +38,9 @@ public abstract class BaseOperator implements SQLOperator {
      * If the value is a {@link Query}, we simply call {@link Query#getQuery()}.
      * <p>
      * If the value if a {@link Blob} or byte[]
+     * <p>
+     * While a {@link BoundQuery} is generated, numbers, strings and blobs are collected as its arguments and
+     * written as "?".
      *
      * @param value                       The value of the column in Model format.
      * @param appendInnerQueryParenthesis if its a {@link BaseModelQueriable} and an inner query value
@@ -61,9 +64,15 @@ public abstract class BaseOperator implements SQLOperator {
             }
 
             if (value instanceof Number) {
-                stringVal = String.valueOf(value);
+                stringVal = BoundQuery.bind(value);
+                if (stringVal == null) {
+                    stringVal = String.valueOf(value);
+                }
             } else if (value instanceof Enum) {
-                stringVal = DatabaseUtils.sqlEscapeString(((Enum) value).name());
+                stringVal = BoundQuery.bind(((Enum) value).name());
+                if (stringVal == null) {
+                    stringVal = DatabaseUtils.sqlEscapeString(((Enum) value).name());
+                }
             } else {
                 if (appendInnerQueryParenthesis && value instanceof BaseModelQueriable) {
                     stringVal = String.format("(%1s)", ((BaseModelQueriable) value).getQuery().trim());
@@ -75,6 +84,10 @@ public abstract class BaseOperator implements SQLOperator {
                     stringVal = queryBuilder.toString();
                 } else if (value instanceof Query) {
                     stringVal = ((Query) value).getQuery();
+                    if (Operator.Operation.EMPTY_PARAM.equals(stringVal)) {
+                        // such as Property.WILDCARD
+                        BoundQuery.markPlaceholder();
+                    }
                 } else if (value instanceof Blob || value instanceof byte[]) {
                     byte[] bytes;
                     if (value instanceof Blob) {
@@ -82,11 +95,17 @@ public abstract class BaseOperator implements SQLOperator {
                     } else {
                         bytes = ((byte[]) value);
                     }
-                    stringVal = "X" + DatabaseUtils.sqlEscapeString(SqlUtils.byteArrayToHexString(bytes));
+                    stringVal = BoundQuery.bind(bytes);
+                    if (stringVal == null) {
+                        stringVal = "X" + DatabaseUtils.sqlEscapeString(SqlUtils.byteArrayToHexString(bytes));
+                    }
                 } else {
                     stringVal = String.valueOf(value);
-                    if (!stringVal.equals(Operator.Operation.EMPTY_PARAM)) {
-                        stringVal = DatabaseUtils.sqlEscapeString(stringVal);
+                    if (stringVal.equals(Operator.Operation.EMPTY_PARAM)) {
+                        BoundQuery.markPlaceholder();
+                    } else {
+                        String placeholder = BoundQuery.bind(stringVal);
+                        stringVal = placeholder != null ? placeholder : DatabaseUtils.sqlEscapeString(stringVal);
                     }
                 }
             }
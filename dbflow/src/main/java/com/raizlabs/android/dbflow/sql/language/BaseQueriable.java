@@ -4,13 +4,17 @@ import android.database.Cursor;
 import android.database.sqlite.SQLiteDoneException;
 import android.database.sqlite.SQLiteStatement;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 
 import com.raizlabs.android.dbflow.config.FlowLog;
 import com.raizlabs.android.dbflow.config.FlowManager;
 import com.raizlabs.android.dbflow.runtime.NotifyDistributor;
+import com.raizlabs.android.dbflow.sql.QueryPlan;
+import com.raizlabs.android.dbflow.sql.QueryPlanChecker;
 import com.raizlabs.android.dbflow.sql.SqlUtils;
 import com.raizlabs.android.dbflow.sql.queriable.Queriable;
 import com.raizlabs.android.dbflow.structure.BaseModel;
+import com.raizlabs.android.dbflow.structure.database.BaseDatabaseWrapper;
 import com.raizlabs.android.dbflow.structure.database.DatabaseStatement;
 import com.raizlabs.android.dbflow.structure.database.DatabaseStatementWrapper;
 import com.raizlabs.android.dbflow.structure.database.DatabaseWrapper;
@@ -66,8 +70,20 @@ public abstract class BaseQueriable<TModel> implements Queriable, Actionable {
     @Override
     public long longValue(DatabaseWrapper databaseWrapper) {
         try {
+            BoundQuery boundQuery = getBoundQueryIfEnabled();
+            if (boundQuery != null) {
+                FlowLog.log(FlowLog.Level.V, "Executing query: " + boundQuery);
+                checkQueryPlan(databaseWrapper, boundQuery);
+                DatabaseStatement statement = boundQuery.compileStatement(databaseWrapper);
+                try {
+                    return statement.simpleQueryForLong();
+                } finally {
+                    statement.close();
+                }
+            }
             String query = getQuery();
             FlowLog.log(FlowLog.Level.V, "Executing query: " + query);
+            checkQueryPlan(databaseWrapper, query);
             return SqlUtils.longForQuery(databaseWrapper, query);
         } catch (SQLiteDoneException sde) {
             // catch exception here, log it but return 0;
@@ -100,9 +116,22 @@ public abstract class BaseQueriable<TModel> implements Queriable, Actionable {
             databaseStatement.executeInsert();
             databaseStatement.close();
         } else {
-            String query = getQuery();
-            FlowLog.log(FlowLog.Level.V, "Executing query: " + query);
-            databaseWrapper.execSQL(query);
+            BoundQuery boundQuery = getBoundQueryIfEnabled();
+            if (boundQuery != null) {
+                FlowLog.log(FlowLog.Level.V, "Executing query: " + boundQuery);
+                checkQueryPlan(databaseWrapper, boundQuery);
+                DatabaseStatement databaseStatement = boundQuery.compileStatement(databaseWrapper);
+                try {
+                    databaseStatement.execute();
+                } finally {
+                    databaseStatement.close();
+                }
+            } else {
+                String query = getQuery();
+                FlowLog.log(FlowLog.Level.V, "Executing query: " + query);
+                checkQueryPlan(databaseWrapper, query);
+                databaseWrapper.execSQL(query);
+            }
         }
         return null;
     }
@@ -155,9 +184,73 @@ public abstract class BaseQueriable<TModel> implements Queriable, Actionable {
     @NonNull
     @Override
     public DatabaseStatement compileStatement(@NonNull DatabaseWrapper databaseWrapper) {
+        BoundQuery boundQuery = getBoundQueryIfEnabled();
+        if (boundQuery != null) {
+            FlowLog.log(FlowLog.Level.V, "Compiling Query Into Statement: " + boundQuery);
+            checkQueryPlan(databaseWrapper, boundQuery);
+            return new DatabaseStatementWrapper<>(boundQuery.compileStatement(databaseWrapper), this);
+        }
         String query = getQuery();
         FlowLog.log(FlowLog.Level.V, "Compiling Query Into Statement: " + query);
-        return new DatabaseStatementWrapper<>(databaseWrapper.compileStatement(query), this);
+        checkQueryPlan(databaseWrapper, query);
+        return new DatabaseStatementWrapper<>(BaseDatabaseWrapper.compileCachedStatement(databaseWrapper, query), this);
+    }
+
+    /**
+     * @return The query with its values collected as arguments instead of inlined.
+     */
+    @NonNull
+    public BoundQuery getBoundQuery() {
+        return BoundQuery.from(this);
+    }
+
+    /**
+     * @return The {@link #getBoundQuery()} to run if the database of the table binds query arguments, or null to run
+     * {@link #getQuery()}. Queries with their own "?" placeholders always run inlined.
+     */
+    @Nullable
+    protected BoundQuery getBoundQueryIfEnabled() {
+        if (!FlowManager.getDatabaseForTable(table).isBindQueryArgumentsEnabled()) {
+            return null;
+        }
+        BoundQuery boundQuery = getBoundQuery();
+        return boundQuery.hasPlaceholders() ? null : boundQuery;
+    }
+
+    /**
+     * @return The plan SQLite uses to run this query, without running it.
+     */
+    @NonNull
+    public QueryPlan explainQueryPlan() {
+        return explainQueryPlan(FlowManager.getWritableDatabaseForTable(table));
+    }
+
+    /**
+     * @return The plan SQLite uses to run this query, without running it.
+     */
+    @NonNull
+    public QueryPlan explainQueryPlan(@NonNull DatabaseWrapper databaseWrapper) {
+        BoundQuery boundQuery = getBoundQueryIfEnabled();
+        return boundQuery != null
+                ? QueryPlan.explain(databaseWrapper, boundQuery.getQuery(), boundQuery.getArguments())
+                : QueryPlan.explain(databaseWrapper, getQuery(), null);
+    }
+
+    /**
+     * Checks the plan of the query about to run, if {@link FlowManager#getQueryPlanChecker()} is enabled.
+     */
+    void checkQueryPlan(@NonNull DatabaseWrapper databaseWrapper, @NonNull String query) {
+        QueryPlanChecker queryPlanChecker = FlowManager.getQueryPlanChecker();
+        if (queryPlanChecker != null) {
+            queryPlanChecker.check(databaseWrapper, query, null);
+        }
+    }
+
+    void checkQueryPlan(@NonNull DatabaseWrapper databaseWrapper, @NonNull BoundQuery boundQuery) {
+        QueryPlanChecker queryPlanChecker = FlowManager.getQueryPlanChecker();
+        if (queryPlanChecker != null) {
+            queryPlanChecker.check(databaseWrapper, boundQuery.getQuery(), boundQuery.getArguments());
+        }
     }
 
     @Override
@@ -0,0 +1,260 @@
+package com.raizlabs.android.dbflow.sql.language;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.raizlabs.android.dbflow.config.DatabaseConfig;
+import com.raizlabs.android.dbflow.config.FlowLog;
+import com.raizlabs.android.dbflow.config.FlowManager;
+import com.raizlabs.android.dbflow.converter.TypeConverter;
+import com.raizlabs.android.dbflow.data.Blob;
+import com.raizlabs.android.dbflow.sql.Query;
+import com.raizlabs.android.dbflow.structure.database.BaseDatabaseWrapper;
+import com.raizlabs.android.dbflow.structure.database.DatabaseStatement;
+import com.raizlabs.android.dbflow.structure.database.DatabaseWrapper;
+import com.raizlabs.android.dbflow.structure.database.FlowCursor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Description: The SQL of a {@link Query} with its values replaced by "?" placeholders, and the values to bind
+ * to them. Queries that differ only in their values share the same SQL, so SQLite can reuse the compiled
+ * statement instead of parsing and planning each one again.
+ * <p/>
+ * Values are collected in the order they are written to the query by
+ * {@link BaseOperator#convertValueToString(Object, boolean, boolean)}. Names, sub-queries and raw SQL stay inline.
+ * A value converted by a nested {@link Query#getQuery()} call whose SQL is not part of the query would shift the
+ * arguments, so a query whose placeholders do not match its arguments is generated again with its values inlined.
+ *
+ * @see DatabaseConfig.Builder#bindQueryArguments(boolean)
+ */
+public final class BoundQuery {
+
+    private static final ThreadLocal<Collector> collectors = new ThreadLocal<>();
+
+    /**
+     * Generates the SQL of the query, collecting its values instead of inlining them.
+     */
+    @NonNull
+    public static BoundQuery from(@NonNull Query query) {
+        Collector outerCollector = collectors.get();
+        Collector collector = new Collector();
+        collectors.set(collector);
+        String sql;
+        try {
+            sql = query.getQuery();
+        } finally {
+            if (outerCollector != null) {
+                outerCollector.arguments.addAll(collector.arguments);
+                outerCollector.hasPlaceholders |= collector.hasPlaceholders;
+                collectors.set(outerCollector);
+            } else {
+                collectors.remove();
+            }
+        }
+        // a nested query is checked as part of the outermost one, which holds its arguments.
+        if (outerCollector == null && countPlaceholders(sql) != collector.arguments.size()) {
+            FlowLog.log(FlowLog.Level.W, "Collected " + collector.arguments.size() + " arguments for the placeholders"
+                    + " of " + sql + ". Running it with its values inlined instead.");
+            String inlinedSql = inline(query);
+            return new BoundQuery(inlinedSql, new Object[countPlaceholders(inlinedSql)], true);
+        }
+        return new BoundQuery(sql, collector.arguments.toArray(), collector.hasPlaceholders);
+    }
+
+    /**
+     * @return The SQL of the query with its values inlined, even while an outer query is being bound.
+     */
+    @NonNull
+    private static String inline(@NonNull Query query) {
+        Collector outerCollector = collectors.get();
+        collectors.remove();
+        try {
+            return query.getQuery();
+        } finally {
+            if (outerCollector != null) {
+                collectors.set(outerCollector);
+            }
+        }
+    }
+
+    /**
+     * @return The "?" placeholders of the SQL, skipping quoted text and names.
+     */
+    static int countPlaceholders(@NonNull String sql) {
+        int count = 0;
+        char quote = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"' || c == '`') {
+                quote = c;
+            } else if (c == '[') {
+                quote = ']';
+            } else if (c == '?') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Collects the value if a {@link BoundQuery} is being generated on the current thread.
+     *
+     * @param value A type converted value. Numbers other than integers, floats and doubles are inlined as they are
+     *              written, since binding them would change their precision. Floats are bound as the double of
+     *              their decimal text, the same value SQLite parses when they are inlined.
+     * @return The placeholder to write instead of the value, or null to inline it.
+     */
+    @Nullable
+    static String bind(@Nullable Object value) {
+        Collector collector = collectors.get();
+        if (collector == null || (value instanceof Number && !(value instanceof Integer || value instanceof Long
+                || value instanceof Short || value instanceof Byte
+                || value instanceof Float || value instanceof Double))) {
+            return null;
+        }
+        if (value instanceof Float) {
+            value = Double.valueOf(value.toString());
+        }
+        collector.arguments.add(value);
+        return Operator.Operation.EMPTY_PARAM;
+    }
+
+    /**
+     * Records that the query contains a {@link Operator.Operation#EMPTY_PARAM} written by the caller. It takes an
+     * argument slot of its own, left null.
+     */
+    static void markPlaceholder() {
+        Collector collector = collectors.get();
+        if (collector != null) {
+            collector.arguments.add(null);
+            collector.hasPlaceholders = true;
+        }
+    }
+
+    /**
+     * Converts a value the way {@link BaseOperator#convertValueToString(Object, boolean, boolean)} would before
+     * binding it, for callers that supply arguments themselves.
+     *
+     * @return A {@link String}, {@link Number}, byte[] or null.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public static Object toArgument(@Nullable Object value) {
+        if (value == null) {
+            return null;
+        }
+        TypeConverter typeConverter = FlowManager.getTypeConverterForClass(value.getClass());
+        if (typeConverter != null) {
+            value = typeConverter.getDBValue(value);
+        }
+        if (value instanceof Float) {
+            return Double.valueOf(value.toString());
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short
+                || value instanceof Byte || value instanceof Double
+                || value instanceof String || value instanceof byte[] || value == null) {
+            return value;
+        } else if (value instanceof Enum) {
+            return ((Enum) value).name();
+        } else if (value instanceof Blob) {
+            return ((Blob) value).getBlob();
+        } else {
+            return String.valueOf(value);
+        }
+    }
+
+    private final String query;
+    private final Object[] arguments;
+    private final boolean hasPlaceholders;
+
+    private BoundQuery(@NonNull String query, @NonNull Object[] arguments, boolean hasPlaceholders) {
+        this.query = query;
+        this.arguments = arguments;
+        this.hasPlaceholders = hasPlaceholders;
+    }
+
+    @NonNull
+    public String getQuery() {
+        return query;
+    }
+
+    /**
+     * @return true if the query also contains "?" placeholders written by the caller, whose indexes would shift
+     * if the collected arguments were bound. Such queries must run with their values inlined.
+     */
+    public boolean hasPlaceholders() {
+        return hasPlaceholders;
+    }
+
+    /**
+     * @return The values in the order of their placeholders: a {@link String}, {@link Number}, byte[] or null.
+     * Placeholders written by the caller are included as null.
+     */
+    @NonNull
+    public Object[] getArguments() {
+        return arguments;
+    }
+
+    /**
+     * @return A cursor of the query with its arguments bound.
+     */
+    @NonNull
+    public FlowCursor query(@NonNull DatabaseWrapper databaseWrapper) {
+        return BaseDatabaseWrapper.rawQueryWithArgs(databaseWrapper, query, arguments);
+    }
+
+    /**
+     * @return The compiled query with its arguments bound, from
+     * {@link BaseDatabaseWrapper#compileCachedStatement(String)}.
+     */
+    @NonNull
+    public DatabaseStatement compileStatement(@NonNull DatabaseWrapper databaseWrapper) {
+        DatabaseStatement statement = BaseDatabaseWrapper.compileCachedStatement(databaseWrapper, query);
+        bindTo(statement);
+        return statement;
+    }
+
+    /**
+     * Binds the arguments to a statement compiled from {@link #getQuery()}.
+     */
+    public void bindTo(@NonNull DatabaseStatement statement) {
+        bindArguments(statement, arguments);
+    }
+
+    /**
+     * Binds arguments, as converted by {@link #toArgument(Object)}, to the placeholders of a statement in order.
+     */
+    public static void bindArguments(@NonNull DatabaseStatement statement, @NonNull Object[] arguments) {
+        for (int i = 0; i < arguments.length; i++) {
+            Object argument = arguments[i];
+            int index = i + 1;
+            if (argument == null) {
+                statement.bindNull(index);
+            } else if (argument instanceof byte[]) {
+                statement.bindBlob(index, (byte[]) argument);
+            } else if (argument instanceof Float || argument instanceof Double) {
+                statement.bindDouble(index, ((Number) argument).doubleValue());
+            } else if (argument instanceof Number) {
+                statement.bindLong(index, ((Number) argument).longValue());
+            } else {
+                statement.bindString(index, argument.toString());
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return query;
+    }
+
+    private static final class Collector {
+
+        final List<Object> arguments = new ArrayList<>();
+        boolean hasPlaceholders;
+    }
+}
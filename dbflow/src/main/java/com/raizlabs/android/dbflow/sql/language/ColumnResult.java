@@ -0,0 +1,327 @@
+package com.raizlabs.android.dbflow.sql.language;
+
+import android.database.Cursor;
+import android.os.Build;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.raizlabs.android.dbflow.sql.language.property.IProperty;
+import com.raizlabs.android.dbflow.sql.queriable.ModelQueriable;
+import com.raizlabs.android.dbflow.structure.database.FlowCursor;
+
+import java.util.Arrays;
+
+/**
+ * Description: The rows of a query by column, from {@link ModelQueriable#queryColumns()}. Each column is a
+ * long[], double[] or String[] of the type SQLite stores its values as, so reading many rows of a few columns
+ * does not allocate a model or a boxed value per row. A column that mixes INTEGER and FLOAT values is a double[].
+ * A null value reads as 0 or null, and {@link #isNull(int, int)} tells it apart.
+ * <p/>
+ * Pass it to {@link ModelQueriable#queryColumns(ColumnResult)} to fill the same arrays again, such as when a chart
+ * refreshes. The arrays of a column are only replaced when they are too small, so they can be longer than
+ * {@link #getCount()}.
+ */
+public class ColumnResult {
+
+    private static final String[] NO_COLUMNS = new String[0];
+
+    private final int capacity;
+
+    private String[] columnNames = NO_COLUMNS;
+    private int count;
+    private int[] types = new int[0];
+    private long[][] longs = new long[0][];
+    private double[][] doubles = new double[0][];
+    private String[][] strings = new String[0][];
+    private long[][] nulls = new long[0][];
+
+    public ColumnResult() {
+        this(0);
+    }
+
+    /**
+     * @param capacity The rows to allocate each column for, so that queries with up to as many rows fill the same
+     *                 arrays.
+     */
+    public ColumnResult(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Replaces the values with the rows of the cursor, in a single pass, and closes it.
+     */
+    void fill(@Nullable FlowCursor cursor) {
+        if (cursor == null) {
+            prepare(NO_COLUMNS, 0);
+            return;
+        }
+        try {
+            String[] columnNames = cursor.getColumnNames();
+            prepare(columnNames, cursor.getCount());
+            int row = 0;
+            while (cursor.moveToNext()) {
+                for (int column = 0; column < columnNames.length; column++) {
+                    read(cursor, column, row);
+                }
+                row++;
+            }
+            count = row;
+        } finally {
+            cursor.close();
+        }
+    }
+
+    private void prepare(@NonNull String[] columnNames, int count) {
+        int columnCount = columnNames.length;
+        if (columnCount != this.columnNames.length) {
+            types = new int[columnCount];
+            longs = Arrays.copyOf(longs, columnCount);
+            doubles = Arrays.copyOf(doubles, columnCount);
+            strings = Arrays.copyOf(strings, columnCount);
+            nulls = Arrays.copyOf(nulls, columnCount);
+        }
+        this.columnNames = columnNames;
+        this.count = count;
+        int words = (count + 63) >>> 6;
+        for (int column = 0; column < columnCount; column++) {
+            types[column] = Cursor.FIELD_TYPE_NULL;
+            long[] columnNulls = nulls[column];
+            if (columnNulls == null || columnNulls.length < words) {
+                nulls[column] = new long[(Math.max(count, capacity) + 63) >>> 6];
+            } else {
+                Arrays.fill(columnNulls, 0, words, 0);
+            }
+        }
+    }
+
+    private void read(@NonNull FlowCursor cursor, int column, int row) {
+        int type = types[column];
+        int valueType = getStoredType(cursor, column);
+        if (valueType == Cursor.FIELD_TYPE_NULL) {
+            nulls[column][row >>> 6] |= 1L << row;
+            if (type == Cursor.FIELD_TYPE_INTEGER) {
+                longs[column][row] = 0;
+            } else if (type == Cursor.FIELD_TYPE_FLOAT) {
+                doubles[column][row] = 0;
+            } else if (type == Cursor.FIELD_TYPE_STRING) {
+                strings[column][row] = null;
+            }
+            return;
+        }
+        if (type == Cursor.FIELD_TYPE_NULL) {
+            type = valueType;
+            types[column] = type;
+            // rows before the first value are all null.
+            clear(column, type, row);
+        } else if (valueType != type) {
+            // SQLite types each value, so a numeric column can mix INTEGER and FLOAT values.
+            if (type == Cursor.FIELD_TYPE_INTEGER && valueType == Cursor.FIELD_TYPE_FLOAT) {
+                promote(column, row);
+                type = Cursor.FIELD_TYPE_FLOAT;
+            } else if (type != Cursor.FIELD_TYPE_FLOAT || valueType != Cursor.FIELD_TYPE_INTEGER) {
+                throw new IllegalStateException("The column " + columnNames[column] + " holds both "
+                    + getTypeName(type) + " and " + getTypeName(valueType) + " values, which cannot be read into "
+                    + "one array.");
+            }
+        }
+        if (type == Cursor.FIELD_TYPE_INTEGER) {
+            longs[column][row] = cursor.getLong(column);
+        } else if (type == Cursor.FIELD_TYPE_FLOAT) {
+            doubles[column][row] = cursor.getDouble(column);
+        } else {
+            strings[column][row] = cursor.getString(column);
+        }
+    }
+
+    private int getStoredType(@NonNull FlowCursor cursor, int column) {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.HONEYCOMB) {
+            // the cursor cannot tell the type, so every value is read as text.
+            return cursor.isNull(column) ? Cursor.FIELD_TYPE_NULL : Cursor.FIELD_TYPE_STRING;
+        }
+        int type = cursor.getType(column);
+        if (type == Cursor.FIELD_TYPE_BLOB) {
+            throw new IllegalStateException("The column " + columnNames[column] + " holds a BLOB, which cannot " +
+                "be read by column. Select it with queryList() instead.");
+        }
+        return type;
+    }
+
+    /**
+     * Turns an INTEGER column into a FLOAT column at its first FLOAT value, converting the rows read before it.
+     */
+    private void promote(int column, int rows) {
+        clear(column, Cursor.FIELD_TYPE_FLOAT, 0);
+        long[] values = longs[column];
+        double[] converted = doubles[column];
+        for (int row = 0; row < rows; row++) {
+            converted[row] = values[row];
+        }
+        types[column] = Cursor.FIELD_TYPE_FLOAT;
+    }
+
+    /**
+     * Sizes the array of the type for the column and resets its first rows.
+     */
+    private void clear(int column, int type, int rows) {
+        int size = Math.max(count, capacity);
+        if (type == Cursor.FIELD_TYPE_INTEGER) {
+            if (longs[column] == null || longs[column].length < count) {
+                longs[column] = new long[size];
+            } else {
+                Arrays.fill(longs[column], 0, rows, 0);
+            }
+        } else if (type == Cursor.FIELD_TYPE_FLOAT) {
+            if (doubles[column] == null || doubles[column].length < count) {
+                doubles[column] = new double[size];
+            } else {
+                Arrays.fill(doubles[column], 0, rows, 0);
+            }
+        } else {
+            if (strings[column] == null || strings[column].length < count) {
+                strings[column] = new String[size];
+            } else {
+                Arrays.fill(strings[column], 0, rows, null);
+            }
+        }
+    }
+
+    /**
+     * @return The rows of the query.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    @NonNull
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    /**
+     * @return The index of the column, or -1 if the query did not select it.
+     */
+    public int getColumnIndex(@NonNull String columnName) {
+        for (int column = 0; column < columnNames.length; column++) {
+            if (columnNames[column].equals(columnName)) {
+                return column;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return The index of the column of the property, by its alias if it has one.
+     */
+    public int getColumnIndex(@NonNull IProperty<?> property) {
+        return getColumnIndex(property.getNameAlias().getNameAsKey());
+    }
+
+    /**
+     * @return The type of the values of the column as a {@link Cursor} FIELD_TYPE constant, or
+     * {@link Cursor#FIELD_TYPE_NULL} if it only holds nulls.
+     */
+    public int getType(int column) {
+        return types[column];
+    }
+
+    /**
+     * @return True if the value of the column at the row is null.
+     */
+    public boolean isNull(int column, int row) {
+        return (nulls[column][row >>> 6] & (1L << row)) != 0;
+    }
+
+    public boolean isNull(@NonNull IProperty<?> property, int row) {
+        return isNull(requireColumnIndex(property), row);
+    }
+
+    /**
+     * @return The values of an INTEGER column. Do not modify it, since the next fill reuses it.
+     */
+    @NonNull
+    public long[] getLongs(int column) {
+        int type = types[column];
+        if (type == Cursor.FIELD_TYPE_NULL) {
+            clear(column, Cursor.FIELD_TYPE_INTEGER, count);
+        } else if (type != Cursor.FIELD_TYPE_INTEGER) {
+            throw wrongType(column, "getLongs()");
+        }
+        return longs[column];
+    }
+
+    @NonNull
+    public long[] getLongs(@NonNull IProperty<?> property) {
+        return getLongs(requireColumnIndex(property));
+    }
+
+    /**
+     * @return The values of a FLOAT column, or of an INTEGER column converted into a reused array. The INTEGER
+     * column keeps its type, so {@link #getLongs(int)} still reads it. Do not modify it, since the next fill
+     * reuses it.
+     */
+    @NonNull
+    public double[] getDoubles(int column) {
+        int type = types[column];
+        if (type == Cursor.FIELD_TYPE_NULL || type == Cursor.FIELD_TYPE_INTEGER) {
+            clear(column, Cursor.FIELD_TYPE_FLOAT, count);
+            if (type == Cursor.FIELD_TYPE_INTEGER) {
+                long[] values = longs[column];
+                double[] converted = doubles[column];
+                for (int row = 0; row < count; row++) {
+                    converted[row] = values[row];
+                }
+            }
+        } else if (type != Cursor.FIELD_TYPE_FLOAT) {
+            throw wrongType(column, "getDoubles()");
+        }
+        return doubles[column];
+    }
+
+    @NonNull
+    public double[] getDoubles(@NonNull IProperty<?> property) {
+        return getDoubles(requireColumnIndex(property));
+    }
+
+    /**
+     * @return The values of a TEXT column. Do not modify it, since the next fill reuses it.
+     */
+    @NonNull
+    public String[] getStrings(int column) {
+        int type = types[column];
+        if (type == Cursor.FIELD_TYPE_NULL) {
+            clear(column, Cursor.FIELD_TYPE_STRING, count);
+        } else if (type != Cursor.FIELD_TYPE_STRING) {
+            throw wrongType(column, "getStrings()");
+        }
+        return strings[column];
+    }
+
+    @NonNull
+    public String[] getStrings(@NonNull IProperty<?> property) {
+        return getStrings(requireColumnIndex(property));
+    }
+
+    private int requireColumnIndex(@NonNull IProperty<?> property) {
+        int column = getColumnIndex(property);
+        if (column == -1) {
+            throw new IllegalArgumentException("The query did not select " + property.getNameAlias().getNameAsKey()
+                + ". It has the columns " + Arrays.toString(columnNames));
+        }
+        return column;
+    }
+
+    @NonNull
+    private IllegalStateException wrongType(int column, @NonNull String method) {
+        return new IllegalStateException("The column " + columnNames[column] + " holds "
+            + getTypeName(types[column]) + " values, which " + method + " does not read.");
+    }
+
+    @NonNull
+    private static String getTypeName(int type) {
+        return type == Cursor.FIELD_TYPE_INTEGER ? "INTEGER" : type == Cursor.FIELD_TYPE_FLOAT ? "FLOAT" : "TEXT";
+    }
+}
@@ -0,0 +1,163 @@
+package com.raizlabs.android.dbflow.sql.language;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.raizlabs.android.dbflow.annotation.ForeignKey;
+import com.raizlabs.android.dbflow.config.FlowManager;
+import com.raizlabs.android.dbflow.sql.language.property.IProperty;
+import com.raizlabs.android.dbflow.sql.language.property.Property;
+import com.raizlabs.android.dbflow.structure.ModelAdapter;
+import com.raizlabs.android.dbflow.structure.database.FlowCursor;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Description: A {@link ForeignKey#eagerJoin()} reference, generated into the _Table class of the table that declares
+ * it. {@link SQLite#selectJoined(Class)} LEFT JOINs the referenced table under {@link #getAlias()} and selects each
+ * of its columns as alias_column, so that the generated loadFromCursor loads the reference from the same row.
+ */
+public class ForeignKeyJoin<TReference> {
+
+    /**
+     * The joins of a table without any.
+     */
+    public static final ForeignKeyJoin<?>[] NONE = new ForeignKeyJoin<?>[0];
+
+    private final Class<?> table;
+    private final Class<TReference> referenceTable;
+    private final String alias;
+    private final String[] columnNames;
+    private final String[] referencedColumnNames;
+
+    private volatile String[] joinedColumnNames;
+    private int[] referencedColumnPositions;
+
+    /**
+     * @param table                 The table that declares the reference.
+     * @param referenceTable        The referenced table.
+     * @param alias                 The unique name the referenced table is joined as.
+     * @param columnNames           The foreign key columns of the table.
+     * @param referencedColumnNames The columns of the referenced table they reference, in the same order.
+     */
+    public ForeignKeyJoin(@NonNull Class<?> table, @NonNull Class<TReference> referenceTable, @NonNull String alias,
+                          @NonNull String[] columnNames, @NonNull String[] referencedColumnNames) {
+        this.table = table;
+        this.referenceTable = referenceTable;
+        this.alias = alias;
+        this.columnNames = columnNames;
+        this.referencedColumnNames = referencedColumnNames;
+    }
+
+    @NonNull
+    public Class<TReference> getReferenceTable() {
+        return referenceTable;
+    }
+
+    @NonNull
+    public String getAlias() {
+        return alias;
+    }
+
+    /**
+     * @return True if the cursor selected the referenced key columns of this join, such as from
+     * {@link SQLite#selectJoined(Class)}.
+     */
+    public boolean isJoined(@NonNull FlowCursor cursor) {
+        int[] columnIndices = cursor.getColumnIndices(getJoinedColumnNames());
+        for (int position : referencedColumnPositions) {
+            if (position == -1 || columnIndices[position] == -1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Loads the reference from the joined columns of the current row of the cursor, from its cache if it has one.
+     *
+     * @return The reference, or null if the row does not have one.
+     */
+    @Nullable
+    public TReference load(@NonNull FlowCursor cursor) {
+        int[] columnIndices = cursor.getColumnIndices(getJoinedColumnNames());
+        for (int position : referencedColumnPositions) {
+            if (cursor.isNull(columnIndices[position])) {
+                return null;
+            }
+        }
+        ModelAdapter<TReference> modelAdapter = getReferenceAdapter();
+        // the referenced table looks up its own column names, which this row holds under the alias. Queries of
+        // that table on the same cursor find them unaliased, so its own indices are restored after.
+        String[] cursorColumnNames = getReferenceCursorColumnNames();
+        int[] previousColumnIndices = cursor.getColumnIndices(cursorColumnNames);
+        cursor.setColumnIndices(cursorColumnNames, columnIndices);
+        try {
+            return modelAdapter.getSingleModelLoader().convertToData(cursor, null, false);
+        } finally {
+            cursor.setColumnIndices(cursorColumnNames, previousColumnIndices);
+        }
+    }
+
+    /**
+     * Adds the joined columns of the referenced table to a projection.
+     */
+    void addProjection(@NonNull List<IProperty> properties) {
+        String[] cursorColumnNames = getReferenceCursorColumnNames();
+        String[] joinedColumnNames = getJoinedColumnNames();
+        for (int i = 0; i < cursorColumnNames.length; i++) {
+            properties.add(new Property<>(null, NameAlias.builder(cursorColumnNames[i])
+                .withTable(alias)
+                .as(joinedColumnNames[i])
+                .build()));
+        }
+    }
+
+    /**
+     * Adds a LEFT JOIN of the referenced table to the query.
+     */
+    <TModel> void join(@NonNull From<TModel> from) {
+        String tableName = FlowManager.getTableName(table);
+        SQLOperator[] onConditions = new SQLOperator[columnNames.length];
+        for (int i = 0; i < columnNames.length; i++) {
+            onConditions[i] = Operator.op(NameAlias.ofTable(tableName, columnNames[i]))
+                .eq((IConditional) new Property<>(null, NameAlias.ofTable(alias, referencedColumnNames[i])));
+        }
+        from.leftOuterJoin(referenceTable).as(alias).on(onConditions);
+    }
+
+    @NonNull
+    private ModelAdapter<TReference> getReferenceAdapter() {
+        return FlowManager.getModelAdapter(referenceTable);
+    }
+
+    @NonNull
+    private String[] getReferenceCursorColumnNames() {
+        String[] cursorColumnNames = getReferenceAdapter().getCursorColumnNames();
+        if (cursorColumnNames == null) {
+            throw new IllegalStateException("The table " + referenceTable + " does not look up its columns by name" +
+                " and cannot be eagerly joined.");
+        }
+        return cursorColumnNames;
+    }
+
+    @NonNull
+    private String[] getJoinedColumnNames() {
+        String[] joinedColumnNames = this.joinedColumnNames;
+        if (joinedColumnNames == null) {
+            String[] cursorColumnNames = getReferenceCursorColumnNames();
+            joinedColumnNames = new String[cursorColumnNames.length];
+            for (int i = 0; i < cursorColumnNames.length; i++) {
+                joinedColumnNames[i] = alias + "_" + cursorColumnNames[i];
+            }
+            List<String> cursorColumnNameList = Arrays.asList(cursorColumnNames);
+            referencedColumnPositions = new int[referencedColumnNames.length];
+            for (int i = 0; i < referencedColumnNames.length; i++) {
+                referencedColumnPositions[i] = cursorColumnNameList.indexOf(referencedColumnNames[i]);
+            }
+            this.joinedColumnNames = joinedColumnNames;
+        }
+        return joinedColumnNames;
+    }
+}
@@ -70,6 +70,14 @@ public class NameAlias implements Query {
     private final boolean shouldAddIdentifierToQuery;
     private final boolean shouldAddIdentifierToAliasName;
 
+    /**
+     * The SQL of this alias, built on first use. An alias never changes, so the {@link Property} constants of
+     * generated tables quote and join their names once instead of on every query.
+     */
+    private String fullName;
+    private String query;
+    private String fullQuery;
+
     private NameAlias(Builder builder) {
         if (builder.shouldStripIdentifier) {
             name = QueryBuilder.stripQuotes(builder.name);
@@ -155,7 +163,12 @@ public class NameAlias implements Query {
      * @return The `{tableName}`.`{name}`. If {@link #tableName()} specified.
      */
     public String fullName() {
-        return (StringUtils.isNotNullOrEmpty(tableName) ? (tableName() + ".") : "") + name();
+        String fullName = this.fullName;
+        if (fullName == null) {
+            fullName = (StringUtils.isNotNullOrEmpty(tableName) ? (tableName() + ".") : "") + name();
+            this.fullName = fullName;
+        }
+        return fullName;
     }
 
     /**
@@ -164,13 +177,18 @@ public class NameAlias implements Query {
      */
     @Override
     public String getQuery() {
-        if (StringUtils.isNotNullOrEmpty(aliasName)) {
-            return aliasName();
-        } else if (StringUtils.isNotNullOrEmpty(name)) {
-            return fullName();
-        } else {
-            return "";
+        String query = this.query;
+        if (query == null) {
+            if (StringUtils.isNotNullOrEmpty(aliasName)) {
+                query = aliasName();
+            } else if (StringUtils.isNotNullOrEmpty(name)) {
+                query = fullName();
+            } else {
+                query = "";
+            }
+            this.query = query;
         }
+        return query;
     }
 
     /**
@@ -194,12 +212,16 @@ public class NameAlias implements Query {
      * @return The full query that represents itself with `{tableName}`.`{name}` AS `{aliasName}`
      */
     public String getFullQuery() {
-        String query = fullName();
-        if (StringUtils.isNotNullOrEmpty(aliasName)) {
-            query += " AS " + aliasName();
-        }
-        if (StringUtils.isNotNullOrEmpty(keyword)) {
-            query = keyword + " " + query;
+        String query = fullQuery;
+        if (query == null) {
+            query = fullName();
+            if (StringUtils.isNotNullOrEmpty(aliasName)) {
+                query += " AS " + aliasName();
+            }
+            if (StringUtils.isNotNullOrEmpty(keyword)) {
+                query = keyword + " " + query;
+            }
+            fullQuery = query;
         }
         return query;
     }
@@ -0,0 +1,155 @@
+package com.raizlabs.android.dbflow.sql.language;
+
+import android.os.Build;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.raizlabs.android.dbflow.annotation.OneToMany;
+import com.raizlabs.android.dbflow.config.FlowManager;
+import com.raizlabs.android.dbflow.sql.language.property.IProperty;
+import com.raizlabs.android.dbflow.sql.queriable.SingleModelLoader;
+import com.raizlabs.android.dbflow.structure.database.DatabaseWrapper;
+import com.raizlabs.android.dbflow.structure.database.FlowCursor;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Description: A {@link OneToMany} whose children reference their parent by a single foreign key column. It is
+ * generated into the _Table class of the parent, named after the variable of the relationship.
+ * {@link Where#prefetch(OneToManyRelation)} uses it to load the children of all the parents of a query with IN
+ * queries, rather than one query per parent when its getter is called.
+ */
+public abstract class OneToManyRelation<TParent, TChild> {
+
+    private final Class<TChild> childTable;
+    private final IProperty<?> childReference;
+    private final ThreadLocal<Integer> deferredCount = new ThreadLocal<>();
+
+    /**
+     * @param childTable     The table of the children.
+     * @param childReference The foreign key column of the children that references the parent.
+     */
+    protected OneToManyRelation(@NonNull Class<TChild> childTable, @NonNull IProperty<?> childReference) {
+        this.childTable = childTable;
+        this.childReference = childReference;
+    }
+
+    @NonNull
+    public Class<TChild> getChildTable() {
+        return childTable;
+    }
+
+    @NonNull
+    public IProperty<?> getChildReference() {
+        return childReference;
+    }
+
+    /**
+     * @return True while a query that prefetches this relationship loads its parents on this thread. The generated
+     * loadFromCursor then skips the getter of a {@link OneToMany.Method#LOAD} relationship, which would query for
+     * each parent.
+     */
+    public boolean isDeferred() {
+        Integer count = deferredCount.get();
+        return count != null && count > 0;
+    }
+
+    void setDeferred(boolean deferred) {
+        Integer count = deferredCount.get();
+        deferredCount.set((count != null ? count : 0) + (deferred ? 1 : -1));
+    }
+
+    /**
+     * @return The value of the parent column the children reference.
+     */
+    @Nullable
+    protected abstract Object getParentKey(@NonNull TParent parent);
+
+    /**
+     * Sets the variable of the relationship, so that its getter does not load it again.
+     */
+    protected abstract void setChildren(@NonNull TParent parent, @NonNull ArrayList<TChild> children);
+
+    /**
+     * Loads the children of all the parents, with one query per
+     * {@link com.raizlabs.android.dbflow.config.DatabaseConfig.Builder#maxInArguments(int)} distinct keys, and sets
+     * them on each parent. A parent without children gets an empty list.
+     */
+    public void prefetch(@NonNull List<TParent> parents, @NonNull DatabaseWrapper wrapper) {
+        if (parents.isEmpty()) {
+            return;
+        }
+        Object[] parentKeys = new Object[parents.size()];
+        Map<Object, ArrayList<TChild>> childrenByKey = new HashMap<>();
+        for (int i = 0; i < parentKeys.length; i++) {
+            Object key = toKey(BoundQuery.toArgument(getParentKey(parents.get(i))));
+            parentKeys[i] = key;
+            if (key != null && !childrenByKey.containsKey(key)) {
+                childrenByKey.put(key, new ArrayList<TChild>());
+            }
+        }
+        if (!childrenByKey.isEmpty()) {
+            loadChildren(childrenByKey, wrapper);
+        }
+        for (int i = 0; i < parentKeys.length; i++) {
+            ArrayList<TChild> children = parentKeys[i] != null ? childrenByKey.get(parentKeys[i]) : null;
+            setChildren(parents.get(i), children != null ? children : new ArrayList<TChild>());
+        }
+    }
+
+    private void loadChildren(@NonNull Map<Object, ArrayList<TChild>> childrenByKey,
+                              @NonNull DatabaseWrapper wrapper) {
+        List<Object> keys = new ArrayList<>(childrenByKey.keySet());
+        int chunkSize = FlowManager.getDatabaseForTable(childTable).getMaxInArguments();
+        if (chunkSize <= 0) {
+            chunkSize = keys.size();
+        }
+        SingleModelLoader<TChild> loader = FlowManager.getModelAdapter(childTable).getSingleModelLoader();
+        String referenceName = childReference.getNameAlias().nameRaw();
+        for (int start = 0; start < keys.size(); start += chunkSize) {
+            List<Object> chunk = keys.subList(start, Math.min(keys.size(), start + chunkSize));
+            FlowCursor cursor = SQLite.select().from(childTable)
+                .where(Operator.<Object>op(childReference.getNameAlias()).in(chunk))
+                .query(wrapper);
+            if (cursor == null) {
+                continue;
+            }
+            try {
+                int referenceIndex = cursor.getColumnIndex(referenceName);
+                while (cursor.moveToNext()) {
+                    ArrayList<TChild> children = childrenByKey.get(toKey(Where.getCursorValue(cursor, referenceIndex)));
+                    if (children != null) {
+                        children.add(loader.convertToData(cursor, null, false));
+                    }
+                }
+            } finally {
+                cursor.close();
+            }
+        }
+    }
+
+    /**
+     * @return The value in a form that equals the same value read from a cursor, such as {@link Integer} and
+     * {@link Long} both as {@link Long}.
+     */
+    @Nullable
+    private static Object toKey(@Nullable Object value) {
+        if (value == null) {
+            return null;
+        } else if (value instanceof byte[]) {
+            return ByteBuffer.wrap((byte[]) value);
+        } else if (Build.VERSION.SDK_INT < Build.VERSION_CODES.HONEYCOMB) {
+            // the cursor value is read as text.
+            return String.valueOf(value);
+        } else if (value instanceof Double || value instanceof Float) {
+            return ((Number) value).doubleValue();
+        } else if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        return value;
+    }
+}
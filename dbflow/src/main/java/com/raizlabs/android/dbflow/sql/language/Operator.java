@@ -117,7 +117,7 @@ public class Operator<T> extends BaseOperator implements IOperator<T> {
     @NonNull
     @Override
     public Operator<T> like(@NonNull String value) {
-        operation = String.format(" %1s ", Operation.LIKE);
+        operation = " " + Operation.LIKE + " ";
         return value(value);
     }
 
@@ -134,7 +134,7 @@ public class Operator<T> extends BaseOperator implements IOperator<T> {
     @NonNull
     @Override
     public Operator<T> notLike(@NonNull String value) {
-        operation = String.format(" %1s ", Operation.NOT_LIKE);
+        operation = " " + Operation.NOT_LIKE + " ";
         return value(value);
     }
 
@@ -151,7 +151,7 @@ public class Operator<T> extends BaseOperator implements IOperator<T> {
     @NonNull
     @Override
     public Operator<T> glob(@NonNull String value) {
-        operation = String.format(" %1s ", Operation.GLOB);
+        operation = " " + Operation.GLOB + " ";
         return value(value);
     }
 
@@ -277,14 +277,14 @@ public class Operator<T> extends BaseOperator implements IOperator<T> {
     @NonNull
     @Override
     public Operator<T> isNull() {
-        operation = String.format(" %1s ", Operation.IS_NULL);
+        operation = " " + Operation.IS_NULL + " ";
         return this;
     }
 
     @NonNull
     @Override
     public Operator<T> isNotNull() {
-        operation = String.format(" %1s ", Operation.IS_NOT_NULL);
+        operation = " " + Operation.IS_NOT_NULL + " ";
         return this;
     }
 
@@ -773,7 +773,7 @@ public class Operator<T> extends BaseOperator implements IOperator<T> {
          */
         private Between(Operator<T> operator, T value) {
             super(operator.nameAlias);
-            this.operation = String.format(" %1s ", Operation.BETWEEN);
+            this.operation = " " + Operation.BETWEEN + " ";
             this.value = value;
             isValueSet = true;
             this.postArg = operator.postArgument();
@@ -815,6 +815,8 @@ public class Operator<T> extends BaseOperator implements IOperator<T> {
 
         private List<T> inArguments = new ArrayList<>();
 
+        private final boolean isIn;
+
         /**
          * Creates a new instance
          *
@@ -828,13 +830,23 @@ public class Operator<T> extends BaseOperator implements IOperator<T> {
             super(operator.columnAlias());
             inArguments.add(firstArgument);
             Collections.addAll(inArguments, arguments);
-            operation = String.format(" %1s ", isIn ? Operation.IN : Operation.NOT_IN);
+            this.isIn = isIn;
+            operation = isIn ? " " + Operation.IN + " " : " " + Operation.NOT_IN + " ";
         }
 
         private In(Operator<T> operator, Collection<T> args, boolean isIn) {
             super(operator.columnAlias());
             inArguments.addAll(args);
-            operation = String.format(" %1s ", isIn ? Operation.IN : Operation.NOT_IN);
+            this.isIn = isIn;
+            operation = isIn ? " " + Operation.IN + " " : " " + Operation.NOT_IN + " ";
+        }
+
+        private In(In<T> in, Collection<T> args) {
+            super(in.nameAlias);
+            inArguments.addAll(args);
+            isIn = in.isIn;
+            operation = in.operation;
+            separator = in.separator;
         }
 
         /**
@@ -853,7 +865,28 @@ public class Operator<T> extends BaseOperator implements IOperator<T> {
         @Override
         public void appendConditionToQuery(@NonNull QueryBuilder queryBuilder) {
             queryBuilder.append(columnName()).append(operation())
-                    .append("(").append(OperatorGroup.joinArguments(",", inArguments, this)).append(")");
+                    .append("(").append(OperatorGroup.joinArguments(",", inArguments, this))
+                    .append(")");
+        }
+
+        /**
+         * @return true for IN, false for NOT IN.
+         */
+        boolean isIn() {
+            return isIn;
+        }
+
+        @NonNull
+        List<T> getArguments() {
+            return inArguments;
+        }
+
+        /**
+         * @return A new IN or NOT IN of the same column with only these values, leaving this one as it is.
+         */
+        @NonNull
+        In<T> withArguments(@NonNull Collection<T> args) {
+            return new In<>(this, args);
         }
 
         @Override
@@ -1,6 +1,7 @@
 package com.raizlabs.android.dbflow.sql.language;
 
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 
 import com.raizlabs.android.dbflow.annotation.Collate;
 import com.raizlabs.android.dbflow.sql.Query;
@@ -22,6 +23,11 @@ public class OrderBy implements Query {
     private Collate collation;
     private String orderByString;
 
+    /**
+     * The built query, cleared when the direction or collation change.
+     */
+    private String query;
+
     @NonNull
     public static OrderBy fromProperty(@NonNull IProperty property) {
         return new OrderBy(property.getNameAlias());
@@ -53,32 +59,55 @@ public class OrderBy implements Query {
     @NonNull
     public OrderBy ascending() {
         isAscending = true;
+        query = null;
         return this;
     }
 
     @NonNull
     public OrderBy descending() {
         isAscending = false;
+        query = null;
         return this;
     }
 
     @NonNull
     public OrderBy collate(Collate collate) {
         this.collation = collate;
+        query = null;
         return this;
     }
 
+    /**
+     * @return The column ordered by, or null when created with {@link #fromString(String)}.
+     */
+    @Nullable
+    NameAlias getColumn() {
+        return column;
+    }
+
+    boolean isAscending() {
+        return isAscending;
+    }
+
+    @Nullable
+    Collate getCollation() {
+        return collation;
+    }
+
     @Override
     public String getQuery() {
         if (orderByString == null) {
-            StringBuilder query = new StringBuilder()
-                    .append(column)
-                    .append(" ");
-            if (collation != null) {
-                query.append("COLLATE").append(" ").append(collation).append(" ");
+            if (query == null) {
+                StringBuilder query = new StringBuilder()
+                        .append(column)
+                        .append(" ");
+                if (collation != null) {
+                    query.append("COLLATE").append(" ").append(collation).append(" ");
+                }
+                query.append(isAscending ? ASCENDING : DESCENDING);
+                this.query = query.toString();
             }
-            query.append(isAscending ? ASCENDING : DESCENDING);
-            return query.toString();
+            return query;
         } else {
             return orderByString;
         }
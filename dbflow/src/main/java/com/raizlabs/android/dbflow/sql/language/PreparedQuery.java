@@ -0,0 +1,170 @@
+package com.raizlabs.android.dbflow.sql.language;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.raizlabs.android.dbflow.config.FlowManager;
+import com.raizlabs.android.dbflow.runtime.NotifyDistributor;
+import com.raizlabs.android.dbflow.sql.queriable.ListModelLoader;
+import com.raizlabs.android.dbflow.sql.queriable.SingleModelLoader;
+import com.raizlabs.android.dbflow.structure.BaseModel;
+import com.raizlabs.android.dbflow.structure.database.BaseDatabaseWrapper;
+import com.raizlabs.android.dbflow.structure.database.DatabaseStatement;
+import com.raizlabs.android.dbflow.structure.database.DatabaseStatementCache;
+import com.raizlabs.android.dbflow.structure.database.DatabaseWrapper;
+import com.raizlabs.android.dbflow.structure.database.FlowCursor;
+
+import java.util.List;
+
+/**
+ * Description: A query compiled once from a {@link BaseModelQueriable} and run many times with new argument values,
+ * without building its SQL again. Each value of the original query, and each "?" written with
+ * {@link Operator.Operation#EMPTY_PARAM} or {@link com.raizlabs.android.dbflow.sql.language.property.Property#WILDCARD},
+ * becomes an argument slot, in the order they appear in the SQL. Running with no arguments uses the values of the
+ * original query.
+ * <p/>
+ * Instances are immutable and may be shared between threads. Statements for {@link #count(Object...)} and
+ * {@link #executeUpdateDelete(Object...)} are compiled once per thread.
+ */
+public final class PreparedQuery<TModel> {
+
+    private final Class<TModel> table;
+    private final String query;
+    private final Object[] defaultArguments;
+    private final BaseModel.Action primaryAction;
+    private final ListModelLoader<TModel> listModelLoader;
+    private final SingleModelLoader<TModel> singleModelLoader;
+
+    private final DatabaseStatementCache statements = new DatabaseStatementCache() {
+        @NonNull
+        @Override
+        protected DatabaseStatement createStatement(@NonNull DatabaseWrapper databaseWrapper) {
+            return databaseWrapper.compileStatement(query);
+        }
+    };
+
+    PreparedQuery(@NonNull BaseModelQueriable<TModel> queriable) {
+        BoundQuery boundQuery = queriable.getBoundQuery();
+        table = queriable.getTable();
+        query = boundQuery.getQuery();
+        defaultArguments = boundQuery.getArguments();
+        primaryAction = queriable.getPrimaryAction();
+        listModelLoader = queriable.getListModelLoader();
+        singleModelLoader = queriable.getSingleModelLoader();
+    }
+
+    @NonNull
+    public String getQuery() {
+        return query;
+    }
+
+    /**
+     * @return The number of arguments each run takes.
+     */
+    public int getArgumentCount() {
+        return defaultArguments.length;
+    }
+
+    @NonNull
+    public List<TModel> queryList(Object... arguments) {
+        return queryList(getReadableDatabase(), arguments);
+    }
+
+    @NonNull
+    public List<TModel> queryList(@NonNull DatabaseWrapper wrapper, Object... arguments) {
+        return listModelLoader.load(query(wrapper, arguments));
+    }
+
+    @Nullable
+    public TModel querySingle(Object... arguments) {
+        return querySingle(getReadableDatabase(), arguments);
+    }
+
+    @Nullable
+    public TModel querySingle(@NonNull DatabaseWrapper wrapper, Object... arguments) {
+        return singleModelLoader.load(query(wrapper, arguments));
+    }
+
+    @NonNull
+    public FlowCursor query(Object... arguments) {
+        return query(getReadableDatabase(), arguments);
+    }
+
+    @NonNull
+    public FlowCursor query(@NonNull DatabaseWrapper wrapper, Object... arguments) {
+        return BaseDatabaseWrapper.rawQueryWithArgs(wrapper, query, getArguments(arguments));
+    }
+
+    /**
+     * Runs a query that returns a single number, such as SELECT COUNT(*).
+     */
+    public long count(Object... arguments) {
+        return count(getWritableDatabase(), arguments);
+    }
+
+    public long count(@NonNull DatabaseWrapper wrapper, Object... arguments) {
+        return bindStatement(wrapper, arguments).simpleQueryForLong();
+    }
+
+    /**
+     * Runs an UPDATE or DELETE, notifying a table change if any row was affected.
+     *
+     * @return The number of rows affected.
+     */
+    public long executeUpdateDelete(Object... arguments) {
+        return executeUpdateDelete(getWritableDatabase(), arguments);
+    }
+
+    public long executeUpdateDelete(@NonNull DatabaseWrapper wrapper, Object... arguments) {
+        long affected = bindStatement(wrapper, arguments).executeUpdateDelete();
+        if (affected > 0) {
+            NotifyDistributor.get().notifyTableChanged(table, primaryAction);
+        }
+        return affected;
+    }
+
+    /**
+     * Closes the statements compiled by every thread. The query can still run afterwards.
+     */
+    public void close() {
+        statements.close();
+    }
+
+    @Override
+    public String toString() {
+        return query;
+    }
+
+    @NonNull
+    private DatabaseStatement bindStatement(@NonNull DatabaseWrapper wrapper, Object[] arguments) {
+        DatabaseStatement statement = statements.get(wrapper);
+        BoundQuery.bindArguments(statement, getArguments(arguments));
+        return statement;
+    }
+
+    @NonNull
+    private Object[] getArguments(@Nullable Object[] arguments) {
+        if (arguments == null || arguments.length == 0) {
+            return defaultArguments;
+        }
+        if (arguments.length != defaultArguments.length) {
+            throw new IllegalArgumentException("Expected " + defaultArguments.length + " arguments for " + query
+                    + " but got " + arguments.length);
+        }
+        Object[] boundArguments = new Object[arguments.length];
+        for (int i = 0; i < arguments.length; i++) {
+            boundArguments[i] = BoundQuery.toArgument(arguments[i]);
+        }
+        return boundArguments;
+    }
+
+    @NonNull
+    private DatabaseWrapper getWritableDatabase() {
+        return FlowManager.getWritableDatabaseForTable(table);
+    }
+
+    @NonNull
+    private DatabaseWrapper getReadableDatabase() {
+        return FlowManager.getReadableDatabaseForTable(table);
+    }
+}
@@ -3,10 +3,15 @@ package com.raizlabs.android.dbflow.sql.language;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
+import com.raizlabs.android.dbflow.annotation.ForeignKey;
+import com.raizlabs.android.dbflow.config.FlowManager;
 import com.raizlabs.android.dbflow.sql.language.property.IProperty;
 import com.raizlabs.android.dbflow.sql.language.property.Property;
 import com.raizlabs.android.dbflow.structure.Model;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Description: The main entry point into SQLite queries.
  */
@@ -21,6 +26,30 @@ public class SQLite {
         return new Select(properties);
     }
 
+    /**
+     * Selects the table with a LEFT JOIN of each of its {@link ForeignKey#eagerJoin()} references, so that they load
+     * from the same row rather than with a query each. Conditions on a column name the joined tables share must
+     * qualify it with {@link Property#withTable()}.
+     *
+     * @param table    The table to select.
+     * @param <TModel> The class of the table.
+     * @return The FROM of the statement, to continue the query with.
+     */
+    @NonNull
+    public static <TModel> From<TModel> selectJoined(@NonNull Class<TModel> table) {
+        ForeignKeyJoin<?>[] joins = FlowManager.getModelAdapter(table).getForeignKeyJoins();
+        List<IProperty> properties = new ArrayList<>();
+        properties.add(Property.allProperty(table));
+        for (ForeignKeyJoin<?> join : joins) {
+            join.addProjection(properties);
+        }
+        From<TModel> from = select(properties.toArray(new IProperty[properties.size()])).from(table);
+        for (ForeignKeyJoin<?> join : joins) {
+            join.join(from);
+        }
+        return from;
+    }
+
     /**
      * Starts a new SELECT COUNT(property1, property2, propertyn) (if properties specified) or
      * SELECT COUNT(*).
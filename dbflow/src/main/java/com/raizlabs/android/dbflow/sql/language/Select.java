@@ -70,6 +70,21 @@ public class Select implements Query {
         return selectQualifier(DISTINCT);
     }
 
+    boolean isDistinct() {
+        return mSelectQualifier == DISTINCT;
+    }
+
+    /**
+     * @return True if it only selects a COUNT, so the counts of separate sets of rows add up.
+     */
+    boolean isCount() {
+        if (propertyList.size() != 1 || !(propertyList.get(0) instanceof Method)) {
+            return false;
+        }
+        String query = propertyList.get(0).getQuery();
+        return query.regionMatches(true, 0, "COUNT(", 0, 6) && !query.regionMatches(true, 6, "DISTINCT", 0, 8);
+    }
+
     @NonNull
     public String toString() {
         return getQuery();
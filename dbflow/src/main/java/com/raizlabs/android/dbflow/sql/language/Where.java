@@ -1,12 +1,20 @@
 package com.raizlabs.android.dbflow.sql.language;
 
 import android.database.Cursor;
+import android.os.Build;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 
 import com.raizlabs.android.dbflow.annotation.provider.ContentProvider;
+import com.raizlabs.android.dbflow.config.DatabaseConfig;
+import com.raizlabs.android.dbflow.config.DatabaseDefinition;
 import com.raizlabs.android.dbflow.config.FlowManager;
+import com.raizlabs.android.dbflow.list.FlowCursorList;
+import com.raizlabs.android.dbflow.list.FlowQueryList;
+import com.raizlabs.android.dbflow.sql.Query;
 import com.raizlabs.android.dbflow.sql.QueryBuilder;
 import com.raizlabs.android.dbflow.sql.language.property.IProperty;
+import com.raizlabs.android.dbflow.sql.queriable.AsyncQuery;
 import com.raizlabs.android.dbflow.sql.queriable.ModelQueriable;
 import com.raizlabs.android.dbflow.structure.BaseModel;
 import com.raizlabs.android.dbflow.structure.database.DatabaseWrapper;
@@ -14,6 +22,7 @@ import com.raizlabs.android.dbflow.structure.database.FlowCursor;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 /**
@@ -46,6 +55,13 @@ public class Where<TModel> extends BaseModelQueriable<TModel> implements ModelQu
     private int limit = VALUE_UNSET;
     private int offset = VALUE_UNSET;
 
+    /**
+     * The ORDER BY values of the row to continue after, if seeking.
+     */
+    private Object[] seekValues;
+
+    private List<OneToManyRelation<TModel, ?>> prefetchRelations;
+
     /**
      * Constructs this class with the specified {@link com.raizlabs.android.dbflow.config.FlowManager}
      * and {@link From} chunk
@@ -165,6 +181,91 @@ public class Where<TModel> extends BaseModelQueriable<TModel> implements ModelQu
         return this;
     }
 
+    /**
+     * @return The LIMIT of the query, or -1 if it has none.
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return The OFFSET of the query, or -1 if it has none.
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Continues the results after a row, by its ORDER BY values, instead of skipping rows with {@link #offset(int)}.
+     * SQLite seeks straight to the row through an index on the ORDER BY columns, so each page costs the same no
+     * matter how deep it is. This adds the equivalent of {@code (a > ? OR (a = ? AND b > ?))} to the WHERE,
+     * comparing with {@code <} for descending columns and with the collation of each {@link OrderBy}.
+     * <p/>
+     * End the ORDER BY with a unique column, such as the primary key, so that rows with equal values are neither
+     * skipped nor repeated. The ORDER BY columns must not be NULL. Calling this again replaces the previous row.
+     *
+     * @param lastValues The values of the last row read, one for each {@link OrderBy} in order.
+     */
+    @NonNull
+    public Where<TModel> seekAfter(@NonNull Object... lastValues) {
+        if (lastValues.length != orderByList.size()) {
+            throw new IllegalArgumentException("Expected one value for each of the " + orderByList.size()
+                + " ORDER BY columns but got " + lastValues.length);
+        }
+        for (int i = 0; i < lastValues.length; i++) {
+            if (orderByList.get(i).getColumn() == null) {
+                throw new IllegalStateException("Cannot seek after an ORDER BY created from a string: "
+                    + orderByList.get(i));
+            }
+            if (lastValues[i] == null) {
+                throw new IllegalArgumentException("Cannot seek after a NULL value of "
+                    + orderByList.get(i).getColumn());
+            }
+        }
+        seekValues = lastValues.clone();
+        return this;
+    }
+
+    /**
+     * Continues the results after the row the cursor is positioned on, reading the value of each ORDER BY column
+     * from the column of the same name. See {@link #seekAfter(Object...)}.
+     */
+    @NonNull
+    public Where<TModel> seekAfterRow(@NonNull Cursor cursor) {
+        Object[] lastValues = new Object[orderByList.size()];
+        for (int i = 0; i < lastValues.length; i++) {
+            NameAlias column = orderByList.get(i).getColumn();
+            if (column == null) {
+                throw new IllegalStateException("Cannot seek after an ORDER BY created from a string: "
+                    + orderByList.get(i));
+            }
+            int index = cursor.getColumnIndex(column.nameRaw());
+            if (index == -1) {
+                throw new IllegalArgumentException("The cursor does not contain the ORDER BY column " + column);
+            }
+            lastValues[i] = getCursorValue(cursor, index);
+        }
+        return seekAfter(lastValues);
+    }
+
+    /**
+     * Loads the children of the relationship for all the results of {@link #queryList()} and
+     * {@link #querySingle()} together, with one IN query per {@link DatabaseConfig.Builder#maxInArguments(int)}
+     * results, and sets them on each result. The other ways to run the query cannot prefetch, and throw. This avoids
+     * calling the {@link com.raizlabs.android.dbflow.annotation.OneToMany} getter of each result, which queries
+     * once per result.
+     *
+     * @param relation The relationship from the _Table class of {@link TModel}.
+     */
+    @NonNull
+    public Where<TModel> prefetch(@NonNull OneToManyRelation<TModel, ?> relation) {
+        if (prefetchRelations == null) {
+            prefetchRelations = new ArrayList<>();
+        }
+        prefetchRelations.add(relation);
+        return this;
+    }
+
     /**
      * Specify that we use an EXISTS statement for this Where class.
      *
@@ -187,8 +288,13 @@ public class Where<TModel> extends BaseModelQueriable<TModel> implements ModelQu
     @Override
     public String getQuery() {
         String fromQuery = whereBase.getQuery().trim();
+        String whereQuery = operatorGroup.getQuery();
+        if (seekValues != null) {
+            String seekQuery = getSeekGroup().getQuery();
+            whereQuery = whereQuery.isEmpty() ? seekQuery : "(" + whereQuery + ") AND " + seekQuery;
+        }
         QueryBuilder queryBuilder = new QueryBuilder().append(fromQuery).appendSpace()
-            .appendQualifier("WHERE", operatorGroup.getQuery())
+            .appendQualifier("WHERE", whereQuery)
             .appendQualifier("GROUP BY", QueryBuilder.join(",", groupByList))
             .appendQualifier("HAVING", havingGroup.getQuery())
             .appendQualifier("ORDER BY", QueryBuilder.join(",", orderByList));
@@ -204,16 +310,32 @@ public class Where<TModel> extends BaseModelQueriable<TModel> implements ModelQu
     }
 
     /**
-     * @return the result of the query as a {@link Cursor}.
+     * @return the result of the query as a {@link Cursor}, or null for an UPDATE or DELETE, which runs as one
+     * statement per chunk of values within a transaction if its IN has more values than
+     * {@link DatabaseConfig.Builder#maxInArguments(int)}.
      */
     @Override
     public FlowCursor query(@NonNull DatabaseWrapper wrapper) {
         // Query the sql here
         FlowCursor cursor;
         if (whereBase.getQueryBuilderBase() instanceof Select) {
-            cursor = wrapper.rawQuery(getQuery(), null);
+            BoundQuery boundQuery = getBoundQueryIfEnabled();
+            if (boundQuery != null) {
+                checkQueryPlan(wrapper, boundQuery);
+                cursor = boundQuery.query(wrapper);
+            } else {
+                String query = getQuery();
+                checkQueryPlan(wrapper, query);
+                cursor = wrapper.rawQuery(query, null);
+            }
         } else {
-            cursor = super.query(wrapper);
+            Operator.In<?> chunkedIn = getChunkedIn();
+            if (chunkedIn != null) {
+                executeInChunks(chunkedIn, wrapper);
+                cursor = null;
+            } else {
+                cursor = super.query(wrapper);
+            }
         }
 
         return cursor;
@@ -221,7 +343,9 @@ public class Where<TModel> extends BaseModelQueriable<TModel> implements ModelQu
 
     @Override
     public FlowCursor query() {
-        return query(FlowManager.getDatabaseForTable(getTable()).getWritableDatabase());
+        return query(whereBase.getQueryBuilderBase() instanceof Select
+            ? FlowManager.getReadableDatabaseForTable(getTable())
+            : FlowManager.getWritableDatabaseForTable(getTable()));
     }
 
     /**
@@ -233,9 +357,62 @@ public class Where<TModel> extends BaseModelQueriable<TModel> implements ModelQu
     @Override
     public List<TModel> queryList() {
         checkSelect("query");
+        if (getChunkedIn() != null || prefetchRelations != null) {
+            return queryList(FlowManager.getReadableDatabaseForTable(getTable()));
+        }
         return super.queryList();
     }
 
+    /**
+     * Queries for all of the results this statement returns. An IN with more values than
+     * {@link DatabaseConfig.Builder#maxInArguments(int)} runs as one query per chunk of values, with the results
+     * concatenated, if the query has no DISTINCT, GROUP BY, HAVING, ORDER BY, LIMIT or OFFSET.
+     */
+    @NonNull
+    @Override
+    public List<TModel> queryList(@NonNull DatabaseWrapper wrapper) {
+        checkSelect("query");
+        Operator.In<?> chunkedIn = getChunkedIn();
+        List<TModel> models;
+        setPrefetchesDeferred(true);
+        try {
+            models = chunkedIn != null ? queryListInChunks(chunkedIn, wrapper) : super.queryList(wrapper);
+        } finally {
+            setPrefetchesDeferred(false);
+        }
+        prefetch(models, wrapper);
+        return models;
+    }
+
+    /**
+     * Runs the UPDATE or DELETE. An IN with more values than {@link DatabaseConfig.Builder#maxInArguments(int)}
+     * runs as one statement per chunk of values within a transaction.
+     *
+     * @return The number of rows changed.
+     */
+    @Override
+    public long executeUpdateDelete(@NonNull DatabaseWrapper databaseWrapper) {
+        Operator.In<?> chunkedIn = getChunkedIn();
+        if (chunkedIn == null || whereBase.getQueryBuilderBase() instanceof Select) {
+            return super.executeUpdateDelete(databaseWrapper);
+        }
+        return executeUpdateDeleteInChunks(chunkedIn, databaseWrapper);
+    }
+
+    /**
+     * Runs the query for a single number. A COUNT with an IN of more values than
+     * {@link DatabaseConfig.Builder#maxInArguments(int)} adds up the count of each chunk of values.
+     */
+    @Override
+    public long longValue(DatabaseWrapper databaseWrapper) {
+        Operator.In<?> chunkedIn = getChunkedIn();
+        Query queryBuilderBase = whereBase.getQueryBuilderBase();
+        if (chunkedIn == null || !(queryBuilderBase instanceof Select) || !((Select) queryBuilderBase).isCount()) {
+            return super.longValue(databaseWrapper);
+        }
+        return countInChunks(chunkedIn, databaseWrapper);
+    }
+
     /**
      * Queries and returns only the first {@link TModel} result from the DB. Will enforce a limit of 1 item
      * returned from the database.
@@ -246,14 +423,261 @@ public class Where<TModel> extends BaseModelQueriable<TModel> implements ModelQu
     public TModel querySingle() {
         checkSelect("query");
         limit(1);
+        if (prefetchRelations != null) {
+            return querySingle(FlowManager.getReadableDatabaseForTable(getTable()));
+        }
         return super.querySingle();
     }
 
+    @Override
+    public TModel querySingle(@NonNull DatabaseWrapper wrapper) {
+        TModel model;
+        setPrefetchesDeferred(true);
+        try {
+            model = super.querySingle(wrapper);
+        } finally {
+            setPrefetchesDeferred(false);
+        }
+        if (model != null) {
+            prefetch(Collections.singletonList(model), wrapper);
+        }
+        return model;
+    }
+
+    @NonNull
+    @Override
+    public CursorResult<TModel> queryResults() {
+        checkNoPrefetch("queryResults");
+        return super.queryResults();
+    }
+
+    @NonNull
+    @Override
+    public FlowCursorList<TModel> cursorList() {
+        checkNoPrefetch("cursorList");
+        return super.cursorList();
+    }
+
+    @NonNull
+    @Override
+    public FlowQueryList<TModel> flowQueryList() {
+        checkNoPrefetch("flowQueryList");
+        return super.flowQueryList();
+    }
+
+    @NonNull
+    @Override
+    public AsyncQuery<TModel> async() {
+        checkNoPrefetch("async");
+        return super.async();
+    }
+
+    @NonNull
+    @Override
+    public <QueryClass> List<QueryClass> queryCustomList(@NonNull Class<QueryClass> queryModelClass) {
+        checkNoPrefetch("queryCustomList");
+        return super.queryCustomList(queryModelClass);
+    }
+
+    @Nullable
+    @Override
+    public <QueryClass> QueryClass queryCustomSingle(@NonNull Class<QueryClass> queryModelClass) {
+        checkNoPrefetch("queryCustomSingle");
+        return super.queryCustomSingle(queryModelClass);
+    }
+
+    @NonNull
+    @Override
+    public PreparedQuery<TModel> prepare() {
+        checkNoPrefetch("prepare");
+        return super.prepare();
+    }
+
     @NonNull
     public WhereBase<TModel> getWhereBase() {
         return whereBase;
     }
 
+    /**
+     * @return The rows after {@link #seekValues}: for each ORDER BY column, the rows equal on the columns before it
+     * and past it on that column.
+     */
+    @NonNull
+    private OperatorGroup getSeekGroup() {
+        OperatorGroup seekGroup = OperatorGroup.clause();
+        for (int i = 0; i < seekValues.length; i++) {
+            OperatorGroup step = OperatorGroup.clause();
+            for (int j = 0; j < i; j++) {
+                step.and(getSeekOperator(orderByList.get(j)).eq(seekValues[j]));
+            }
+            OrderBy orderBy = orderByList.get(i);
+            Operator<Object> operator = getSeekOperator(orderBy);
+            step.and(orderBy.isAscending() ? operator.greaterThan(seekValues[i]) : operator.lessThan(seekValues[i]));
+            seekGroup.or(step);
+        }
+        return seekGroup;
+    }
+
+    @NonNull
+    private static Operator<Object> getSeekOperator(@NonNull OrderBy orderBy) {
+        Operator<Object> operator = Operator.op(orderBy.getColumn());
+        if (orderBy.getCollation() != null) {
+            operator.collate(orderBy.getCollation());
+        }
+        return operator;
+    }
+
+    /**
+     * Before Honeycomb the type of a value is unknown, so it is read as text, which SQLite converts back when
+     * comparing it with a numeric column.
+     */
+    @Nullable
+    static Object getCursorValue(@NonNull Cursor cursor, int index) {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.HONEYCOMB) {
+            return cursor.getString(index);
+        }
+        switch (cursor.getType(index)) {
+            case Cursor.FIELD_TYPE_NULL:
+                return null;
+            case Cursor.FIELD_TYPE_INTEGER:
+                return cursor.getLong(index);
+            case Cursor.FIELD_TYPE_FLOAT:
+                return cursor.getDouble(index);
+            case Cursor.FIELD_TYPE_BLOB:
+                return cursor.getBlob(index);
+            default:
+                return cursor.getString(index);
+        }
+    }
+
+    /**
+     * @return The IN to split into chunks of {@link DatabaseDefinition#getMaxInArguments()} values, or null to run
+     * the query whole. Only an IN of the WHERE joined to the rest by AND can be split, since a row then matches in
+     * at most one chunk, and only if the rows of the chunks can be combined as they are.
+     */
+    @Nullable
+    private Operator.In<?> getChunkedIn() {
+        int maxInArguments = FlowManager.getDatabaseForTable(getTable()).getMaxInArguments();
+        Query queryBuilderBase = whereBase.getQueryBuilderBase();
+        if (maxInArguments <= 0 || !groupByList.isEmpty() || havingGroup.size() > 0 || !orderByList.isEmpty()
+            || limit > VALUE_UNSET || offset > VALUE_UNSET || seekValues != null
+            || (queryBuilderBase instanceof Select && ((Select) queryBuilderBase).isDistinct())) {
+            return null;
+        }
+        Operator.In<?> chunkedIn = null;
+        List<SQLOperator> conditions = operatorGroup.getConditions();
+        for (int i = 0; i < conditions.size(); i++) {
+            SQLOperator condition = conditions.get(i);
+            if (i < conditions.size() - 1 && !Operator.Operation.AND.equals(condition.separator())) {
+                return null;
+            }
+            if (chunkedIn == null && condition instanceof Operator.In && ((Operator.In<?>) condition).isIn()
+                && ((Operator.In<?>) condition).getArguments().size() > maxInArguments) {
+                chunkedIn = (Operator.In<?>) condition;
+            }
+        }
+        return chunkedIn;
+    }
+
+    /**
+     * @return The distinct values of the IN, so no row matches in two chunks, split into chunks.
+     */
+    @NonNull
+    private <T> List<List<T>> getChunks(@NonNull Operator.In<T> in) {
+        int maxInArguments = FlowManager.getDatabaseForTable(getTable()).getMaxInArguments();
+        List<T> values = new ArrayList<>(new LinkedHashSet<>(in.getArguments()));
+        List<List<T>> chunks = new ArrayList<>();
+        for (int start = 0; start < values.size(); start += maxInArguments) {
+            chunks.add(values.subList(start, Math.min(start + maxInArguments, values.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * @return A new query like this one with a new IN of only the chunk of values, so that this query and its IN
+     * are left as they are for other threads running them.
+     */
+    @NonNull
+    private <T> Where<TModel> getChunkWhere(@NonNull Operator.In<T> in, @NonNull List<T> chunk) {
+        List<SQLOperator> conditions = operatorGroup.getConditions();
+        SQLOperator[] chunkConditions = new SQLOperator[conditions.size()];
+        for (int i = 0; i < chunkConditions.length; i++) {
+            SQLOperator condition = conditions.get(i);
+            chunkConditions[i] = condition == in ? in.withArguments(chunk) : condition;
+        }
+        Where<TModel> where = new Where<>(whereBase, chunkConditions);
+        if (!isCachingEnabled()) {
+            where.disableCaching();
+        }
+        return where;
+    }
+
+    @NonNull
+    private <T> List<TModel> queryListInChunks(@NonNull Operator.In<T> in, @NonNull DatabaseWrapper wrapper) {
+        List<TModel> models = new ArrayList<>();
+        for (List<T> chunk : getChunks(in)) {
+            models.addAll(getChunkWhere(in, chunk).queryList(wrapper));
+        }
+        return models;
+    }
+
+    private <T> long countInChunks(@NonNull Operator.In<T> in, @NonNull DatabaseWrapper wrapper) {
+        long count = 0;
+        for (List<T> chunk : getChunks(in)) {
+            count += getChunkWhere(in, chunk).longValue(wrapper);
+        }
+        return count;
+    }
+
+    private <T> long executeUpdateDeleteInChunks(@NonNull Operator.In<T> in, @NonNull DatabaseWrapper wrapper) {
+        long affected = 0;
+        wrapper.beginTransaction();
+        try {
+            for (List<T> chunk : getChunks(in)) {
+                affected += getChunkWhere(in, chunk).executeUpdateDelete(wrapper);
+            }
+            wrapper.setTransactionSuccessful();
+        } finally {
+            wrapper.endTransaction();
+        }
+        return affected;
+    }
+
+    private <T> void executeInChunks(@NonNull Operator.In<T> in, @NonNull DatabaseWrapper wrapper) {
+        wrapper.beginTransaction();
+        try {
+            for (List<T> chunk : getChunks(in)) {
+                getChunkWhere(in, chunk).query(wrapper);
+            }
+            wrapper.setTransactionSuccessful();
+        } finally {
+            wrapper.endTransaction();
+        }
+    }
+
+    private void setPrefetchesDeferred(boolean deferred) {
+        if (prefetchRelations != null) {
+            for (OneToManyRelation<TModel, ?> relation : prefetchRelations) {
+                relation.setDeferred(deferred);
+            }
+        }
+    }
+
+    private void prefetch(@NonNull List<TModel> models, @NonNull DatabaseWrapper wrapper) {
+        if (prefetchRelations != null) {
+            for (OneToManyRelation<TModel, ?> relation : prefetchRelations) {
+                relation.prefetch(models, wrapper);
+            }
+        }
+    }
+
+    private void checkNoPrefetch(String methodName) {
+        if (prefetchRelations != null) {
+            throw new IllegalStateException(methodName + "() does not prefetch relationships. Use queryList() or "
+                + "querySingle(), or remove prefetch().");
+        }
+    }
+
     private void checkSelect(String methodName) {
         if (!(whereBase.getQueryBuilderBase() instanceof Select)) {
             throw new IllegalArgumentException("Please use " + methodName + "(). The beginning is not a ISelect");
@@ -40,6 +40,11 @@ public class Property<T> implements IProperty<Property<T>>, IConditional, IOpera
 
     protected NameAlias nameAlias;
 
+    /**
+     * This property qualified with its own table, kept since generated constants are qualified for every join.
+     */
+    private Property<T> tableProperty;
+
     public Property(@Nullable Class<?> table, @NonNull NameAlias nameAlias) {
         this.table = table;
         this.nameAlias = nameAlias;
@@ -59,7 +64,12 @@ public class Property<T> implements IProperty<Property<T>>, IConditional, IOpera
     @NonNull
     @Override
     public Property<T> withTable() {
-        return withTable(new NameAlias.Builder(FlowManager.getTableName(table)).build());
+        Property<T> tableProperty = this.tableProperty;
+        if (tableProperty == null) {
+            tableProperty = withTable(new NameAlias.Builder(FlowManager.getTableName(table)).build());
+            this.tableProperty = tableProperty;
+        }
+        return tableProperty;
     }
 
     @NonNull
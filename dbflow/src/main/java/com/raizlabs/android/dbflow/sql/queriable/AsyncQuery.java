@@ -60,7 +60,7 @@ public class AsyncQuery<TModel> extends BaseAsyncObject<AsyncQuery<TModel>> {
             .queryResult(queryResultCallback)
             .queryListResult(queryResultListCallback)
             .querySingleResult(queryResultSingleCallback)
-            .build());
+            .build(), false);
     }
 
     /**
@@ -33,12 +33,12 @@ public abstract class ModelLoader<TModel, TReturn> {
      */
     @Nullable
     public TReturn load(@NonNull String query) {
-        return load(getDatabaseDefinition().getWritableDatabase(), query);
+        return load(getDatabaseDefinition().getReadableDatabase(), query);
     }
 
     @Nullable
     public TReturn load(@NonNull String query, @Nullable TReturn data) {
-        return load(getDatabaseDefinition().getWritableDatabase(), query, data);
+        return load(getDatabaseDefinition().getReadableDatabase(), query, data);
     }
 
     /**
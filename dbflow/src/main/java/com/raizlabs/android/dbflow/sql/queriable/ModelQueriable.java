@@ -6,6 +6,7 @@ import android.support.annotation.Nullable;
 
 import com.raizlabs.android.dbflow.list.FlowCursorList;
 import com.raizlabs.android.dbflow.list.FlowQueryList;
+import com.raizlabs.android.dbflow.sql.language.ColumnResult;
 import com.raizlabs.android.dbflow.sql.language.CursorResult;
 import com.raizlabs.android.dbflow.sql.language.From;
 import com.raizlabs.android.dbflow.sql.language.Where;
@@ -40,6 +41,22 @@ public interface ModelQueriable<TModel> extends Queriable {
     @NonNull
     List<TModel> queryList(@NonNull DatabaseWrapper wrapper);
 
+    /**
+     * @return The selected columns of every row as primitive arrays, without a model per row. Suited to reading
+     * many rows of a few columns, such as for a chart.
+     */
+    @NonNull
+    ColumnResult queryColumns();
+
+    /**
+     * Fills the result again with the rows of this query, reusing its arrays when they are large enough.
+     *
+     * @param result The result of a previous run, or one sized by {@link ColumnResult#ColumnResult(int)}.
+     * @return The same result.
+     */
+    @NonNull
+    ColumnResult queryColumns(@NonNull ColumnResult result);
+
     /**
      * @return Single model, the first of potentially many results
      */
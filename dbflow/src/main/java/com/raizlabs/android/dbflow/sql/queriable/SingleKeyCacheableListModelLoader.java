@@ -3,6 +3,7 @@ package com.raizlabs.android.dbflow.sql.queriable;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
+import com.raizlabs.android.dbflow.structure.cache.LongModelCache;
 import com.raizlabs.android.dbflow.structure.database.FlowCursor;
 
 import java.util.ArrayList;
@@ -24,6 +25,11 @@ public class SingleKeyCacheableListModelLoader<TModel> extends CacheableListMode
         if (data == null) {
             data = new ArrayList<>();
         }
+        LongModelCache<TModel> longModelCache = getModelAdapter().getLongModelCache();
+        if (longModelCache != null) {
+            convertToData(cursor, data, longModelCache);
+            return data;
+        }
         Object cacheValue;
         // Ensure that we aren't iterating over this cursor concurrently from different threads
         if (cursor.moveToFirst()) {
@@ -44,4 +50,24 @@ public class SingleKeyCacheableListModelLoader<TModel> extends CacheableListMode
         return data;
     }
 
+    /**
+     * Loads with the primitive keys of the {@link LongModelCache}, so a row allocates nothing when cached.
+     */
+    private void convertToData(@NonNull FlowCursor cursor, @NonNull List<TModel> data,
+                               @NonNull LongModelCache<TModel> longModelCache) {
+        if (cursor.moveToFirst()) {
+            do {
+                long id = getModelAdapter().getCachingIdAsLong(cursor);
+                TModel model = longModelCache.get(id);
+                if (model != null) {
+                    getModelAdapter().reloadRelationships(model, cursor);
+                } else {
+                    model = getModelAdapter().newInstance();
+                    getModelAdapter().loadFromCursor(cursor, model);
+                    longModelCache.addModel(id, model);
+                }
+                data.add(model);
+            } while (cursor.moveToNext());
+        }
+    }
 }
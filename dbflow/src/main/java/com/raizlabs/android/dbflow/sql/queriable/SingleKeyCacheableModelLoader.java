@@ -4,6 +4,7 @@ import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
 import com.raizlabs.android.dbflow.structure.Model;
+import com.raizlabs.android.dbflow.structure.cache.LongModelCache;
 import com.raizlabs.android.dbflow.structure.database.FlowCursor;
 
 /**
@@ -27,6 +28,10 @@ public class SingleKeyCacheableModelLoader<TModel> extends CacheableModelLoader<
     public TModel convertToData(@NonNull FlowCursor cursor, @Nullable TModel data,
                                 boolean moveToFirst) {
         if (!moveToFirst || cursor.moveToFirst()) {
+            LongModelCache<TModel> longModelCache = getModelAdapter().getLongModelCache();
+            if (longModelCache != null) {
+                return convertToData(cursor, data, longModelCache);
+            }
             Object value = getModelAdapter().getCachingColumnValueFromCursor(cursor);
             TModel model = getModelCache().get(value);
             if (model == null) {
@@ -45,4 +50,19 @@ public class SingleKeyCacheableModelLoader<TModel> extends CacheableModelLoader<
             return null;
         }
     }
+
+    @NonNull
+    private TModel convertToData(@NonNull FlowCursor cursor, @Nullable TModel data,
+                                 @NonNull LongModelCache<TModel> longModelCache) {
+        long id = getModelAdapter().getCachingIdAsLong(cursor);
+        TModel model = longModelCache.get(id);
+        if (model == null) {
+            model = data == null ? getModelAdapter().newInstance() : data;
+            getModelAdapter().loadFromCursor(cursor, model);
+            longModelCache.addModel(id, model);
+        } else {
+            getModelAdapter().reloadRelationships(model, cursor);
+        }
+        return model;
+    }
 }
@@ -43,7 +43,7 @@ public class StringQuery<TModel> extends BaseModelQueriable<TModel> implements Q
 
     @Override
     public FlowCursor query() {
-        return query(FlowManager.getDatabaseForTable(getTable()).getWritableDatabase());
+        return query(FlowManager.getReadableDatabaseForTable(getTable()));
     }
 
     @Override
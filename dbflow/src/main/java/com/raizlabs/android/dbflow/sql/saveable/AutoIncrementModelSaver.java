@@ -1,12 +1,16 @@
 package com.raizlabs.android.dbflow.sql.saveable;
 
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 
 import com.raizlabs.android.dbflow.config.FlowLog;
 import com.raizlabs.android.dbflow.runtime.NotifyDistributor;
+import com.raizlabs.android.dbflow.sql.QueryBuilder;
+import com.raizlabs.android.dbflow.sql.SqlUtils;
 import com.raizlabs.android.dbflow.structure.BaseModel;
 import com.raizlabs.android.dbflow.structure.database.DatabaseStatement;
 import com.raizlabs.android.dbflow.structure.database.DatabaseWrapper;
+import com.raizlabs.android.dbflow.structure.database.FlowCursor;
 
 /**
  * Description: Used to properly handle autoincrementing fields.
@@ -14,12 +18,12 @@ import com.raizlabs.android.dbflow.structure.database.DatabaseWrapper;
 public class AutoIncrementModelSaver<TModel> extends ModelSaver<TModel> {
 
     @Override
-    public synchronized long insert(@NonNull TModel model) {
+    public long insert(@NonNull TModel model) {
         return insert(model, getWritableDatabase());
     }
 
     @Override
-    public synchronized long insert(@NonNull TModel model, @NonNull DatabaseWrapper wrapper) {
+    public long insert(@NonNull TModel model, @NonNull DatabaseWrapper wrapper) {
         final boolean hasAutoIncrement = getModelAdapter().hasAutoIncrement(model);
         DatabaseStatement insertStatement = hasAutoIncrement
                 ? getModelAdapter().getCompiledStatement(wrapper)
@@ -35,6 +39,7 @@ public class AutoIncrementModelSaver<TModel> extends ModelSaver<TModel> {
             id = insertStatement.executeInsert();
             if (id > INSERT_FAILED) {
                 getModelAdapter().updateAutoIncrement(model, id);
+                getModelAdapter().takeSnapshot(model);
                 NotifyDistributor.get().notifyModelChanged(model, getModelAdapter(), BaseModel.Action.INSERT);
             }
         } finally {
@@ -45,9 +50,9 @@ public class AutoIncrementModelSaver<TModel> extends ModelSaver<TModel> {
     }
 
     @Override
-    public synchronized long insert(@NonNull TModel model,
-                                    @NonNull DatabaseStatement insertStatement,
-                                    @NonNull DatabaseWrapper wrapper) {
+    public long insert(@NonNull TModel model,
+                       @NonNull DatabaseStatement insertStatement,
+                       @NonNull DatabaseWrapper wrapper) {
         if (!getModelAdapter().hasAutoIncrement(model)) {
             return super.insert(model, insertStatement, wrapper);
         } else {
@@ -55,4 +60,69 @@ public class AutoIncrementModelSaver<TModel> extends ModelSaver<TModel> {
             return insert(model, wrapper);
         }
     }
+
+    /**
+     * Models without an id cannot conflict on their primary key, so they are inserted without binding the id.
+     */
+    @Override
+    public boolean upsert(@NonNull TModel model,
+                          @NonNull DatabaseWrapper wrapper,
+                          @NonNull DatabaseStatement upsertStatement,
+                          @Nullable DatabaseStatement updateStatement) {
+        if (getModelAdapter().hasAutoIncrement(model)) {
+            return super.upsert(model, wrapper, upsertStatement, updateStatement);
+        }
+
+        boolean successful = insert(model, wrapper) > INSERT_FAILED;
+        if (successful) {
+            NotifyDistributor.get().notifyModelChanged(model, getModelAdapter(), BaseModel.Action.SAVE);
+        }
+        return successful;
+    }
+
+    /**
+     * Models without an id are inserted to receive one.
+     */
+    @Override
+    public boolean isNewModel(@NonNull TModel model) {
+        return !getModelAdapter().hasAutoIncrement(model);
+    }
+
+    /**
+     * A trigger that inserts into the table takes row ids in between the rows of a batch, so the ids could not be
+     * assigned from the last one. Any trigger that mentions the table rules out batches.
+     */
+    @Override
+    public boolean canInsertBatches(@NonNull DatabaseWrapper wrapper) {
+        String tableName = QueryBuilder.stripQuotes(getModelAdapter().getTableName());
+        FlowCursor cursor = wrapper.rawQuery("SELECT 1 FROM sqlite_master WHERE type='trigger'"
+                + " AND (tbl_name=? OR sql LIKE ?) LIMIT 1", new String[]{tableName, "%" + tableName + "%"});
+        try {
+            return !cursor.moveToFirst();
+        } finally {
+            cursor.close();
+        }
+    }
+
+    /**
+     * Rows of one statement only skip ids once the largest row id is taken, which this catches.
+     */
+    @Override
+    protected void checkBatchInsertIds(long firstId, long lastId, @NonNull DatabaseWrapper wrapper) {
+        long rows = SqlUtils.longForQuery(wrapper, "SELECT COUNT(*) FROM " + getModelAdapter().getTableName()
+                + " WHERE " + QueryBuilder.quote(getModelAdapter().getAutoIncrementingColumnName())
+                + " BETWEEN " + firstId + " AND " + lastId);
+        if (rows != lastId - firstId + 1) {
+            throw new IllegalStateException("The batch insert into " + getModelAdapter().getTableName()
+                    + " did not receive consecutive ids from " + firstId + " to " + lastId + ".");
+        }
+    }
+
+    /**
+     * Models with an id already set must insert it explicitly, which the batch insert statement leaves out.
+     */
+    @Override
+    public boolean canInsertInBatch(@NonNull TModel model) {
+        return !getModelAdapter().hasAutoIncrement(model);
+    }
 }
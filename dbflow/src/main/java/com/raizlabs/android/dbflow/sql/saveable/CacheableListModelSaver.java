@@ -19,8 +19,8 @@ public class CacheableListModelSaver<TModel>
     }
 
     @Override
-    public synchronized void saveAll(@NonNull Collection<TModel> tableCollection,
-                                     @NonNull DatabaseWrapper wrapper) {
+    public void saveAll(@NonNull Collection<TModel> tableCollection,
+                        @NonNull DatabaseWrapper wrapper) {
         // skip if empty.
         if (tableCollection.isEmpty()) {
             return;
@@ -28,6 +28,16 @@ public class CacheableListModelSaver<TModel>
 
         ModelSaver<TModel> modelSaver = getModelSaver();
         ModelAdapter<TModel> modelAdapter = modelSaver.getModelAdapter();
+        if (modelAdapter.isUpsertEnabled()) {
+            upsertAll(tableCollection, wrapper);
+            return;
+        }
+
+        if (canPartitionSave(tableCollection)) {
+            partitionedSaveAll(tableCollection, wrapper);
+            return;
+        }
+
         DatabaseStatement statement = modelAdapter.getInsertStatement(wrapper);
         DatabaseStatement updateStatement = modelAdapter.getUpdateStatement(wrapper);
         try {
@@ -43,13 +53,18 @@ public class CacheableListModelSaver<TModel>
     }
 
     @Override
-    public synchronized void insertAll(@NonNull Collection<TModel> tableCollection,
-                                       @NonNull DatabaseWrapper wrapper) {
+    public void insertAll(@NonNull Collection<TModel> tableCollection,
+                          @NonNull DatabaseWrapper wrapper) {
         // skip if empty.
         if (tableCollection.isEmpty()) {
             return;
         }
 
+        if (canBatchInsert(tableCollection)) {
+            batchInsertAll(tableCollection, wrapper);
+            return;
+        }
+
         ModelSaver<TModel> modelSaver = getModelSaver();
         ModelAdapter<TModel> modelAdapter = modelSaver.getModelAdapter();
         DatabaseStatement statement = modelAdapter.getInsertStatement(wrapper);
@@ -65,8 +80,18 @@ public class CacheableListModelSaver<TModel>
     }
 
     @Override
-    public synchronized void updateAll(@NonNull Collection<TModel> tableCollection,
-                                       @NonNull DatabaseWrapper wrapper) {
+    protected void onModelInserted(@NonNull TModel model) {
+        getModelSaver().getModelAdapter().storeModelInCache(model);
+    }
+
+    @Override
+    protected void onModelSaved(@NonNull TModel model) {
+        getModelSaver().getModelAdapter().storeModelInCache(model);
+    }
+
+    @Override
+    public void updateAll(@NonNull Collection<TModel> tableCollection,
+                          @NonNull DatabaseWrapper wrapper) {
         // skip if empty.
         if (tableCollection.isEmpty()) {
             return;
@@ -86,8 +111,8 @@ public class CacheableListModelSaver<TModel>
     }
 
     @Override
-    public synchronized void deleteAll(@NonNull Collection<TModel> tableCollection,
-                                       @NonNull DatabaseWrapper wrapper) {
+    public void deleteAll(@NonNull Collection<TModel> tableCollection,
+                          @NonNull DatabaseWrapper wrapper) {
         // skip if empty.
         if (tableCollection.isEmpty()) {
             return;
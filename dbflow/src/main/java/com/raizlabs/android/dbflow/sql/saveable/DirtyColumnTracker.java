@@ -0,0 +1,275 @@
+package com.raizlabs.android.dbflow.sql.saveable;
+
+import android.content.ContentValues;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.raizlabs.android.dbflow.annotation.ConflictAction;
+import com.raizlabs.android.dbflow.sql.QueryBuilder;
+import com.raizlabs.android.dbflow.structure.ModelAdapter;
+import com.raizlabs.android.dbflow.structure.database.BaseDatabaseWrapper;
+import com.raizlabs.android.dbflow.structure.database.DatabaseStatement;
+import com.raizlabs.android.dbflow.structure.database.DatabaseWrapper;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Description: Keeps a snapshot of the column values of each model last loaded or written, and updates only the
+ * columns that changed since. The SQL of the most recent sets of changed columns is kept, and their statements
+ * are reused through {@link BaseDatabaseWrapper#compileCachedStatement(DatabaseWrapper, String)}. Snapshots are
+ * held by model identity and dropped once the model is garbage collected.
+ */
+public class DirtyColumnTracker<TModel> {
+
+    /**
+     * Changed columns are kept as bits of a long. Wider tables always update every column.
+     */
+    public static final int MAX_TRACKED_COLUMNS = 64;
+
+    /**
+     * The most sets of changed columns whose UPDATE is kept. A table of n columns has up to 2^n of them.
+     */
+    public static final int MAX_UPDATE_QUERIES = 32;
+
+    /**
+     * Returned by {@link #update(Object, DatabaseWrapper, DatabaseStatement)} for a model without changes.
+     */
+    public static final long UNCHANGED = -1;
+
+    private final ModelAdapter<TModel> modelAdapter;
+    private final String[] updateColumnNames;
+    private final String[] primaryColumnNames;
+
+    private final ReferenceQueue<Object> collectedModels = new ReferenceQueue<>();
+    private final Map<ModelReference, ContentValues> snapshots = new HashMap<>();
+    private final Map<Long, String> updateQueries = new LinkedHashMap<Long, String>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, String> eldest) {
+            return size() > MAX_UPDATE_QUERIES;
+        }
+    };
+
+    public DirtyColumnTracker(@NonNull ModelAdapter<TModel> modelAdapter,
+                              @NonNull String[] updateColumnNames,
+                              @NonNull String[] primaryColumnNames) {
+        this.modelAdapter = modelAdapter;
+        this.updateColumnNames = updateColumnNames;
+        this.primaryColumnNames = primaryColumnNames;
+    }
+
+    /**
+     * Records the current column values of the model as its unchanged state.
+     */
+    public void snapshot(@NonNull TModel model) {
+        ContentValues values = new ContentValues();
+        modelAdapter.bindToContentValues(values, model);
+        putSnapshot(model, values);
+    }
+
+    public void removeSnapshot(@NonNull TModel model) {
+        synchronized (snapshots) {
+            expungeCollectedModels();
+            snapshots.remove(new ModelReference(model, null));
+        }
+    }
+
+    @Nullable
+    public ContentValues getSnapshot(@NonNull TModel model) {
+        synchronized (snapshots) {
+            expungeCollectedModels();
+            return snapshots.get(new ModelReference(model, null));
+        }
+    }
+
+    /**
+     * Updates the columns of the model that differ from its snapshot. Models without a snapshot, or tables with more
+     * than {@link #MAX_TRACKED_COLUMNS} columns, are written with the full update statement. A model without
+     * changes is not written at all.
+     *
+     * @param updateStatement The full update statement from {@link ModelAdapter#getUpdateStatement(DatabaseWrapper)}.
+     * @return The number of rows updated, or {@link #UNCHANGED} if the model has no changes to write.
+     */
+    public long update(@NonNull TModel model, @NonNull DatabaseWrapper wrapper,
+                       @NonNull DatabaseStatement updateStatement) {
+        ContentValues values = new ContentValues();
+        modelAdapter.bindToContentValues(values, model);
+        ContentValues snapshot = getSnapshot(model);
+
+        long updated;
+        if (snapshot == null || updateColumnNames.length > MAX_TRACKED_COLUMNS) {
+            modelAdapter.bindToUpdateStatement(updateStatement, model);
+            updated = updateStatement.executeUpdateDelete();
+        } else {
+            long changedColumns = getChangedColumns(snapshot, values);
+            if (changedColumns == 0) {
+                return UNCHANGED;
+            }
+            DatabaseStatement statement = getUpdateStatement(changedColumns, wrapper);
+            try {
+                bindToUpdateStatement(statement, changedColumns, values);
+                updated = statement.executeUpdateDelete();
+            } finally {
+                statement.close();
+            }
+        }
+
+        if (updated != 0) {
+            putSnapshot(model, values);
+        }
+        return updated;
+    }
+
+    /**
+     * @return The bits of {@link ModelAdapter#getUpdateColumnNames()} whose values differ between the two.
+     */
+    public long getChangedColumns(@NonNull ContentValues snapshot, @NonNull ContentValues values) {
+        long changedColumns = 0;
+        for (int i = 0; i < updateColumnNames.length; i++) {
+            String columnName = updateColumnNames[i];
+            if (!valueEquals(snapshot.get(columnName), values.get(columnName))) {
+                changedColumns |= 1L << i;
+            }
+        }
+        return changedColumns;
+    }
+
+    /**
+     * @return The UPDATE statement of the changed columns, from the statement cache of the wrapper. Close it after
+     * running it, which returns it to the cache.
+     */
+    @NonNull
+    public DatabaseStatement getUpdateStatement(long changedColumns, @NonNull DatabaseWrapper wrapper) {
+        String query;
+        synchronized (updateQueries) {
+            query = updateQueries.get(changedColumns);
+            if (query == null) {
+                query = getUpdateStatementQuery(changedColumns);
+                updateQueries.put(changedColumns, query);
+            }
+        }
+        return BaseDatabaseWrapper.compileCachedStatement(wrapper, query);
+    }
+
+    @NonNull
+    public String getUpdateStatementQuery(long changedColumns) {
+        QueryBuilder query = new QueryBuilder("UPDATE");
+        ConflictAction conflictAction = modelAdapter.getUpdateOnConflictAction();
+        if (conflictAction != null && conflictAction != ConflictAction.NONE) {
+            query.append(" OR ").append(conflictAction.name());
+        }
+        query.append(" ").append(QueryBuilder.quoteIfNeeded(modelAdapter.getTableName())).append(" SET ");
+        boolean first = true;
+        for (int i = 0; i < updateColumnNames.length; i++) {
+            if ((changedColumns & (1L << i)) != 0) {
+                if (!first) {
+                    query.append(",");
+                }
+                query.append(updateColumnNames[i]).append("=?");
+                first = false;
+            }
+        }
+        query.append(" WHERE ");
+        for (int i = 0; i < primaryColumnNames.length; i++) {
+            if (i > 0) {
+                query.append(" AND ");
+            }
+            query.append(primaryColumnNames[i]).append("=?");
+        }
+        return query.getQuery();
+    }
+
+    /**
+     * Forgets the UPDATE queries. Their statements belong to the statement cache of each wrapper.
+     */
+    public void close() {
+        synchronized (updateQueries) {
+            updateQueries.clear();
+        }
+    }
+
+    private void bindToUpdateStatement(@NonNull DatabaseStatement statement, long changedColumns,
+                                       @NonNull ContentValues values) {
+        int index = 1;
+        for (int i = 0; i < updateColumnNames.length; i++) {
+            if ((changedColumns & (1L << i)) != 0) {
+                bindValue(statement, index++, values.get(updateColumnNames[i]));
+            }
+        }
+        for (String primaryColumnName : primaryColumnNames) {
+            bindValue(statement, index++, values.get(primaryColumnName));
+        }
+    }
+
+    private void putSnapshot(@NonNull TModel model, @NonNull ContentValues values) {
+        synchronized (snapshots) {
+            expungeCollectedModels();
+            snapshots.put(new ModelReference(model, collectedModels), values);
+        }
+    }
+
+    private void expungeCollectedModels() {
+        Reference<?> reference;
+        while ((reference = collectedModels.poll()) != null) {
+            snapshots.remove(reference);
+        }
+    }
+
+    private static void bindValue(@NonNull DatabaseStatement statement, int index, @Nullable Object value) {
+        if (value == null) {
+            statement.bindNull(index);
+        } else if (value instanceof byte[]) {
+            statement.bindBlob(index, (byte[]) value);
+        } else if (value instanceof Boolean) {
+            statement.bindLong(index, ((Boolean) value) ? 1 : 0);
+        } else if (value instanceof Float || value instanceof Double) {
+            statement.bindDouble(index, ((Number) value).doubleValue());
+        } else if (value instanceof Number) {
+            statement.bindLong(index, ((Number) value).longValue());
+        } else {
+            statement.bindString(index, value.toString());
+        }
+    }
+
+    private static boolean valueEquals(@Nullable Object first, @Nullable Object second) {
+        if (first instanceof byte[] && second instanceof byte[]) {
+            return Arrays.equals((byte[]) first, (byte[]) second);
+        }
+        return first == null ? second == null : first.equals(second);
+    }
+
+    /**
+     * A weak reference that compares models by identity, since models may define equals on their values.
+     */
+    private static final class ModelReference extends WeakReference<Object> {
+
+        private final int hashCode;
+
+        ModelReference(@NonNull Object model, @Nullable ReferenceQueue<Object> queue) {
+            super(model, queue);
+            hashCode = System.identityHashCode(model);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ModelReference)) {
+                return false;
+            }
+            Object model = get();
+            return model != null && model == ((ModelReference) o).get();
+        }
+    }
+}
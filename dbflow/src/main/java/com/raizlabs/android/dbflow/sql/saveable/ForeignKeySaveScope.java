@@ -0,0 +1,98 @@
+package com.raizlabs.android.dbflow.sql.saveable;
+
+import android.content.ContentValues;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.raizlabs.android.dbflow.structure.ModelAdapter;
+
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Description: Remembers the models saved through {@link ModelAdapter#save(Object)} while a collection is being
+ * stored on the current thread, so foreign key models shared by many rows are written once per batch instead of
+ * once per row. Models are matched by identity, or by the values of all their columns once saved, so another
+ * instance of the same row is only skipped when it would write nothing new. Scopes may nest; the outermost one
+ * owns the saved models.
+ */
+public final class ForeignKeySaveScope {
+
+    private static final ThreadLocal<ForeignKeySaveScope> scopes = new ThreadLocal<>();
+
+    /**
+     * Starts a scope on the current thread, or joins the one in progress.
+     */
+    public static void begin() {
+        ForeignKeySaveScope scope = scopes.get();
+        if (scope == null) {
+            scope = new ForeignKeySaveScope();
+            scopes.set(scope);
+        }
+        scope.depth++;
+    }
+
+    /**
+     * Ends a scope started with {@link #begin()}.
+     */
+    public static void end() {
+        ForeignKeySaveScope scope = scopes.get();
+        if (scope == null) {
+            throw new IllegalStateException("end() called without a matching begin()");
+        }
+        if (--scope.depth == 0) {
+            scopes.remove();
+        }
+    }
+
+    /**
+     * @return The scope of the current thread, or null when no collection is being stored.
+     */
+    @Nullable
+    public static ForeignKeySaveScope get() {
+        return scopes.get();
+    }
+
+    private final Map<Object, Boolean> savedModels = new IdentityHashMap<>();
+    private final Map<ModelAdapter<?>, Set<ContentValues>> savedValues = new IdentityHashMap<>();
+
+    private int depth;
+
+    private ForeignKeySaveScope() {
+    }
+
+    /**
+     * @return true if this model, or another of the same table with the same column values, was already saved in
+     * this scope.
+     */
+    public <TModel> boolean isSaved(@NonNull ModelAdapter<TModel> modelAdapter, @NonNull TModel model) {
+        if (savedModels.containsKey(model)) {
+            return true;
+        }
+        Set<ContentValues> tableValues = savedValues.get(modelAdapter);
+        return tableValues != null && tableValues.contains(getValues(modelAdapter, model));
+    }
+
+    /**
+     * Records a saved model. Its values are read after saving, once any autoincrement id is assigned.
+     */
+    public <TModel> void markSaved(@NonNull ModelAdapter<TModel> modelAdapter, @NonNull TModel model) {
+        savedModels.put(model, Boolean.TRUE);
+        Set<ContentValues> tableValues = savedValues.get(modelAdapter);
+        if (tableValues == null) {
+            tableValues = new HashSet<>();
+            savedValues.put(modelAdapter, tableValues);
+        }
+        tableValues.add(getValues(modelAdapter, model));
+    }
+
+    @NonNull
+    private static <TModel> ContentValues getValues(@NonNull ModelAdapter<TModel> modelAdapter,
+                                                    @NonNull TModel model) {
+        ContentValues values = new ContentValues();
+        modelAdapter.bindToContentValues(values, model);
+        return values;
+    }
+}
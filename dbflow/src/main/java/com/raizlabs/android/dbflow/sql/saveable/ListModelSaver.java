@@ -1,31 +1,68 @@
 package com.raizlabs.android.dbflow.sql.saveable;
 
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 
+import com.raizlabs.android.dbflow.annotation.ConflictAction;
+import com.raizlabs.android.dbflow.sql.QueryBuilder;
+import com.raizlabs.android.dbflow.sql.language.BoundQuery;
+import com.raizlabs.android.dbflow.sql.language.OperatorGroup;
+import com.raizlabs.android.dbflow.sql.language.SQLOperator;
+import com.raizlabs.android.dbflow.structure.ModelAdapter;
+import com.raizlabs.android.dbflow.structure.database.BaseDatabaseWrapper;
 import com.raizlabs.android.dbflow.structure.database.DatabaseStatement;
 import com.raizlabs.android.dbflow.structure.database.DatabaseWrapper;
+import com.raizlabs.android.dbflow.structure.database.FlowCursor;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 public class ListModelSaver<TModel> {
 
+    /**
+     * The default SQLITE_MAX_VARIABLE_NUMBER. A batch insert statement never binds more values than this.
+     */
+    public static final int MAX_BOUND_VARIABLES = 999;
+
+    /**
+     * The default SQLITE_MAX_COMPOUND_SELECT, which limits the rows of a VALUES clause on older SQLite versions.
+     */
+    public static final int MAX_BATCH_ROWS = 500;
+
     private final ModelSaver<TModel> modelSaver;
 
+    private boolean batchInsertEnabled;
+
     public ListModelSaver(@NonNull ModelSaver<TModel> modelSaver) {
         this.modelSaver = modelSaver;
     }
 
-    public synchronized void saveAll(@NonNull Collection<TModel> tableCollection) {
+    public void saveAll(@NonNull Collection<TModel> tableCollection) {
         saveAll(tableCollection, modelSaver.getWritableDatabase());
     }
 
-    public synchronized void saveAll(@NonNull Collection<TModel> tableCollection,
-                                     @NonNull DatabaseWrapper wrapper) {
+    public void saveAll(@NonNull Collection<TModel> tableCollection,
+                        @NonNull DatabaseWrapper wrapper) {
         // skip if empty.
         if (tableCollection.isEmpty()) {
             return;
         }
 
+        if (modelSaver.getModelAdapter().isUpsertEnabled()) {
+            upsertAll(tableCollection, wrapper);
+            return;
+        }
+
+        if (canPartitionSave(tableCollection)) {
+            partitionedSaveAll(tableCollection, wrapper);
+            return;
+        }
+
         DatabaseStatement statement = modelSaver.getModelAdapter().getInsertStatement(wrapper);
         DatabaseStatement updateStatement = modelSaver.getModelAdapter().getUpdateStatement(wrapper);
         try {
@@ -38,17 +75,22 @@ public class ListModelSaver<TModel> {
         }
     }
 
-    public synchronized void insertAll(@NonNull Collection<TModel> tableCollection) {
+    public void insertAll(@NonNull Collection<TModel> tableCollection) {
         insertAll(tableCollection, modelSaver.getWritableDatabase());
     }
 
-    public synchronized void insertAll(@NonNull Collection<TModel> tableCollection,
-                                       @NonNull DatabaseWrapper wrapper) {
+    public void insertAll(@NonNull Collection<TModel> tableCollection,
+                          @NonNull DatabaseWrapper wrapper) {
         // skip if empty.
         if (tableCollection.isEmpty()) {
             return;
         }
 
+        if (canBatchInsert(tableCollection, wrapper)) {
+            batchInsertAll(tableCollection, wrapper);
+            return;
+        }
+
         DatabaseStatement statement = modelSaver.getModelAdapter().getInsertStatement(wrapper);
         try {
             for (TModel model : tableCollection) {
@@ -59,12 +101,12 @@ public class ListModelSaver<TModel> {
         }
     }
 
-    public synchronized void updateAll(@NonNull Collection<TModel> tableCollection) {
+    public void updateAll(@NonNull Collection<TModel> tableCollection) {
         updateAll(tableCollection, modelSaver.getWritableDatabase());
     }
 
-    public synchronized void updateAll(@NonNull Collection<TModel> tableCollection,
-                                       @NonNull DatabaseWrapper wrapper) {
+    public void updateAll(@NonNull Collection<TModel> tableCollection,
+                          @NonNull DatabaseWrapper wrapper) {
         // skip if empty.
         if (tableCollection.isEmpty()) {
             return;
@@ -80,12 +122,12 @@ public class ListModelSaver<TModel> {
         }
     }
 
-    public synchronized void deleteAll(@NonNull Collection<TModel> tableCollection) {
+    public void deleteAll(@NonNull Collection<TModel> tableCollection) {
         deleteAll(tableCollection, modelSaver.getWritableDatabase());
     }
 
-    public synchronized void deleteAll(@NonNull Collection<TModel> tableCollection,
-                                       @NonNull DatabaseWrapper wrapper) {
+    public void deleteAll(@NonNull Collection<TModel> tableCollection,
+                          @NonNull DatabaseWrapper wrapper) {
         // skip if empty.
         if (tableCollection.isEmpty()) {
             return;
@@ -105,4 +147,294 @@ public class ListModelSaver<TModel> {
     public ModelSaver<TModel> getModelSaver() {
         return modelSaver;
     }
+
+    /**
+     * Saves the collection through {@link ModelSaver#upsert(Object, DatabaseWrapper, DatabaseStatement, DatabaseStatement)},
+     * reusing one upsert statement for every model.
+     */
+    protected void upsertAll(@NonNull Collection<TModel> tableCollection,
+                             @NonNull DatabaseWrapper wrapper) {
+        ModelAdapter<TModel> modelAdapter = modelSaver.getModelAdapter();
+        DatabaseStatement upsertStatement = modelAdapter.getUpsertStatement(wrapper);
+        DatabaseStatement updateStatement = modelAdapter.isNativeUpsertSupported()
+                ? null : modelAdapter.getUpdateStatement(wrapper);
+        try {
+            for (TModel model : tableCollection) {
+                if (modelSaver.upsert(model, wrapper, upsertStatement, updateStatement)) {
+                    onModelSaved(model);
+                }
+            }
+        } finally {
+            upsertStatement.close();
+            if (updateStatement != null) {
+                updateStatement.close();
+            }
+        }
+    }
+
+    /**
+     * @return true if the collection can skip the existence query of each model. Tables without a primary key
+     * keep saving one by one.
+     */
+    protected boolean canPartitionSave(@NonNull Collection<TModel> tableCollection) {
+        return tableCollection.size() > 1
+                && modelSaver.getModelAdapter().getPrimaryConditionClause(tableCollection.iterator().next()).size() > 0;
+    }
+
+    /**
+     * Saves the collection with one existence query per chunk of models instead of one per model. Models for which
+     * {@link ModelSaver#isNewModel(Object)} returns true skip the query. Each model is then saved in order through
+     * {@link ModelSaver#save(Object, DatabaseWrapper, DatabaseStatement, DatabaseStatement, boolean)}, so a model
+     * that repeats a key earlier in the collection updates the row that one inserted.
+     */
+    protected void partitionedSaveAll(@NonNull Collection<TModel> tableCollection,
+                                      @NonNull DatabaseWrapper wrapper) {
+        ModelAdapter<TModel> modelAdapter = modelSaver.getModelAdapter();
+        int size = tableCollection.size();
+        List<List<Object>> keys = new ArrayList<>(size);
+        Set<List<Object>> uniqueKeys = new LinkedHashSet<>(size);
+        List<SQLOperator> keyColumns = null;
+        for (TModel model : tableCollection) {
+            if (modelSaver.isNewModel(model)) {
+                // no key to look up, such as an unset autoincrement id.
+                keys.add(null);
+                continue;
+            }
+            OperatorGroup clause = modelAdapter.getPrimaryConditionClause(model);
+            if (keyColumns == null) {
+                keyColumns = clause.getConditions();
+            }
+            List<Object> key = getPrimaryKey(clause);
+            keys.add(key);
+            uniqueKeys.add(key);
+        }
+
+        Set<List<Object>> existingKeys = new HashSet<>();
+        if (keyColumns != null) {
+            List<List<Object>> lookups = new ArrayList<>(uniqueKeys);
+            int chunkSize = Math.max(1, Math.min(MAX_BATCH_ROWS, MAX_BOUND_VARIABLES / keyColumns.size()));
+            for (int start = 0; start < lookups.size(); start += chunkSize) {
+                queryExistingKeys(keyColumns, lookups.subList(start, Math.min(lookups.size(), start + chunkSize)),
+                        existingKeys, wrapper);
+            }
+        }
+
+        DatabaseStatement insertStatement = modelAdapter.getInsertStatement(wrapper);
+        DatabaseStatement updateStatement = modelAdapter.getUpdateStatement(wrapper);
+        try {
+            int index = 0;
+            for (TModel model : tableCollection) {
+                List<Object> key = keys.get(index++);
+                if (modelSaver.save(model, wrapper, insertStatement, updateStatement,
+                        key != null && existingKeys.contains(key))) {
+                    if (key != null) {
+                        // a later model with the same key updates this row.
+                        existingKeys.add(key);
+                    }
+                    onModelSaved(model);
+                }
+            }
+        } finally {
+            insertStatement.close();
+            updateStatement.close();
+        }
+    }
+
+    /**
+     * Called for each model written during {@link #upsertAll(Collection, DatabaseWrapper)} and
+     * {@link #partitionedSaveAll(Collection, DatabaseWrapper)}.
+     */
+    protected void onModelSaved(@NonNull TModel model) {
+    }
+
+    /**
+     * Enables writing {@link #insertAll(Collection, DatabaseWrapper)} through multi-row INSERT statements.
+     * Requires SQLite 3.7.11 or higher (API 16+).
+     */
+    public void setBatchInsertEnabled(boolean batchInsertEnabled) {
+        this.batchInsertEnabled = batchInsertEnabled;
+    }
+
+    public boolean isBatchInsertEnabled() {
+        return batchInsertEnabled;
+    }
+
+    /**
+     * @return The number of rows a full batch insert statement holds, bounded by {@link #MAX_BOUND_VARIABLES}
+     * and {@link #MAX_BATCH_ROWS}.
+     */
+    public int getBatchInsertRowCount() {
+        int columnCount = modelSaver.getModelAdapter().getInsertStatementColumnCount();
+        if (columnCount == 0) {
+            return MAX_BATCH_ROWS;
+        }
+        return Math.max(1, Math.min(MAX_BATCH_ROWS, MAX_BOUND_VARIABLES / columnCount));
+    }
+
+    /**
+     * Ignored rows leave gaps in a batch that break autoincrement assignment, so those tables insert one by one,
+     * as do tables where {@link ModelSaver#canInsertBatches(DatabaseWrapper)} returns false.
+     */
+    protected boolean canBatchInsert(@NonNull Collection<TModel> tableCollection,
+                                     @NonNull DatabaseWrapper wrapper) {
+        return batchInsertEnabled && tableCollection.size() > 1
+                && modelSaver.getModelAdapter().getInsertOnConflictAction() != ConflictAction.IGNORE
+                && modelSaver.canInsertBatches(wrapper);
+    }
+
+    /**
+     * Inserts the collection in chunks of {@link #getBatchInsertRowCount()} rows, with a second statement for the
+     * remainder. Both are cached by row count, see {@link ModelAdapter#getBatchInsertStatement(DatabaseWrapper, int)}.
+     * Models that cannot go in a batch are inserted on their own.
+     */
+    protected void batchInsertAll(@NonNull Collection<TModel> tableCollection,
+                                  @NonNull DatabaseWrapper wrapper) {
+        ModelAdapter<TModel> modelAdapter = modelSaver.getModelAdapter();
+        int rowCount = getBatchInsertRowCount();
+        List<TModel> batch = new ArrayList<>(Math.min(rowCount, tableCollection.size()));
+        DatabaseStatement batchStatement = null;
+        DatabaseStatement remainderStatement = null;
+        try {
+            for (TModel model : tableCollection) {
+                if (!modelSaver.canInsertInBatch(model)) {
+                    if (modelSaver.insert(model, wrapper) > ModelSaver.INSERT_FAILED) {
+                        onModelInserted(model);
+                    }
+                    continue;
+                }
+
+                batch.add(model);
+                if (batch.size() == rowCount) {
+                    if (batchStatement == null) {
+                        batchStatement = modelAdapter.getBatchInsertStatement(wrapper, rowCount);
+                    }
+                    insertBatch(batch, batchStatement, wrapper);
+                    batch.clear();
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                remainderStatement = modelAdapter.getBatchInsertStatement(wrapper, batch.size());
+                insertBatch(batch, remainderStatement, wrapper);
+            }
+        } finally {
+            if (batchStatement != null) {
+                batchStatement.close();
+            }
+            if (remainderStatement != null) {
+                remainderStatement.close();
+            }
+        }
+    }
+
+    /**
+     * Called for each model written during {@link #batchInsertAll(Collection, DatabaseWrapper)}.
+     */
+    protected void onModelInserted(@NonNull TModel model) {
+    }
+
+    private void insertBatch(@NonNull List<TModel> batch, @NonNull DatabaseStatement statement,
+                             @NonNull DatabaseWrapper wrapper) {
+        if (modelSaver.insertBatch(batch, statement, wrapper) > ModelSaver.INSERT_FAILED) {
+            for (TModel model : batch) {
+                onModelInserted(model);
+            }
+        }
+    }
+
+    /**
+     * Selects the primary keys that exist in the table, bound as arguments. Single keys use an IN clause, composite
+     * keys OR together a condition per key.
+     */
+    private void queryExistingKeys(@NonNull List<SQLOperator> keyColumns, @NonNull List<List<Object>> keys,
+                                   @NonNull Set<List<Object>> existingKeys, @NonNull DatabaseWrapper wrapper) {
+        int columnCount = keyColumns.size();
+        QueryBuilder query = new QueryBuilder("SELECT ");
+        for (int i = 0; i < columnCount; i++) {
+            if (i > 0) {
+                query.append(",");
+            }
+            query.append(keyColumns.get(i).columnName());
+        }
+        query.append(" FROM ").append(modelSaver.getModelAdapter().getTableName()).append(" WHERE ");
+        Object[] arguments = new Object[keys.size() * columnCount];
+        if (columnCount == 1) {
+            query.append(keyColumns.get(0).columnName()).append(" IN (");
+            for (int i = 0; i < keys.size(); i++) {
+                query.append(i > 0 ? ",?" : "?");
+                arguments[i] = toArgument(keys.get(i).get(0));
+            }
+            query.append(")");
+        } else {
+            for (int i = 0; i < keys.size(); i++) {
+                query.append(i > 0 ? " OR (" : "(");
+                for (int column = 0; column < columnCount; column++) {
+                    if (column > 0) {
+                        query.append(" AND ");
+                    }
+                    query.append(keyColumns.get(column).columnName()).append("=?");
+                    arguments[i * columnCount + column] = toArgument(keys.get(i).get(column));
+                }
+                query.append(")");
+            }
+        }
+
+        // rows are read as the types of the keys, so that an INTEGER row matches a key stored as TEXT.
+        List<Object> firstKey = keys.get(0);
+        FlowCursor cursor = BaseDatabaseWrapper.rawQueryWithArgs(wrapper, query.getQuery(), arguments);
+        try {
+            while (cursor.moveToNext()) {
+                List<Object> rowKey = new ArrayList<>(columnCount);
+                for (int i = 0; i < columnCount; i++) {
+                    rowKey.add(getRowValue(cursor, i, firstKey.get(i)));
+                }
+                existingKeys.add(rowKey);
+            }
+        } finally {
+            cursor.close();
+        }
+    }
+
+    /**
+     * @return The values of the primary condition clause as the database stores them: a {@link Long},
+     * {@link Double}, {@link String}, {@link ByteBuffer} or null, which compare by value.
+     */
+    @NonNull
+    private static List<Object> getPrimaryKey(@NonNull OperatorGroup clause) {
+        List<SQLOperator> conditions = clause.getConditions();
+        List<Object> key = new ArrayList<>(conditions.size());
+        for (SQLOperator condition : conditions) {
+            Object value = BoundQuery.toArgument(condition.value());
+            if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                value = ((Number) value).longValue();
+            } else if (value instanceof byte[]) {
+                value = ByteBuffer.wrap((byte[]) value);
+            }
+            key.add(value);
+        }
+        return key;
+    }
+
+    @Nullable
+    private static Object toArgument(@Nullable Object keyValue) {
+        return keyValue instanceof ByteBuffer ? ((ByteBuffer) keyValue).array() : keyValue;
+    }
+
+    /**
+     * @return The value of the column of the current row as the same type as the key value.
+     */
+    @Nullable
+    private static Object getRowValue(@NonNull FlowCursor cursor, int column, @Nullable Object keyValue) {
+        if (cursor.isNull(column)) {
+            return null;
+        } else if (keyValue instanceof Long) {
+            return cursor.getLong(column);
+        } else if (keyValue instanceof Double) {
+            return cursor.getDouble(column);
+        } else if (keyValue instanceof ByteBuffer) {
+            return ByteBuffer.wrap(cursor.getBlob(column));
+        } else {
+            return cursor.getString(column);
+        }
+    }
 }
@@ -2,15 +2,19 @@ package com.raizlabs.android.dbflow.sql.saveable;
 
 import android.content.ContentValues;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 
 import com.raizlabs.android.dbflow.annotation.ConflictAction;
 import com.raizlabs.android.dbflow.config.FlowManager;
 import com.raizlabs.android.dbflow.runtime.NotifyDistributor;
 import com.raizlabs.android.dbflow.structure.BaseModel;
 import com.raizlabs.android.dbflow.structure.ModelAdapter;
+import com.raizlabs.android.dbflow.structure.database.BaseDatabaseWrapper;
 import com.raizlabs.android.dbflow.structure.database.DatabaseStatement;
 import com.raizlabs.android.dbflow.structure.database.DatabaseWrapper;
 
+import java.util.List;
+
 /**
  * Description: Defines how models get saved into the DB. It will bind values to {@link DatabaseStatement}
  * for all CRUD operations as they are wildly faster and more efficient than {@link ContentValues}.
@@ -25,12 +29,20 @@ public class ModelSaver<TModel> {
         this.modelAdapter = modelAdapter;
     }
 
-    public synchronized boolean save(@NonNull TModel model) {
+    public boolean save(@NonNull TModel model) {
+        if (modelAdapter.isUpsertEnabled()) {
+            return upsert(model, getWritableDatabase(), modelAdapter.getUpsertStatement(),
+                    modelAdapter.getUpdateStatement());
+        }
         return save(model, getWritableDatabase(), modelAdapter.getInsertStatement(),
                 modelAdapter.getUpdateStatement());
     }
 
-    public synchronized boolean save(@NonNull TModel model, @NonNull DatabaseWrapper wrapper) {
+    public boolean save(@NonNull TModel model, @NonNull DatabaseWrapper wrapper) {
+        if (modelAdapter.isUpsertEnabled()) {
+            return upsert(model, wrapper);
+        }
+
         boolean exists = getModelAdapter().exists(model, wrapper);
 
         if (exists) {
@@ -50,12 +62,27 @@ public class ModelSaver<TModel> {
     }
 
     @SuppressWarnings("unchecked")
-    public synchronized boolean save(@NonNull TModel model,
-                                     @NonNull DatabaseWrapper wrapper,
-                                     @NonNull DatabaseStatement insertStatement,
-                                     @NonNull DatabaseStatement updateStatement) {
-        boolean exists = modelAdapter.exists(model, wrapper);
+    public boolean save(@NonNull TModel model,
+                        @NonNull DatabaseWrapper wrapper,
+                        @NonNull DatabaseStatement insertStatement,
+                        @NonNull DatabaseStatement updateStatement) {
+        if (modelAdapter.isUpsertEnabled()) {
+            return upsert(model, wrapper);
+        }
+        return save(model, wrapper, insertStatement, updateStatement, modelAdapter.exists(model, wrapper));
+    }
 
+    /**
+     * Saves a model whose existence is already known, such as from one query for a whole collection in
+     * {@link ListModelSaver}. Like the other save methods, an update that changes no row falls back to an insert.
+     *
+     * @param exists True to update the row of the model first.
+     */
+    public boolean save(@NonNull TModel model,
+                        @NonNull DatabaseWrapper wrapper,
+                        @NonNull DatabaseStatement insertStatement,
+                        @NonNull DatabaseStatement updateStatement,
+                        boolean exists) {
         if (exists) {
             exists = update(model, wrapper, updateStatement);
         }
@@ -72,11 +99,85 @@ public class ModelSaver<TModel> {
         return exists;
     }
 
-    public synchronized boolean update(@NonNull TModel model) {
+    public boolean upsert(@NonNull TModel model, @NonNull DatabaseWrapper wrapper) {
+        DatabaseStatement upsertStatement = modelAdapter.getUpsertStatement(wrapper);
+        boolean success = false;
+        try {
+            success = upsert(model, wrapper, upsertStatement, null);
+        } finally {
+            // since we generate an upsert every time, we can safely close the statement here.
+            upsertStatement.close();
+        }
+        return success;
+    }
+
+    /**
+     * Saves the model without checking for existence first. With native upsert support this is a single
+     * INSERT ... ON CONFLICT DO UPDATE. Otherwise an INSERT OR IGNORE runs and, when the row already exists, is
+     * followed by an UPDATE. Either way {@link BaseModel.Action#INSERT} or {@link BaseModel.Action#UPDATE} is
+     * notified, then {@link BaseModel.Action#SAVE}.
+     *
+     * @param upsertStatement The statement from {@link ModelAdapter#getUpsertStatement(DatabaseWrapper)}.
+     * @param updateStatement The update statement to use when falling back. If null, one is compiled when needed.
+     * @return true if the model was stored.
+     */
+    @SuppressWarnings("unchecked")
+    public boolean upsert(@NonNull TModel model,
+                          @NonNull DatabaseWrapper wrapper,
+                          @NonNull DatabaseStatement upsertStatement,
+                          @Nullable DatabaseStatement updateStatement) {
+        modelAdapter.saveForeignKeys(model, wrapper);
+        boolean nativeUpsert = modelAdapter.isNativeUpsertSupported();
+        // an ON CONFLICT DO UPDATE returns the last inserted row id as it was, while an insert replaces it. The
+        // wrapper tracks it, so it is not queried per save. A row inserted into the row id of the last row this
+        // connection inserted, after that row was deleted, is notified as an update.
+        long lastInsertId = nativeUpsert ? BaseDatabaseWrapper.getLastInsertRowId(wrapper) : INSERT_FAILED;
+        modelAdapter.bindToStatement(upsertStatement, model);
+        long id = upsertStatement.executeInsert();
+
+        boolean successful;
+        if (nativeUpsert) {
+            // conflicts either update the row or leave an identical one in place (DO NOTHING), errors throw.
+            successful = true;
+            if (id > INSERT_FAILED && id != lastInsertId) {
+                modelAdapter.updateAutoIncrement(model, id);
+                NotifyDistributor.get().notifyModelChanged(model, modelAdapter, BaseModel.Action.INSERT);
+            } else {
+                NotifyDistributor.get().notifyModelChanged(model, modelAdapter, BaseModel.Action.UPDATE);
+            }
+        } else if (id > INSERT_FAILED) {
+            successful = true;
+            modelAdapter.updateAutoIncrement(model, id);
+            NotifyDistributor.get().notifyModelChanged(model, modelAdapter, BaseModel.Action.INSERT);
+        } else {
+            // row exists, the insert was ignored.
+            DatabaseStatement statement = updateStatement != null
+                    ? updateStatement : modelAdapter.getUpdateStatement(wrapper);
+            try {
+                modelAdapter.bindToUpdateStatement(statement, model);
+                successful = statement.executeUpdateDelete() != 0;
+            } finally {
+                if (updateStatement == null) {
+                    statement.close();
+                }
+            }
+            if (successful) {
+                NotifyDistributor.get().notifyModelChanged(model, modelAdapter, BaseModel.Action.UPDATE);
+            }
+        }
+
+        if (successful) {
+            modelAdapter.takeSnapshot(model);
+            NotifyDistributor.get().notifyModelChanged(model, modelAdapter, BaseModel.Action.SAVE);
+        }
+        return successful;
+    }
+
+    public boolean update(@NonNull TModel model) {
         return update(model, getWritableDatabase(), modelAdapter.getUpdateStatement());
     }
 
-    public synchronized boolean update(@NonNull TModel model, @NonNull DatabaseWrapper wrapper) {
+    public boolean update(@NonNull TModel model, @NonNull DatabaseWrapper wrapper) {
         DatabaseStatement updateStatement = modelAdapter.getUpdateStatement(wrapper);
         boolean success = false;
         try {
@@ -89,11 +190,22 @@ public class ModelSaver<TModel> {
     }
 
     @SuppressWarnings("unchecked")
-    public synchronized boolean update(@NonNull TModel model, @NonNull DatabaseWrapper wrapper,
-                                       @NonNull DatabaseStatement databaseStatement) {
+    public boolean update(@NonNull TModel model, @NonNull DatabaseWrapper wrapper,
+                          @NonNull DatabaseStatement databaseStatement) {
         modelAdapter.saveForeignKeys(model, wrapper);
-        modelAdapter.bindToUpdateStatement(databaseStatement, model);
-        boolean successful = databaseStatement.executeUpdateDelete() != 0;
+        DirtyColumnTracker<TModel> dirtyColumnTracker = modelAdapter.getDirtyColumnTracker();
+        boolean successful;
+        if (dirtyColumnTracker != null) {
+            long updated = dirtyColumnTracker.update(model, wrapper, databaseStatement);
+            if (updated == DirtyColumnTracker.UNCHANGED) {
+                // nothing was written, so there is no change to notify.
+                return true;
+            }
+            successful = updated != 0;
+        } else {
+            modelAdapter.bindToUpdateStatement(databaseStatement, model);
+            successful = databaseStatement.executeUpdateDelete() != 0;
+        }
         if (successful) {
             NotifyDistributor.get().notifyModelChanged(model, modelAdapter, BaseModel.Action.UPDATE);
         }
@@ -101,12 +213,12 @@ public class ModelSaver<TModel> {
     }
 
     @SuppressWarnings("unchecked")
-    public synchronized long insert(@NonNull TModel model) {
+    public long insert(@NonNull TModel model) {
         return insert(model, modelAdapter.getInsertStatement(), getWritableDatabase());
     }
 
     @SuppressWarnings("unchecked")
-    public synchronized long insert(@NonNull TModel model, @NonNull DatabaseWrapper wrapper) {
+    public long insert(@NonNull TModel model, @NonNull DatabaseWrapper wrapper) {
         DatabaseStatement insertStatement = modelAdapter.getInsertStatement(wrapper);
         long result = 0;
         try {
@@ -119,25 +231,89 @@ public class ModelSaver<TModel> {
     }
 
     @SuppressWarnings("unchecked")
-    public synchronized long insert(@NonNull TModel model,
-                                    @NonNull DatabaseStatement insertStatement,
-                                    @NonNull DatabaseWrapper wrapper) {
+    public long insert(@NonNull TModel model,
+                       @NonNull DatabaseStatement insertStatement,
+                       @NonNull DatabaseWrapper wrapper) {
         modelAdapter.saveForeignKeys(model, wrapper);
         modelAdapter.bindToInsertStatement(insertStatement, model);
         long id = insertStatement.executeInsert();
         if (id > INSERT_FAILED) {
             modelAdapter.updateAutoIncrement(model, id);
+            modelAdapter.takeSnapshot(model);
             NotifyDistributor.get().notifyModelChanged(model, modelAdapter, BaseModel.Action.INSERT);
         }
         return id;
     }
 
-    public synchronized boolean delete(@NonNull TModel model) {
+    /**
+     * Inserts all models with a single multi-row statement. Each model is bound into its own row of the
+     * statement, so the statement must be compiled for exactly the number of models passed.
+     *
+     * @param models          The models to insert.
+     * @param insertStatement The statement from {@link ModelAdapter#getBatchInsertStatement(DatabaseWrapper, int)}.
+     * @param wrapper         The database to use.
+     * @return The row id of the last row inserted, or {@link #INSERT_FAILED}.
+     */
+    @SuppressWarnings("unchecked")
+    public long insertBatch(@NonNull List<TModel> models,
+                            @NonNull DatabaseStatement insertStatement,
+                            @NonNull DatabaseWrapper wrapper) {
+        int columnCount = modelAdapter.getInsertStatementColumnCount();
+        int size = models.size();
+        for (int i = 0; i < size; i++) {
+            TModel model = models.get(i);
+            modelAdapter.saveForeignKeys(model, wrapper);
+            modelAdapter.bindToInsertStatement(insertStatement, model, i * columnCount);
+        }
+        long id = insertStatement.executeInsert();
+        if (id > INSERT_FAILED) {
+            // rows from the same statement receive consecutive ids, ending with the one returned.
+            long firstId = id - size + 1;
+            checkBatchInsertIds(firstId, id, wrapper);
+            for (int i = 0; i < size; i++) {
+                TModel model = models.get(i);
+                modelAdapter.updateAutoIncrement(model, firstId + i);
+                modelAdapter.takeSnapshot(model);
+                NotifyDistributor.get().notifyModelChanged(model, modelAdapter, BaseModel.Action.INSERT);
+            }
+        }
+        return id;
+    }
+
+    /**
+     * Called before the row ids of a batch are assigned to its models. Throws if the rows did not receive exactly
+     * the ids from firstId to lastId.
+     */
+    protected void checkBatchInsertIds(long firstId, long lastId, @NonNull DatabaseWrapper wrapper) {
+    }
+
+    /**
+     * @return true if {@link #insertBatch(List, DatabaseStatement, DatabaseWrapper)} can be used for the table.
+     */
+    public boolean canInsertBatches(@NonNull DatabaseWrapper wrapper) {
+        return true;
+    }
+
+    /**
+     * @return true if the model has no row yet without querying for it.
+     */
+    public boolean isNewModel(@NonNull TModel model) {
+        return false;
+    }
+
+    /**
+     * @return true if the model can be written as a row of {@link #insertBatch(List, DatabaseStatement, DatabaseWrapper)}.
+     */
+    public boolean canInsertInBatch(@NonNull TModel model) {
+        return true;
+    }
+
+    public boolean delete(@NonNull TModel model) {
         return delete(model, modelAdapter.getDeleteStatement(), getWritableDatabase());
     }
 
     @SuppressWarnings("unchecked")
-    public synchronized boolean delete(@NonNull TModel model, @NonNull DatabaseWrapper wrapper) {
+    public boolean delete(@NonNull TModel model, @NonNull DatabaseWrapper wrapper) {
         DatabaseStatement deleteStatement = modelAdapter.getDeleteStatement(wrapper);
         boolean success = false;
         try {
@@ -150,14 +326,15 @@ public class ModelSaver<TModel> {
     }
 
     @SuppressWarnings("unchecked")
-    public synchronized boolean delete(@NonNull TModel model,
-                                       @NonNull DatabaseStatement deleteStatement,
-                                       @NonNull DatabaseWrapper wrapper) {
+    public boolean delete(@NonNull TModel model,
+                          @NonNull DatabaseStatement deleteStatement,
+                          @NonNull DatabaseWrapper wrapper) {
         modelAdapter.deleteForeignKeys(model, wrapper);
         modelAdapter.bindToDeleteStatement(deleteStatement, model);
 
         boolean success = deleteStatement.executeUpdateDelete() != 0;
         if (success) {
+            modelAdapter.removeSnapshot(model);
             NotifyDistributor.get().notifyModelChanged(model, modelAdapter, BaseModel.Action.DELETE);
         }
         modelAdapter.updateAutoIncrement(model, 0);
@@ -181,10 +358,10 @@ public class ModelSaver<TModel> {
      */
     @Deprecated
     @SuppressWarnings({"unchecked", "deprecation"})
-    public synchronized boolean save(@NonNull TModel model,
-                                     @NonNull DatabaseWrapper wrapper,
-                                     @NonNull DatabaseStatement insertStatement,
-                                     @NonNull ContentValues contentValues) {
+    public boolean save(@NonNull TModel model,
+                        @NonNull DatabaseWrapper wrapper,
+                        @NonNull DatabaseStatement insertStatement,
+                        @NonNull ContentValues contentValues) {
         boolean exists = modelAdapter.exists(model, wrapper);
 
         if (exists) {
@@ -208,9 +385,9 @@ public class ModelSaver<TModel> {
      */
     @Deprecated
     @SuppressWarnings("unchecked")
-    public synchronized boolean update(@NonNull TModel model,
-                                       @NonNull DatabaseWrapper wrapper,
-                                       @NonNull ContentValues contentValues) {
+    public boolean update(@NonNull TModel model,
+                          @NonNull DatabaseWrapper wrapper,
+                          @NonNull ContentValues contentValues) {
         modelAdapter.saveForeignKeys(model, wrapper);
         modelAdapter.bindToContentValues(contentValues, model);
         boolean successful = wrapper.updateWithOnConflict(modelAdapter.getTableName(), contentValues,
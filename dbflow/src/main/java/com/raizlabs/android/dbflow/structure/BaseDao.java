@@ -0,0 +1,163 @@
+package com.raizlabs.android.dbflow.structure;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.raizlabs.android.dbflow.annotation.Dao;
+import com.raizlabs.android.dbflow.config.FlowManager;
+import com.raizlabs.android.dbflow.runtime.NotifyDistributor;
+import com.raizlabs.android.dbflow.sql.language.BoundQuery;
+import com.raizlabs.android.dbflow.sql.saveable.ModelSaver;
+import com.raizlabs.android.dbflow.structure.database.BaseDatabaseWrapper;
+import com.raizlabs.android.dbflow.structure.database.DatabaseStatement;
+import com.raizlabs.android.dbflow.structure.database.DatabaseStatementCache;
+import com.raizlabs.android.dbflow.structure.database.DatabaseWrapper;
+import com.raizlabs.android.dbflow.structure.database.FlowCursor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Description: The base class of the implementations generated for {@link Dao} interfaces. Their SQL is constant,
+ * so a call only binds its arguments and runs. Models are read with the {@link RetrievalAdapter} of their class,
+ * including its caching, and each write keeps a compiled statement per thread.
+ */
+public abstract class BaseDao {
+
+    private final Class<?> databaseClass;
+    private final List<DatabaseStatementCache> statementCaches = new ArrayList<>();
+
+    protected BaseDao(@NonNull Class<?> databaseClass) {
+        this.databaseClass = databaseClass;
+    }
+
+    @NonNull
+    public DatabaseWrapper getDatabaseWrapper() {
+        return FlowManager.getDatabase(databaseClass).getWritableDatabase();
+    }
+
+    /**
+     * @return The database that reads run on, which is a read connection pool when one is enabled.
+     */
+    @NonNull
+    public DatabaseWrapper getReadableDatabaseWrapper() {
+        return FlowManager.getDatabase(databaseClass).getReadableDatabase();
+    }
+
+    /**
+     * Closes the statements compiled for writes. They are compiled again when next used.
+     */
+    public void close() {
+        synchronized (statementCaches) {
+            for (DatabaseStatementCache statementCache : statementCaches) {
+                statementCache.close();
+            }
+        }
+    }
+
+    @NonNull
+    protected <TModel> List<TModel> queryList(@NonNull Class<TModel> table, @NonNull String query,
+                                              @NonNull Object[] arguments) {
+        FlowCursor cursor = BaseDatabaseWrapper.rawQueryWithArgs(getReadableDatabaseWrapper(), query, arguments);
+        return FlowManager.getRetrievalAdapter(table).getListModelLoader().load(cursor);
+    }
+
+    @Nullable
+    protected <TModel> TModel querySingle(@NonNull Class<TModel> table, @NonNull String query,
+                                          @NonNull Object[] arguments) {
+        FlowCursor cursor = BaseDatabaseWrapper.rawQueryWithArgs(getReadableDatabaseWrapper(), query, arguments);
+        return FlowManager.getRetrievalAdapter(table).getSingleModelLoader().load(cursor);
+    }
+
+    /**
+     * @return The first column of the first row, or 0 if there is none.
+     */
+    protected long longForQuery(@NonNull String query, @NonNull Object[] arguments) {
+        FlowCursor cursor = BaseDatabaseWrapper.rawQueryWithArgs(getReadableDatabaseWrapper(), query, arguments);
+        try {
+            return cursor.moveToFirst() ? cursor.getLong(0) : 0;
+        } finally {
+            cursor.close();
+        }
+    }
+
+    /**
+     * @return The first column of the first row, or 0 if there is none.
+     */
+    protected double doubleForQuery(@NonNull String query, @NonNull Object[] arguments) {
+        FlowCursor cursor = BaseDatabaseWrapper.rawQueryWithArgs(getReadableDatabaseWrapper(), query, arguments);
+        try {
+            return cursor.moveToFirst() ? cursor.getDouble(0) : 0;
+        } finally {
+            cursor.close();
+        }
+    }
+
+    /**
+     * @return The first column of the first row, or null if there is none.
+     */
+    @Nullable
+    protected String stringForQuery(@NonNull String query, @NonNull Object[] arguments) {
+        FlowCursor cursor = BaseDatabaseWrapper.rawQueryWithArgs(getReadableDatabaseWrapper(), query, arguments);
+        try {
+            return cursor.moveToFirst() ? cursor.getString(0) : null;
+        } finally {
+            cursor.close();
+        }
+    }
+
+    /**
+     * @return The number of rows changed. The table is notified if any was.
+     */
+    protected long executeUpdateDelete(@NonNull DatabaseStatementCache statements, @NonNull Object[] arguments,
+                                       @NonNull Class<?> table, @NonNull BaseModel.Action action) {
+        DatabaseStatement statement = statements.get(getDatabaseWrapper());
+        BoundQuery.bindArguments(statement, arguments);
+        long affected = statement.executeUpdateDelete();
+        if (affected > 0) {
+            NotifyDistributor.get().notifyTableChanged(table, action);
+        }
+        return affected;
+    }
+
+    /**
+     * @return The id of the inserted row, or {@link ModelSaver#INSERT_FAILED}. The table is notified on success.
+     */
+    protected long executeInsert(@NonNull DatabaseStatementCache statements, @NonNull Object[] arguments,
+                                 @NonNull Class<?> table) {
+        DatabaseStatement statement = statements.get(getDatabaseWrapper());
+        BoundQuery.bindArguments(statement, arguments);
+        long id = statement.executeInsert();
+        if (id > ModelSaver.INSERT_FAILED) {
+            NotifyDistributor.get().notifyTableChanged(table, BaseModel.Action.INSERT);
+        }
+        return id;
+    }
+
+    /**
+     * @return A cache of the statement of a write, closed with {@link #close()}.
+     */
+    @NonNull
+    protected DatabaseStatementCache newStatementCache(@NonNull final String query) {
+        DatabaseStatementCache statementCache = new DatabaseStatementCache() {
+            @NonNull
+            @Override
+            protected DatabaseStatement createStatement(@NonNull DatabaseWrapper databaseWrapper) {
+                return databaseWrapper.compileStatement(query);
+            }
+        };
+        synchronized (statementCaches) {
+            statementCaches.add(statementCache);
+        }
+        return statementCache;
+    }
+
+    /**
+     * Converts a parameter that is not a number, {@link String} or byte[], such as with its
+     * {@link com.raizlabs.android.dbflow.converter.TypeConverter}.
+     */
+    @Nullable
+    protected static Object toArgument(@Nullable Object value) {
+        return BoundQuery.toArgument(value);
+    }
+}
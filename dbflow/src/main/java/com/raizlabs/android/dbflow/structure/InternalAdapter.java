@@ -157,10 +157,11 @@ public interface InternalAdapter<TModel> {
      *
      * @param sqLiteStatement The statement to bind.
      * @param model           The model to retrieve data from.
-     * @param start           The starting index for this bind.
+     * @param start           The starting index for this bind. Multi-row inserts offset each row by the
+     *                        number of columns bound per row.
      */
     void bindToInsertStatement(@NonNull DatabaseStatement sqLiteStatement, @NonNull TModel model,
-                               @IntRange(from = 0, to = 1) int start);
+                               @IntRange(from = 0) int start);
 
     /**
      * Binds to a {@link SQLiteStatement}. It leaves out an autoincrementing primary key (if specified)
@@ -4,20 +4,32 @@ import android.content.ContentValues;
 import android.database.sqlite.SQLiteStatement;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
+import android.util.SparseArray;
 
 import com.raizlabs.android.dbflow.annotation.ConflictAction;
 import com.raizlabs.android.dbflow.annotation.ForeignKey;
 import com.raizlabs.android.dbflow.annotation.PrimaryKey;
 import com.raizlabs.android.dbflow.annotation.Table;
 import com.raizlabs.android.dbflow.config.DatabaseDefinition;
+import com.raizlabs.android.dbflow.config.FlowManager;
+import com.raizlabs.android.dbflow.config.TableConfig;
+import com.raizlabs.android.dbflow.runtime.NotifyDistributor;
+import com.raizlabs.android.dbflow.sql.language.BoundQuery;
+import com.raizlabs.android.dbflow.sql.language.ForeignKeyJoin;
+import com.raizlabs.android.dbflow.sql.language.SQLite;
 import com.raizlabs.android.dbflow.sql.language.property.IProperty;
 import com.raizlabs.android.dbflow.sql.language.property.Property;
+import com.raizlabs.android.dbflow.sql.saveable.DirtyColumnTracker;
+import com.raizlabs.android.dbflow.sql.saveable.ForeignKeySaveScope;
 import com.raizlabs.android.dbflow.sql.saveable.ListModelSaver;
 import com.raizlabs.android.dbflow.sql.saveable.ModelSaver;
 import com.raizlabs.android.dbflow.structure.cache.IMultiKeyCacheConverter;
+import com.raizlabs.android.dbflow.structure.cache.LongModelCache;
 import com.raizlabs.android.dbflow.structure.cache.ModelCache;
 import com.raizlabs.android.dbflow.structure.cache.SimpleMapCache;
+import com.raizlabs.android.dbflow.structure.database.BaseDatabaseWrapper;
 import com.raizlabs.android.dbflow.structure.database.DatabaseStatement;
+import com.raizlabs.android.dbflow.structure.database.DatabaseStatementCache;
 import com.raizlabs.android.dbflow.structure.database.DatabaseWrapper;
 import com.raizlabs.android.dbflow.structure.database.FlowCursor;
 
@@ -32,15 +44,51 @@ import static com.raizlabs.android.dbflow.config.FlowManager.getWritableDatabase
 public abstract class ModelAdapter<TModel> extends InstanceAdapter<TModel>
         implements InternalAdapter<TModel> {
 
-    private DatabaseStatement insertStatement;
-    private DatabaseStatement compiledStatement;
-    private DatabaseStatement updateStatement;
-    private DatabaseStatement deleteStatement;
+    private final DatabaseStatementCache insertStatements = new DatabaseStatementCache() {
+        @NonNull
+        @Override
+        protected DatabaseStatement createStatement(@NonNull DatabaseWrapper databaseWrapper) {
+            return getInsertStatement(databaseWrapper);
+        }
+    };
+    private final DatabaseStatementCache compiledStatements = new DatabaseStatementCache() {
+        @NonNull
+        @Override
+        protected DatabaseStatement createStatement(@NonNull DatabaseWrapper databaseWrapper) {
+            return getCompiledStatement(databaseWrapper);
+        }
+    };
+    private final DatabaseStatementCache updateStatements = new DatabaseStatementCache() {
+        @NonNull
+        @Override
+        protected DatabaseStatement createStatement(@NonNull DatabaseWrapper databaseWrapper) {
+            return getUpdateStatement(databaseWrapper);
+        }
+    };
+    private final DatabaseStatementCache deleteStatements = new DatabaseStatementCache() {
+        @NonNull
+        @Override
+        protected DatabaseStatement createStatement(@NonNull DatabaseWrapper databaseWrapper) {
+            return getDeleteStatement(databaseWrapper);
+        }
+    };
+    private final DatabaseStatementCache upsertStatements = new DatabaseStatementCache() {
+        @NonNull
+        @Override
+        protected DatabaseStatement createStatement(@NonNull DatabaseWrapper databaseWrapper) {
+            return getUpsertStatement(databaseWrapper);
+        }
+    };
+
+    private final SparseArray<String> batchInsertStatementQueries = new SparseArray<>();
+    private int insertStatementColumnCount = -1;
 
     private String[] cachingColumns;
     private ModelCache<TModel, ?> modelCache;
     private ModelSaver<TModel> modelSaver;
     private ListModelSaver<TModel> listModelSaver;
+    private DirtyColumnTracker<TModel> dirtyColumnTracker;
+    private int[] loadByPrimaryKeyColumnIndices;
 
     public ModelAdapter(@NonNull DatabaseDefinition databaseDefinition) {
         super(databaseDefinition);
@@ -51,122 +99,157 @@ public abstract class ModelAdapter<TModel> extends InstanceAdapter<TModel>
     }
 
     /**
-     * @return The pre-compiled insert statement for this table model adapter. This is reused and cached.
+     * @return The pre-compiled insert statement for this table model adapter. This is reused and cached
+     * per thread.
      */
     @NonNull
     public DatabaseStatement getInsertStatement() {
-        if (insertStatement == null) {
-            insertStatement = getInsertStatement(getWritableDatabaseForTable(getModelClass()));
-        }
-
-        return insertStatement;
+        return insertStatements.get(getWritableDatabaseForTable(getModelClass()));
     }
 
     /**
-     * @return The pre-compiled update statement for this table model adapter. This is reused and cached.
+     * @return The pre-compiled update statement for this table model adapter. This is reused and cached
+     * per thread.
      */
     @NonNull
     public DatabaseStatement getUpdateStatement() {
-        if (updateStatement == null) {
-            updateStatement = getUpdateStatement(getWritableDatabaseForTable(getModelClass()));
-        }
-
-        return updateStatement;
+        return updateStatements.get(getWritableDatabaseForTable(getModelClass()));
     }
 
     /**
-     * @return The pre-compiled delete statement for this table model adapter. This is reused and cached.
+     * @return The pre-compiled delete statement for this table model adapter. This is reused and cached
+     * per thread.
      */
     @NonNull
     public DatabaseStatement getDeleteStatement() {
-        if (deleteStatement == null) {
-            deleteStatement = getDeleteStatement(getWritableDatabaseForTable(getModelClass()));
-        }
+        return deleteStatements.get(getWritableDatabaseForTable(getModelClass()));
+    }
 
-        return deleteStatement;
+    /**
+     * @return The pre-compiled upsert statement for this table model adapter. This is reused and cached
+     * per thread.
+     */
+    @NonNull
+    public DatabaseStatement getUpsertStatement() {
+        return upsertStatements.get(getWritableDatabaseForTable(getModelClass()));
     }
 
     public void closeInsertStatement() {
-        if (insertStatement == null) {
-            return;
-        }
-        insertStatement.close();
-        insertStatement = null;
+        insertStatements.close();
     }
 
     public void closeUpdateStatement() {
-        if (updateStatement == null) {
-            return;
+        updateStatements.close();
+        if (dirtyColumnTracker != null) {
+            dirtyColumnTracker.close();
         }
-        updateStatement.close();
-        updateStatement = null;
     }
 
     public void closeDeleteStatement() {
-        if (deleteStatement == null) {
-            return;
-        }
-        deleteStatement.close();
-        deleteStatement = null;
+        deleteStatements.close();
     }
 
     /**
      * @param databaseWrapper The database used to do an insert statement.
-     * @return a new compiled {@link DatabaseStatement} representing insert. Not cached, always generated.
+     * @return a compiled {@link DatabaseStatement} representing insert. Taken from
+     * {@link BaseDatabaseWrapper#compileCachedStatement(String)}, close it when done.
      * To bind values use {@link #bindToInsertStatement(DatabaseStatement, Object)}.
      */
     @NonNull
     public DatabaseStatement getInsertStatement(@NonNull DatabaseWrapper databaseWrapper) {
-        return databaseWrapper.compileStatement(getInsertStatementQuery());
+        return BaseDatabaseWrapper.compileCachedStatement(databaseWrapper, getInsertStatementQuery());
     }
 
     /**
      * @param databaseWrapper The database used to do an update statement.
-     * @return a new compiled {@link DatabaseStatement} representing update. Not cached, always generated.
+     * @return a compiled {@link DatabaseStatement} representing update. Taken from
+     * {@link BaseDatabaseWrapper#compileCachedStatement(String)}, close it when done.
      * To bind values use {@link #bindToUpdateStatement(DatabaseStatement, Object)}.
      */
     @NonNull
     public DatabaseStatement getUpdateStatement(@NonNull DatabaseWrapper databaseWrapper) {
-        return databaseWrapper.compileStatement(getUpdateStatementQuery());
+        return BaseDatabaseWrapper.compileCachedStatement(databaseWrapper, getUpdateStatementQuery());
     }
 
     /**
      * @param databaseWrapper The database used to do a delete statement.
-     * @return a new compiled {@link DatabaseStatement} representing delete. Not cached, always generated.
+     * @return a compiled {@link DatabaseStatement} representing delete. Taken from
+     * {@link BaseDatabaseWrapper#compileCachedStatement(String)}, close it when done.
      * To bind values use {@link #bindToDeleteStatement(DatabaseStatement, Object)}.
      */
     @NonNull
     public DatabaseStatement getDeleteStatement(@NonNull DatabaseWrapper databaseWrapper) {
-        return databaseWrapper.compileStatement(getDeleteStatementQuery());
+        return BaseDatabaseWrapper.compileCachedStatement(databaseWrapper, getDeleteStatementQuery());
+    }
+
+    public void closeUpsertStatement() {
+        upsertStatements.close();
     }
 
     /**
-     * @return The precompiled full statement for this table model adapter
+     * @param databaseWrapper The database used to do an upsert statement.
+     * @return a compiled {@link DatabaseStatement} representing upsert. Taken from
+     * {@link BaseDatabaseWrapper#compileCachedStatement(String)}, close it when done.
+     * When {@link #isNativeUpsertSupported()} is false, this is an INSERT OR IGNORE that must be followed by an
+     * update when nothing was inserted. To bind values use {@link #bindToStatement(DatabaseStatement, Object)}.
      */
     @NonNull
-    public DatabaseStatement getCompiledStatement() {
-        if (compiledStatement == null) {
-            compiledStatement = getCompiledStatement(getWritableDatabaseForTable(getModelClass()));
+    public DatabaseStatement getUpsertStatement(@NonNull DatabaseWrapper databaseWrapper) {
+        return BaseDatabaseWrapper.compileCachedStatement(databaseWrapper, isNativeUpsertSupported()
+                ? getUpsertStatementQuery() : getUpsertFallbackStatementQuery());
+    }
+
+    /**
+     * @param databaseWrapper The database used to do an insert statement.
+     * @param rowCount        The number of rows this statement inserts at once.
+     * @return a compiled multi-row {@link DatabaseStatement} representing insert. Taken from
+     * {@link BaseDatabaseWrapper#compileCachedStatement(String)} with the query of the row count, so later batches of
+     * the same size reuse it. Close it when done.
+     * To bind values use {@link #bindToInsertStatement(DatabaseStatement, Object, int)} for each row, offset by
+     * {@link #getInsertStatementColumnCount()} times the row position.
+     */
+    @NonNull
+    public DatabaseStatement getBatchInsertStatement(@NonNull DatabaseWrapper databaseWrapper, int rowCount) {
+        return BaseDatabaseWrapper.compileCachedStatement(databaseWrapper, getBatchInsertStatementQuery(rowCount));
+    }
+
+    /**
+     * @return The number of values bound for a single row of {@link #getInsertStatement(DatabaseWrapper)}.
+     */
+    public int getInsertStatementColumnCount() {
+        if (insertStatementColumnCount == -1) {
+            String rowValues = getInsertStatementValuesQuery();
+            int count = 0;
+            for (int i = 0; i < rowValues.length(); i++) {
+                if (rowValues.charAt(i) == '?') {
+                    count++;
+                }
+            }
+            insertStatementColumnCount = count;
         }
+        return insertStatementColumnCount;
+    }
 
-        return compiledStatement;
+    /**
+     * @return The precompiled full statement for this table model adapter
+     */
+    @NonNull
+    public DatabaseStatement getCompiledStatement() {
+        return compiledStatements.get(getWritableDatabaseForTable(getModelClass()));
     }
 
     public void closeCompiledStatement() {
-        if (compiledStatement == null) {
-            return;
-        }
-        compiledStatement.close();
-        compiledStatement = null;
+        compiledStatements.close();
     }
 
     /**
      * @param databaseWrapper The database used to do an insert statement.
-     * @return a new compiled {@link DatabaseStatement} representing insert.
+     * @return a compiled {@link DatabaseStatement} representing insert. Taken from
+     * {@link BaseDatabaseWrapper#compileCachedStatement(String)}, close it when done.
      * To bind values use {@link #bindToInsertStatement(DatabaseStatement, Object)}.
      */
     public DatabaseStatement getCompiledStatement(@NonNull DatabaseWrapper databaseWrapper) {
-        return databaseWrapper.compileStatement(getCompiledStatementQuery());
+        return BaseDatabaseWrapper.compileCachedStatement(databaseWrapper, getCompiledStatementQuery());
     }
 
     /**
@@ -183,22 +266,52 @@ public abstract class ModelAdapter<TModel> extends InstanceAdapter<TModel>
 
     @Override
     public boolean save(@NonNull TModel model) {
-        return getModelSaver().save(model);
+        ForeignKeySaveScope scope = ForeignKeySaveScope.get();
+        if (scope == null) {
+            return getModelSaver().save(model);
+        } else if (scope.isSaved(this, model)) {
+            return true;
+        }
+        boolean saved = getModelSaver().save(model);
+        if (saved) {
+            scope.markSaved(this, model);
+        }
+        return saved;
     }
 
     @Override
     public boolean save(@NonNull TModel model, @NonNull DatabaseWrapper databaseWrapper) {
-        return getModelSaver().save(model, databaseWrapper);
+        ForeignKeySaveScope scope = ForeignKeySaveScope.get();
+        if (scope == null) {
+            return getModelSaver().save(model, databaseWrapper);
+        } else if (scope.isSaved(this, model)) {
+            return true;
+        }
+        boolean saved = getModelSaver().save(model, databaseWrapper);
+        if (saved) {
+            scope.markSaved(this, model);
+        }
+        return saved;
     }
 
     @Override
     public void saveAll(@NonNull Collection<TModel> models) {
-        getListModelSaver().saveAll(models);
+        boolean batched = beginBatch();
+        try {
+            getListModelSaver().saveAll(models);
+        } finally {
+            endBatch(batched);
+        }
     }
 
     @Override
     public void saveAll(@NonNull Collection<TModel> models, @NonNull DatabaseWrapper databaseWrapper) {
-        getListModelSaver().saveAll(models, databaseWrapper);
+        boolean batched = beginBatch();
+        try {
+            getListModelSaver().saveAll(models, databaseWrapper);
+        } finally {
+            endBatch(batched);
+        }
     }
 
     @Override
@@ -213,12 +326,22 @@ public abstract class ModelAdapter<TModel> extends InstanceAdapter<TModel>
 
     @Override
     public void insertAll(@NonNull Collection<TModel> models) {
-        getListModelSaver().insertAll(models);
+        boolean batched = beginBatch();
+        try {
+            getListModelSaver().insertAll(models);
+        } finally {
+            endBatch(batched);
+        }
     }
 
     @Override
     public void insertAll(@NonNull Collection<TModel> models, @NonNull DatabaseWrapper databaseWrapper) {
-        getListModelSaver().insertAll(models, databaseWrapper);
+        boolean batched = beginBatch();
+        try {
+            getListModelSaver().insertAll(models, databaseWrapper);
+        } finally {
+            endBatch(batched);
+        }
     }
 
     @Override
@@ -233,12 +356,22 @@ public abstract class ModelAdapter<TModel> extends InstanceAdapter<TModel>
 
     @Override
     public void updateAll(@NonNull Collection<TModel> models) {
-        getListModelSaver().updateAll(models);
+        boolean batched = beginBatch();
+        try {
+            getListModelSaver().updateAll(models);
+        } finally {
+            endBatch(batched);
+        }
     }
 
     @Override
     public void updateAll(@NonNull Collection<TModel> models, @NonNull DatabaseWrapper databaseWrapper) {
-        getListModelSaver().updateAll(models, databaseWrapper);
+        boolean batched = beginBatch();
+        try {
+            getListModelSaver().updateAll(models, databaseWrapper);
+        } finally {
+            endBatch(batched);
+        }
     }
 
     @Override
@@ -253,12 +386,48 @@ public abstract class ModelAdapter<TModel> extends InstanceAdapter<TModel>
 
     @Override
     public void deleteAll(@NonNull Collection<TModel> tModels, @NonNull DatabaseWrapper databaseWrapper) {
-        getListModelSaver().deleteAll(tModels, databaseWrapper);
+        boolean batched = beginBatch();
+        try {
+            getListModelSaver().deleteAll(tModels, databaseWrapper);
+        } finally {
+            endBatch(batched);
+        }
     }
 
     @Override
     public void deleteAll(@NonNull Collection<TModel> tModels) {
-        getListModelSaver().deleteAll(tModels);
+        boolean batched = beginBatch();
+        try {
+            getListModelSaver().deleteAll(tModels);
+        } finally {
+            endBatch(batched);
+        }
+    }
+
+    /**
+     * Starts the {@link ForeignKeySaveScope} of a collection operation, and a notification batch when the
+     * database enables them.
+     *
+     * @return true if a notification batch was started.
+     */
+    private boolean beginBatch() {
+        ForeignKeySaveScope.begin();
+        if (FlowManager.getDatabaseForTable(getModelClass()).isBatchNotificationsEnabled()) {
+            NotifyDistributor.get().beginBatch();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Rows written before a failure stay written outside of a transaction, so their notifications are emitted.
+     * An enclosing transaction that rolls back still discards them.
+     */
+    private void endBatch(boolean notifyBatched) {
+        ForeignKeySaveScope.end();
+        if (notifyBatched) {
+            NotifyDistributor.get().endBatch(true);
+        }
     }
 
     @Override
@@ -398,12 +567,60 @@ public abstract class ModelAdapter<TModel> extends InstanceAdapter<TModel>
         return null;
     }
 
+    /**
+     * @return True if the single primary key is an integer, read without boxing by the getCachingIdAsLong
+     * methods. This method is generated when caching is enabled.
+     */
+    public boolean hasLongCachingId() {
+        return false;
+    }
+
+    /**
+     * @param cursor The cursor to load the caching id from.
+     * @return The single integer cache column from the cursor, when {@link #hasLongCachingId()}.
+     */
+    public long getCachingIdAsLong(@NonNull FlowCursor cursor) {
+        throwSingleCachingError();
+        return 0;
+    }
+
+    /**
+     * @param model The model to load the caching id from.
+     * @return The single integer cache column from the model, when {@link #hasLongCachingId()}.
+     */
+    public long getCachingIdAsLong(@NonNull TModel model) {
+        throwSingleCachingError();
+        return 0;
+    }
+
+    /**
+     * @return The {@link #getModelCache()} when it is a {@link LongModelCache} that the getCachingIdAsLong
+     * methods can be used with, else null.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public LongModelCache<TModel> getLongModelCache() {
+        ModelCache<TModel, ?> modelCache = getModelCache();
+        return hasLongCachingId() && modelCache instanceof LongModelCache
+                ? (LongModelCache<TModel>) modelCache : null;
+    }
+
     public void storeModelInCache(@NonNull TModel model) {
-        getModelCache().addModel(getCachingId(model), model);
+        LongModelCache<TModel> longModelCache = getLongModelCache();
+        if (longModelCache != null) {
+            longModelCache.addModel(getCachingIdAsLong(model), model);
+        } else {
+            getModelCache().addModel(getCachingId(model), model);
+        }
     }
 
     public void removeModelFromCache(@NonNull TModel model) {
-        getModelCache().removeModel(getCachingId(model));
+        LongModelCache<TModel> longModelCache = getLongModelCache();
+        if (longModelCache != null) {
+            longModelCache.removeModel(getCachingIdAsLong(model));
+        } else {
+            getModelCache().removeModel(getCachingId(model));
+        }
     }
 
     public ModelCache<TModel, ?> getModelCache() {
@@ -426,6 +643,113 @@ public abstract class ModelAdapter<TModel> extends InstanceAdapter<TModel>
         return getCachingId(getCachingColumnValuesFromModel(new Object[getCachingColumns().length], model));
     }
 
+    /**
+     * Loads the model with the primary key, from the {@link ModelCache} first when caching is enabled. Tables
+     * with a single primary key also generate overloads that take it without boxing.
+     *
+     * @param primaryKey The value of the primary key, converted like any other query value. For a primary key of
+     *                   several columns or a foreign key, a {@link TModel} with its primary key set.
+     * @return The model, or null if there is none.
+     */
+    @Nullable
+    public TModel loadByPrimaryKey(@Nullable Object primaryKey) {
+        return loadByPrimaryKey(FlowManager.getReadableDatabaseForTable(getModelClass()), primaryKey);
+    }
+
+    /**
+     * Loads the model with the primary key, from the {@link ModelCache} first when caching is enabled.
+     *
+     * @param wrapper    The database to query.
+     * @param primaryKey The value of the primary key, converted like any other query value. For a primary key of
+     *                   several columns or a foreign key, a {@link TModel} with its primary key set.
+     * @return The model, or null if there is none.
+     */
+    @Nullable
+    public TModel loadByPrimaryKey(@NonNull DatabaseWrapper wrapper, @Nullable Object primaryKey) {
+        if (primaryKey == null) {
+            return null;
+        }
+        if (getModelClass().isInstance(primaryKey)) {
+            // matches each primary key column, which also works without a generated query.
+            return SQLite.select()
+                .from(getModelClass())
+                .where(getPrimaryConditionClause(getModelClass().cast(primaryKey)))
+                .querySingle(wrapper);
+        }
+        if (getLoadByPrimaryKeyQuery() == null) {
+            throw new IllegalArgumentException("The primary key of " + getModelClass() + " is not a single " +
+                "column. Pass a " + getModelClass().getSimpleName() + " with its primary key set instead of "
+                + primaryKey + ".");
+        }
+        return loadByPrimaryKeyArgument(wrapper, BoundQuery.toArgument(primaryKey));
+    }
+
+    /**
+     * Used by the generated overloads of {@link #loadByPrimaryKey(Object)}. The query is constant and the
+     * columns of its cursor are known, so neither is resolved again.
+     *
+     * @param argument The primary key as it is bound and cached.
+     */
+    @Nullable
+    protected final TModel loadByPrimaryKeyArgument(@NonNull DatabaseWrapper wrapper, @Nullable Object argument) {
+        String query = getLoadByPrimaryKeyQuery();
+        if (query == null) {
+            // only generated overloads call this, and only for tables that generate the query.
+            throw new IllegalStateException(getModelClass() + " does not generate a query by primary key.");
+        }
+        if (argument == null) {
+            return null;
+        }
+        ModelCache<TModel, ?> modelCache = cachingEnabled() ? getModelCache() : null;
+        // a LongModelCache only takes numbers, while a key such as "5" still finds the row by column affinity.
+        if (modelCache != null && (argument instanceof Number || !(modelCache instanceof LongModelCache))) {
+            TModel model = modelCache.get(argument);
+            if (model != null) {
+                return model;
+            }
+        }
+        FlowCursor cursor = BaseDatabaseWrapper.rawQueryWithArgs(wrapper, query, new Object[]{argument});
+        String[] columnNames = getCursorColumnNames();
+        if (columnNames != null) {
+            if (loadByPrimaryKeyColumnIndices == null) {
+                int[] columnIndices = new int[columnNames.length];
+                for (int i = 0; i < columnIndices.length; i++) {
+                    columnIndices[i] = i;
+                }
+                loadByPrimaryKeyColumnIndices = columnIndices;
+            }
+            cursor.setColumnIndices(columnNames, loadByPrimaryKeyColumnIndices);
+        }
+        return getSingleModelLoader().load(cursor);
+    }
+
+    /**
+     * @return The query that selects the columns of {@link #getCursorColumnNames()} in order for one primary key.
+     * This method is generated for tables with a single primary key.
+     */
+    @Nullable
+    protected String getLoadByPrimaryKeyQuery() {
+        return null;
+    }
+
+    /**
+     * @return The columns the generated {@link #loadFromCursor(FlowCursor, Object)} looks up, or null if it reads
+     * the cursor by position.
+     */
+    @Nullable
+    public String[] getCursorColumnNames() {
+        return null;
+    }
+
+    /**
+     * @return The references with {@link ForeignKey#eagerJoin()}, joined by {@link SQLite#selectJoined(Class)}.
+     * This method is generated when any are specified.
+     */
+    @NonNull
+    public ForeignKeyJoin<?>[] getForeignKeyJoins() {
+        return ForeignKeyJoin.NONE;
+    }
+
     public ModelSaver<TModel> getModelSaver() {
         if (modelSaver == null) {
             modelSaver = createSingleModelSaver();
@@ -437,6 +761,9 @@ public abstract class ModelAdapter<TModel> extends InstanceAdapter<TModel>
     public ListModelSaver<TModel> getListModelSaver() {
         if (listModelSaver == null) {
             listModelSaver = createListModelSaver();
+            if (getTableConfig() != null) {
+                listModelSaver.setBatchInsertEnabled(getTableConfig().batchInsertEnabled());
+            }
         }
         return listModelSaver;
     }
@@ -476,6 +803,73 @@ public abstract class ModelAdapter<TModel> extends InstanceAdapter<TModel>
         return false;
     }
 
+    /**
+     * @return True if {@link Table#upsertEnabled()} is set. This method is overridden when specified.
+     */
+    public boolean upsertEnabled() {
+        return false;
+    }
+
+    /**
+     * @return True if saves go through {@link ModelSaver#upsert(Object, DatabaseWrapper)}, either from
+     * {@link Table#upsertEnabled()} or the {@link TableConfig}.
+     */
+    public boolean isUpsertEnabled() {
+        return upsertEnabled() || (getTableConfig() != null && getTableConfig().upsertEnabled());
+    }
+
+    /**
+     * @return True if {@link Table#dirtyTracking()} is set. This method is overridden when specified.
+     */
+    public boolean dirtyTrackingEnabled() {
+        return false;
+    }
+
+    /**
+     * @return The tracker that limits updates to changed columns, or null if {@link #dirtyTrackingEnabled()}
+     * is false.
+     */
+    @Nullable
+    public DirtyColumnTracker<TModel> getDirtyColumnTracker() {
+        if (dirtyColumnTracker == null && dirtyTrackingEnabled()) {
+            synchronized (this) {
+                if (dirtyColumnTracker == null) {
+                    dirtyColumnTracker = new DirtyColumnTracker<>(this, getUpdateColumnNames(),
+                            getPrimaryColumnNames());
+                }
+            }
+        }
+        return dirtyColumnTracker;
+    }
+
+    /**
+     * Records the current values of the model as stored, so the next update only writes what changed since.
+     * Called after a model is loaded or written. Does nothing unless {@link #dirtyTrackingEnabled()}.
+     */
+    public void takeSnapshot(@NonNull TModel model) {
+        DirtyColumnTracker<TModel> tracker = getDirtyColumnTracker();
+        if (tracker != null) {
+            tracker.snapshot(model);
+        }
+    }
+
+    /**
+     * Forgets the stored values of the model, such as after it is deleted.
+     */
+    public void removeSnapshot(@NonNull TModel model) {
+        DirtyColumnTracker<TModel> tracker = getDirtyColumnTracker();
+        if (tracker != null) {
+            tracker.removeSnapshot(model);
+        }
+    }
+
+    /**
+     * @return True if the database supports INSERT ... ON CONFLICT DO UPDATE.
+     */
+    public boolean isNativeUpsertSupported() {
+        return FlowManager.getDatabaseForTable(getModelClass()).isUpsertSupported();
+    }
+
     public int getCacheSize() {
         return Table.DEFAULT_CACHE_SIZE;
     }
@@ -487,6 +881,9 @@ public abstract class ModelAdapter<TModel> extends InstanceAdapter<TModel>
     }
 
     public ModelCache<TModel, ?> createModelCache() {
+        if (hasLongCachingId()) {
+            return new LongModelCache<>(getCacheSize());
+        }
         return new SimpleMapCache<>(getCacheSize());
     }
 
@@ -516,6 +913,77 @@ public abstract class ModelAdapter<TModel> extends InstanceAdapter<TModel>
         return getCompiledStatementQuery();
     }
 
+    /**
+     * @param rowCount The number of rows to insert.
+     * @return The insert query repeated for the specified number of rows in a single VALUES clause. Built once per
+     * row count, so the full and the remainder statements of every batch insert are found in the statement cache.
+     */
+    protected String getBatchInsertStatementQuery(int rowCount) {
+        synchronized (batchInsertStatementQueries) {
+            String batchQuery = batchInsertStatementQueries.get(rowCount);
+            if (batchQuery == null) {
+                String insertQuery = getInsertStatementQuery();
+                String rowValues = getInsertStatementValuesQuery();
+                StringBuilder query = new StringBuilder(insertQuery.length()
+                        + (rowValues.length() + 1) * (rowCount - 1));
+                query.append(insertQuery);
+                for (int i = 1; i < rowCount; i++) {
+                    query.append(',').append(rowValues);
+                }
+                batchQuery = query.toString();
+                batchInsertStatementQueries.put(rowCount, batchQuery);
+            }
+            return batchQuery;
+        }
+    }
+
+    /**
+     * @return The "(?,?,...)" values of a single row of {@link #getInsertStatementQuery()}, which
+     * {@link #getBatchInsertStatementQuery(int)} repeats for each row. This method is generated.
+     */
+    protected String getInsertStatementValuesQuery() {
+        throw new InvalidDBConfiguration(
+                String.format("The model class %1s does not generate the values of its insert statement.",
+                        getModelClass()));
+    }
+
+    /**
+     * @return The INSERT ... ON CONFLICT DO UPDATE query used when upsert is enabled. Binds the same values
+     * as {@link #getCompiledStatementQuery()}. This method is generated for tables with a primary key.
+     */
+    protected String getUpsertStatementQuery() {
+        throw new InvalidDBConfiguration(
+                String.format("The model class %1s must contain a primary key to use upsert.", getModelClass()));
+    }
+
+    /**
+     * @return The quoted names of the columns set by {@link #getUpdateStatementQuery()}, in binding order.
+     * This method is generated when {@link Table#dirtyTracking()} is set.
+     */
+    protected String[] getUpdateColumnNames() {
+        throw new InvalidDBConfiguration(
+                String.format("The model class %1s must enable dirtyTracking in its @Table.", getModelClass()));
+    }
+
+    /**
+     * @return The quoted names of the primary key columns of the WHERE clause of {@link #getUpdateStatementQuery()}.
+     * This method is generated when {@link Table#dirtyTracking()} is set.
+     */
+    protected String[] getPrimaryColumnNames() {
+        throw new InvalidDBConfiguration(
+                String.format("The model class %1s must enable dirtyTracking in its @Table.", getModelClass()));
+    }
+
+    /**
+     * @return The INSERT OR IGNORE query used for upsert on SQLite versions without ON CONFLICT DO UPDATE. Binds
+     * the same values as {@link #getCompiledStatementQuery()}. This method is generated for tables with a primary
+     * key.
+     */
+    protected String getUpsertFallbackStatementQuery() {
+        throw new InvalidDBConfiguration(
+                String.format("The model class %1s must contain a primary key to use upsert.", getModelClass()));
+    }
+
     /**
      * @return The normal query used in saving a model if we use a {@link SQLiteStatement}.
      */
@@ -0,0 +1,94 @@
+package com.raizlabs.android.dbflow.structure.cache;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.raizlabs.android.dbflow.annotation.Table;
+
+/**
+ * Description: A cache for models with a single integer primary key, backed by a {@link LongObjectTable}.
+ * The loaders of tables that generate {@link com.raizlabs.android.dbflow.structure.ModelAdapter#getCachingIdAsLong}
+ * use the long methods of this cache, so a cached read does not box its key.
+ */
+public class LongModelCache<TModel> extends ModelCache<TModel, LongObjectTable<TModel>> {
+
+    /**
+     * @param size The most models it keeps before evicting the ones not recently used. If less than or equal
+     *             to 0 we set it to {@link Table#DEFAULT_CACHE_SIZE}.
+     */
+    public static <TModel> LongModelCache<TModel> newInstance(int size) {
+        if (size <= 0) {
+            size = Table.DEFAULT_CACHE_SIZE;
+        }
+        return new LongModelCache<>(new LongObjectTable<TModel>(size));
+    }
+
+    /**
+     * Constructs new instance that never evicts.
+     *
+     * @param initialCapacity The number of models to allocate room for up front.
+     */
+    public LongModelCache(int initialCapacity) {
+        super(new LongObjectTable<TModel>(0, initialCapacity));
+    }
+
+    public LongModelCache(@NonNull LongObjectTable<TModel> table) {
+        super(table);
+    }
+
+    @Override
+    public void addModel(@Nullable Object id, @NonNull TModel model) {
+        addModel(toLong(id), model);
+    }
+
+    public void addModel(long id, @NonNull TModel model) {
+        synchronized (getCache()) {
+            getCache().put(id, model);
+        }
+    }
+
+    @Override
+    public TModel removeModel(@NonNull Object id) {
+        return removeModel(toLong(id));
+    }
+
+    public TModel removeModel(long id) {
+        synchronized (getCache()) {
+            return getCache().remove(id);
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (getCache()) {
+            getCache().clear();
+        }
+    }
+
+    @Override
+    public void setCacheSize(int size) {
+        synchronized (getCache()) {
+            getCache().setMaxSize(size);
+        }
+    }
+
+    @Override
+    public TModel get(@Nullable Object id) {
+        return get(toLong(id));
+    }
+
+    public TModel get(long id) {
+        synchronized (getCache()) {
+            return getCache().get(id);
+        }
+    }
+
+    private static long toLong(@Nullable Object id) {
+        if (id instanceof Number) {
+            return ((Number) id).longValue();
+        } else {
+            throw new IllegalArgumentException("A LongModelCache must use an id that can cast to " +
+                    "a Number to convert it into a long");
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.raizlabs.android.dbflow.structure.cache;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Description: An open-addressing hash table from primitive long keys to values, so that keys are never boxed.
+ * When it has a max size, adding past it evicts an entry that was not used since the clock hand last passed it,
+ * which approximates least recently used. It is not synchronized; {@link LongModelCache} does that.
+ */
+public class LongObjectTable<V> {
+
+    private static final int MIN_CAPACITY = 8;
+
+    private long[] keys;
+    private Object[] values;
+    private boolean[] referenced;
+    private int mask;
+    private int size;
+    private int maxSize;
+    private int hand;
+
+    /**
+     * @param maxSize The most entries it holds before evicting, or 0 or less to never evict.
+     */
+    public LongObjectTable(int maxSize) {
+        this(maxSize, maxSize);
+    }
+
+    /**
+     * @param maxSize         The most entries it holds before evicting, or 0 or less to never evict.
+     * @param initialCapacity The number of entries to allocate room for up front.
+     */
+    public LongObjectTable(int maxSize, int initialCapacity) {
+        this.maxSize = maxSize;
+        allocate(capacityFor(maxSize > 0 ? maxSize : initialCapacity));
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        referenced[index] = true;
+        return (V) values[index];
+    }
+
+    /**
+     * @return The previous value of the key, if any.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V put(long key, @NonNull V value) {
+        int index = indexOf(key);
+        if (index >= 0) {
+            V previous = (V) values[index];
+            values[index] = value;
+            referenced[index] = true;
+            return previous;
+        }
+        if (maxSize > 0 && size >= maxSize) {
+            evict();
+        } else if ((size + 1) * 4 > values.length * 3) {
+            rehash(values.length * 2);
+        }
+        index = slot(key);
+        while (values[index] != null) {
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        referenced[index] = false;
+        size++;
+        return null;
+    }
+
+    /**
+     * @return The removed value, if any.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        V value = (V) values[index];
+        removeAt(index);
+        return value;
+    }
+
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+        hand = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Changes the max size, evicting entries until it holds no more than it.
+     *
+     * @param maxSize The most entries it holds before evicting, or 0 or less to never evict.
+     */
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+        if (maxSize > 0) {
+            while (size > maxSize) {
+                evict();
+            }
+        }
+        int capacity = capacityFor(Math.max(size, maxSize));
+        if (capacity != values.length && (maxSize > 0 || capacity > values.length)) {
+            rehash(capacity);
+        }
+    }
+
+    private int indexOf(long key) {
+        int index = slot(key);
+        while (values[index] != null) {
+            if (keys[index] == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int slot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    /**
+     * Removes the entry at the index, moving back the entries after it that would no longer be found.
+     */
+    private void removeAt(int index) {
+        values[index] = null;
+        size--;
+        int next = index;
+        while (true) {
+            next = (next + 1) & mask;
+            if (values[next] == null) {
+                return;
+            }
+            int home = slot(keys[next]);
+            // the entry stays if its home slot lies cyclically within (index, next].
+            boolean stays = index <= next
+                    ? index < home && home <= next
+                    : index < home || home <= next;
+            if (!stays) {
+                keys[index] = keys[next];
+                values[index] = values[next];
+                referenced[index] = referenced[next];
+                values[next] = null;
+                index = next;
+            }
+        }
+    }
+
+    /**
+     * Advances the clock hand, clearing the use of each entry it passes, until it finds an unused one to remove.
+     */
+    private void evict() {
+        while (true) {
+            if (values[hand] != null) {
+                if (!referenced[hand]) {
+                    removeAt(hand);
+                    return;
+                }
+                referenced[hand] = false;
+            }
+            hand = (hand + 1) & mask;
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        boolean[] oldReferenced = referenced;
+        allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int index = slot(oldKeys[i]);
+                while (values[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+                referenced[index] = oldReferenced[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        referenced = new boolean[capacity];
+        mask = capacity - 1;
+        hand = 0;
+    }
+
+    /**
+     * @return A power of two that keeps the load at or under three quarters with the entries.
+     */
+    private static int capacityFor(int entries) {
+        int capacity = MIN_CAPACITY;
+        while (capacity * 3 < entries * 4) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
@@ -1,21 +1,37 @@
 package com.raizlabs.android.dbflow.structure.database;
 
 import android.content.ContentValues;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteCursor;
+import android.database.sqlite.SQLiteCursorDriver;
 import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteQuery;
 import android.os.Build;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
+import com.raizlabs.android.dbflow.sql.saveable.ModelSaver;
+
 /**
  * Description: Specifies the android default implementation of a database.
  */
-public class AndroidDatabase implements DatabaseWrapper {
+public class AndroidDatabase extends BaseDatabaseWrapper {
 
     public static AndroidDatabase from(@NonNull SQLiteDatabase database) {
         return new AndroidDatabase(database);
     }
 
     private final SQLiteDatabase database;
+    private final DatabaseStatementLruCache statementCache =
+            new DatabaseStatementLruCache(DatabaseStatementLruCache.DEFAULT_MAX_SIZE) {
+                @NonNull
+                @Override
+                protected DatabaseStatement compileStatement(@NonNull String query) {
+                    return AndroidDatabase.this.compileStatement(query);
+                }
+            };
+
+    private volatile long lastInsertRowId = UNKNOWN_ROW_ID;
 
     AndroidDatabase(@NonNull SQLiteDatabase database) {
         this.database = database;
@@ -24,6 +40,10 @@ public class AndroidDatabase implements DatabaseWrapper {
     @Override
     public void execSQL(@NonNull String query) {
         database.execSQL(query);
+        forgetLastInsertRowId();
+        if (DatabaseStatementLruCache.isSchemaChange(query)) {
+            statementCache.clear();
+        }
     }
 
     @Override
@@ -53,13 +73,82 @@ public class AndroidDatabase implements DatabaseWrapper {
     @NonNull
     @Override
     public DatabaseStatement compileStatement(@NonNull String rawQuery) {
-        return AndroidDatabaseStatement.from(database.compileStatement(rawQuery), database);
+        // cached statements may no longer compile once a schema change runs through it.
+        return new AndroidDatabaseStatement(database.compileStatement(rawQuery), database, this,
+                DatabaseStatementLruCache.isSchemaChange(rawQuery));
+    }
+
+    @NonNull
+    @Override
+    public DatabaseStatement compileCachedStatement(@NonNull String rawQuery) {
+        return statementCache.acquire(rawQuery);
+    }
+
+    @NonNull
+    @Override
+    public DatabaseStatementLruCache getStatementCache() {
+        return statementCache;
     }
 
     @NonNull
     @Override
     public FlowCursor rawQuery(@NonNull String query, @Nullable String[] selectionArgs) {
-        return FlowCursor.from(database.rawQuery(query, selectionArgs));
+        return onQuery(query, FlowCursor.from(database.rawQuery(query, selectionArgs)));
+    }
+
+    @NonNull
+    @Override
+    public FlowCursor rawQueryWithArgs(@NonNull String query, @Nullable Object[] bindArgs) {
+        if (bindArgs == null || bindArgs.length == 0) {
+            return rawQuery(query, null);
+        }
+        return onQuery(query, FlowCursor.from(database.rawQueryWithFactory(new BindArgsCursorFactory(bindArgs), query,
+                null, null)));
+    }
+
+    /**
+     * Tracks the row ids of the inserts that run through this wrapper and its statements, so that
+     * {@link ModelSaver} upserts do not query it on every save. It is queried again after SQL that may have
+     * inserted rows without telling their row id, such as {@link #execSQL(String)}. Inserts made through
+     * {@link #getDatabase()} directly are not seen.
+     */
+    @Override
+    public long getLastInsertRowId() {
+        long rowId = lastInsertRowId;
+        if (rowId == UNKNOWN_ROW_ID) {
+            rowId = super.getLastInsertRowId();
+            lastInsertRowId = rowId;
+        }
+        return rowId;
+    }
+
+    /**
+     * @param rowId The row id an insert returned. -1 means it inserted nothing, which leaves it as it was.
+     */
+    void onInsert(long rowId) {
+        if (rowId != -1) {
+            lastInsertRowId = rowId;
+        }
+    }
+
+    void forgetLastInsertRowId() {
+        lastInsertRowId = UNKNOWN_ROW_ID;
+    }
+
+    /**
+     * Clears the statement cache after a schema change run as a query.
+     */
+    @NonNull
+    private FlowCursor onQuery(@NonNull String query, @NonNull FlowCursor cursor) {
+        if (!isSelect(query)) {
+            forgetLastInsertRowId();
+        }
+        if (DatabaseStatementLruCache.isSchemaChange(query)) {
+            // the statement only runs once the cursor is read.
+            cursor.getCount();
+            statementCache.clear();
+        }
+        return cursor;
     }
 
     @Override
@@ -81,6 +170,7 @@ public class AndroidDatabase implements DatabaseWrapper {
         } else {
             count = database.insert(tableName, nullColumnHack, values);
         }
+        onInsert(count);
         return count;
     }
 
@@ -100,4 +190,43 @@ public class AndroidDatabase implements DatabaseWrapper {
     public int delete(@NonNull String tableName, @Nullable String whereClause, @Nullable String[] whereArgs) {
         return database.delete(tableName, whereClause, whereArgs);
     }
+
+    /**
+     * Binds typed arguments to the query of the cursor. {@link SQLiteDatabase#rawQuery(String, String[])} only
+     * binds strings.
+     */
+    private static final class BindArgsCursorFactory implements SQLiteDatabase.CursorFactory {
+
+        private final Object[] bindArgs;
+
+        BindArgsCursorFactory(@NonNull Object[] bindArgs) {
+            this.bindArgs = bindArgs;
+        }
+
+        @SuppressWarnings("deprecation")
+        @Override
+        public Cursor newCursor(SQLiteDatabase db, SQLiteCursorDriver masterQuery, String editTable,
+                                SQLiteQuery query) {
+            for (int i = 0; i < bindArgs.length; i++) {
+                Object bindArg = bindArgs[i];
+                int index = i + 1;
+                if (bindArg == null) {
+                    query.bindNull(index);
+                } else if (bindArg instanceof byte[]) {
+                    query.bindBlob(index, (byte[]) bindArg);
+                } else if (bindArg instanceof Float || bindArg instanceof Double) {
+                    query.bindDouble(index, ((Number) bindArg).doubleValue());
+                } else if (bindArg instanceof Number) {
+                    query.bindLong(index, ((Number) bindArg).longValue());
+                } else {
+                    query.bindString(index, bindArg.toString());
+                }
+            }
+            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.HONEYCOMB) {
+                return new SQLiteCursor(masterQuery, editTable, query);
+            } else {
+                return new SQLiteCursor(db, masterQuery, editTable, query);
+            }
+        }
+    }
 }
@@ -20,11 +20,27 @@ public class AndroidDatabaseStatement extends BaseDatabaseStatement {
 
     private final SQLiteStatement statement;
     private final SQLiteDatabase database;
+    @Nullable
+    private final AndroidDatabase wrapper;
+    private final boolean schemaChange;
 
     AndroidDatabaseStatement(@NonNull SQLiteStatement statement,
                              @NonNull SQLiteDatabase database) {
+        this(statement, database, null, false);
+    }
+
+    /**
+     * @param wrapper      The wrapper that compiled the statement, told about the rows it inserts.
+     * @param schemaChange True to clear the statement cache of the wrapper once the statement runs.
+     */
+    AndroidDatabaseStatement(@NonNull SQLiteStatement statement,
+                             @NonNull SQLiteDatabase database,
+                             @Nullable AndroidDatabase wrapper,
+                             boolean schemaChange) {
         this.statement = statement;
         this.database = database;
+        this.wrapper = wrapper;
+        this.schemaChange = schemaChange;
     }
 
     @NonNull
@@ -54,12 +70,24 @@ public class AndroidDatabaseStatement extends BaseDatabaseStatement {
                 }
             }
         }
+        onExecute();
         return count;
     }
 
     @Override
     public void execute() {
         statement.execute();
+        onExecute();
+    }
+
+    private void onExecute() {
+        if (wrapper != null) {
+            // the statement may have been an INSERT.
+            wrapper.forgetLastInsertRowId();
+            if (schemaChange) {
+                wrapper.getStatementCache().clear();
+            }
+        }
     }
 
     @Override
@@ -80,7 +108,11 @@ public class AndroidDatabaseStatement extends BaseDatabaseStatement {
 
     @Override
     public long executeInsert() {
-        return statement.executeInsert();
+        long rowId = statement.executeInsert();
+        if (wrapper != null) {
+            wrapper.onInsert(rowId);
+        }
+        return rowId;
     }
 
     @Override
@@ -107,4 +139,9 @@ public class AndroidDatabaseStatement extends BaseDatabaseStatement {
     public void bindBlob(int index, byte[] bytes) {
         statement.bindBlob(index, bytes);
     }
+
+    @Override
+    public void clearBindings() {
+        statement.clearBindings();
+    }
 }
@@ -57,4 +57,10 @@ public abstract class BaseDatabaseStatement implements DatabaseStatement {
         }
     }
 
+    /**
+     * Resets every bound value to null. Does nothing unless overridden.
+     */
+    public void clearBindings() {
+    }
+
 }
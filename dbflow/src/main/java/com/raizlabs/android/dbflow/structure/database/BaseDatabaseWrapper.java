@@ -0,0 +1,138 @@
+package com.raizlabs.android.dbflow.structure.database;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+/**
+ * Description: Default implementation for the optional methods of a {@link DatabaseWrapper}. Wrappers that
+ * implement {@link DatabaseWrapper} directly keep compiling, and get the same behavior through
+ * {@link #compileCachedStatement(DatabaseWrapper, String)},
+ * {@link #rawQueryWithArgs(DatabaseWrapper, String, Object[])} and {@link #getLastInsertRowId(DatabaseWrapper)}.
+ */
+public abstract class BaseDatabaseWrapper implements DatabaseWrapper {
+
+    /**
+     * The last inserted row id of wrappers that track it, before they know it.
+     */
+    protected static final long UNKNOWN_ROW_ID = Long.MIN_VALUE;
+
+    /**
+     * @return {@link #compileCachedStatement(String)} of wrappers that extend this class, otherwise
+     * {@link DatabaseWrapper#compileStatement(String)}.
+     */
+    @NonNull
+    public static DatabaseStatement compileCachedStatement(@NonNull DatabaseWrapper wrapper,
+                                                           @NonNull String rawQuery) {
+        if (wrapper instanceof BaseDatabaseWrapper) {
+            return ((BaseDatabaseWrapper) wrapper).compileCachedStatement(rawQuery);
+        }
+        return wrapper.compileStatement(rawQuery);
+    }
+
+    /**
+     * @return {@link #rawQueryWithArgs(String, Object[])} of wrappers that extend this class, otherwise
+     * {@link DatabaseWrapper#rawQuery(String, String[])} with the arguments as text.
+     */
+    @NonNull
+    public static FlowCursor rawQueryWithArgs(@NonNull DatabaseWrapper wrapper, @NonNull String query,
+                                              @Nullable Object[] bindArgs) {
+        if (wrapper instanceof BaseDatabaseWrapper) {
+            return ((BaseDatabaseWrapper) wrapper).rawQueryWithArgs(query, bindArgs);
+        }
+        return wrapper.rawQuery(query, toStringArgs(bindArgs));
+    }
+
+    /**
+     * @return {@link #getLastInsertRowId()} of wrappers that extend this class, otherwise the row id from SQLite.
+     */
+    public static long getLastInsertRowId(@NonNull DatabaseWrapper wrapper) {
+        if (wrapper instanceof BaseDatabaseWrapper) {
+            return ((BaseDatabaseWrapper) wrapper).getLastInsertRowId();
+        }
+        return queryLastInsertRowId(wrapper);
+    }
+
+    private static long queryLastInsertRowId(@NonNull DatabaseWrapper wrapper) {
+        DatabaseStatement statement = compileCachedStatement(wrapper, "SELECT last_insert_rowid()");
+        try {
+            return statement.simpleQueryForLong();
+        } finally {
+            statement.close();
+        }
+    }
+
+    /**
+     * @return True if the SQL is a SELECT, which cannot insert rows.
+     */
+    protected static boolean isSelect(@NonNull String query) {
+        int start = 0;
+        while (start < query.length() && Character.isWhitespace(query.charAt(start))) {
+            start++;
+        }
+        return query.regionMatches(true, start, "SELECT", 0, 6);
+    }
+
+    @Nullable
+    private static String[] toStringArgs(@Nullable Object[] bindArgs) {
+        if (bindArgs == null) {
+            return null;
+        }
+        String[] args = new String[bindArgs.length];
+        for (int i = 0; i < bindArgs.length; i++) {
+            Object arg = bindArgs[i];
+            if (arg instanceof byte[]) {
+                throw new IllegalArgumentException("A byte[] argument cannot be bound as text. Override "
+                    + "rawQueryWithArgs() to bind blobs.");
+            }
+            args[i] = arg != null ? String.valueOf(arg) : null;
+        }
+        return args;
+    }
+
+    /**
+     * @return The statement cache of the wrapper, or null if it has none.
+     */
+    @Nullable
+    public static DatabaseStatementLruCache getStatementCache(@NonNull DatabaseWrapper wrapper) {
+        if (wrapper instanceof BaseDatabaseWrapper) {
+            return ((BaseDatabaseWrapper) wrapper).getStatementCache();
+        }
+        return null;
+    }
+
+    /**
+     * Like {@link #compileStatement(String)}, but reuses a statement of the same SQL compiled earlier. Closing the
+     * statement clears its bindings and returns it to {@link #getStatementCache()}. It must not be used after.
+     * By default it compiles a new statement every time.
+     */
+    @NonNull
+    public DatabaseStatement compileCachedStatement(@NonNull String rawQuery) {
+        return compileStatement(rawQuery);
+    }
+
+    /**
+     * Runs the query with its arguments bound by type: null, a {@link String}, a {@link Number} or a byte[].
+     * Unlike {@link #rawQuery(String, String[])}, numbers compare as numbers and blobs as blobs. By default the
+     * arguments are bound as text.
+     */
+    @NonNull
+    public FlowCursor rawQueryWithArgs(@NonNull String query, @Nullable Object[] bindArgs) {
+        return rawQuery(query, toStringArgs(bindArgs));
+    }
+
+    /**
+     * @return The row id of the last row inserted on the connection, which an INSERT ... ON CONFLICT DO UPDATE
+     * leaves as it was. By default it is queried every time.
+     */
+    public long getLastInsertRowId() {
+        return queryLastInsertRowId(this);
+    }
+
+    /**
+     * @return The cache behind {@link #compileCachedStatement(String)}, or null if it does not cache.
+     */
+    @Nullable
+    public DatabaseStatementLruCache getStatementCache() {
+        return null;
+    }
+}
@@ -0,0 +1,95 @@
+package com.raizlabs.android.dbflow.structure.database;
+
+import android.support.annotation.NonNull;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Description: Caches one compiled {@link DatabaseStatement} per thread and {@link DatabaseWrapper}. A statement keeps
+ * its bound values until executed, so threads must never share one. Only its own thread closes a statement that
+ * may be running. Statements of finished threads are closed when another statement is compiled, or on
+ * {@link #close()}.
+ */
+public abstract class DatabaseStatementCache {
+
+    private final Map<Thread, Entry> statements = new HashMap<>();
+
+    /**
+     * Incremented by {@link #close()}, so that each thread replaces a statement compiled before it.
+     */
+    private int generation;
+
+    /**
+     * @return The statement for the calling thread, compiled on first use, when the wrapper changes or after
+     * {@link #close()}.
+     */
+    @NonNull
+    public DatabaseStatement get(@NonNull DatabaseWrapper databaseWrapper) {
+        Thread thread = Thread.currentThread();
+        int generation;
+        synchronized (statements) {
+            generation = this.generation;
+            Entry entry = statements.get(thread);
+            if (entry != null) {
+                if (entry.databaseWrapper == databaseWrapper && entry.generation == generation) {
+                    return entry.statement;
+                }
+                // the statement belongs to this thread, so it is not running.
+                entry.statement.close();
+                statements.remove(thread);
+            }
+            closeFinishedThreads();
+        }
+
+        DatabaseStatement statement = createStatement(databaseWrapper);
+        synchronized (statements) {
+            statements.put(thread, new Entry(databaseWrapper, statement, generation));
+        }
+        return statement;
+    }
+
+    /**
+     * Closes the statement of the calling thread and those of finished threads. Other threads may be running
+     * theirs, so each of them closes and compiles its statement again when it next calls
+     * {@link #get(DatabaseWrapper)}.
+     */
+    public void close() {
+        synchronized (statements) {
+            generation++;
+            Entry entry = statements.remove(Thread.currentThread());
+            if (entry != null) {
+                entry.statement.close();
+            }
+            closeFinishedThreads();
+        }
+    }
+
+    private void closeFinishedThreads() {
+        Iterator<Map.Entry<Thread, Entry>> iterator = statements.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Thread, Entry> entry = iterator.next();
+            if (!entry.getKey().isAlive()) {
+                entry.getValue().statement.close();
+                iterator.remove();
+            }
+        }
+    }
+
+    @NonNull
+    protected abstract DatabaseStatement createStatement(@NonNull DatabaseWrapper databaseWrapper);
+
+    private static final class Entry {
+
+        final DatabaseWrapper databaseWrapper;
+        final DatabaseStatement statement;
+        final int generation;
+
+        Entry(DatabaseWrapper databaseWrapper, DatabaseStatement statement, int generation) {
+            this.databaseWrapper = databaseWrapper;
+            this.statement = statement;
+            this.generation = generation;
+        }
+    }
+}
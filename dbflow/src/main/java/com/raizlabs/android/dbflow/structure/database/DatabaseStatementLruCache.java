@@ -0,0 +1,225 @@
+package com.raizlabs.android.dbflow.structure.database;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Description: Keeps the most recently used compiled statements of a {@link DatabaseWrapper}, keyed by their SQL.
+ * A statement is handed out to one caller at a time: {@link #acquire(String)} takes it out of the cache and
+ * {@link DatabaseStatement#close()} clears its bindings and puts it back, so threads never share bindings.
+ * Statements evicted from the cache, or returned after {@link #clear()}, are closed.
+ *
+ * @see BaseDatabaseWrapper#compileCachedStatement(String)
+ */
+public abstract class DatabaseStatementLruCache {
+
+    public static final int DEFAULT_MAX_SIZE = 25;
+
+    /**
+     * @return true for statements that change the schema, after which cached statements may no longer compile.
+     */
+    public static boolean isSchemaChange(@NonNull String query) {
+        String trimmed = query.trim();
+        return trimmed.regionMatches(true, 0, "CREATE", 0, 6)
+                || trimmed.regionMatches(true, 0, "DROP", 0, 4)
+                || trimmed.regionMatches(true, 0, "ALTER", 0, 5);
+    }
+
+    private final int maxSize;
+    private final LinkedHashMap<String, DatabaseStatement> statements = new LinkedHashMap<>(16, 0.75f, true);
+
+    private int generation;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    public DatabaseStatementLruCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @return The cached statement of the query, or a newly compiled one. Closing it returns it to the cache.
+     */
+    @NonNull
+    public DatabaseStatement acquire(@NonNull String query) {
+        DatabaseStatement statement;
+        int acquiredGeneration;
+        synchronized (statements) {
+            statement = statements.remove(query);
+            acquiredGeneration = generation;
+            if (statement != null) {
+                hitCount++;
+            } else {
+                missCount++;
+            }
+        }
+        if (statement == null) {
+            statement = compileStatement(query);
+        }
+        return new CachedStatement(query, statement, acquiredGeneration);
+    }
+
+    /**
+     * Closes the cached statements, such as after a schema change. Statements in use are closed once returned.
+     */
+    public void clear() {
+        synchronized (statements) {
+            generation++;
+            for (DatabaseStatement statement : statements.values()) {
+                statement.close();
+            }
+            statements.clear();
+        }
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return The number of statements waiting in the cache.
+     */
+    public int size() {
+        synchronized (statements) {
+            return statements.size();
+        }
+    }
+
+    public long getHitCount() {
+        synchronized (statements) {
+            return hitCount;
+        }
+    }
+
+    public long getMissCount() {
+        synchronized (statements) {
+            return missCount;
+        }
+    }
+
+    public long getEvictionCount() {
+        synchronized (statements) {
+            return evictionCount;
+        }
+    }
+
+    @NonNull
+    protected abstract DatabaseStatement compileStatement(@NonNull String query);
+
+    private void release(@NonNull String query, @NonNull DatabaseStatement statement, int acquiredGeneration) {
+        DatabaseStatement closed = null;
+        DatabaseStatement evicted = null;
+        synchronized (statements) {
+            if (acquiredGeneration != generation || statements.containsKey(query)) {
+                closed = statement;
+            } else {
+                statements.put(query, statement);
+                if (statements.size() > maxSize) {
+                    Iterator<Map.Entry<String, DatabaseStatement>> iterator = statements.entrySet().iterator();
+                    evicted = iterator.next().getValue();
+                    iterator.remove();
+                    evictionCount++;
+                }
+            }
+        }
+        if (closed != null) {
+            closed.close();
+        }
+        if (evicted != null) {
+            evicted.close();
+        }
+    }
+
+    /**
+     * A statement on loan from the cache.
+     */
+    private final class CachedStatement extends BaseDatabaseStatement {
+
+        private final String query;
+        private final DatabaseStatement statement;
+        private final int acquiredGeneration;
+        private boolean closed;
+
+        CachedStatement(@NonNull String query, @NonNull DatabaseStatement statement, int acquiredGeneration) {
+            this.query = query;
+            this.statement = statement;
+            this.acquiredGeneration = acquiredGeneration;
+        }
+
+        @Override
+        public long executeUpdateDelete() {
+            return statement.executeUpdateDelete();
+        }
+
+        @Override
+        public void execute() {
+            statement.execute();
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                if (statement instanceof BaseDatabaseStatement) {
+                    ((BaseDatabaseStatement) statement).clearBindings();
+                }
+                release(query, statement, acquiredGeneration);
+            }
+        }
+
+        @Override
+        public long simpleQueryForLong() {
+            return statement.simpleQueryForLong();
+        }
+
+        @Nullable
+        @Override
+        public String simpleQueryForString() {
+            return statement.simpleQueryForString();
+        }
+
+        @Override
+        public long executeInsert() {
+            return statement.executeInsert();
+        }
+
+        @Override
+        public void bindString(int index, String s) {
+            statement.bindString(index, s);
+        }
+
+        @Override
+        public void bindNull(int index) {
+            statement.bindNull(index);
+        }
+
+        @Override
+        public void bindLong(int index, long aLong) {
+            statement.bindLong(index, aLong);
+        }
+
+        @Override
+        public void bindDouble(int index, double aDouble) {
+            statement.bindDouble(index, aDouble);
+        }
+
+        @Override
+        public void bindBlob(int index, byte[] bytes) {
+            statement.bindBlob(index, bytes);
+        }
+
+        @Override
+        public void clearBindings() {
+            if (statement instanceof BaseDatabaseStatement) {
+                ((BaseDatabaseStatement) statement).clearBindings();
+            }
+        }
+    }
+}
@@ -87,4 +87,11 @@ public class DatabaseStatementWrapper<TModel> extends BaseDatabaseStatement {
     public void bindBlob(int index, byte[] bytes) {
         databaseStatement.bindBlob(index, bytes);
     }
+
+    @Override
+    public void clearBindings() {
+        if (databaseStatement instanceof BaseDatabaseStatement) {
+            ((BaseDatabaseStatement) databaseStatement).clearBindings();
+        }
+    }
 }
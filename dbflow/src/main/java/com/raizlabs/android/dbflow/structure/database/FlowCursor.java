@@ -5,6 +5,9 @@ import android.database.CursorWrapper;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
+import java.util.IdentityHashMap;
+import java.util.Map;
+
 /**
  * Common {@link Cursor} class that wraps cursors we use in this library with convenience loading methods.
  * This is used to help cut down on generated code size and potentially decrease method count.
@@ -21,6 +24,10 @@ public class FlowCursor extends CursorWrapper {
 
     private Cursor cursor; // compatibility reasons
 
+    private String[] lastColumnNames;
+    private int[] lastColumnIndices;
+    private Map<String[], int[]> columnIndicesMap;
+
     private FlowCursor(@NonNull Cursor cursor) {
         super(cursor);
         this.cursor = cursor;
@@ -31,6 +38,49 @@ public class FlowCursor extends CursorWrapper {
         return cursor;
     }
 
+    /**
+     * Resolves each column once per cursor, since its columns never change. Generated adapters pass the same
+     * constant array for every row, so the array itself is the key and later rows skip the lookups by name.
+     *
+     * @param columnNames The columns to find. Do not modify it after the first call.
+     * @return The index of each column, or -1 if this cursor does not have it.
+     */
+    @NonNull
+    public int[] getColumnIndices(@NonNull String[] columnNames) {
+        if (columnNames != lastColumnNames) {
+            if (columnIndicesMap == null) {
+                columnIndicesMap = new IdentityHashMap<>();
+            }
+            int[] columnIndices = columnIndicesMap.get(columnNames);
+            if (columnIndices == null) {
+                columnIndices = new int[columnNames.length];
+                for (int i = 0; i < columnNames.length; i++) {
+                    columnIndices[i] = cursor.getColumnIndex(columnNames[i]);
+                }
+                columnIndicesMap.put(columnNames, columnIndices);
+            }
+            lastColumnNames = columnNames;
+            lastColumnIndices = columnIndices;
+        }
+        return lastColumnIndices;
+    }
+
+    /**
+     * Supplies the indices of columns this cursor was queried for, so that {@link #getColumnIndices(String[])}
+     * does not look them up by name.
+     *
+     * @param columnNames   The columns, as later passed to {@link #getColumnIndices(String[])}.
+     * @param columnIndices The index of each column in this cursor.
+     */
+    public void setColumnIndices(@NonNull String[] columnNames, @NonNull int[] columnIndices) {
+        if (columnIndicesMap == null) {
+            columnIndicesMap = new IdentityHashMap<>();
+        }
+        columnIndicesMap.put(columnNames, columnIndices);
+        lastColumnNames = columnNames;
+        lastColumnIndices = columnIndices;
+    }
+
     public String getStringOrDefault(int index, String defValue) {
         if (index != -1 && !cursor.isNull(index)) {
             return cursor.getString(index);
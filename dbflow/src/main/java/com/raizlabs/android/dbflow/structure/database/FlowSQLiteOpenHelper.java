@@ -3,6 +3,7 @@ package com.raizlabs.android.dbflow.structure.database;
 import android.content.Context;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteOpenHelper;
+import android.os.Build;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
@@ -16,7 +17,7 @@ public class FlowSQLiteOpenHelper extends SQLiteOpenHelper implements OpenHelper
 
     private DatabaseHelperDelegate databaseHelperDelegate;
     private AndroidDatabase androidDatabase;
-
+    private ReadConnectionPool readConnectionPool;
 
     public FlowSQLiteOpenHelper(@NonNull DatabaseDefinition databaseDefinition,
                                 @NonNull DatabaseHelperListener listener) {
@@ -32,6 +33,14 @@ public class FlowSQLiteOpenHelper extends SQLiteOpenHelper implements OpenHelper
         }
 
         databaseHelperDelegate = new DatabaseHelperDelegate(listener, databaseDefinition, backupHelper);
+
+        int readConnectionPoolSize = databaseDefinition.getReadConnectionPoolSize();
+        if (readConnectionPoolSize > 0 && Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+            // readers only run beside the writer with a write-ahead log.
+            setWriteAheadLoggingEnabled(true);
+            readConnectionPool = new ReadConnectionPool(FlowManager.getContext()
+                .getDatabasePath(databaseDefinition.getDatabaseFileName()).getPath(), readConnectionPoolSize);
+        }
     }
 
     @Override
@@ -59,7 +68,32 @@ public class FlowSQLiteOpenHelper extends SQLiteOpenHelper implements OpenHelper
     @Override
     public DatabaseWrapper getDatabase() {
         if (androidDatabase == null || !androidDatabase.getDatabase().isOpen()) {
-            androidDatabase = AndroidDatabase.from(getWritableDatabase());
+            wrap(getWritableDatabase());
+        }
+        return androidDatabase;
+    }
+
+    /**
+     * @return The read connections that queries run on instead of {@link #getDatabase()}, if it has any.
+     */
+    @Nullable
+    public ReadConnectionPool getReadConnectionPool() {
+        return readConnectionPool;
+    }
+
+    /**
+     * Keeps a single wrapper per database, so the callbacks and later queries share its statement cache.
+     */
+    @NonNull
+    private AndroidDatabase wrap(@NonNull SQLiteDatabase db) {
+        if (androidDatabase == null || androidDatabase.getDatabase() != db) {
+            if (androidDatabase != null) {
+                androidDatabase.getStatementCache().clear();
+            }
+            androidDatabase = AndroidDatabase.from(db);
+            if (readConnectionPool != null) {
+                readConnectionPool.setWriteDatabase(androidDatabase);
+            }
         }
         return androidDatabase;
     }
@@ -76,27 +110,31 @@ public class FlowSQLiteOpenHelper extends SQLiteOpenHelper implements OpenHelper
 
     @Override
     public void onCreate(@NonNull SQLiteDatabase db) {
-        databaseHelperDelegate.onCreate(AndroidDatabase.from(db));
+        databaseHelperDelegate.onCreate(wrap(db));
     }
 
     @Override
     public void onUpgrade(@NonNull SQLiteDatabase db, int oldVersion, int newVersion) {
-        databaseHelperDelegate.onUpgrade(AndroidDatabase.from(db), oldVersion, newVersion);
+        databaseHelperDelegate.onUpgrade(wrap(db), oldVersion, newVersion);
     }
 
     @Override
     public void onOpen(@NonNull SQLiteDatabase db) {
-        databaseHelperDelegate.onOpen(AndroidDatabase.from(db));
+        databaseHelperDelegate.onOpen(wrap(db));
     }
 
     @Override
     public void onDowngrade(@NonNull SQLiteDatabase db, int oldVersion, int newVersion) {
-        databaseHelperDelegate.onDowngrade(AndroidDatabase.from(db), oldVersion, newVersion);
+        databaseHelperDelegate.onDowngrade(wrap(db), oldVersion, newVersion);
     }
 
     @Override
     public void closeDB() {
         getDatabase();
+        if (readConnectionPool != null) {
+            readConnectionPool.close();
+        }
+        androidDatabase.getStatementCache().clear();
         androidDatabase.getDatabase().close();
     }
 
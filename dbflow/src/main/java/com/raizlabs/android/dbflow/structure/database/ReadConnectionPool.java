@@ -0,0 +1,358 @@
+package com.raizlabs.android.dbflow.structure.database;
+
+import android.content.ContentValues;
+import android.database.Cursor;
+import android.database.CursorWrapper;
+import android.database.sqlite.SQLiteDatabase;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.raizlabs.android.dbflow.config.DatabaseConfig;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Description: Runs queries on a pool of read-only connections to a database in write-ahead-log mode, so that they
+ * do not wait behind writes or each other. Everything else, and any query on a thread inside a transaction of the
+ * writing connection, runs on the writing connection so that it sees its uncommitted changes.
+ * Enabled by {@link DatabaseConfig.Builder#readConnectionPoolSize(int)}.
+ * <p/>
+ * A cursor holds its connection until it is closed, since later windows of a large result refill from it. A query
+ * that waits longer than {@link #MAX_WAIT_MILLIS} for one, such as behind cursors that are kept open, runs on the
+ * writing connection instead.
+ */
+public class ReadConnectionPool extends BaseDatabaseWrapper {
+
+    static final long MAX_WAIT_MILLIS = 1000;
+
+    private final String path;
+    private final int size;
+    private final Deque<AndroidDatabase> idleConnections = new ArrayDeque<>();
+    private final Set<AndroidDatabase> activeConnections = new HashSet<>();
+    private final Set<AndroidDatabase> closedConnections = new HashSet<>();
+
+    private volatile AndroidDatabase writeDatabase;
+
+    private int openCount;
+    private int peakActiveCount;
+    private long acquireCount;
+    private long waitCount;
+    private long totalWaitTimeNanos;
+    private long maxWaitTimeNanos;
+
+    /**
+     * @param path The file of the database.
+     * @param size The most read connections it opens, each when first needed.
+     */
+    public ReadConnectionPool(@NonNull String path, int size) {
+        this.path = path;
+        this.size = size;
+    }
+
+    /**
+     * Sets the writing connection, which the open helper replaces whenever it reopens the database.
+     */
+    public void setWriteDatabase(@NonNull AndroidDatabase writeDatabase) {
+        this.writeDatabase = writeDatabase;
+    }
+
+    /**
+     * @return The connection a read on the current thread runs on, or null for the writing connection.
+     */
+    @Nullable
+    private AndroidDatabase acquire(@NonNull String query) {
+        if (writeDatabase.getDatabase().inTransaction() || !isSelect(query)) {
+            return null;
+        }
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(MAX_WAIT_MILLIS);
+        boolean waited = false;
+        synchronized (this) {
+            while (idleConnections.isEmpty() && openCount >= size) {
+                waited = true;
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    recordWait(System.nanoTime() - start);
+                    return null;
+                }
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return null;
+                }
+            }
+            AndroidDatabase connection = idleConnections.pollFirst();
+            if (connection == null) {
+                // opened once per connection, so the other readers wait for it at most once.
+                connection = AndroidDatabase.from(SQLiteDatabase.openDatabase(path, null,
+                    SQLiteDatabase.OPEN_READONLY));
+                openCount++;
+            }
+            activeConnections.add(connection);
+            peakActiveCount = Math.max(peakActiveCount, activeConnections.size());
+            acquireCount++;
+            if (waited) {
+                recordWait(System.nanoTime() - start);
+            }
+            return connection;
+        }
+    }
+
+    private void recordWait(long waitTime) {
+        waitCount++;
+        totalWaitTimeNanos += waitTime;
+        maxWaitTimeNanos = Math.max(maxWaitTimeNanos, waitTime);
+    }
+
+    private synchronized void release(@NonNull AndroidDatabase connection) {
+        activeConnections.remove(connection);
+        if (closedConnections.remove(connection)) {
+            connection.getDatabase().close();
+            openCount--;
+        } else if (connection.getDatabase().isOpen()) {
+            idleConnections.addFirst(connection);
+        } else {
+            openCount--;
+        }
+        notify();
+    }
+
+    /**
+     * @return The cursor, which releases the connection once it is closed.
+     */
+    @NonNull
+    private FlowCursor hold(@NonNull AndroidDatabase connection, @NonNull Cursor cursor) {
+        return FlowCursor.from(new PooledCursor(cursor, connection));
+    }
+
+    /**
+     * Closes the read connections, the ones in use once released. Later queries open new ones.
+     */
+    public synchronized void close() {
+        for (AndroidDatabase connection : idleConnections) {
+            connection.getDatabase().close();
+        }
+        // connections in use still count towards the size until they are released and closed.
+        closedConnections.addAll(activeConnections);
+        openCount = activeConnections.size();
+        idleConnections.clear();
+        notifyAll();
+    }
+
+    /**
+     * @return The most read connections it opens.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return The read connections open now.
+     */
+    public synchronized int getOpenCount() {
+        return openCount;
+    }
+
+    /**
+     * @return The read connections held by a query or an open cursor now.
+     */
+    public synchronized int getActiveCount() {
+        return activeConnections.size();
+    }
+
+    /**
+     * @return The most read connections that ran queries at once.
+     */
+    public synchronized int getPeakActiveCount() {
+        return peakActiveCount;
+    }
+
+    /**
+     * @return The share of the connections held now, from 0 to 1.
+     */
+    public synchronized float getUtilization() {
+        return size > 0 ? (float) activeConnections.size() / size : 0;
+    }
+
+    /**
+     * @return The queries that ran on a read connection.
+     */
+    public synchronized long getAcquireCount() {
+        return acquireCount;
+    }
+
+    /**
+     * @return The queries that waited for a read connection since all were in use.
+     */
+    public synchronized long getWaitCount() {
+        return waitCount;
+    }
+
+    /**
+     * @return The total time queries waited for a read connection, in nanoseconds.
+     */
+    public synchronized long getTotalWaitTimeNanos() {
+        return totalWaitTimeNanos;
+    }
+
+    /**
+     * @return The longest a query waited for a read connection, in nanoseconds.
+     */
+    public synchronized long getMaxWaitTimeNanos() {
+        return maxWaitTimeNanos;
+    }
+
+    /**
+     * Resets the counts and times of the metrics, such as between measurements.
+     */
+    public synchronized void resetMetrics() {
+        peakActiveCount = activeConnections.size();
+        acquireCount = 0;
+        waitCount = 0;
+        totalWaitTimeNanos = 0;
+        maxWaitTimeNanos = 0;
+    }
+
+    @NonNull
+    @Override
+    public FlowCursor rawQuery(@NonNull String query, @Nullable String[] selectionArgs) {
+        AndroidDatabase connection = acquire(query);
+        if (connection == null) {
+            return writeDatabase.rawQuery(query, selectionArgs);
+        }
+        try {
+            return hold(connection, connection.rawQuery(query, selectionArgs));
+        } catch (RuntimeException e) {
+            release(connection);
+            throw e;
+        }
+    }
+
+    @NonNull
+    @Override
+    public FlowCursor rawQueryWithArgs(@NonNull String query, @Nullable Object[] bindArgs) {
+        AndroidDatabase connection = acquire(query);
+        if (connection == null) {
+            return writeDatabase.rawQueryWithArgs(query, bindArgs);
+        }
+        try {
+            return hold(connection, connection.rawQueryWithArgs(query, bindArgs));
+        } catch (RuntimeException e) {
+            release(connection);
+            throw e;
+        }
+    }
+
+    @NonNull
+    @Override
+    public FlowCursor query(@NonNull String tableName, @Nullable String[] columns, @Nullable String selection,
+                            @Nullable String[] selectionArgs, @Nullable String groupBy,
+                            @Nullable String having, @Nullable String orderBy) {
+        AndroidDatabase connection = acquire("SELECT");
+        if (connection == null) {
+            return writeDatabase.query(tableName, columns, selection, selectionArgs, groupBy, having, orderBy);
+        }
+        try {
+            return hold(connection, connection.query(tableName, columns, selection, selectionArgs, groupBy, having, orderBy));
+        } catch (RuntimeException e) {
+            release(connection);
+            throw e;
+        }
+    }
+
+    @Override
+    public void execSQL(@NonNull String query) {
+        writeDatabase.execSQL(query);
+    }
+
+    @Override
+    public void beginTransaction() {
+        writeDatabase.beginTransaction();
+    }
+
+    @Override
+    public void setTransactionSuccessful() {
+        writeDatabase.setTransactionSuccessful();
+    }
+
+    @Override
+    public void endTransaction() {
+        writeDatabase.endTransaction();
+    }
+
+    @Override
+    public int getVersion() {
+        return writeDatabase.getVersion();
+    }
+
+    @NonNull
+    @Override
+    public DatabaseStatement compileStatement(@NonNull String rawQuery) {
+        return writeDatabase.compileStatement(rawQuery);
+    }
+
+    @NonNull
+    @Override
+    public DatabaseStatement compileCachedStatement(@NonNull String rawQuery) {
+        return writeDatabase.compileCachedStatement(rawQuery);
+    }
+
+    @Override
+    public long getLastInsertRowId() {
+        return writeDatabase.getLastInsertRowId();
+    }
+
+    @NonNull
+    @Override
+    public DatabaseStatementLruCache getStatementCache() {
+        return writeDatabase.getStatementCache();
+    }
+
+    @Override
+    public long updateWithOnConflict(@NonNull String tableName, @NonNull ContentValues contentValues,
+                                     @Nullable String where, @Nullable String[] whereArgs, int conflictAlgorithm) {
+        return writeDatabase.updateWithOnConflict(tableName, contentValues, where, whereArgs, conflictAlgorithm);
+    }
+
+    @Override
+    public long insertWithOnConflict(@NonNull String tableName, @Nullable String nullColumnHack,
+                                     @NonNull ContentValues values, int sqLiteDatabaseAlgorithmInt) {
+        return writeDatabase.insertWithOnConflict(tableName, nullColumnHack, values, sqLiteDatabaseAlgorithmInt);
+    }
+
+    @Override
+    public int delete(@NonNull String tableName, @Nullable String whereClause, @Nullable String[] whereArgs) {
+        return writeDatabase.delete(tableName, whereClause, whereArgs);
+    }
+
+    /**
+     * Releases its connection to the pool once, when it is closed.
+     */
+    private final class PooledCursor extends CursorWrapper {
+
+        private final AndroidDatabase connection;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        PooledCursor(@NonNull Cursor cursor, @NonNull AndroidDatabase connection) {
+            super(cursor);
+            this.connection = connection;
+        }
+
+        @Override
+        public void close() {
+            try {
+                super.close();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    release(connection);
+                }
+            }
+        }
+    }
+}
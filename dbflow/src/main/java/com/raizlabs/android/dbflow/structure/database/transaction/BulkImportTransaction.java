@@ -0,0 +1,212 @@
+package com.raizlabs.android.dbflow.structure.database.transaction;
+
+import android.support.annotation.NonNull;
+
+import com.raizlabs.android.dbflow.config.FlowLog;
+import com.raizlabs.android.dbflow.config.FlowManager;
+import com.raizlabs.android.dbflow.runtime.NotifyDistributor;
+import com.raizlabs.android.dbflow.sql.QueryBuilder;
+import com.raizlabs.android.dbflow.sql.saveable.ModelSaver;
+import com.raizlabs.android.dbflow.structure.BaseModel;
+import com.raizlabs.android.dbflow.structure.ModelAdapter;
+import com.raizlabs.android.dbflow.structure.database.DatabaseStatement;
+import com.raizlabs.android.dbflow.structure.database.DatabaseWrapper;
+import com.raizlabs.android.dbflow.structure.database.FlowCursor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Description: Inserts a large number of rows into a single table, such as when seeding a database on first launch.
+ * The indexes of the table are dropped for the import and rebuilt once at the end, all in one transaction. They
+ * are rebuilt even when the import fails, so they do not rely on the rollback alone. {@code PRAGMA synchronous} and, outside of WAL,
+ * {@code journal_mode} are relaxed for the duration and restored afterwards, including on failure.
+ * <p/>
+ * Rows are bound straight to the compiled insert statement: foreign key models are not saved and a single
+ * {@link BaseModel.Action#INSERT} table change is notified at the end instead of one per model. Triggers still run
+ * for every row. It cannot run inside another transaction, since the journal mode cannot change there.
+ */
+public class BulkImportTransaction<TModel> {
+
+    @NonNull
+    public static <TModel> Builder<TModel> builder(@NonNull ModelAdapter<TModel> modelAdapter) {
+        return new Builder<>(modelAdapter);
+    }
+
+    private final ModelAdapter<TModel> modelAdapter;
+    private final List<Iterable<? extends TModel>> sources;
+
+    BulkImportTransaction(Builder<TModel> builder) {
+        modelAdapter = builder.modelAdapter;
+        sources = builder.sources;
+    }
+
+    /**
+     * Runs the import on the database of the table.
+     *
+     * @return The number of rows inserted.
+     */
+    public long execute() {
+        return execute(FlowManager.getDatabaseForTable(modelAdapter.getModelClass()).getWritableDatabase());
+    }
+
+    /**
+     * @return The number of rows inserted.
+     */
+    public long execute(@NonNull DatabaseWrapper wrapper) {
+        long synchronous = queryLong(wrapper, "PRAGMA synchronous");
+        String journalMode = queryString(wrapper, "PRAGMA journal_mode");
+        boolean relaxJournal = !"wal".equalsIgnoreCase(journalMode);
+
+        long count;
+        try {
+            wrapper.execSQL("PRAGMA synchronous=OFF");
+            if (relaxJournal) {
+                queryString(wrapper, "PRAGMA journal_mode=MEMORY");
+            }
+            count = importRows(wrapper);
+        } finally {
+            wrapper.execSQL("PRAGMA synchronous=" + synchronous);
+            if (relaxJournal) {
+                queryString(wrapper, "PRAGMA journal_mode=" + journalMode);
+            }
+        }
+
+        if (count > 0) {
+            NotifyDistributor.get().notifyTableChanged(modelAdapter.getModelClass(), BaseModel.Action.INSERT);
+        }
+        return count;
+    }
+
+    private long importRows(@NonNull DatabaseWrapper wrapper) {
+        long count = 0;
+        wrapper.beginTransaction();
+        try {
+            List<String> indexQueries = new ArrayList<>();
+            boolean imported = false;
+            try {
+                dropIndexes(wrapper, indexQueries);
+                count = insertRows(wrapper);
+                imported = true;
+            } finally {
+                // one sorted build per index instead of one b-tree insert per row. They are also recreated when
+                // the import fails, so they never depend on the rollback alone.
+                recreateIndexes(wrapper, indexQueries, imported);
+            }
+            wrapper.setTransactionSuccessful();
+        } finally {
+            wrapper.endTransaction();
+        }
+        return count;
+    }
+
+    private long insertRows(@NonNull DatabaseWrapper wrapper) {
+        long count = 0;
+        DatabaseStatement insertStatement = modelAdapter.getInsertStatement(wrapper);
+        try {
+            for (Iterable<? extends TModel> source : sources) {
+                for (TModel model : source) {
+                    modelAdapter.bindToInsertStatement(insertStatement, model);
+                    long id = insertStatement.executeInsert();
+                    if (id > ModelSaver.INSERT_FAILED) {
+                        modelAdapter.updateAutoIncrement(model, id);
+                        count++;
+                    }
+                }
+            }
+        } finally {
+            insertStatement.close();
+        }
+        return count;
+    }
+
+    /**
+     * @param imported False when the import failed, so that an index failing to build does not hide the failure.
+     */
+    private static void recreateIndexes(@NonNull DatabaseWrapper wrapper, @NonNull List<String> indexQueries,
+                                        boolean imported) {
+        for (String indexQuery : indexQueries) {
+            try {
+                wrapper.execSQL(indexQuery);
+            } catch (RuntimeException e) {
+                if (imported) {
+                    throw e;
+                }
+                FlowLog.logError(e);
+            }
+        }
+    }
+
+    /**
+     * Drops the explicitly created indexes of the table. Indexes backing PRIMARY KEY and UNIQUE constraints
+     * cannot be dropped and stay in place.
+     *
+     * @param droppedQueries Receives the query that recreates each index as soon as it is dropped.
+     */
+    private void dropIndexes(@NonNull DatabaseWrapper wrapper, @NonNull List<String> droppedQueries) {
+        List<String> names = new ArrayList<>();
+        List<String> queries = new ArrayList<>();
+        FlowCursor cursor = wrapper.rawQuery("SELECT name, sql FROM sqlite_master WHERE type='index'"
+                + " AND tbl_name=? AND sql IS NOT NULL",
+                new String[]{QueryBuilder.stripQuotes(modelAdapter.getTableName())});
+        try {
+            while (cursor.moveToNext()) {
+                names.add(cursor.getString(0));
+                queries.add(cursor.getString(1));
+            }
+        } finally {
+            cursor.close();
+        }
+
+        for (int i = 0; i < names.size(); i++) {
+            wrapper.execSQL("DROP INDEX IF EXISTS " + QueryBuilder.quote(names.get(i)));
+            droppedQueries.add(queries.get(i));
+        }
+    }
+
+    private static long queryLong(@NonNull DatabaseWrapper wrapper, @NonNull String query) {
+        FlowCursor cursor = wrapper.rawQuery(query, null);
+        try {
+            return cursor.moveToFirst() ? cursor.getLong(0) : 0;
+        } finally {
+            cursor.close();
+        }
+    }
+
+    /**
+     * Pragmas that return a row, such as journal_mode, must run as a query.
+     */
+    private static String queryString(@NonNull DatabaseWrapper wrapper, @NonNull String query) {
+        FlowCursor cursor = wrapper.rawQuery(query, null);
+        try {
+            return cursor.moveToFirst() ? cursor.getString(0) : null;
+        } finally {
+            cursor.close();
+        }
+    }
+
+    public static final class Builder<TModel> {
+
+        private final ModelAdapter<TModel> modelAdapter;
+        private final List<Iterable<? extends TModel>> sources = new ArrayList<>();
+
+        Builder(@NonNull ModelAdapter<TModel> modelAdapter) {
+            this.modelAdapter = modelAdapter;
+        }
+
+        /**
+         * Adds models that are read while importing, so an {@link Iterable} can produce them lazily instead of
+         * holding every row in memory.
+         */
+        @NonNull
+        public Builder<TModel> addAll(@NonNull Iterable<? extends TModel> models) {
+            sources.add(models);
+            return this;
+        }
+
+        @NonNull
+        public BulkImportTransaction<TModel> build() {
+            return new BulkImportTransaction<>(this);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.raizlabs.android.dbflow.structure.database.transaction;
+
+import android.os.SystemClock;
+import android.support.annotation.NonNull;
+
+import com.raizlabs.android.dbflow.config.DatabaseDefinition;
+import com.raizlabs.android.dbflow.structure.InternalAdapter;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Description: Stores models read from an {@link Iterator}, such as a parser or a paged network stream, in
+ * consecutive transactions of a {@link FastStoreModelTransaction}. A chunk is committed once it holds
+ * {@link Builder#chunkSize(int)} models or has been filling for {@link Builder#chunkTime(long)} milliseconds, so
+ * neither the heap nor the journal grows with the size of the source.
+ * <p/>
+ * When a chunk or the source fails, the exception is rethrown and the models of the uncommitted chunk are kept.
+ * Calling {@link #execute(DatabaseDefinition)} again fills that chunk up from the source and continues from where
+ * it stopped.
+ */
+public class ChunkedStoreModelTransaction<TModel> {
+
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+
+    public static final long DEFAULT_CHUNK_TIME = 1000;
+
+    /**
+     * Description: Called on the executing thread after each committed chunk.
+     */
+    public interface ProgressListener<TModel> {
+
+        /**
+         * @param chunkSize      The number of models in the committed chunk.
+         * @param committedCount The number of models committed so far.
+         */
+        void onChunkCommitted(@NonNull ChunkedStoreModelTransaction<TModel> transaction,
+                              int chunkSize, long committedCount);
+    }
+
+    private final FastStoreModelTransaction.ProcessModelList<TModel> processModelList;
+    private final InternalAdapter<TModel> internalAdapter;
+    private final Iterator<TModel> addedModels;
+    private final Iterator<? extends TModel> source;
+    private final int chunkSize;
+    private final long chunkTime;
+    private final ProgressListener<TModel> progressListener;
+
+    private final List<TModel> pendingModels = new ArrayList<>();
+    private long committedCount;
+
+    ChunkedStoreModelTransaction(Builder<TModel> builder) {
+        processModelList = builder.storeBuilder.processModelList;
+        internalAdapter = builder.storeBuilder.internalAdapter;
+        addedModels = new ArrayList<>(builder.storeBuilder.models).iterator();
+        source = builder.source;
+        chunkSize = builder.chunkSize;
+        chunkTime = builder.chunkTime;
+        progressListener = builder.progressListener;
+    }
+
+    /**
+     * Stores the remaining models of the source, one transaction per chunk.
+     *
+     * @return The number of models committed so far, including previous runs.
+     */
+    public synchronized long execute(@NonNull DatabaseDefinition databaseDefinition) {
+        while (true) {
+            // tops up the models left over from a failed run to a full chunk.
+            if (pendingModels.size() < chunkSize) {
+                fillChunk();
+                if (pendingModels.isEmpty()) {
+                    return committedCount;
+                }
+            }
+
+            List<TModel> chunk = new ArrayList<>(pendingModels);
+            databaseDefinition.executeTransaction(
+                    new FastStoreModelTransaction<>(chunk, processModelList, internalAdapter));
+            pendingModels.clear();
+            committedCount += chunk.size();
+
+            if (progressListener != null) {
+                progressListener.onChunkCommitted(this, chunk.size(), committedCount);
+            }
+        }
+    }
+
+    /**
+     * @return The number of models committed so far.
+     */
+    public synchronized long getCommittedCount() {
+        return committedCount;
+    }
+
+    /**
+     * @return The number of models read from the source that are not committed yet, such as after a failure.
+     */
+    public synchronized int getPendingCount() {
+        return pendingModels.size();
+    }
+
+    /**
+     * Reads models until the chunk is full, its time is up, or the source is exhausted. Models already read stay
+     * pending if the source throws.
+     */
+    private void fillChunk() {
+        long start = SystemClock.uptimeMillis();
+        while (pendingModels.size() < chunkSize) {
+            if (addedModels.hasNext()) {
+                pendingModels.add(addedModels.next());
+            } else if (source.hasNext()) {
+                pendingModels.add(source.next());
+            } else {
+                break;
+            }
+            if (chunkTime > 0 && SystemClock.uptimeMillis() - start >= chunkTime) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Makes it easy to build a {@link ChunkedStoreModelTransaction}, see
+     * {@link FastStoreModelTransaction.Builder#chunked(Iterator)}.
+     *
+     * @param <TModel>
+     */
+    public static final class Builder<TModel> {
+
+        final FastStoreModelTransaction.Builder<TModel> storeBuilder;
+        final Iterator<? extends TModel> source;
+        int chunkSize = DEFAULT_CHUNK_SIZE;
+        long chunkTime = DEFAULT_CHUNK_TIME;
+        ProgressListener<TModel> progressListener;
+
+        Builder(@NonNull FastStoreModelTransaction.Builder<TModel> storeBuilder,
+                @NonNull Iterator<? extends TModel> source) {
+            this.storeBuilder = storeBuilder;
+            this.source = source;
+        }
+
+        /**
+         * @param chunkSize The number of models committed per transaction. Defaults to {@link #DEFAULT_CHUNK_SIZE}.
+         */
+        @NonNull
+        public Builder<TModel> chunkSize(int chunkSize) {
+            if (chunkSize <= 0) {
+                throw new IllegalArgumentException("chunkSize must be positive");
+            }
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        /**
+         * @param chunkTime The milliseconds after which a chunk is committed while the source is still producing,
+         *                  or 0 to commit by size only. Defaults to {@link #DEFAULT_CHUNK_TIME}. A source that
+         *                  blocks is only checked between models.
+         */
+        @NonNull
+        public Builder<TModel> chunkTime(long chunkTime) {
+            this.chunkTime = chunkTime;
+            return this;
+        }
+
+        @NonNull
+        public Builder<TModel> progressListener(@NonNull ProgressListener<TModel> progressListener) {
+            this.progressListener = progressListener;
+            return this;
+        }
+
+        @NonNull
+        public ChunkedStoreModelTransaction<TModel> build() {
+            return new ChunkedStoreModelTransaction<>(this);
+        }
+    }
+}
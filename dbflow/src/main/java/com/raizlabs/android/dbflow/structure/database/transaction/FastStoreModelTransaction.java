@@ -2,6 +2,7 @@ package com.raizlabs.android.dbflow.structure.database.transaction;
 
 import android.support.annotation.NonNull;
 
+import com.raizlabs.android.dbflow.sql.saveable.ForeignKeySaveScope;
 import com.raizlabs.android.dbflow.structure.InternalAdapter;
 import com.raizlabs.android.dbflow.structure.Model;
 import com.raizlabs.android.dbflow.structure.database.DatabaseWrapper;
@@ -9,6 +10,7 @@ import com.raizlabs.android.dbflow.structure.database.DatabaseWrapper;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -77,15 +79,28 @@ public class FastStoreModelTransaction<TModel> implements ITransaction {
     final InternalAdapter<TModel> internalAdapter;
 
     FastStoreModelTransaction(Builder<TModel> builder) {
-        models = builder.models;
-        processModelList = builder.processModelList;
-        internalAdapter = builder.internalAdapter;
+        this(builder.models, builder.processModelList, builder.internalAdapter);
     }
 
+    FastStoreModelTransaction(List<TModel> models, ProcessModelList<TModel> processModelList,
+                              InternalAdapter<TModel> internalAdapter) {
+        this.models = models;
+        this.processModelList = processModelList;
+        this.internalAdapter = internalAdapter;
+    }
+
+    /**
+     * Foreign key models shared by the batch are saved once, see {@link ForeignKeySaveScope}.
+     */
     @Override
     public void execute(DatabaseWrapper databaseWrapper) {
         if (models != null) {
-            processModelList.processModel(models, internalAdapter, databaseWrapper);
+            ForeignKeySaveScope.begin();
+            try {
+                processModelList.processModel(models, internalAdapter, databaseWrapper);
+            } finally {
+                ForeignKeySaveScope.end();
+            }
         }
     }
 
@@ -96,8 +111,8 @@ public class FastStoreModelTransaction<TModel> implements ITransaction {
      */
     public static final class Builder<TModel> {
 
-        private final ProcessModelList<TModel> processModelList;
-        @NonNull private final InternalAdapter<TModel> internalAdapter;
+        final ProcessModelList<TModel> processModelList;
+        @NonNull final InternalAdapter<TModel> internalAdapter;
         List<TModel> models = new ArrayList<>();
 
         Builder(@NonNull ProcessModelList<TModel> processModelList,
@@ -133,6 +148,15 @@ public class FastStoreModelTransaction<TModel> implements ITransaction {
             return this;
         }
 
+        /**
+         * @return A {@link ChunkedStoreModelTransaction.Builder} that stores the models added here, then the
+         * models of the source, committing them in chunks instead of a single transaction.
+         */
+        @NonNull
+        public ChunkedStoreModelTransaction.Builder<TModel> chunked(@NonNull Iterator<? extends TModel> source) {
+            return new ChunkedStoreModelTransaction.Builder<>(this, source);
+        }
+
         /**
          * @return A new {@link ProcessModelTransaction}. Subsequent calls to this method produce
          * new instances.